@@ -18,6 +18,11 @@ package com.hazelcast.jet.sql.impl.processors;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
@@ -25,6 +30,9 @@ import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
+import com.hazelcast.jet.impl.util.BloomFilter;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
 import com.hazelcast.jet.sql.impl.ObjectArrayKey;
@@ -35,38 +43,128 @@ import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-public class SqlHashJoinP extends AbstractProcessor {
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+
+/**
+ * Joins the rows of the left (probe) input with the rows of the right
+ * (build) input, which is received first and kept in a hash table.
+ * <p>
+ * For equi-joins, both inputs are partitioned by the join key across the
+ * processors. If a {@linkplain SpillFile#spillDirectory spill directory} is
+ * configured, the processor additionally does a hybrid hash join: the keys
+ * are hashed into {@value #PARTITION_COUNT} partitions and when the hash
+ * table reaches its size limit, the largest partition is spilled, i.e. its
+ * build rows are moved to a {@link SpillFile}, and all later build rows of
+ * spilled partitions are written there directly. The keys of the spilled
+ * build rows are added to a Bloom filter of the partition. A probe row of a
+ * spilled partition is dropped (or emitted unmatched in a left outer join)
+ * if the Bloom filter says its key isn't on the build side, otherwise it's
+ * spilled to the probe file of the partition. When the input is complete,
+ * the spilled partitions are joined one by one in memory. The spill files
+ * are accessed by blocking IO, so the processor isn't cooperative if it can
+ * spill.
+ */
+public class SqlHashJoinP extends AbstractProcessor implements SpillingProcessor {
+
+    static final int PARTITION_COUNT = 32;
+    private static final int SPILL_BATCH_SIZE = 1024;
+    private static final int BLOOM_FILTER_BITS_PER_KEY = 8;
+    // a spilled partition is expected to grow up to this many times the hash table limit / PARTITION_COUNT
+    private static final int BLOOM_FILTER_PARTITION_GROWTH = 4;
 
     private final JetJoinInfo joinInfo;
     private final int rightInputColumnCount;
 
+    @Probe(name = "buildRows")
+    private final Counter buildRows = SwCounter.newSwCounter();
+    @Probe(name = "probeRows")
+    private final Counter probeRows = SwCounter.newSwCounter();
+    @Probe(name = "spilledPartitions")
+    private final Counter spilledPartitionCount = SwCounter.newSwCounter();
+    @Probe(name = "spilledBuildRows")
+    private final Counter spilledBuildRows = SwCounter.newSwCounter();
+    @Probe(name = "spilledProbeRows")
+    private final Counter spilledProbeRows = SwCounter.newSwCounter();
+    @Probe(name = "spilledBytes", unit = ProbeUnit.BYTES)
+    private final Counter spilledBytes = SwCounter.newSwCounter();
+    @Probe(name = "bloomFilterRejectedRows")
+    private final Counter bloomFilterRejectedRows = SwCounter.newSwCounter();
+
     private ExpressionEvalContext evalContext;
     private Multimap<ObjectArrayKey, JetSqlRow> hashMap;
     private FlatMapper<JetSqlRow, JetSqlRow> flatMapper;
     private long maxItemsInHashTable;
 
+    // spilling state, used only if spilling is enabled
+    private Path spillDirectory;
+    private InternalSerializationService serializationService;
+    private SpilledPartition[] spilledPartitions;
+    private int[] partitionSizes;
+    private Iterator<Entry<ObjectArrayKey, JetSqlRow>> spillIterator;
+    private int joinedPartition = -1;
+
     public SqlHashJoinP(JetJoinInfo joinInfo, int rightInputColumnCount) {
         this.joinInfo = joinInfo;
         this.rightInputColumnCount = rightInputColumnCount;
     }
 
+    @Override
+    public void setSpillDirectory(@Nullable Path spillDirectory) {
+        // without equi-join keys all rows would fall into a single partition
+        this.spillDirectory = joinInfo.isEquiJoin() ? spillDirectory : null;
+    }
+
     @Override
     public void init(@Nonnull Context context) throws Exception {
         this.evalContext = ExpressionEvalContext.from(context);
         this.hashMap = LinkedListMultimap.create();
         this.flatMapper = flatMapper(this::join);
-        this.maxItemsInHashTable = context.maxProcessorAccumulatedRecords();
+        if (spillDirectory == null) {
+            // not set if the processor isn't created by the execution plan, e.g. in a test
+            setSpillDirectory(SpillFile.spillDirectory(context));
+        }
+        if (spillDirectory == null) {
+            this.maxItemsInHashTable = context.maxProcessorAccumulatedRecords();
+        } else {
+            this.maxItemsInHashTable = SpillFile.maxRecordsInMemory(context);
+            this.serializationService = SpillFile.serializationService(context);
+            this.spilledPartitions = new SpilledPartition[PARTITION_COUNT];
+            this.partitionSizes = new int[PARTITION_COUNT];
+        }
     }
 
     private Traverser<JetSqlRow> join(JetSqlRow leftRow) {
+        probeRows.inc();
         ObjectArrayKey joinKeys = ObjectArrayKey.project(leftRow, joinInfo.leftEquiJoinIndices());
+        if (spilledPartitions != null) {
+            SpilledPartition partition = spilledPartitions[partition(joinKeys)];
+            if (partition != null) {
+                if (!joinKeys.containsNull() && partition.buildKeys.mightContain(joinKeys)) {
+                    partition.addProbeRow(leftRow);
+                    return Traversers.empty();
+                }
+                bloomFilterRejectedRows.inc();
+                return joinInfo.isLeftOuter()
+                        ? Traversers.singleton(leftRow.extendedRow(rightInputColumnCount))
+                        : Traversers.empty();
+            }
+        }
+        return join(leftRow, joinKeys);
+    }
+
+    private Traverser<JetSqlRow> join(JetSqlRow leftRow, ObjectArrayKey joinKeys) {
         Collection<JetSqlRow> matchedRows = hashMap.get(joinKeys);
         List<JetSqlRow> output = matchedRows.stream()
                 .map(right -> ExpressionUtil.join(
@@ -90,8 +188,8 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     protected boolean tryProcess1(@Nonnull Object item) {
-        if (hashMap.size() == maxItemsInHashTable) {
-            throw new AccumulationLimitExceededException();
+        if (spillIterator != null && !spill()) {
+            return false;
         }
         JetSqlRow rightRow = (JetSqlRow) item;
         ObjectArrayKey joinKeys = ObjectArrayKey.project(rightRow, joinInfo.rightEquiJoinIndices());
@@ -99,7 +197,97 @@ public class SqlHashJoinP extends AbstractProcessor {
         if (joinKeys.containsNull()) {
             return true;
         }
+        if (spilledPartitions != null) {
+            SpilledPartition partition = spilledPartitions[partition(joinKeys)];
+            if (partition != null) {
+                partition.addBuildRow(joinKeys, rightRow);
+                buildRows.inc();
+                return true;
+            }
+        }
+        if (hashMap.size() == maxItemsInHashTable) {
+            if (spilledPartitions == null) {
+                throw new AccumulationLimitExceededException();
+            }
+            startSpill();
+            if (!spill()) {
+                return false;
+            }
+            // the row might belong to the partition that was just spilled
+            return tryProcess1(item);
+        }
         hashMap.put(joinKeys, rightRow);
+        buildRows.inc();
+        if (partitionSizes != null) {
+            partitionSizes[partition(joinKeys)]++;
+        }
+        return true;
+    }
+
+    private static int partition(ObjectArrayKey joinKeys) {
+        return fastIntMix(joinKeys.hashCode()) & (PARTITION_COUNT - 1);
+    }
+
+    /**
+     * Marks the largest partition held in memory as spilled and starts a
+     * pass over the hash table to move the rows of the partition to disk.
+     */
+    private void startSpill() {
+        int largest = -1;
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            if (spilledPartitions[i] == null && (largest < 0 || partitionSizes[i] > partitionSizes[largest])) {
+                largest = i;
+            }
+        }
+        spilledPartitions[largest] = new SpilledPartition();
+        spilledPartitionCount.inc();
+        spillIterator = hashMap.entries().iterator();
+    }
+
+    /**
+     * Continues the pass started by {@link #startSpill()} with the next batch
+     * of rows. Returns {@code true} when the pass is done.
+     */
+    private boolean spill() {
+        for (int i = 0; i < SPILL_BATCH_SIZE && spillIterator.hasNext(); i++) {
+            Entry<ObjectArrayKey, JetSqlRow> entry = spillIterator.next();
+            int partitionIndex = partition(entry.getKey());
+            SpilledPartition partition = spilledPartitions[partitionIndex];
+            if (partition != null) {
+                partition.addBuildRow(entry.getKey(), entry.getValue());
+                partitionSizes[partitionIndex]--;
+                spillIterator.remove();
+            }
+        }
+        if (spillIterator.hasNext()) {
+            return false;
+        }
+        spillIterator = null;
+        return true;
+    }
+
+    @Override
+    public boolean complete() {
+        if (spilledPartitions == null) {
+            return true;
+        }
+        if (joinedPartition < 0) {
+            // the probe input is done, the in-memory partitions aren't needed anymore
+            hashMap.clear();
+            joinedPartition = 0;
+        }
+        for (; joinedPartition < PARTITION_COUNT; joinedPartition++) {
+            SpilledPartition partition = spilledPartitions[joinedPartition];
+            if (partition == null) {
+                continue;
+            }
+            if (!partition.loadBuildRows() || !emitFromTraverser(partition.joinProbeRows())) {
+                return false;
+            }
+            partition.close();
+            spilledPartitions[joinedPartition] = null;
+            hashMap.clear();
+        }
         return true;
     }
 
@@ -110,7 +298,17 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     public boolean isCooperative() {
-        return joinInfo.isCooperative();
+        return joinInfo.isCooperative() && spillDirectory == null;
+    }
+
+    @Override
+    public void close() {
+        if (spilledPartitions != null) {
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                closeResource(spilledPartitions[i]);
+                spilledPartitions[i] = null;
+            }
+        }
     }
 
     public static HashJoinProcessorSupplier supplier(JetJoinInfo joinInfo, int rightInputColumnCount) {
@@ -155,6 +353,83 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     public boolean closeIsCooperative() {
+        if (spilledPartitions != null) {
+            for (SpilledPartition partition : spilledPartitions) {
+                if (partition != null) {
+                    // deleting the spill files is blocking
+                    return false;
+                }
+            }
+        }
         return true;
     }
+
+    /**
+     * The build and probe rows of a spilled partition.
+     */
+    private final class SpilledPartition implements AutoCloseable {
+        private final SpillFile<JetSqlRow> buildFile = new SpillFile<>(spillDirectory, serializationService);
+        private final BloomFilter buildKeys = new BloomFilter(
+                (int) Math.min(Integer.MAX_VALUE, maxItemsInHashTable / PARTITION_COUNT * BLOOM_FILTER_PARTITION_GROWTH),
+                BLOOM_FILTER_BITS_PER_KEY);
+        private SpillFile<JetSqlRow> probeFile;
+        private Traverser<JetSqlRow> buildReader;
+        private Traverser<JetSqlRow> joinTraverser;
+
+        void addBuildRow(ObjectArrayKey joinKeys, JetSqlRow row) {
+            long sizeBefore = buildFile.sizeInBytes();
+            buildFile.write(row);
+            buildKeys.add(joinKeys);
+            spilledBuildRows.inc();
+            spilledBytes.inc(buildFile.sizeInBytes() - sizeBefore);
+        }
+
+        void addProbeRow(JetSqlRow row) {
+            if (probeFile == null) {
+                probeFile = new SpillFile<>(spillDirectory, serializationService);
+            }
+            long sizeBefore = probeFile.sizeInBytes();
+            probeFile.write(row);
+            spilledProbeRows.inc();
+            spilledBytes.inc(probeFile.sizeInBytes() - sizeBefore);
+        }
+
+        /**
+         * Loads the next batch of the build rows into the hash table. Returns
+         * {@code true} when all of them are loaded.
+         */
+        boolean loadBuildRows() {
+            if (buildReader == null) {
+                if (probeFile == null) {
+                    // nothing to join
+                    return true;
+                }
+                buildReader = buildFile.read();
+            }
+            for (int i = 0; i < SPILL_BATCH_SIZE; i++) {
+                JetSqlRow row = buildReader.next();
+                if (row == null) {
+                    return true;
+                }
+                hashMap.put(ObjectArrayKey.project(row, joinInfo.rightEquiJoinIndices()), row);
+            }
+            return false;
+        }
+
+        Traverser<JetSqlRow> joinProbeRows() {
+            if (joinTraverser == null) {
+                joinTraverser = probeFile == null
+                        ? Traversers.empty()
+                        : probeFile.read().flatMap(row ->
+                                join(row, ObjectArrayKey.project(row, joinInfo.leftEquiJoinIndices())));
+            }
+            return joinTraverser;
+        }
+
+        @Override
+        public void close() {
+            closeResource(buildFile);
+            closeResource(probeFile);
+        }
+    }
 }
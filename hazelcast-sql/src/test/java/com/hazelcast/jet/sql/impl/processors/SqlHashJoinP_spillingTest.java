@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.jet.sql.impl.JetJoinInfo;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.internal.nio.IOUtil.delete;
+import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
+import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.calcite.rel.core.JoinRelType.LEFT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlHashJoinP_spillingTest extends SqlTestSupport {
+    private static final int LOW_PRIORITY = 10;
+    private static final int HIGH_PRIORITY = 1;
+    private static final int MAX_ROWS_IN_MEMORY = 10;
+
+    private static final Expression<Boolean> TRUE_PREDICATE =
+            (Expression<Boolean>) ConstantExpression.create(true, BOOLEAN);
+
+    private static File spillDirectory;
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        spillDirectory = Files.createTempDirectory("sqlhashjoin-spill").toFile();
+        Config config = smallInstanceConfig();
+        config.setProperty(ClusterProperty.JET_SPILL_DIRECTORY.getName(), spillDirectory.getAbsolutePath());
+        config.setProperty(ClusterProperty.JET_SPILL_RUN_MAX_RECORDS.getName(), String.valueOf(MAX_ROWS_IN_MEMORY));
+        initialize(1, config);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        delete(spillDirectory);
+    }
+
+    @Test
+    public void test_innerJoin_spilled() {
+        test(INNER);
+    }
+
+    @Test
+    public void test_leftJoin_spilled() {
+        test(LEFT);
+    }
+
+    @Test
+    public void test_spillDirectorySet_then_cooperativeOnlyForNonEquiJoin() {
+        SqlHashJoinP equiJoin = new SqlHashJoinP(
+                new JetJoinInfo(INNER, new int[]{0}, new int[]{0}, TRUE_PREDICATE, null), 2);
+        assertThat(equiJoin.isCooperative()).isTrue();
+        equiJoin.setSpillDirectory(spillDirectory.toPath());
+        assertThat(equiJoin.isCooperative()).isFalse();
+
+        SqlHashJoinP nonEquiJoin = new SqlHashJoinP(
+                new JetJoinInfo(INNER, new int[0], new int[0], TRUE_PREDICATE, null), 2);
+        nonEquiJoin.setSpillDirectory(spillDirectory.toPath());
+        assertThat(nonEquiJoin.isCooperative()).isTrue();
+    }
+
+    private void test(JoinRelType joinType) {
+        List<JetSqlRow> left = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            left.add(jetRow(i, "left-" + i));
+        }
+        left.add(jetRow(null, "left-null"));
+        // keys 100..299 appear twice on the build side, keys below 100 are missing
+        List<JetSqlRow> right = new ArrayList<>();
+        for (int i = 100; i < 500; i++) {
+            right.add(jetRow(i % 200 + 100, "right-" + i));
+        }
+        right.add(jetRow(null, "right-null"));
+
+        List<JetSqlRow> expected = new ArrayList<>();
+        for (JetSqlRow leftRow : left) {
+            boolean matched = false;
+            for (JetSqlRow rightRow : right) {
+                if (leftRow.get(0) != null && leftRow.get(0).equals(rightRow.get(0))) {
+                    expected.add(jetRow(leftRow.get(0), leftRow.get(1), rightRow.get(0), rightRow.get(1)));
+                    matched = true;
+                }
+            }
+            if (!matched && joinType == LEFT) {
+                expected.add(jetRow(leftRow.get(0), leftRow.get(1), null, null));
+            }
+        }
+
+        ProcessorSupplier processor = SqlHashJoinP.supplier(
+                new JetJoinInfo(joinType, new int[]{0}, new int[]{0}, TRUE_PREDICATE, null), 2);
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(processor))
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .inputs(asList(left, right), new int[]{LOW_PRIORITY, HIGH_PRIORITY})
+                .hazelcastInstance(instance())
+                .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                .disableSnapshots()
+                .expectOutput(expected);
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+}
@@ -64,7 +64,8 @@ public class ClientDelegatingFuture<V> extends DelegatingCompletableFuture<V> {
         this.decodedResponse = VOID;
         this.clientMessageDecoder = clientMessageDecoder;
         this.deserializeResponse = deserializeResponse;
-        this.future.whenCompleteAsync((v, t) -> completeSuper(v, (Throwable) t), defaultExecutor());
+        this.future.whenCompleteAsync((v, t) -> completeSuper(v, (Throwable) t),
+                clientInvocationFuture.decoratorCompletionExecutor());
     }
 
     public ClientDelegatingFuture(ClientInvocationFuture clientInvocationFuture,
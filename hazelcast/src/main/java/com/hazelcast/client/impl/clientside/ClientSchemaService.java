@@ -22,31 +22,75 @@ import com.hazelcast.client.impl.protocol.codec.ClientSendAllSchemasCodec;
 import com.hazelcast.client.impl.protocol.codec.ClientSendSchemaCodec;
 import com.hazelcast.client.impl.spi.impl.ClientInvocation;
 import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
 import javax.annotation.Nullable;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PAUSE_MILLIS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_SCHEMA_SERVICE_CACHED_SCHEMAS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_SCHEMA_SERVICE_FETCHES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_SCHEMA_SERVICE_FETCH_STALLS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_SCHEMA_SERVICE_FETCH_STALL_TIME_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_SCHEMA_SERVICE_SCHEMAS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_SCHEMA_SERVICE;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmptyAfterTrim;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 
-public class ClientSchemaService implements SchemaService {
+public class ClientSchemaService implements SchemaService, StaticMetricsProvider {
 
     public static final HazelcastProperty MAX_PUT_RETRY_COUNT =
             new HazelcastProperty("hazelcast.client.schema.max.put.retry.count", 100);
 
+    /**
+     * The directory of the file in which the client keeps the Compact schemas
+     * it knows. The schemas in the file are loaded when the client starts, so
+     * that it doesn't have to fetch them from the cluster while deserializing
+     * the first values after a restart. The cached schemas are sent to the
+     * cluster together with the other schemas of the client when it connects.
+     * <p>
+     * The schema cache is disabled if no directory is set, which is the
+     * default.
+     */
+    public static final HazelcastProperty SCHEMA_CACHE_DIRECTORY =
+            new HazelcastProperty("hazelcast.client.schema.cache.directory");
+
     private final HazelcastClientInstanceImpl client;
     private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+    // fetches from the cluster that are in progress, shared by all threads that need the same schema
+    private final Map<Long, InternalCompletableFuture<Schema>> pendingFetches = new ConcurrentHashMap<>();
     private final ILogger logger;
     private final long retryPauseMillis;
     private final int maxPutRetryCount;
+    private final SchemaFileCache fileCache;
+    private final AtomicBoolean fileCacheWriteScheduled = new AtomicBoolean();
+
+    @Probe(name = CLIENT_METRIC_SCHEMA_SERVICE_CACHED_SCHEMAS)
+    private final int cachedSchemas;
+    @Probe(name = CLIENT_METRIC_SCHEMA_SERVICE_FETCHES)
+    private final MwCounter fetches = newMwCounter();
+    @Probe(name = CLIENT_METRIC_SCHEMA_SERVICE_FETCH_STALLS)
+    private final MwCounter fetchStalls = newMwCounter();
+    @Probe(name = CLIENT_METRIC_SCHEMA_SERVICE_FETCH_STALL_TIME_NANOS, unit = NS)
+    private final MwCounter fetchStallTimeNanos = newMwCounter();
 
     public ClientSchemaService(HazelcastClientInstanceImpl client, ILogger logger) {
         this.client = client;
@@ -54,6 +98,14 @@ public class ClientSchemaService implements SchemaService {
         HazelcastProperties properties = client.getProperties();
         retryPauseMillis = properties.getPositiveMillisOrDefault(INVOCATION_RETRY_PAUSE_MILLIS);
         maxPutRetryCount = properties.getInteger(MAX_PUT_RETRY_COUNT);
+        String cacheDirectory = properties.getString(SCHEMA_CACHE_DIRECTORY);
+        fileCache = isNullOrEmptyAfterTrim(cacheDirectory) ? null : new SchemaFileCache(Paths.get(cacheDirectory), logger);
+        cachedSchemas = loadFileCache();
+    }
+
+    @Override
+    public void provideStaticMetrics(MetricsRegistry registry) {
+        registry.registerStaticMetrics(this, CLIENT_PREFIX_SCHEMA_SERVICE);
     }
 
     @Override
@@ -63,17 +115,30 @@ public class ClientSchemaService implements SchemaService {
             return schema;
         }
         if (logger.isFinestEnabled()) {
-            logger.finest("Could not find schema id  " + schemaId + " locally, will search on the cluster" + schemaId);
+            logger.finest("Could not find schema id " + schemaId + " locally, will search on the cluster");
         }
-        ClientInvocation invocation = new ClientInvocation(client, ClientFetchSchemaCodec.encodeRequest(schemaId), SERVICE_NAME);
-        ClientMessage message = invocation.invoke().joinInternal();
-        schema = ClientFetchSchemaCodec.decodeResponse(message);
-        if (schema != null) {
-            schemas.putIfAbsent(schemaId, schema);
+        // the calling thread is blocked until the schema arrives
+        long startNanos = System.nanoTime();
+        InternalCompletableFuture<Schema> future = pendingFetches.computeIfAbsent(schemaId, this::fetch);
+        try {
+            schema = future.joinInternal();
+        } finally {
+            pendingFetches.remove(schemaId, future);
+            fetchStalls.inc();
+            fetchStallTimeNanos.inc(System.nanoTime() - startNanos);
+        }
+        if (schema != null && schemas.putIfAbsent(schemaId, schema) == null) {
+            scheduleFileCacheWrite();
         }
         return schema;
     }
 
+    private InternalCompletableFuture<Schema> fetch(long schemaId) {
+        fetches.inc();
+        ClientInvocation invocation = new ClientInvocation(client, ClientFetchSchemaCodec.encodeRequest(schemaId), SERVICE_NAME);
+        return invocation.invoke().thenApply(ClientFetchSchemaCodec::decodeResponse);
+    }
+
     @Override
     public void put(Schema schema) {
         long schemaId = schema.getSchemaId();
@@ -105,6 +170,7 @@ public class ClientSchemaService implements SchemaService {
         long schemaId = schema.getSchemaId();
         Schema existingSchema = schemas.putIfAbsent(schemaId, schema);
         if (existingSchema == null) {
+            scheduleFileCacheWrite();
             return;
         }
 
@@ -134,6 +200,46 @@ public class ClientSchemaService implements SchemaService {
         return !schemas.isEmpty();
     }
 
+    @Probe(name = CLIENT_METRIC_SCHEMA_SERVICE_SCHEMAS)
+    private int schemaCount() {
+        return schemas.size();
+    }
+
+    private int loadFileCache() {
+        if (fileCache == null) {
+            return 0;
+        }
+        Collection<Schema> cached = fileCache.read();
+        for (Schema schema : cached) {
+            schemas.putIfAbsent(schema.getSchemaId(), schema);
+        }
+        if (logger.isFineEnabled()) {
+            logger.fine("Loaded " + cached.size() + " Compact schemas from " + fileCache.file());
+        }
+        return cached.size();
+    }
+
+    /**
+     * Writes the schemas to the file cache, if it is enabled. The file is
+     * written by the client's executor so that no user thread waits for it,
+     * and the schemas added while a write is pending are written with it.
+     */
+    private void scheduleFileCacheWrite() {
+        if (fileCache == null || !fileCacheWriteScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            client.getTaskScheduler().execute(() -> {
+                fileCacheWriteScheduled.set(false);
+                fileCache.write(new ArrayList<>(schemas.values()));
+            });
+        } catch (RejectedExecutionException e) {
+            // the client is shutting down
+            fileCacheWriteScheduled.set(false);
+            logger.finest("Could not schedule writing the Compact schema cache", e);
+        }
+    }
+
     private boolean replicateSchemaInCluster(Schema schema) {
         ClientMessage clientMessage = ClientSendSchemaCodec.encodeRequest(schema);
         outer:
@@ -172,4 +278,19 @@ public class ClientSchemaService implements SchemaService {
         // match.
         return false;
     }
+
+    // Used only for testing
+    long fetchCount() {
+        return fetches.get();
+    }
+
+    // Used only for testing
+    long fetchStallCount() {
+        return fetchStalls.get();
+    }
+
+    // Used only for testing
+    int cachedSchemaCount() {
+        return cachedSchemas;
+    }
 }
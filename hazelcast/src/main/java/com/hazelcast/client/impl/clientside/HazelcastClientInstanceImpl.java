@@ -346,6 +346,7 @@ public class HazelcastClientInstanceImpl implements HazelcastClientInstance, Ser
         metricsRegistry.registerStaticMetrics(clientExtension.getMemoryStats(), CLIENT_PREFIX_MEMORY);
         metricsRegistry.provideMetrics(clientExtension);
         metricsRegistry.provideMetrics(executionService);
+        metricsRegistry.provideMetrics(schemaService);
     }
 
     private LoadBalancer initLoadBalancer(ClientConfig config) {
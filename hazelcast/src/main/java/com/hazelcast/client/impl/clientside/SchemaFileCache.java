@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.clientside;
+
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.logging.ILogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.internal.nio.IOUtil.move;
+
+/**
+ * Keeps the Compact schemas known to a client in a file, so that a restarted
+ * client doesn't have to fetch them from the cluster one by one while
+ * deserializing the first values.
+ * <p>
+ * Next to each schema, the file contains the schema id it had when it was
+ * written. The id of a schema is the {@link
+ * com.hazelcast.internal.serialization.impl.compact.RabinFingerprint
+ * fingerprint} of its type name and fields, so the schemas whose recomputed
+ * id doesn't match the stored one are dropped while reading. A file that
+ * can't be read at all is ignored.
+ * <p>
+ * The file is always replaced atomically, so multiple clients can share the
+ * same directory. When writing, the schemas already in the file are kept.
+ */
+final class SchemaFileCache {
+
+    static final String FILE_NAME = "compact-schemas.bin";
+
+    private static final int MAGIC = 0x48435343;
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final ILogger logger;
+
+    SchemaFileCache(Path directory, ILogger logger) {
+        this.file = directory.resolve(FILE_NAME);
+        this.logger = logger;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * Reads the valid schemas from the file. Returns an empty collection if
+     * the file doesn't exist or can't be read.
+     */
+    Collection<Schema> read() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.warning("Ignoring the Compact schema cache " + file + ", it has an unknown format");
+                return new ArrayList<>();
+            }
+            int count = in.readInt();
+            long[] schemaIds = new long[count];
+            for (int i = 0; i < count; i++) {
+                schemaIds[i] = in.readLong();
+            }
+            List<Schema> schemas = Schema.readSchemas(in);
+            if (schemas.size() != count) {
+                throw new IOException("Expected " + count + " schemas but found " + schemas.size());
+            }
+            List<Schema> validSchemas = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Schema schema = schemas.get(i);
+                if (schema.getSchemaId() == schemaIds[i]) {
+                    validSchemas.add(schema);
+                } else {
+                    logger.warning("Ignoring the cached Compact schema " + schema + ", its id " + schema.getSchemaId()
+                            + " doesn't match the cached id " + schemaIds[i]);
+                }
+            }
+            return validSchemas;
+        } catch (NoSuchFileException e) {
+            return new ArrayList<>();
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring the Compact schema cache " + file + ", it can't be read", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Writes the given schemas, together with the ones already in the file,
+     * to the file.
+     */
+    void write(Collection<Schema> schemas) {
+        Map<Long, Schema> allSchemas = new HashMap<>();
+        for (Schema schema : read()) {
+            allSchemas.put(schema.getSchemaId(), schema);
+        }
+        for (Schema schema : schemas) {
+            allSchemas.put(schema.getSchemaId(), schema);
+        }
+
+        Path tempFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tempFile = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(allSchemas.size());
+                for (Schema schema : allSchemas.values()) {
+                    out.writeLong(schema.getSchemaId());
+                }
+                Schema.writeSchemas(out, allSchemas.values());
+            }
+            move(tempFile, file);
+        } catch (IOException e) {
+            logger.warning("Could not write the Compact schema cache " + file, e);
+            if (tempFile != null) {
+                deleteQuietly(tempFile.toFile());
+            }
+        }
+    }
+}
@@ -20,10 +20,9 @@ import com.hazelcast.client.impl.protocol.task.AuthenticationBaseMessageTask;
 import com.hazelcast.cp.CPGroupId;
 import com.hazelcast.cp.CPGroupsSnapshot;
 import com.hazelcast.cp.internal.RaftGroupId;
-import com.hazelcast.internal.json.Json;
-import com.hazelcast.internal.json.JsonArray;
-import com.hazelcast.internal.json.JsonObject;
-import com.hazelcast.internal.json.JsonValue;
+import com.hazelcast.internal.json.JsonPullParser;
+import com.hazelcast.internal.json.JsonPullParser.Token;
+import com.hazelcast.internal.json.JsonStreamWriter;
 import com.hazelcast.version.Version;
 
 import java.util.AbstractMap;
@@ -31,7 +30,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -40,7 +38,6 @@ import java.util.stream.Collectors;
 import static com.hazelcast.client.impl.connection.tcp.AuthenticationKeyValuePairConstants.CLUSTER_VERSION;
 import static com.hazelcast.client.impl.connection.tcp.AuthenticationKeyValuePairConstants.CP_LEADERS_INFO;
 import static com.hazelcast.client.impl.connection.tcp.AuthenticationKeyValuePairConstants.MEMBER_GROUPS_INFO;
-import static com.hazelcast.internal.util.JsonUtil.getArray;
 
 /**
  * Utility to create key-value map for client authentication messages.
@@ -83,22 +80,22 @@ public final class KeyValuePairGenerator {
                .map(entry -> new AbstractMap.SimpleEntry<>(entry.getKey(), cpMemberSnapshot.getApUuid(entry.getValue().leader())))
                .collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
 
-        JsonArray baseArray = Json.array();
+        JsonStreamWriter writer = new JsonStreamWriter().beginArray();
         for (Map.Entry<CPGroupId, UUID> entry : leadersInfo.entrySet()) {
             if (entry.getKey() instanceof RaftGroupId raftId) {
-                JsonObject baseObject = Json.object();
-                baseObject.add("raftId", Json.object()
-                        .add("name", raftId.getName())
-                        .add("id", raftId.getId())
-                        .add("seed", raftId.getSeed()));
-
-                baseObject.add("leaderUUID", entry.getValue().toString());
-                baseArray.add(baseObject);
+                writer.beginObject()
+                        .name("raftId").beginObject()
+                        .name("name").value(raftId.getName())
+                        .name("id").value(raftId.getId())
+                        .name("seed").value(raftId.getSeed())
+                        .endObject()
+                        .name("leaderUUID").value(entry.getValue().toString())
+                        .endObject();
             } else {
                 throw new IllegalArgumentException("Unknown CPGroupId class provided: " + entry.getKey());
             }
         }
-        return baseArray.toString();
+        return writer.endArray().toString();
     }
 
     // called on client side to store CP leader information
@@ -107,66 +104,111 @@ public final class KeyValuePairGenerator {
             return Collections.emptyMap();
         }
 
-        JsonArray baseArray = Json.parse(jsonArray).asArray();
-        Map<CPGroupId, UUID> leadersMap = new HashMap<>(baseArray.size());
-        for (JsonValue entry : baseArray) {
-            JsonObject baseObject = entry.asObject();
-            JsonValue raftIdValue = baseObject.get("raftId");
-            JsonValue leaderUUIDValue = baseObject.get("leaderUUID");
-            if (raftIdValue == null || leaderUUIDValue == null) {
+        JsonPullParser parser = new JsonPullParser(jsonArray);
+        expect(parser, Token.BEGIN_ARRAY, jsonArray);
+        Map<CPGroupId, UUID> leadersMap = new HashMap<>();
+        while (parser.next() != Token.END_ARRAY) {
+            expectCurrent(parser, Token.BEGIN_OBJECT, jsonArray);
+            RaftGroupId raftGroupId = null;
+            UUID leaderUUID = null;
+            while (parser.next() == Token.NAME) {
+                if (parser.textEquals("raftId")) {
+                    raftGroupId = parseRaftGroupId(parser, jsonArray);
+                } else if (parser.textEquals("leaderUUID")) {
+                    expect(parser, Token.STRING, jsonArray);
+                    leaderUUID = UUID.fromString(parser.stringValue());
+                } else {
+                    parser.skipValue();
+                }
+            }
+            if (raftGroupId == null || leaderUUID == null) {
                 throw new IllegalArgumentException("Invalid Json string received for CP group view: " + jsonArray);
             }
-            JsonObject raftIdObject = raftIdValue.asObject();
-            RaftGroupId raftGroupId = new RaftGroupId(raftIdObject.get("name").asString(),
-                    raftIdObject.get("seed").asLong(), raftIdObject.get("id").asLong());
-            UUID leaderUUID = UUID.fromString(leaderUUIDValue.asString());
             leadersMap.put(raftGroupId, leaderUUID);
         }
         return leadersMap;
     }
 
+    private static RaftGroupId parseRaftGroupId(JsonPullParser parser, String json) {
+        expect(parser, Token.BEGIN_OBJECT, json);
+        String name = null;
+        long seed = 0;
+        long id = 0;
+        while (parser.next() == Token.NAME) {
+            if (parser.textEquals("name")) {
+                expect(parser, Token.STRING, json);
+                name = parser.stringValue();
+            } else if (parser.textEquals("seed")) {
+                expect(parser, Token.NUMBER, json);
+                seed = parser.longValue();
+            } else if (parser.textEquals("id")) {
+                expect(parser, Token.NUMBER, json);
+                id = parser.longValue();
+            } else {
+                parser.skipValue();
+            }
+        }
+        return new RaftGroupId(name, seed, id);
+    }
+
     // called on server side
     private static String toJsonString(Collection<Collection<UUID>> memberGroups, int version) {
-        JsonObject root = new JsonObject();
-        root.add(VERSION, version);
-
-        JsonArray allMemberGroups = new JsonArray();
+        JsonStreamWriter writer = new JsonStreamWriter()
+                .beginObject()
+                .name(VERSION).value(version)
+                .name(GROUPS).beginArray();
         for (Collection<UUID> groupUuids : memberGroups) {
-            JsonArray memberGroup = new JsonArray();
+            writer.beginArray();
             for (UUID memberUuid : groupUuids) {
-                memberGroup.add(memberUuid.toString());
+                writer.value(memberUuid.toString());
             }
-            allMemberGroups.add(memberGroup);
+            writer.endArray();
         }
-        root.add(GROUPS, allMemberGroups);
-        return root.toString();
+        return writer.endArray().endObject().toString();
     }
 
     // called on client side to parse server string
     public static MemberGroupsAndVersionHolder parseJsonForMemberGroups(String memberGroupsJsonString) {
-        JsonValue value = Json.parse(memberGroupsJsonString);
-        JsonObject root = value.asObject();
-        JsonValue versionValue = root.get(VERSION);
-        int version = versionValue.asInt();
-
+        JsonPullParser parser = new JsonPullParser(memberGroupsJsonString);
+        expect(parser, Token.BEGIN_OBJECT, memberGroupsJsonString);
+        Integer version = null;
         Collection<Collection<UUID>> allMemberGroups = new HashSet<>();
-        JsonArray groups = getArray(root, GROUPS);
-        List<JsonValue> uuidArrays = groups.values();
-
-        for (JsonValue uuidArrayValue : uuidArrays) {
-            JsonArray uuidArray = uuidArrayValue.asArray();
-            Set<UUID> memberGroup = new HashSet<>();
-            for (JsonValue uuidValue : uuidArray.values()) {
-                UUID uuid = UUID.fromString(uuidValue.asString());
-                memberGroup.add(uuid);
+        while (parser.next() == Token.NAME) {
+            if (parser.textEquals(VERSION)) {
+                expect(parser, Token.NUMBER, memberGroupsJsonString);
+                version = parser.intValue();
+            } else if (parser.textEquals(GROUPS)) {
+                expect(parser, Token.BEGIN_ARRAY, memberGroupsJsonString);
+                while (parser.next() != Token.END_ARRAY) {
+                    expectCurrent(parser, Token.BEGIN_ARRAY, memberGroupsJsonString);
+                    Set<UUID> memberGroup = new HashSet<>();
+                    while (parser.next() != Token.END_ARRAY) {
+                        expectCurrent(parser, Token.STRING, memberGroupsJsonString);
+                        memberGroup.add(UUID.fromString(parser.stringValue()));
+                    }
+                    allMemberGroups.add(memberGroup);
+                }
+            } else {
+                parser.skipValue();
             }
-
-            allMemberGroups.add(memberGroup);
         }
-
+        if (version == null) {
+            throw new IllegalArgumentException("Invalid Json string received for member groups: " + memberGroupsJsonString);
+        }
         return new MemberGroupsAndVersionHolder(allMemberGroups, version);
     }
 
+    private static void expect(JsonPullParser parser, Token token, String json) {
+        parser.next();
+        expectCurrent(parser, token, json);
+    }
+
+    private static void expectCurrent(JsonPullParser parser, Token token, String json) {
+        if (parser.current() != token) {
+            throw new IllegalArgumentException("Expected " + token + " but found " + parser.current() + " in " + json);
+        }
+    }
+
     /**
      * State holder for all member groups returned from
      * the cluster and for their member list version.
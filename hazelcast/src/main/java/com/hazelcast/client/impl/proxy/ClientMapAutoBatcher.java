@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.client.impl.spi.impl.ClientInvocationFuture;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.ConcurrencyUtil;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Coalesces concurrent single-key {@code getAsync} and {@code setAsync}
+ * calls of a {@link ClientMapProxy} which target the same partition into a
+ * single {@link MapGetAllCodec get-all} or {@link MapPutAllCodec put-all}
+ * message, and completes the futures of the individual calls from the
+ * response.
+ * <p>
+ * The first call for a partition opens a batch which is sent after the
+ * batching window elapses or once it reaches the maximum batch size,
+ * whichever comes first. A batch only contains calls of the same kind;
+ * a call of the other kind sends the open batch first, so a {@code get}
+ * following a {@code set} of the same key on the same partition observes
+ * the value set. For the same reason, the proxy {@linkplain #flush(int)
+ * sends the open batch} of a partition before it sends any other operation
+ * to it.
+ *
+ * @see com.hazelcast.client.properties.ClientProperty#MAP_AUTO_BATCHING_WINDOW_MICROS
+ */
+final class ClientMapAutoBatcher {
+
+    private final String name;
+    private final HazelcastClientInstanceImpl client;
+    private final TaskScheduler taskScheduler;
+    private final long windowMicros;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Integer, Batch> openBatches = new ConcurrentHashMap<>();
+
+    ClientMapAutoBatcher(String name, HazelcastClientInstanceImpl client, long windowMicros, int maxBatchSize) {
+        this.name = name;
+        this.client = client;
+        this.taskScheduler = client.getTaskScheduler();
+        this.windowMicros = windowMicros;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Adds a get of the given key to the open batch of the partition.
+     *
+     * @return a future completed with the value of the key, or {@code null}
+     * if the map doesn't contain the key.
+     */
+    CompletableFuture<Data> get(int partitionId, Data key) {
+        CompletableFuture<Data> future = new CompletableFuture<>();
+        add(partitionId, false, key, null, future);
+        return future;
+    }
+
+    /**
+     * Adds a set of the given key to the open batch of the partition.
+     *
+     * @return a future completed once the entry is stored.
+     */
+    CompletableFuture<Data> set(int partitionId, Data key, Data value) {
+        CompletableFuture<Data> future = new CompletableFuture<>();
+        add(partitionId, true, key, value, future);
+        return future;
+    }
+
+    /**
+     * Sends the open batch of the given partition, if any. When the method
+     * returns, the invocation of the batch has been made, so an operation
+     * invoked on the partition afterwards is executed after the batch.
+     */
+    void flush(int partitionId) {
+        Batch batch = openBatches.get(partitionId);
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Sends the open batches of all partitions, see {@link #flush(int)}.
+     */
+    void flushAll() {
+        for (Batch batch : openBatches.values()) {
+            send(batch);
+        }
+    }
+
+    private void add(int partitionId, boolean set, Data key, Data value, CompletableFuture<Data> future) {
+        for (;;) {
+            Batch batch = openBatches.get(partitionId);
+            if (batch == null) {
+                batch = new Batch(partitionId, set);
+                batch.add(key, value, future);
+                if (openBatches.putIfAbsent(partitionId, batch) == null) {
+                    Batch opened = batch;
+                    if (maxBatchSize <= 1) {
+                        send(opened);
+                    } else {
+                        taskScheduler.schedule(() -> send(opened), windowMicros, MICROSECONDS);
+                    }
+                    return;
+                }
+                continue;
+            }
+
+            boolean added = false;
+            boolean full = false;
+            batch.lock.lock();
+            try {
+                if (!batch.closed && batch.set == set) {
+                    batch.add(key, value, future);
+                    added = true;
+                    full = batch.size() >= maxBatchSize;
+                }
+            } finally {
+                batch.lock.unlock();
+            }
+            if (full || !added) {
+                // a full batch or a batch of the other kind is sent right
+                // away, so that the calls are executed in the order they
+                // were made
+                send(batch);
+            }
+            if (added) {
+                return;
+            }
+        }
+    }
+
+    private void send(Batch batch) {
+        ClientInvocationFuture future = null;
+        Throwable failure = null;
+        // The batch is invoked while holding the lock and removed from the open
+        // batches only after that, so that a concurrent flush() returns only
+        // after the batch was invoked.
+        batch.lock.lock();
+        try {
+            if (batch.closed) {
+                return;
+            }
+            batch.closed = true;
+            ClientMessage request = batch.set
+                    ? MapPutAllCodec.encodeRequest(name, batch.entries(), false)
+                    : MapGetAllCodec.encodeRequest(name, batch.keys);
+            future = new ClientInvocation(client, request, name, batch.partitionId).invoke();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            openBatches.remove(batch.partitionId, batch);
+            batch.lock.unlock();
+        }
+
+        // the futures are completed outside the lock, their callbacks can add to a new batch
+        if (failure != null) {
+            batch.completeExceptionally(failure);
+            return;
+        }
+        future.whenCompleteAsync((response, t) -> {
+            if (t != null) {
+                batch.completeExceptionally(t);
+            } else if (batch.set) {
+                batch.completeSet();
+            } else {
+                batch.completeGet(MapGetAllCodec.decodeResponse(response));
+            }
+        }, ConcurrencyUtil.getDefaultAsyncExecutor());
+    }
+
+    /**
+     * The calls of a single kind waiting to be sent to a partition. Guarded
+     * by its lock until it gets closed; after that only the thread which
+     * closed it accesses it. A lock is used instead of a monitor so that
+     * virtual threads contending on it don't pin their carrier thread.
+     */
+    private static final class Batch {
+
+        private final int partitionId;
+        private final boolean set;
+        private final List<Data> keys = new ArrayList<>();
+        private final List<Data> values = new ArrayList<>();
+        private final List<CompletableFuture<Data>> futures = new ArrayList<>();
+        private final Lock lock = new ReentrantLock();
+        private boolean closed;
+
+        Batch(int partitionId, boolean set) {
+            this.partitionId = partitionId;
+            this.set = set;
+        }
+
+        void add(Data key, Data value, CompletableFuture<Data> future) {
+            keys.add(key);
+            if (set) {
+                values.add(value);
+            }
+            futures.add(future);
+        }
+
+        int size() {
+            return futures.size();
+        }
+
+        List<Map.Entry<Data, Data>> entries() {
+            List<Map.Entry<Data, Data>> entries = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(keys.get(i), values.get(i)));
+            }
+            return entries;
+        }
+
+        void completeGet(List<Map.Entry<Data, Data>> response) {
+            Map<Data, Data> valuesByKey = new HashMap<>(response.size());
+            for (Map.Entry<Data, Data> entry : response) {
+                valuesByKey.put(entry.getKey(), entry.getValue());
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                futures.get(i).complete(valuesByKey.get(keys.get(i)));
+            }
+        }
+
+        void completeSet() {
+            for (CompletableFuture<Data> future : futures) {
+                future.complete(null);
+            }
+        }
+
+        void completeExceptionally(Throwable t) {
+            for (CompletableFuture<Data> future : futures) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -146,9 +146,11 @@ import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.ringbuffer.ReadResultSet;
 import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
+import com.hazelcast.spi.impl.DelegatingCompletableFuture;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
 import com.hazelcast.spi.impl.UnmodifiableLazySet;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -170,6 +172,8 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.client.properties.ClientProperty.MAP_AUTO_BATCHING_MAX_BATCH_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_AUTO_BATCHING_WINDOW_MICROS;
 import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -216,6 +220,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private ClientLockReferenceIdGenerator lockReferenceIdGenerator;
     private ClientQueryCacheContext queryCacheContext;
     private boolean useDefaultReplaceAllOperation;
+    private ClientMapAutoBatcher autoBatcher;
 
     public ClientMapProxy(String serviceName, String name, ClientContext context) {
         super(serviceName, name, context);
@@ -227,6 +232,57 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
         lockReferenceIdGenerator = getClient().getLockReferenceIdGenerator();
         queryCacheContext = getContext().getQueryCacheContext();
+
+        HazelcastProperties properties = getClient().getProperties();
+        long autoBatchingWindowMicros = properties.getLong(MAP_AUTO_BATCHING_WINDOW_MICROS);
+        if (autoBatchingWindowMicros > 0 && isAutoBatchingSupported()) {
+            autoBatcher = new ClientMapAutoBatcher(name, getClient(), autoBatchingWindowMicros,
+                    properties.getInteger(MAP_AUTO_BATCHING_MAX_BATCH_SIZE));
+        }
+    }
+
+    /**
+     * Returns whether the {@code getAsync} and {@code setAsync} calls can be
+     * {@linkplain ClientMapAutoBatcher auto-batched} by this proxy.
+     */
+    protected boolean isAutoBatchingSupported() {
+        return true;
+    }
+
+    @Override
+    protected <T> T invokeOnPartition(ClientMessage clientMessage, int partitionId) {
+        flushAutoBatch(partitionId);
+        return super.invokeOnPartition(clientMessage, partitionId);
+    }
+
+    @Override
+    protected <T> T invoke(ClientMessage clientMessage) {
+        flushAutoBatches();
+        return super.invoke(clientMessage);
+    }
+
+    private ClientInvocation newInvocation(ClientMessage request, int partitionId) {
+        flushAutoBatch(partitionId);
+        return new ClientInvocation(getClient(), request, getName(), partitionId);
+    }
+
+    private ClientInvocation newInvocation(ClientMessage request) {
+        flushAutoBatches();
+        return new ClientInvocation(getClient(), request, getName());
+    }
+
+    // The batched calls wait in the auto-batcher, so the open batches are sent
+    // before any other operation; otherwise the operation could overtake them.
+    private void flushAutoBatch(int partitionId) {
+        if (autoBatcher != null) {
+            autoBatcher.flush(partitionId);
+        }
+    }
+
+    private void flushAutoBatches() {
+        if (autoBatcher != null) {
+            autoBatcher.flushAll();
+        }
     }
 
     @Override
@@ -353,6 +409,11 @@ public class ClientMapProxy<K, V> extends ClientProxy
     public InternalCompletableFuture<V> getAsync(@Nonnull K key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
 
+        if (autoBatcher != null) {
+            Data keyData = toData(key);
+            int partitionId = getContext().getPartitionService().getPartitionId(keyData);
+            return new DelegatingCompletableFuture<>(getSerializationService(), autoBatcher.get(partitionId, keyData));
+        }
         return new ClientDelegatingFuture<>(getAsyncInternal(key),
                 getSerializationService(), MapGetCodec::decodeResponse);
     }
@@ -369,7 +430,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
     private ClientInvocationFuture invokeOnKeyOwner(ClientMessage request, Data keyData) {
         int partitionId = getContext().getPartitionService().getPartitionId(keyData);
-        ClientInvocation clientInvocation = new ClientInvocation(getClient(), request, getName(), partitionId);
+        ClientInvocation clientInvocation = newInvocation(request, partitionId);
         return clientInvocation.invoke();
     }
 
@@ -454,6 +515,11 @@ public class ClientMapProxy<K, V> extends ClientProxy
         try {
             Data keyData = toData(key);
             Data valueData = toData(value);
+            if (autoBatcher != null && ttl == UNSET && maxIdle == null) {
+                int partitionId = getContext().getPartitionService().getPartitionId(keyData);
+                return new DelegatingCompletableFuture<>(getSerializationService(),
+                        autoBatcher.set(partitionId, keyData, valueData));
+            }
             long ttlMillis = timeInMsOrOneIfResultIsZero(ttl, timeunit);
             ClientMessage request;
             if (maxIdle != null) {
@@ -738,7 +804,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private <T> T invoke(ClientMessage clientMessage, Object key, long invocationTimeoutSeconds) {
         final int partitionId = getContext().getPartitionService().getPartitionId(key);
         try {
-            ClientInvocation clientInvocation = new ClientInvocation(getClient(), clientMessage, getName(), partitionId);
+            ClientInvocation clientInvocation = newInvocation(clientMessage, partitionId);
             clientInvocation.setInvocationTimeoutMillis(invocationTimeoutSeconds);
             final Future future = clientInvocation.invoke();
             return (T) future.get();
@@ -1175,7 +1241,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
             List<Data> keyList = entry.getValue();
             if (!keyList.isEmpty()) {
                 ClientMessage request = MapGetAllCodec.encodeRequest(name, keyList);
-                futures.add(new ClientInvocation(getClient(), request, getName(), partitionId).invoke());
+                futures.add(newInvocation(request, partitionId).invoke());
             }
         }
 
@@ -1588,7 +1654,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
                                                                             @Nonnull Collection<Data> dataKeys,
                                                                             @Nonnull EntryProcessor<K, V, R> entryProcessor) {
         ClientMessage request = MapExecuteOnKeysCodec.encodeRequest(name, toData(entryProcessor), dataKeys);
-        ClientInvocationFuture future = new ClientInvocation(getClient(), request, getName()).invoke();
+        ClientInvocationFuture future = newInvocation(request).invoke();
         boolean shouldInvalidate = !(entryProcessor instanceof ReadOnly);
 
         return new ClientDelegatingFuture<>(
@@ -1683,7 +1749,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
             // if there is only one entry, consider how we can use MapPutRequest
             // without having to get back the return value
             ClientMessage request = MapPutAllCodec.encodeRequest(name, entry.getValue(), triggerMapLoader);
-            new ClientInvocation(getClient(), request, getName(), partitionId)
+            newInvocation(request, partitionId)
                     .invoke()
                     .whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
         }
@@ -1742,7 +1808,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
         for (Entry<Integer, ? extends List<SimpleEntryView<Data, Data>>> entry : entriesByPartition.entrySet()) {
             Integer partitionId = entry.getKey();
             ClientMessage request = MapPutAllWithMetadataCodec.encodeRequest(name, entry.getValue());
-            ClientInvocationFuture future = new ClientInvocation(getClient(), request, getName(), partitionId)
+            ClientInvocationFuture future = newInvocation(request, partitionId)
                     .invoke();
 
             future.whenCompleteAsync((clientMessage, throwable) -> {
@@ -1952,7 +2018,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     @Override
     public InternalCompletableFuture<EventJournalInitialSubscriberState> subscribeToEventJournal(int partitionId) {
         final ClientMessage request = MapEventJournalSubscribeCodec.encodeRequest(name);
-        final ClientInvocationFuture fut = new ClientInvocation(getClient(), request, getName(), partitionId).invoke();
+        final ClientInvocationFuture fut = newInvocation(request, partitionId).invoke();
         return new ClientDelegatingFuture<>(fut, getSerializationService(), message -> {
             ResponseParameters resp = MapEventJournalSubscribeCodec.decodeResponse(message);
             return new EventJournalInitialSubscriberState(resp.oldestSequence, resp.newestSequence);
@@ -1978,7 +2044,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
         projection = (Function<? super EventJournalMapEvent<K, V>, ? extends T>) context.initialize(projection);
         final ClientMessage request = MapEventJournalReadCodec.encodeRequest(
                 name, startSequence, minSize, maxSize, ss.toData(predicate), ss.toData(projection));
-        final ClientInvocationFuture fut = new ClientInvocation(getClient(), request, getName(), partitionId).invoke();
+        final ClientInvocationFuture fut = newInvocation(request, partitionId).invoke();
         return new ClientDelegatingFuture<>(fut, ss, message -> {
             MapEventJournalReadCodec.ResponseParameters params = MapEventJournalReadCodec.decodeResponse(message);
             ReadResultSetImpl resultSet = new ReadResultSetImpl<>(
@@ -2306,7 +2372,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
                 Data functionAsData = toData(function);
                 for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
                     ClientMessage request = MapReplaceAllCodec.encodeRequest(name, functionAsData);
-                    futures.add(new ClientInvocation(getClient(), request, getName(), partitionId).invoke());
+                    futures.add(newInvocation(request, partitionId).invoke());
                 }
                 for (Future<ClientMessage> future : futures) {
                     try {
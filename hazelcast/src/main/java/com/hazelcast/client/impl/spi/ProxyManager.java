@@ -85,6 +85,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
@@ -428,8 +429,13 @@ public final class ProxyManager {
         }
     }
 
+    /**
+     * Waits with a {@link CountDownLatch} instead of a monitor, so that
+     * virtual threads waiting for the proxy don't pin their carrier thread.
+     */
     private static class ClientProxyFuture implements ForkJoinPool.ManagedBlocker {
 
+        private final CountDownLatch initialized = new CountDownLatch(1);
         volatile Object proxy;
 
         ClientProxy get() {
@@ -451,10 +457,8 @@ public final class ProxyManager {
             if (o == null) {
                 throw new IllegalArgumentException();
             }
-            synchronized (this) {
-                proxy = o;
-                notifyAll();
-            }
+            proxy = o;
+            initialized.countDown();
         }
 
         @Override
@@ -465,13 +469,11 @@ public final class ProxyManager {
             }
 
             boolean interrupted = false;
-            synchronized (this) {
-                while (proxy == null) {
-                    try {
-                        wait();
-                    } catch (InterruptedException e) {
-                        interrupted = true;
-                    }
+            while (proxy == null) {
+                try {
+                    initialized.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
                 }
             }
             if (interrupted) {
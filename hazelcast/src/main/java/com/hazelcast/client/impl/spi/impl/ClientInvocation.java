@@ -306,6 +306,10 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         return invocationService.shouldFailOnIndeterminateOperationState();
     }
 
+    boolean isResponseDirectCompletionEnabled() {
+        return invocationService.isResponseDirectCompletionEnabled();
+    }
+
     void notifyException(long correlationId, Throwable exception) {
         if (getPermissionToNotify(correlationId)) {
             notifyExceptionWithOwnedPermission(exception);
@@ -35,6 +35,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.spi.impl.operationservice.impl.InvocationFuture.returnOrThrowWithGetConventions;
 
 public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessage> {
@@ -99,6 +100,17 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
         return invocation;
     }
 
+    /**
+     * Returns the executor on which futures decorating this future, like the
+     * {@link com.hazelcast.client.impl.ClientDelegatingFuture}, complete their
+     * own state once this future completes.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#RESPONSE_DIRECT_COMPLETION_ENABLED
+     */
+    public Executor decoratorCompletionExecutor() {
+        return invocation.isResponseDirectCompletionEnabled() ? CALLER_RUNS : defaultExecutor();
+    }
+
     @Override
     public InternalCompletableFuture<ClientMessage> exceptionally(@Nonnull Function<Throwable, ? extends ClientMessage> fn) {
         return super.exceptionally(new CallIdTrackingFunction(fn));
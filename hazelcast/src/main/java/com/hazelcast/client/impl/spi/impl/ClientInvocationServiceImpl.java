@@ -49,6 +49,7 @@ import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PA
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_TIMEOUT_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
 import static com.hazelcast.client.properties.ClientProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
+import static com.hazelcast.client.properties.ClientProperty.RESPONSE_DIRECT_COMPLETION_ENABLED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_PENDING_CALLS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS;
@@ -100,6 +101,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
     private final ClientConnectionManager connectionManager;
     private final ClientPartitionService partitionService;
     private final RoutingMode routingMode;
+    private final boolean responseDirectCompletionEnabled;
 
     public ClientInvocationServiceImpl(HazelcastClientInstanceImpl client) {
         this.client = client;
@@ -115,6 +117,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
 
         this.operationBackupTimeoutMillis = properties.getInteger(OPERATION_BACKUP_TIMEOUT_MILLIS);
         this.shouldFailOnIndeterminateOperationState = properties.getBoolean(FAIL_ON_INDETERMINATE_OPERATION_STATE);
+        this.responseDirectCompletionEnabled = properties.getBoolean(RESPONSE_DIRECT_COMPLETION_ENABLED);
         client.getMetricsRegistry().registerStaticMetrics(this, CLIENT_PREFIX_INVOCATIONS);
         this.connectionManager = client.getConnectionManager();
         this.partitionService = client.getClientPartitionService();
@@ -377,6 +380,11 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
         return routingMode;
     }
 
+    @Override
+    public boolean isResponseDirectCompletionEnabled() {
+        return responseDirectCompletionEnabled;
+    }
+
     private class BackupTimeoutTask implements Runnable {
         @Override
         public void run() {
@@ -86,4 +86,12 @@ public interface ClientInvocationServiceInternal extends ClientInvocationService
      * @see RoutingMode
      */
     RoutingMode getRoutingMode();
+
+    /**
+     * Returns {@code true} if the futures decorating the invocation futures
+     * are completed on the thread processing the response.
+     *
+     * @see com.hazelcast.client.properties.ClientProperty#RESPONSE_DIRECT_COMPLETION_ENABLED
+     */
+    boolean isResponseDirectCompletionEnabled();
 }
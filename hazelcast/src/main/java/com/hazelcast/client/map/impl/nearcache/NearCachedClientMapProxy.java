@@ -103,6 +103,13 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         }
     }
 
+    // the near cache has to be invalidated in the order the operations are
+    // executed, so the batched getAsync/setAsync calls aren't used here
+    @Override
+    protected boolean isAutoBatchingSupported() {
+        return false;
+    }
+
     @Override
     protected boolean containsKeyInternal(Object key) {
         key = toNearCacheKey(key);
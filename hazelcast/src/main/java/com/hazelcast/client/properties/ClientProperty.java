@@ -23,6 +23,7 @@ import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.client.util.ClientConnectivityLogger;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -162,6 +163,46 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * The maximum time in microseconds a connection waits for more messages before it writes
+     * a partially filled send buffer to the socket. Messages offered within this window are sent
+     * with the same socket write, which reduces the number of write system calls at the cost of
+     * some latency. The waiting is done by spinning on the writing thread, so keep the value in
+     * the order of tens of microseconds.
+     * <p>
+     * It is disabled (0) by default.
+     */
+    public static final HazelcastProperty IO_WRITE_COALESCING_DELAY_MICROS
+            = new HazelcastProperty("hazelcast.client.io.write.coalescing.delay.micros", 0, MICROSECONDS);
+
+    /**
+     * The time window in microseconds in which concurrent {@code IMap.getAsync()}
+     * and {@code IMap.setAsync()} calls targeting the same partition are
+     * coalesced into a single {@code getAll} or {@code setAll} message. This
+     * increases the throughput of clients issuing many small asynchronous map
+     * operations at the cost of the added latency of the window.
+     * <p>
+     * Only calls without TTL and max idle are batched, and maps with a near
+     * cache are not batched. Any other operation on the map sends the open
+     * batches of its partitions first, so it's executed after the batched
+     * calls made before it. Note that batched sets, like {@code IMap.setAll()},
+     * don't wait for locks held on their keys by other threads.
+     * <p>
+     * It is disabled (0) by default.
+     *
+     * @see #MAP_AUTO_BATCHING_MAX_BATCH_SIZE
+     */
+    public static final HazelcastProperty MAP_AUTO_BATCHING_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.client.map.auto.batching.window.micros", 0, MICROSECONDS);
+
+    /**
+     * The maximum number of calls coalesced into a single message when
+     * {@link #MAP_AUTO_BATCHING_WINDOW_MICROS} is enabled. A batch reaching
+     * this size is sent without waiting for the window to elapse.
+     */
+    public static final HazelcastProperty MAP_AUTO_BATCHING_MAX_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.client.map.auto.batching.max.batch.size", 128);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
@@ -206,6 +247,27 @@ public final class ClientProperty {
     public static final HazelcastProperty RESPONSE_THREAD_DYNAMIC
             = new HazelcastProperty("hazelcast.client.response.thread.dynamic", true);
 
+    /**
+     * Enables completing the futures returned by the asynchronous proxy methods
+     * directly on the thread processing the response, i.e. on a response thread
+     * or, if {@link #RESPONSE_THREAD_COUNT} is 0, on the IO thread. By default
+     * the completion is handed over to the default async executor, which costs
+     * an additional context switch per asynchronous call. This matters most when
+     * the client is used from many virtual threads, which are parked and
+     * unparked directly and don't need the handover.
+     * <p>
+     * Callbacks registered through the {@link java.util.concurrent.CompletionStage}
+     * methods of the returned futures are still executed on the default async
+     * executor. However, dependent stages created without an executor through
+     * the plain {@link java.util.concurrent.CompletableFuture} API, e.g. via
+     * {@code CompletableFuture.allOf()}, are executed on the response thread
+     * and must not block when this is enabled.
+     * <p>
+     * It is disabled by default.
+     */
+    public static final HazelcastProperty RESPONSE_DIRECT_COMPLETION_ENABLED
+            = new HazelcastProperty("hazelcast.client.response.direct.completion.enabled", false);
+
     /**
      * Token to use when discovering cluster via hazelcast.cloud
      */
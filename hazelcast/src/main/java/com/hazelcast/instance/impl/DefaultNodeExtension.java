@@ -99,6 +99,7 @@ import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.tcp.ChannelInitializerFunction;
 import com.hazelcast.internal.server.tcp.PacketDecoder;
 import com.hazelcast.internal.server.tcp.PacketEncoder;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
 import com.hazelcast.internal.tpc.TpcServerBootstrap;
 import com.hazelcast.internal.tpc.TpcServerBootstrapImpl;
 import com.hazelcast.internal.util.ConstructorFunction;
@@ -474,7 +475,10 @@ public class DefaultNodeExtension implements NodeExtension {
     @Override
     public OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier,
                                                     ServerConnection connection, ServerContext serverContext) {
-        return new OutboundHandler[]{new PacketEncoder()};
+        PacketEncoder encoder = connection instanceof TcpServerConnection tcpConnection
+                ? new PacketEncoder(tcpConnection.getPacketCompression())
+                : new PacketEncoder();
+        return new OutboundHandler[]{encoder};
     }
 
     @Override
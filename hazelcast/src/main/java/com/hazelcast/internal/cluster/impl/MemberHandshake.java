@@ -60,6 +60,13 @@ public class MemberHandshake
 
     public static final String OPTION_PLANE_COUNT = "planeCount";
     public static final String OPTION_PLANE_INDEX = "planeIndex";
+    /**
+     * The packet compression algorithm the sender supports and is willing to
+     * use on the connection.
+     *
+     * @since 6.0
+     */
+    public static final String OPTION_COMPRESSION = "compression";
 
     private byte schemaVersion;
     private Map<ProtocolType, Collection<Address>> localAddresses;
@@ -101,6 +108,14 @@ public class MemberHandshake
         return getIntOption(OPTION_PLANE_INDEX, 0);
     }
 
+    /**
+     * @return the packet compression algorithm announced by the sender or
+     * {@code null} if the sender doesn't compress packets on the connection.
+     */
+    public String getCompression() {
+        return options.get(OPTION_COMPRESSION);
+    }
+
     byte getSchemaVersion() {
         return schemaVersion;
     }
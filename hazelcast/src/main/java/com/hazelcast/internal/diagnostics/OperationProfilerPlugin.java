@@ -17,6 +17,7 @@
 package com.hazelcast.internal.diagnostics;
 
 
+import com.hazelcast.internal.util.AllocationDistribution;
 import com.hazelcast.internal.util.LatencyDistribution;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
@@ -45,15 +46,29 @@ public class OperationProfilerPlugin extends DiagnosticsPlugin {
     public static final HazelcastProperty PERIOD_SECONDS = new HazelcastProperty(
             "hazelcast.diagnostics.operation-profiler.period.seconds", 5, SECONDS);
 
+    /**
+     * If the bytes allocated while deserializing operations received from
+     * other members should be profiled per operation type.
+     * <p>
+     * This needs a JVM that can measure the allocations of a thread and adds
+     * a bit of overhead to every remote operation.
+     * <p>
+     * The default is {@code false}.
+     */
+    public static final HazelcastProperty ALLOCATIONS_ENABLED = new HazelcastProperty(
+            "hazelcast.diagnostics.operation-profiler.allocations.enabled", false);
+
     private final OperationServiceImpl operationService;
     private final long periodMillis;
     private final ConcurrentMap<Class, LatencyDistribution> opLatencyDistribution;
+    private final ConcurrentMap<Class, AllocationDistribution> opDeserializationAllocations;
 
     public OperationProfilerPlugin(NodeEngineImpl nodeEngine) {
         super(nodeEngine.getLogger(OperationProfilerPlugin.class));
         this.operationService = nodeEngine.getOperationService();
         this.periodMillis = getPeriodMillis(nodeEngine);
         this.opLatencyDistribution = this.operationService.getOpLatencyDistributions();
+        this.opDeserializationAllocations = this.operationService.getOpDeserializationAllocations();
     }
 
     private long getPeriodMillis(NodeEngineImpl nodeEngine) {
@@ -77,6 +92,29 @@ public class OperationProfilerPlugin extends DiagnosticsPlugin {
         write(writer, opLatencyDistribution);
 
         writer.endSection();
+
+        if (opDeserializationAllocations != null) {
+            writer.startSection("OperationsDeserializationAllocations");
+            writeAllocations(writer, opDeserializationAllocations);
+            writer.endSection();
+        }
+    }
+
+    static void writeAllocations(DiagnosticsLogWriter writer,
+                                 ConcurrentMap<Class, AllocationDistribution> opAllocations) {
+        for (Map.Entry<Class, AllocationDistribution> entry : opAllocations.entrySet()) {
+            AllocationDistribution distribution = entry.getValue();
+            if (distribution.count() == 0) {
+                continue;
+            }
+
+            writer.startSection(entry.getKey().getName());
+            writer.writeKeyValueEntry("count", distribution.count());
+            writer.writeKeyValueEntry("totalBytes", distribution.totalBytes());
+            writer.writeKeyValueEntry("avgBytes", distribution.avgBytes());
+            writer.writeKeyValueEntry("maxBytes", distribution.maxBytes());
+            writer.endSection();
+        }
     }
 
     static void write(DiagnosticsLogWriter writer, ConcurrentMap<Class, LatencyDistribution> opLatencyDistribution) {
@@ -0,0 +1,524 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.json;
+
+import java.util.Arrays;
+
+/**
+ * A pull parser for JSON text: the caller asks for the next {@link Token}
+ * instead of the parser building a {@link JsonValue} tree or calling a
+ * {@link JsonHandler}.
+ * <p>
+ * Names and string values without escape sequences are not copied out of
+ * the input; {@link #textEquals(String)}, {@link #intValue()} and
+ * {@link #longValue()} work on the input directly, so reading a document
+ * only allocates for the values the caller asks as {@link String}.
+ * <pre>
+ * JsonPullParser parser = new JsonPullParser(json);
+ * parser.next(); // BEGIN_OBJECT
+ * while (parser.next() == Token.NAME) {
+ *     if (parser.textEquals("version")) {
+ *         parser.next();
+ *         version = parser.intValue();
+ *     } else {
+ *         parser.skipValue();
+ *     }
+ * }
+ * </pre>
+ * A parser can be reused for another input with {@link #reset(String)}.
+ * Instances are not thread-safe.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "checkstyle:cyclomaticcomplexity"})
+public final class JsonPullParser {
+
+    /**
+     * The tokens returned by {@link #next()}.
+     */
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+    private static final int INITIAL_NESTING_CAPACITY = 8;
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+    private static final int HEX_RADIX = 16;
+
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_ARRAY = 2;
+    private static final byte NONEMPTY_ARRAY = 3;
+    private static final byte EMPTY_OBJECT = 4;
+    private static final byte NONEMPTY_OBJECT = 5;
+    private static final byte DANGLING_NAME = 6;
+
+    private final StringBuilder captureBuffer = new StringBuilder();
+    private byte[] stack = new byte[INITIAL_NESTING_CAPACITY];
+    private int stackSize;
+
+    private String input;
+    private int index;
+    private Token token;
+
+    // the text of the current name, string or number; either the input
+    // region [textStart, textEnd) or, if it had escapes, the captureBuffer
+    private int textStart;
+    private int textEnd;
+    private boolean textCaptured;
+    private boolean integral;
+    private boolean booleanValue;
+
+    public JsonPullParser(String input) {
+        reset(input);
+    }
+
+    /**
+     * Starts parsing the given input, keeping the buffers of this parser.
+     */
+    public JsonPullParser reset(String input) {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        this.input = input;
+        index = 0;
+        token = null;
+        stackSize = 0;
+        push(EMPTY_DOCUMENT);
+        return this;
+    }
+
+    /**
+     * Returns the token the parser is positioned at, or {@code null} before
+     * the first call to {@link #next()}.
+     */
+    public Token current() {
+        return token;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @throws ParseException if the input is not valid JSON
+     */
+    public Token next() {
+        skipWhiteSpace();
+        switch (peek()) {
+            case EMPTY_DOCUMENT:
+                replaceTop(NONEMPTY_DOCUMENT);
+                return token = readValue();
+            case NONEMPTY_DOCUMENT:
+                if (index < input.length()) {
+                    throw error("Unexpected character");
+                }
+                return token = Token.END_DOCUMENT;
+            case EMPTY_ARRAY:
+                if (readChar(']')) {
+                    stackSize--;
+                    return token = Token.END_ARRAY;
+                }
+                replaceTop(NONEMPTY_ARRAY);
+                return token = readValue();
+            case NONEMPTY_ARRAY:
+                if (readChar(']')) {
+                    stackSize--;
+                    return token = Token.END_ARRAY;
+                }
+                expectChar(',', "',' or ']'");
+                skipWhiteSpace();
+                return token = readValue();
+            case EMPTY_OBJECT:
+                if (readChar('}')) {
+                    stackSize--;
+                    return token = Token.END_OBJECT;
+                }
+                return token = readName();
+            case NONEMPTY_OBJECT:
+                if (readChar('}')) {
+                    stackSize--;
+                    return token = Token.END_OBJECT;
+                }
+                expectChar(',', "',' or '}'");
+                skipWhiteSpace();
+                return token = readName();
+            case DANGLING_NAME:
+                expectChar(':', "':'");
+                skipWhiteSpace();
+                replaceTop(NONEMPTY_OBJECT);
+                return token = readValue();
+            default:
+                throw new IllegalStateException("Unknown parser state: " + peek());
+        }
+    }
+
+    /**
+     * Skips the value the parser is positioned in front of, including all
+     * nested values of an object or an array. If the parser is positioned at
+     * the start of an object or an array, skips to its end.
+     */
+    public void skipValue() {
+        int depth = 0;
+        if (token == Token.BEGIN_OBJECT || token == Token.BEGIN_ARRAY) {
+            depth = 1;
+        }
+        do {
+            switch (next()) {
+                case BEGIN_OBJECT, BEGIN_ARRAY:
+                    depth++;
+                    break;
+                case END_OBJECT, END_ARRAY:
+                    depth--;
+                    break;
+                case END_DOCUMENT:
+                    return;
+                default:
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Returns the text of the current {@link Token#NAME}, {@link Token#STRING}
+     * or {@link Token#NUMBER}.
+     */
+    public String stringValue() {
+        checkHasText();
+        return textCaptured ? captureBuffer.toString() : input.substring(textStart, textEnd);
+    }
+
+    /**
+     * Checks if the text of the current {@link Token#NAME}, {@link Token#STRING}
+     * or {@link Token#NUMBER} equals the given string, without creating a
+     * string for the text.
+     */
+    public boolean textEquals(String string) {
+        checkHasText();
+        if (textCaptured) {
+            return captureBuffer.length() == string.length() && string.contentEquals(captureBuffer);
+        }
+        int length = textEnd - textStart;
+        return length == string.length() && input.regionMatches(textStart, string, 0, length);
+    }
+
+    /**
+     * Returns the current {@link Token#NUMBER} as an {@code int}.
+     *
+     * @throws NumberFormatException if the number isn't an integer in the
+     *                               range of an {@code int}
+     */
+    public int intValue() {
+        long value = longValue();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Not an int: " + stringValue());
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns the current {@link Token#NUMBER} as a {@code long}.
+     *
+     * @throws NumberFormatException if the number isn't an integer in the
+     *                               range of a {@code long}
+     */
+    public long longValue() {
+        checkToken(Token.NUMBER);
+        int start = textStart;
+        boolean negative = input.charAt(start) == '-';
+        if (negative) {
+            start++;
+        }
+        if (!integral || textEnd - start > MAX_SAFE_LONG_DIGITS) {
+            // same as JsonNumber.asLong()
+            return Long.parseLong(stringValue());
+        }
+        long value = 0;
+        for (int i = start; i < textEnd; i++) {
+            value = value * 10 + (input.charAt(i) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    public double doubleValue() {
+        checkToken(Token.NUMBER);
+        return Double.parseDouble(stringValue());
+    }
+
+    public boolean booleanValue() {
+        checkToken(Token.BOOLEAN);
+        return booleanValue;
+    }
+
+    private Token readValue() {
+        if (index >= input.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = input.charAt(index);
+        switch (c) {
+            case '{':
+                index++;
+                push(EMPTY_OBJECT);
+                return Token.BEGIN_OBJECT;
+            case '[':
+                index++;
+                push(EMPTY_ARRAY);
+                return Token.BEGIN_ARRAY;
+            case '"':
+                readString();
+                return Token.STRING;
+            case 't':
+                readLiteral("true");
+                booleanValue = true;
+                return Token.BOOLEAN;
+            case 'f':
+                readLiteral("false");
+                booleanValue = false;
+                return Token.BOOLEAN;
+            case 'n':
+                readLiteral("null");
+                return Token.NULL;
+            case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9':
+                readNumber();
+                return Token.NUMBER;
+            default:
+                throw expected("value");
+        }
+    }
+
+    private Token readName() {
+        if (index >= input.length() || input.charAt(index) != '"') {
+            throw expected("name");
+        }
+        readString();
+        replaceTop(DANGLING_NAME);
+        return Token.NAME;
+    }
+
+    private void readString() {
+        // skip the opening quote
+        index++;
+        int start = index;
+        textCaptured = false;
+        int length = input.length();
+        while (index < length) {
+            char c = input.charAt(index);
+            if (c == '"') {
+                if (textCaptured) {
+                    captureBuffer.append(input, start, index);
+                } else {
+                    textStart = start;
+                    textEnd = index;
+                }
+                index++;
+                return;
+            } else if (c == '\\') {
+                if (!textCaptured) {
+                    captureBuffer.setLength(0);
+                    textCaptured = true;
+                }
+                captureBuffer.append(input, start, index);
+                index++;
+                readEscape();
+                start = index;
+            } else if (c < 0x20) {
+                throw expected("valid string character");
+            } else {
+                index++;
+            }
+        }
+        throw error("Unexpected end of input");
+    }
+
+    private void readEscape() {
+        if (index >= input.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = input.charAt(index++);
+        switch (c) {
+            case '"', '/', '\\':
+                captureBuffer.append(c);
+                break;
+            case 'b':
+                captureBuffer.append('\b');
+                break;
+            case 'f':
+                captureBuffer.append('\f');
+                break;
+            case 'n':
+                captureBuffer.append('\n');
+                break;
+            case 'r':
+                captureBuffer.append('\r');
+                break;
+            case 't':
+                captureBuffer.append('\t');
+                break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = index < input.length() ? Character.digit(input.charAt(index), HEX_RADIX) : -1;
+                    if (digit < 0) {
+                        throw expected("hexadecimal digit");
+                    }
+                    value = value * HEX_RADIX + digit;
+                    index++;
+                }
+                captureBuffer.append((char) value);
+                break;
+            default:
+                index--;
+                throw expected("valid escape sequence");
+        }
+    }
+
+    private void readNumber() {
+        textStart = index;
+        textCaptured = false;
+        integral = true;
+        readChar('-');
+        if (index >= input.length() || !isDigit(input.charAt(index))) {
+            throw expected("digit");
+        }
+        if (input.charAt(index++) != '0') {
+            skipDigits();
+        }
+        if (readChar('.')) {
+            integral = false;
+            readDigits();
+        }
+        if (readChar('e') || readChar('E')) {
+            integral = false;
+            if (!readChar('+')) {
+                readChar('-');
+            }
+            readDigits();
+        }
+        textEnd = index;
+    }
+
+    private void readDigits() {
+        if (index >= input.length() || !isDigit(input.charAt(index))) {
+            throw expected("digit");
+        }
+        skipDigits();
+    }
+
+    private void skipDigits() {
+        while (index < input.length() && isDigit(input.charAt(index))) {
+            index++;
+        }
+    }
+
+    private void readLiteral(String literal) {
+        if (!input.startsWith(literal, index)) {
+            // find the first non-matching character for the error location
+            int i = 0;
+            while (index < input.length() && input.charAt(index) == literal.charAt(i)) {
+                index++;
+                i++;
+            }
+            throw expected("'" + literal.charAt(i) + "'");
+        }
+        index += literal.length();
+    }
+
+    private void skipWhiteSpace() {
+        int length = input.length();
+        while (index < length) {
+            char c = input.charAt(index);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            index++;
+        }
+    }
+
+    private boolean readChar(char ch) {
+        if (index < input.length() && input.charAt(index) == ch) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectChar(char ch, String expected) {
+        if (!readChar(ch)) {
+            throw expected(expected);
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void checkHasText() {
+        if (token != Token.NAME && token != Token.STRING && token != Token.NUMBER) {
+            throw new IllegalStateException("Current token has no text: " + token);
+        }
+    }
+
+    private void checkToken(Token expected) {
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but the current token is " + token);
+        }
+    }
+
+    private byte peek() {
+        return stack[stackSize - 1];
+    }
+
+    private void replaceTop(byte context) {
+        stack[stackSize - 1] = context;
+    }
+
+    private void push(byte context) {
+        if (stackSize > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = context;
+    }
+
+    private ParseException expected(String expected) {
+        if (index >= input.length()) {
+            return error("Unexpected end of input");
+        }
+        return error("Expected " + expected);
+    }
+
+    private ParseException error(String message) {
+        int line = 1;
+        int lineOffset = 0;
+        int offset = Math.min(index, input.length());
+        for (int i = 0; i < offset; i++) {
+            if (input.charAt(i) == '\n') {
+                line++;
+                lineOffset = i + 1;
+            }
+        }
+        return new ParseException(message, new Location(offset, line, offset - lineOffset + 1));
+    }
+}
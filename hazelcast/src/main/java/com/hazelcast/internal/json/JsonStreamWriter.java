@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.json;
+
+import java.util.Arrays;
+
+/**
+ * Writes JSON text straight into a reusable {@link StringBuilder}, without
+ * building a {@link JsonValue} tree first.
+ * <p>
+ * The output is the same as the {@code toString()} of the equivalent
+ * {@link JsonObject}/{@link JsonArray} tree, so it can replace the tree for
+ * payloads that are only built to be written out:
+ * <pre>
+ * JsonStreamWriter writer = new JsonStreamWriter();
+ * writer.beginObject()
+ *       .name("version").value(1)
+ *       .name("groups").beginArray().value("a").value("b").endArray()
+ *       .endObject();
+ * String json = writer.toString();
+ * </pre>
+ * The writer checks that values and names are written in a valid order.
+ * After {@link #reset()}, the writer and its buffer can be reused for the
+ * next document. Instances are not thread-safe.
+ */
+public final class JsonStreamWriter {
+
+    private static final int INITIAL_NESTING_CAPACITY = 8;
+
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_ARRAY = 2;
+    private static final byte NONEMPTY_ARRAY = 3;
+    private static final byte EMPTY_OBJECT = 4;
+    // an object that needs a name before the next value
+    private static final byte NONEMPTY_OBJECT = 5;
+    // an object whose last written token is a name
+    private static final byte DANGLING_NAME = 6;
+
+    private final StringBuilder out;
+    private byte[] stack = new byte[INITIAL_NESTING_CAPACITY];
+    private int stackSize;
+
+    public JsonStreamWriter() {
+        this(new StringBuilder());
+    }
+
+    public JsonStreamWriter(StringBuilder out) {
+        this.out = out;
+        reset();
+    }
+
+    /**
+     * Clears the written text and the nesting state, so that the writer can
+     * be used for the next document while keeping its buffers.
+     */
+    public JsonStreamWriter reset() {
+        out.setLength(0);
+        stackSize = 0;
+        push(EMPTY_DOCUMENT);
+        return this;
+    }
+
+    public JsonStreamWriter beginObject() {
+        beforeValue();
+        out.append('{');
+        push(EMPTY_OBJECT);
+        return this;
+    }
+
+    public JsonStreamWriter endObject() {
+        byte context = peek();
+        if (context != EMPTY_OBJECT && context != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("Not in an object or a name is missing its value");
+        }
+        stackSize--;
+        out.append('}');
+        return this;
+    }
+
+    public JsonStreamWriter beginArray() {
+        beforeValue();
+        out.append('[');
+        push(EMPTY_ARRAY);
+        return this;
+    }
+
+    public JsonStreamWriter endArray() {
+        byte context = peek();
+        if (context != EMPTY_ARRAY && context != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("Not in an array");
+        }
+        stackSize--;
+        out.append(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     */
+    public JsonStreamWriter name(String name) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        byte context = peek();
+        if (context == NONEMPTY_OBJECT) {
+            out.append(',');
+        } else if (context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Names are only allowed in objects, before a value");
+        }
+        stack[stackSize - 1] = DANGLING_NAME;
+        appendString(name);
+        out.append(':');
+        return this;
+    }
+
+    /**
+     * Writes a string value, or {@code null} if the given string is
+     * {@code null}.
+     */
+    public JsonStreamWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        appendString(value);
+        return this;
+    }
+
+    public JsonStreamWriter value(int value) {
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    public JsonStreamWriter value(long value) {
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a double value the same way as {@link Json#value(double)}.
+     *
+     * @throws IllegalArgumentException if the value is infinite or NaN.
+     */
+    public JsonStreamWriter value(double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Infinite and NaN values not permitted in JSON");
+        }
+        beforeValue();
+        int start = out.length();
+        out.append(value);
+        // same as Json.cutOffPointZero()
+        int length = out.length();
+        if (length - start > 2 && out.charAt(length - 2) == '.' && out.charAt(length - 1) == '0') {
+            out.setLength(length - 2);
+        }
+        return this;
+    }
+
+    public JsonStreamWriter value(boolean value) {
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    public JsonStreamWriter nullValue() {
+        beforeValue();
+        out.append("null");
+        return this;
+    }
+
+    /**
+     * Writes an already built {@link JsonValue}, e.g. a part of the document
+     * that is still created as a tree.
+     */
+    public JsonStreamWriter value(JsonValue value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Returns the JSON text written since the last {@link #reset()}.
+     *
+     * @throws IllegalStateException if an object or array is still open.
+     */
+    @Override
+    public String toString() {
+        if (stackSize != 1 || peek() != NONEMPTY_DOCUMENT) {
+            throw new IllegalStateException("Incomplete document");
+        }
+        return out.toString();
+    }
+
+    private void beforeValue() {
+        switch (peek()) {
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                out.append(',');
+                break;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("A JSON document must have a single top-level value");
+            default:
+                throw new IllegalStateException("A value in an object must be preceded by a name");
+        }
+    }
+
+    private void appendString(String string) {
+        out.append('"');
+        int length = string.length();
+        int start = 0;
+        for (int index = 0; index < length; index++) {
+            char[] replacement = JsonWriter.getReplacementChars(string.charAt(index));
+            if (replacement != null) {
+                out.append(string, start, index).append(replacement);
+                start = index + 1;
+            }
+        }
+        out.append(string, start, length).append('"');
+    }
+
+    private byte peek() {
+        return stack[stackSize - 1];
+    }
+
+    private void push(byte context) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = context;
+    }
+}
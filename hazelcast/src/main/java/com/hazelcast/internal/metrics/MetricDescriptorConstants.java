@@ -61,6 +61,7 @@ public final class MetricDescriptorConstants {
     public static final String CLIENT_PREFIX_MEMORY = "memory";
     public static final String CLIENT_PREFIX_MEMORY_MANAGER = "memorymanager";
     public static final String CLIENT_PREFIX_EXECUTION_SERVICE = "executionService";
+    public static final String CLIENT_PREFIX_SCHEMA_SERVICE = "schemaService";
     public static final String CLIENT_METRIC_ENDPOINT_MANAGER_COUNT = "count";
     public static final String CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS = "totalRegistrations";
     public static final String CLIENT_METRIC_CONNECTION_CONNECTIONID = "connectionId";
@@ -71,6 +72,11 @@ public final class MetricDescriptorConstants {
     public static final String CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS = "maxCurrentInvocations";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENT_QUEUE_SIZE = "eventQueueSize";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENTS_PROCESSED = "eventsProcessed";
+    public static final String CLIENT_METRIC_SCHEMA_SERVICE_SCHEMAS = "schemas";
+    public static final String CLIENT_METRIC_SCHEMA_SERVICE_CACHED_SCHEMAS = "cachedSchemas";
+    public static final String CLIENT_METRIC_SCHEMA_SERVICE_FETCHES = "fetches";
+    public static final String CLIENT_METRIC_SCHEMA_SERVICE_FETCH_STALLS = "fetchStalls";
+    public static final String CLIENT_METRIC_SCHEMA_SERVICE_FETCH_STALL_TIME_NANOS = "fetchStallTimeNanos";
     // ===[/CLIENT]=====================================================
 
     // ===[CLUSTER]=====================================================
@@ -300,6 +306,14 @@ public final class MetricDescriptorConstants {
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME = "totalElapsedMigrationOperationTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME = "totalElapsedDestinationCommitTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME = "totalElapsedMigrationTime";
+    public static final String MIGRATION_METRIC_LAST_MIGRATION_DURATION = "lastMigrationDuration";
+    public static final String MIGRATION_METRIC_MAX_MIGRATION_DURATION = "maxMigrationDuration";
+    public static final String MIGRATION_METRIC_AVERAGE_MIGRATION_DURATION = "averageMigrationDuration";
+    public static final String MIGRATION_METRIC_MIGRATION_RATE = "migrationRate";
+    public static final String MIGRATION_METRIC_LAST_MIGRATION_BYTES = "lastMigrationBytes";
+    public static final String MIGRATION_METRIC_LAST_MIGRATION_THROUGHPUT = "lastMigrationThroughput";
+    public static final String MIGRATION_METRIC_TOTAL_MIGRATED_BYTES = "totalMigratedBytes";
+    public static final String MIGRATION_METRIC_AVERAGE_MIGRATION_THROUGHPUT = "averageMigrationThroughput";
     // ===[/MIGRATION]==================================================
 
     // ===[MULTIMAP]====================================================
@@ -344,6 +358,9 @@ public final class MetricDescriptorConstants {
             "priorityWriteQueuePendingBytes";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED = "scheduled";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SOCKET_WRITES = "socketWrites";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_SOCKET_WRITE = "framesPerSocketWrite";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_COALESCED_WRITES = "coalescedWrites";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT = "processCount";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID = "ownerId";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS = "startedMigrations";
@@ -534,6 +551,16 @@ public final class MetricDescriptorConstants {
     public static final String RUNTIME_FULL_METRIC_UPTIME = "runtime.uptime";
     // ===[/RUNTIME]====================================================
 
+    // ===[SERIALIZATION]==============================================
+    public static final String SERIALIZATION_PREFIX_BUFFER_POOL = "serialization.bufferPool";
+    public static final String SERIALIZATION_METRIC_BUFFER_POOL_COUNT = "poolCount";
+    public static final String SERIALIZATION_METRIC_BUFFER_POOL_OUTPUT_HITS = "outputHits";
+    public static final String SERIALIZATION_METRIC_BUFFER_POOL_OUTPUT_MISSES = "outputMisses";
+    public static final String SERIALIZATION_METRIC_BUFFER_POOL_INPUT_HITS = "inputHits";
+    public static final String SERIALIZATION_METRIC_BUFFER_POOL_INPUT_MISSES = "inputMisses";
+    public static final String SERIALIZATION_METRIC_BUFFER_POOL_TRIMMED_OUTPUTS = "trimmedOutputs";
+    // ===[/SERIALIZATION]=============================================
+
     // ===[SET]=======================================================
     public static final String SET_PREFIX = "set";
     public static final String SET_METRIC_LAST_ACCESS_TIME = "lastAccessTime";
@@ -560,6 +587,12 @@ public final class MetricDescriptorConstants {
     public static final String TCP_METRIC_ACCEPTOR_SELECTOR_RECREATE_COUNT = "selectorRecreateCount";
     public static final String TCP_METRIC_ACCEPTOR_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String TCP_METRIC_CONNECTION_CONNECTION_TYPE = "connectionType";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSION_ENABLED = "compressionEnabled";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSED_PACKETS = "compressedPackets";
+    public static final String TCP_METRIC_CONNECTION_DECOMPRESSED_PACKETS = "decompressedPackets";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSION_RATIO = "compressionRatio";
+    public static final String TCP_METRIC_CONNECTION_COMPRESSION_TIME_NANOS = "compressionTimeNanos";
+    public static final String TCP_METRIC_CONNECTION_DECOMPRESSION_TIME_NANOS = "decompressionTimeNanos";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_IN_PROGRESS_COUNT = "inProgressCount";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_COUNT = "count";
     public static final String TCP_METRIC_ENDPOINT_MANAGER_ACTIVE_COUNT = "activeCount";
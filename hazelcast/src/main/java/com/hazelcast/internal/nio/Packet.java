@@ -45,6 +45,7 @@ public final class Packet extends HeapData implements OutboundFrame {
     // 2. Packet type (bits 0, 2, 5)
     // 3. Flags specific to a given packet type (bits 1, 6)
     // 4. 4.x flag (bit 7)
+    // 5. COMPRESSED (bit 8)
 
     // 1. URGENT flag
 
@@ -101,6 +102,14 @@ public final class Packet extends HeapData implements OutboundFrame {
      */
     public static final int FLAG_4_0 = 1 << 7;
 
+    // 5. COMPRESSED flag
+
+    /**
+     * Marks the payload of the packet as compressed. Only set on the wire, a
+     * received packet is inflated before it is dispatched.
+     */
+    public static final int FLAG_COMPRESSED = 1 << 8;
+
     //            END OF HEADER FLAG SECTION
 
 
@@ -263,6 +272,7 @@ public final class Packet extends HeapData implements OutboundFrame {
                 + ", conn=" + conn
                 + ", rawFlags=" + Integer.toBinaryString(flags)
                 + ", isUrgent=" + isUrgent()
+                + ", isCompressed=" + isFlagRaised(FLAG_COMPRESSED)
                 + ", packetType=" + type.name()
                 + ", typeSpecificFlags=" + type.describeFlags(flags)
                 + '}';
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.partition;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
 import com.hazelcast.internal.serialization.impl.SerializationUtil;
 import com.hazelcast.internal.services.ServiceNamespace;
@@ -48,6 +49,7 @@ public class ReplicaFragmentMigrationState
     private Collection<Operation> migrationOperations;
 
     private transient ChunkSerDeHelper chunkSerDeHelper;
+    private transient int serializedSizeInBytes;
 
     public ReplicaFragmentMigrationState() {
     }
@@ -72,6 +74,14 @@ public class ReplicaFragmentMigrationState
         return migrationOperations;
     }
 
+    /**
+     * @return the number of bytes this state occupied when it was last
+     * serialized, or 0 if it has not been serialized into a buffer yet.
+     */
+    public int getSerializedSizeInBytes() {
+        return serializedSizeInBytes;
+    }
+
     @Override
     public int getFactoryId() {
         return PartitionDataSerializerHook.F_ID;
@@ -84,6 +94,9 @@ public class ReplicaFragmentMigrationState
 
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
+        BufferObjectDataOutput bufferOut = out instanceof BufferObjectDataOutput o ? o : null;
+        int startPosition = bufferOut != null ? bufferOut.position() : 0;
+
         out.writeInt(namespaces.size());
         for (Map.Entry<ServiceNamespace, long[]> e : namespaces.entrySet()) {
             out.writeObject(e.getKey());
@@ -93,6 +106,10 @@ public class ReplicaFragmentMigrationState
         SerializationUtil.writeCollection(migrationOperations, out);
 
         chunkSerDeHelper.writeChunkedOperations(out);
+
+        if (bufferOut != null) {
+            serializedSizeInBytes = bufferOut.position() - startPosition;
+        }
     }
 
     @Override
@@ -115,6 +115,7 @@ import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MAX
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_FRAGMENTED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_INTERVAL;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_MAX_IN_FLIGHT_DATA_IN_MB;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_TIMEOUT;
 
 /**
@@ -186,7 +187,10 @@ public class MigrationManagerImpl implements MigrationManager {
         fragmentedMigrationEnabled = properties.getBoolean(PARTITION_FRAGMENTED_MIGRATION_ENABLED);
         chunkedMigrationEnabled = properties.getBoolean(PARTITION_CHUNKED_MIGRATION_ENABLED);
         maxTotalChunkedDataInBytes = (int) MEGABYTES.toBytes(properties.getInteger(PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB));
-        maxParallelMigrations = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS);
+        maxParallelMigrations = maxParallelMigrations(properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS),
+                properties.containsKey(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS),
+                chunkedMigrationEnabled, maxTotalChunkedDataInBytes,
+                MEGABYTES.toBytes(properties.getInteger(PARTITION_MIGRATION_MAX_IN_FLIGHT_DATA_IN_MB)));
         partitionStateManager = partitionService.getPartitionStateManager();
         ILogger migrationThreadLogger = node.getLogger(MigrationThread.class);
         String hzName = nodeEngine.getHazelcastInstance().getName();
@@ -204,6 +208,29 @@ public class MigrationManagerImpl implements MigrationManager {
         this.asyncExecutor = node.getNodeEngine().getExecutionService().getExecutor(ASYNC_EXECUTOR);
     }
 
+    /**
+     * Returns the number of migrations allowed to run concurrently on a member.
+     * When chunked migration is enabled and an in-flight data budget is
+     * configured, the parallelism is derived from the budget, so that the
+     * chunks of all concurrent migrations fit into it. The derived value may
+     * be higher than the default parallelism, but it never exceeds an
+     * explicitly configured {@link ClusterProperty#PARTITION_MAX_PARALLEL_MIGRATIONS}.
+     *
+     * @see ClusterProperty#PARTITION_MIGRATION_MAX_IN_FLIGHT_DATA_IN_MB
+     */
+    static int maxParallelMigrations(int configuredMaxParallelMigrations, boolean maxParallelMigrationsConfigured,
+                                     boolean chunkedMigrationEnabled, int maxTotalChunkedDataInBytes,
+                                     long maxInFlightDataInBytes) {
+        if (!chunkedMigrationEnabled || maxInFlightDataInBytes <= 0 || maxTotalChunkedDataInBytes <= 0) {
+            return configuredMaxParallelMigrations;
+        }
+        long budgetedMigrations = Math.min(Integer.MAX_VALUE,
+                Math.max(1, maxInFlightDataInBytes / maxTotalChunkedDataInBytes));
+        return (int) (maxParallelMigrationsConfigured
+                ? Math.min(configuredMaxParallelMigrations, budgetedMigrations)
+                : budgetedMigrations);
+    }
+
     @Override
     public long getPartitionMigrationInterval() {
         return partitionMigrationInterval;
@@ -1454,6 +1481,9 @@ public class MigrationManagerImpl implements MigrationManager {
 
             return future.handleAsync((done, t) -> {
                 stats.recordMigrationOperationTime();
+                if (t == null && Boolean.TRUE.equals(done)) {
+                    stats.recordMigrationDuration(Timer.nanosElapsed(start));
+                }
                 logger.fine("Migration operation response received -> " + migration + ", success: " + done + ", failure: " + t);
 
                 if (t != null) {
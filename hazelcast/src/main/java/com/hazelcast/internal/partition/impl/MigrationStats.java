@@ -23,19 +23,30 @@ import com.hazelcast.internal.util.Timer;
 import com.hazelcast.partition.MigrationState;
 
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_AVERAGE_MIGRATION_DURATION;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_AVERAGE_MIGRATION_THROUGHPUT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_COMPLETED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_DESTINATION_COMMIT_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_LAST_MIGRATION_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_LAST_MIGRATION_DURATION;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_LAST_MIGRATION_THROUGHPUT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_LAST_REPARTITION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_MAX_MIGRATION_DURATION;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_MIGRATION_RATE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_PLANNED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_COMPLETED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_MIGRATED_BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 
@@ -82,6 +93,32 @@ public class MigrationStats {
      */
     private final MigrationTimer migrationTime = new MigrationTimer();
 
+    /**
+     * number of successful migration operations and the sum of their durations
+     * on the latest repartitioning round
+     */
+    private final LongAdder measuredMigrations = new LongAdder();
+    private final LongAdder measuredMigrationNanos = new LongAdder();
+
+    @Probe(name = MIGRATION_METRIC_LAST_MIGRATION_DURATION, unit = NS)
+    private volatile long lastMigrationDurationNanos;
+
+    private final LongAccumulator maxMigrationDurationNanos = new LongAccumulator(Long::max, 0);
+
+    /**
+     * replica data sent by this member as the source of successful migrations
+     * and the time it took to send it, since the member started
+     */
+    @Probe(name = MIGRATION_METRIC_TOTAL_MIGRATED_BYTES, unit = BYTES)
+    private final LongAdder totalMigratedBytes = new LongAdder();
+    private final LongAdder totalMigrationTransferNanos = new LongAdder();
+
+    @Probe(name = MIGRATION_METRIC_LAST_MIGRATION_BYTES, unit = BYTES)
+    private volatile long lastMigrationBytes;
+
+    @Probe(name = MIGRATION_METRIC_LAST_MIGRATION_THROUGHPUT)
+    private volatile long lastMigrationBytesPerSecond;
+
     /**
      * Marks start of new repartitioning.
      * Resets stats from previous repartitioning round.
@@ -98,6 +135,10 @@ public class MigrationStats {
         migrationTime.markNewRepartition();
 
         completedMigrations.reset();
+        measuredMigrations.reset();
+        measuredMigrationNanos.reset();
+        lastMigrationDurationNanos = 0;
+        maxMigrationDurationNanos.reset();
     }
 
     void incrementCompletedMigrations() {
@@ -264,6 +305,119 @@ public class MigrationStats {
         return migrationTime.getTotalElapsedNanoseconds();
     }
 
+    /**
+     * Records the duration of a single successful migration, measured from
+     * sending the migration request to the source until its response.
+     *
+     * @param durationNanos the duration of the migration in nanoseconds
+     */
+    void recordMigrationDuration(long durationNanos) {
+        measuredMigrations.increment();
+        measuredMigrationNanos.add(durationNanos);
+        lastMigrationDurationNanos = durationNanos;
+        maxMigrationDurationNanos.accumulate(durationNanos);
+    }
+
+    /**
+     * @return the duration of the latest successful migration in nanoseconds.
+     */
+    public long getLastMigrationDurationNanoseconds() {
+        return lastMigrationDurationNanos;
+    }
+
+    /**
+     * @return the duration of the slowest successful migration on the latest
+     * repartitioning round in nanoseconds.
+     */
+    @Probe(name = MIGRATION_METRIC_MAX_MIGRATION_DURATION, unit = NS)
+    public long getMaxMigrationDurationNanoseconds() {
+        return maxMigrationDurationNanos.get();
+    }
+
+    /**
+     * @return the average duration of the successful migrations on the latest
+     * repartitioning round in nanoseconds, or 0 if none completed yet.
+     */
+    @Probe(name = MIGRATION_METRIC_AVERAGE_MIGRATION_DURATION, unit = NS)
+    public long getAverageMigrationDurationNanoseconds() {
+        long count = measuredMigrations.sum();
+        return count == 0 ? 0 : measuredMigrationNanos.sum() / count;
+    }
+
+    /**
+     * Returns the number of migrations completed per second on the latest
+     * repartitioning round, measured until the latest migration task
+     * completed. Since migrations run in parallel, this is typically higher
+     * than the inverse of the average migration duration.
+     *
+     * @return the migration rate, or 0 if no migration completed yet.
+     */
+    @Probe(name = MIGRATION_METRIC_MIGRATION_RATE)
+    public double getMigrationRate() {
+        long elapsedNanos = migrationTime.getElapsedNanoseconds();
+        int completed = getCompletedMigrations();
+        if (completed == 0 || elapsedNanos <= 0) {
+            return 0;
+        }
+        return completed * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Records the replica data sent by this member as the source of a single
+     * successful migration.
+     *
+     * @param bytes         the serialized size of the sent replica data
+     * @param durationNanos the time from the start of the migration on this
+     *                      member until the destination acknowledged the
+     *                      last fragment, in nanoseconds
+     */
+    public void recordMigrationTransfer(long bytes, long durationNanos) {
+        totalMigratedBytes.add(bytes);
+        totalMigrationTransferNanos.add(durationNanos);
+        lastMigrationBytes = bytes;
+        lastMigrationBytesPerSecond = bytesPerSecond(bytes, durationNanos);
+    }
+
+    /**
+     * @return the size of the replica data sent by this member on its latest
+     * successful migration in bytes.
+     */
+    public long getLastMigrationBytes() {
+        return lastMigrationBytes;
+    }
+
+    /**
+     * @return the rate this member sent replica data at on its latest
+     * successful migration in bytes per second.
+     */
+    public long getLastMigrationThroughput() {
+        return lastMigrationBytesPerSecond;
+    }
+
+    /**
+     * @return the total size of the replica data sent by this member on
+     * successful migrations in bytes.
+     */
+    public long getTotalMigratedBytes() {
+        return totalMigratedBytes.sum();
+    }
+
+    /**
+     * @return the average rate this member sent replica data at on its
+     * successful migrations in bytes per second, or 0 if none completed yet.
+     */
+    @Probe(name = MIGRATION_METRIC_AVERAGE_MIGRATION_THROUGHPUT)
+    public long getAverageMigrationThroughput() {
+        return bytesPerSecond(totalMigratedBytes.sum(), totalMigrationTransferNanos.sum());
+    }
+
+    private static long bytesPerSecond(long bytes, long durationNanos) {
+        if (durationNanos <= 0) {
+            return 0;
+        }
+        return (long) (bytes * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos);
+    }
+
     public MigrationState toMigrationState() {
         return new MigrationStateImpl(lastRepartitionTime, plannedMigrations,
                 completedMigrations.intValue(), getElapsedMigrationTime());
@@ -283,7 +437,15 @@ public class MigrationStats {
                     .append(", elapsedDestinationCommitTime=").append(getElapsedDestinationCommitTime()).append("ms")
                     .append(", totalElapsedDestinationCommitTime=").append(getTotalElapsedDestinationCommitTime()).append("ms")
                     .append(", elapsedMigrationTime=").append(getElapsedMigrationTime()).append("ms")
-                    .append(", totalElapsedMigrationTime=").append(getTotalElapsedMigrationTime()).append("ms");
+                    .append(", totalElapsedMigrationTime=").append(getTotalElapsedMigrationTime()).append("ms")
+                    .append(", averageMigrationDuration=")
+                    .append(TimeUnit.NANOSECONDS.toMillis(getAverageMigrationDurationNanoseconds())).append("ms")
+                    .append(", maxMigrationDuration=")
+                    .append(TimeUnit.NANOSECONDS.toMillis(getMaxMigrationDurationNanoseconds())).append("ms")
+                    .append(", migrationRate=").append(Math.round(getMigrationRate() * 100) / 100d)
+                    .append("/s")
+                    .append(", totalMigratedBytes=").append(getTotalMigratedBytes())
+                    .append(", averageMigrationThroughput=").append(getAverageMigrationThroughput()).append("B/s");
         }
         return s.toString();
     }
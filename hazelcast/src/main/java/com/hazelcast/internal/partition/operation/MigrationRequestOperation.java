@@ -35,6 +35,7 @@ import com.hazelcast.internal.partition.impl.MigrationManager;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.ThreadUtil;
+import com.hazelcast.internal.util.Timer;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -93,6 +94,9 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
     private transient ServiceNamespacesContext namespacesContext;
     private transient Map<ServiceNamespace, Collection<ChunkSupplier>>
             namespaceToSuppliers = new HashMap<>();
+    private transient long migrationStartNanos;
+    // serialized size of the fragments acknowledged by the destination so far
+    private transient long migratedBytes;
 
     public MigrationRequestOperation() {
     }
@@ -108,6 +112,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
 
     @Override
     public CallStatus call() throws Exception {
+        migrationStartNanos = Timer.nanos();
         setActiveMigration();
         return new OffloadImpl();
     }
@@ -172,7 +177,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 .setResultDeserialized(true)
                 .setCallTimeout(partitionService.getPartitionMigrationTimeout())
                 .invoke()
-                .whenCompleteAsync(new MigrationCallback(), asyncExecutor);
+                .whenCompleteAsync(new MigrationCallback(migrationState), asyncExecutor);
     }
 
     private void trySendNewFragment() {
@@ -381,6 +386,11 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
     }
 
     private void completeMigration(boolean result) {
+        if (result) {
+            InternalPartitionServiceImpl partitionService = getService();
+            partitionService.getMigrationManager().getStats()
+                    .recordMigrationTransfer(migratedBytes, Timer.nanosElapsed(migrationStartNanos));
+        }
         success = result;
         onMigrationComplete();
         sendResponse(result);
@@ -427,7 +437,10 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
      */
     private final class MigrationCallback implements BiConsumer<Object, Throwable> {
 
-        private MigrationCallback() {
+        private final ReplicaFragmentMigrationState migrationState;
+
+        private MigrationCallback(ReplicaFragmentMigrationState migrationState) {
+            this.migrationState = migrationState;
         }
 
         @Override
@@ -436,6 +449,9 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 logThrowable(throwable);
                 completeMigration(false);
             } else if (Boolean.TRUE.equals(result)) {
+                if (migrationState != null) {
+                    migratedBytes += migrationState.getSerializedSizeInBytes();
+                }
                 // ASYNC executor is of CONCRETE type (does not share threads with other executors)
                 // and is never used for user-supplied code.
                 getNodeEngine().getExecutionService().submit(ExecutionService.ASYNC_EXECUTOR,
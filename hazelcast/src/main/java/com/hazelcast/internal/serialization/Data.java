@@ -84,6 +84,8 @@ public interface Data {
      * {@link PartitioningStrategy} during serialization.
      * <p>
      * If partition hash is not set then standard <code>hashCode()</code> is used.
+     * Implementations cache that hash code, so calling this method repeatedly
+     * on the same Data, e.g. for routing and then for the partition ID, is cheap.
      *
      * @return partition hash
      * @see com.hazelcast.partition.PartitionAware
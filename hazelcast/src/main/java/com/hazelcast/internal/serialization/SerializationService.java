@@ -19,6 +19,10 @@ package com.hazelcast.internal.serialization;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.partition.PartitioningStrategy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * SPI to serialize user objects to {@link Data} and back to Object
  * {@link Data} is the internal representation of binary data in hazelcast.
@@ -77,6 +81,57 @@ public interface SerializationService {
      */
     <B extends Data> B toData(Object obj, PartitioningStrategy strategy);
 
+    /**
+     * Serializes a batch of objects, like calling {@link #toData(Object)} for each of them.
+     * <p>
+     * Meant for bulk operations serializing many objects of the same type: implementations may do the
+     * serializer lookup once per run of objects of the same class and reuse a single output buffer for
+     * the whole batch.
+     *
+     * @param objects the objects to serialize.
+     * @return the serialized objects in the iteration order of {@code objects}.
+     * @throws com.hazelcast.nio.serialization.HazelcastSerializationException when serialization fails.
+     */
+    default <B extends Data> List<B> toDataBatch(Collection<?> objects) {
+        return toDataBatch(objects, null);
+    }
+
+    /**
+     * Serializes a batch of objects, like calling {@link #toData(Object, PartitioningStrategy)} for each
+     * of them.
+     *
+     * @param objects  the objects to serialize.
+     * @param strategy strategy is used to calculate partition ID of the resulting data see {@link PartitioningStrategy}
+     * @return the serialized objects in the iteration order of {@code objects}.
+     * @throws com.hazelcast.nio.serialization.HazelcastSerializationException when serialization fails.
+     * @see #toDataBatch(Collection)
+     */
+    default <B extends Data> List<B> toDataBatch(Collection<?> objects, PartitioningStrategy strategy) {
+        List<B> result = new ArrayList<>(objects.size());
+        for (Object object : objects) {
+            result.add(toData(object, strategy));
+        }
+        return result;
+    }
+
+    /**
+     * Deserializes a batch of objects, like calling {@link #toObject(Object)} for each of them.
+     * <p>
+     * Implementations may do the serializer lookup once per run of data of the same type and reuse a
+     * single input buffer for the whole batch.
+     *
+     * @param data the data to deserialize.
+     * @return the deserialized objects in the iteration order of {@code data}.
+     * @throws com.hazelcast.nio.serialization.HazelcastSerializationException when deserialization fails.
+     */
+    default <T> List<T> toObjectBatch(Collection<?> data) {
+        List<T> result = new ArrayList<>(data.size());
+        for (Object object : data) {
+            result.add(toObject(object));
+        }
+        return result;
+    }
+
     /**
      * Deserializes an object.
      * <p>
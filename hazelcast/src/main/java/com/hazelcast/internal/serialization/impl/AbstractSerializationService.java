@@ -51,8 +51,11 @@ import com.hazelcast.partition.PartitioningStrategy;
 import java.io.Externalizable;
 import java.io.Serializable;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -244,6 +247,96 @@ public abstract class AbstractSerializationService implements InternalSerializat
         }
     }
 
+    @Override
+    public final <B extends Data> List<B> toDataBatch(Collection<?> objects, PartitioningStrategy strategy) {
+        List<B> result = new ArrayList<>(objects.size());
+        BufferPool pool = bufferPoolThreadLocal.get();
+        BufferObjectDataOutput out = pool.takeOutputBuffer();
+        try {
+            Class<?> serializerClass = null;
+            SerializerAdapter serializer = null;
+            for (Object obj : objects) {
+                if (obj == null || obj instanceof Data) {
+                    result.add((B) obj);
+                    continue;
+                }
+                // bulk operations usually serialize objects of a single type
+                if (obj.getClass() != serializerClass) {
+                    serializer = serializerFor(obj, false);
+                    serializerClass = obj.getClass();
+                }
+                result.add((B) new HeapData(toBytes(out, obj, serializer, strategy)));
+            }
+            return result;
+        } finally {
+            pool.returnOutputBuffer(out);
+        }
+    }
+
+    private byte[] toBytes(BufferObjectDataOutput out, Object obj, SerializerAdapter serializer,
+                           PartitioningStrategy<?> strategy) {
+        try {
+            out.position(0);
+            out.writeInt(calculatePartitionHash(obj, strategy), BIG_ENDIAN);
+            out.writeInt(serializer.getTypeId(), BIG_ENDIAN);
+            serializer.write(out, obj);
+            return out.toByteArray();
+        } catch (Throwable e) {
+            throw handleSerializeException(obj, e);
+        }
+    }
+
+    @Override
+    public final <T> List<T> toObjectBatch(Collection<?> objects) {
+        List<T> result = new ArrayList<>(objects.size());
+        BufferPool pool = bufferPoolThreadLocal.get();
+        BufferObjectDataInput in = null;
+        try {
+            ClassLocator.onStartDeserialization();
+            int serializerTypeId = 0;
+            SerializerAdapter serializer = null;
+            for (Object object : objects) {
+                if (!(object instanceof Data data)) {
+                    result.add((T) object);
+                    continue;
+                }
+                if (isNullData(data)) {
+                    result.add(null);
+                    continue;
+                }
+                int typeId = data.getType();
+                if (serializer == null || typeId != serializerTypeId) {
+                    serializer = serializerFor(typeId);
+                    if (serializer == null) {
+                        if (active) {
+                            throw newHazelcastSerializationException(typeId);
+                        }
+                        throw notActiveExceptionSupplier.get();
+                    }
+                    serializerTypeId = typeId;
+                }
+                if (in == null) {
+                    in = pool.takeInputBuffer(data);
+                } else {
+                    // resets the versions a previous object may have set
+                    in.clear();
+                    in.init(data.toByteArray(), HeapData.DATA_OFFSET);
+                }
+                Object obj = serializer.read(in);
+                if (managedContext != null) {
+                    obj = managedContext.initialize(obj);
+                }
+                result.add((T) obj);
+            }
+            return result;
+        } catch (Throwable e) {
+            throw handleException(e);
+        } finally {
+            ClassLocator.onFinishDeserialization();
+            pool.returnInputBuffer(in);
+        }
+    }
+
     @Override
     public final <T> T toObject(final Object object) {
         if (!(object instanceof Data data)) {
@@ -397,6 +490,10 @@ public abstract class AbstractSerializationService implements InternalSerializat
         return inputOutputFactory.createInput(data, offset, this, isCompatibility);
     }
 
+    public BufferPoolThreadLocal getBufferPoolThreadLocal() {
+        return bufferPoolThreadLocal;
+    }
+
     @Override
     public final BufferObjectDataInput createObjectDataInput(Data data) {
         return inputOutputFactory.createInput(data, this, isCompatibility);
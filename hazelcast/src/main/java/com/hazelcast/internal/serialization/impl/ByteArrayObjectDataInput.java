@@ -20,7 +20,9 @@ import com.hazelcast.internal.nio.Bits;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.usercodedeployment.impl.ClassLocator;
 import com.hazelcast.internal.util.collection.ArrayUtils;
+import com.hazelcast.version.Version;
 
 import javax.annotation.Nullable;
 import java.io.EOFException;
@@ -35,6 +37,9 @@ import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.NULL_ARRAY_LENGTH;
 import static com.hazelcast.internal.nio.Bits.SHORT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.serialization.impl.HeapData.HEAP_DATA_OVERHEAD;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.CONSTANT_TYPE_NULL;
 import static com.hazelcast.version.Version.UNKNOWN;
 
 @SuppressWarnings({"MagicNumber", "MethodCount"})
@@ -615,9 +620,49 @@ class ByteArrayObjectDataInput extends VersionedObjectDataInput implements Buffe
     @Override
     @Nullable
     public <T> T readDataAsObject() throws IOException {
-        // a future optimization would be to skip the construction of the Data object
-        Data data = readData();
-        return data == null ? null : (T) service.toObject(data);
+        int len = readInt();
+        if (len == NULL_ARRAY_LENGTH) {
+            return null;
+        }
+        int start = pos;
+        checkAvailable(start, len);
+        if (len < HEAP_DATA_OVERHEAD || Bits.readIntB(data, start + TYPE_OFFSET) == CONSTANT_TYPE_NULL) {
+            // empty and null data are rare; let the regular path deal with them
+            pos = start - INT_SIZE_IN_BYTES;
+            Data data = readData();
+            return data == null ? null : (T) service.toObject(data);
+        }
+        return readDataAsObjectInPlace(start, len);
+    }
+
+    /**
+     * Deserializes the {@link Data} blob at the given position straight from
+     * this input instead of copying it into a {@link HeapData} first; e.g. a
+     * backup packet would otherwise copy its whole nested backup operation.
+     * <p>
+     * The blob is read as if it was a standalone input: the readable size is
+     * limited to the end of the blob and the versions are reset, just like for
+     * the input {@link InternalSerializationService#toObject(Object)} would use.
+     */
+    private <T> T readDataAsObjectInPlace(int start, int len) {
+        int end = start + len;
+        int oldSize = size;
+        Version oldVersion = version;
+        Version oldWanProtocolVersion = wanProtocolVersion;
+        size = end;
+        pos = start + TYPE_OFFSET;
+        version = UNKNOWN;
+        wanProtocolVersion = UNKNOWN;
+        try {
+            ClassLocator.onStartDeserialization();
+            return service.readObject(this, true);
+        } finally {
+            ClassLocator.onFinishDeserialization();
+            size = oldSize;
+            pos = end;
+            version = oldVersion;
+            wanProtocolVersion = oldWanProtocolVersion;
+        }
     }
 
     @Override
@@ -463,12 +463,29 @@ public class ByteArrayObjectDataOutput extends VersionedObjectDataOutput impleme
     @Override
     @SuppressWarnings("MagicNumber")
     public void clear() {
+        clear(initialSize * 8);
+    }
+
+    /**
+     * Clears this output like {@link #clear()}, but keeps the buffer as long
+     * as it isn't bigger than the given capacity. A bigger buffer is replaced
+     * by one of the given capacity.
+     *
+     * @param maxRetainedCapacity the maximum capacity of the retained buffer,
+     *                            at least {@code 8 * initialSize} is retained.
+     * @return {@code true} if the buffer was replaced, {@code false} otherwise.
+     */
+    @SuppressWarnings("MagicNumber")
+    public boolean clear(int maxRetainedCapacity) {
         pos = 0;
-        if (buffer != null && buffer.length > initialSize * 8) {
-            buffer = new byte[initialSize * 8];
-        }
         version = UNKNOWN;
         wanProtocolVersion = UNKNOWN;
+        int capacity = Math.max(maxRetainedCapacity, initialSize * 8);
+        if (buffer != null && buffer.length > capacity) {
+            buffer = new byte[capacity];
+            return true;
+        }
+        return false;
     }
 
     @Override
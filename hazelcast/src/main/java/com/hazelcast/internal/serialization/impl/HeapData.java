@@ -23,6 +23,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Arrays;
 
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
 import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
 import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
 
@@ -43,6 +44,11 @@ public class HeapData implements Data {
 
     protected byte[] payload;
 
+    // the MurmurHash3 of the payload, lazily calculated since the same Data is often hashed
+    // multiple times, e.g. for the partition ID and for the lookup in the record store;
+    // 0 means not calculated yet. Racy like String.hashCode: all threads calculate the same value.
+    private int hash;
+
     public HeapData() {
     }
 
@@ -102,6 +108,7 @@ public class HeapData implements Data {
     public int getHeapCost() {
         return OBJECT_HEADER_SIZE
                 + REFERENCE_COST_IN_BYTES
+                + INT_SIZE_IN_BYTES
                 + (payload != null ? ARRAY_HEADER_SIZE_IN_BYTES + payload.length : 0);
     }
 
@@ -152,7 +159,12 @@ public class HeapData implements Data {
 
     @Override
     public int hashCode() {
-        return HashUtil.MurmurHash3_x86_32(payload, DATA_OFFSET, dataSize());
+        int h = hash;
+        if (h == 0) {
+            h = HashUtil.MurmurHash3_x86_32(payload, DATA_OFFSET, dataSize());
+            hash = h;
+        }
+        return h;
     }
 
     @Override
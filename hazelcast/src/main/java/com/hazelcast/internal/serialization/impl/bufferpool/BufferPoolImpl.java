@@ -20,34 +20,81 @@ import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ByteArrayObjectDataOutput;
 import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.QuickMath;
+import com.hazelcast.internal.util.counters.SwCounter;
 
 import java.util.ArrayDeque;
 import java.util.Queue;
 
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
 /**
  * Default {@link BufferPool} implementation.
  * <p>
+ * A returned output buffer normally gets its byte array shrunk back to a
+ * small default size if it grew while in use. A thread which repeatedly
+ * serializes big objects would then allocate and grow a new byte array for
+ * every one of them. To prevent that, the pool can retain bigger arrays up
+ * to the {@value #MAX_RETAINED_OUTPUT_SIZE_PROPERTY} system property (0, the
+ * default, disables this). The retained capacity follows the size class,
+ * i.e. the next power of two, of the biggest recently written output: it
+ * grows immediately and is halved after {@link #TRIM_AFTER_SMALL_RETURNS}
+ * returned outputs in a row used less than a quarter of it, so the arrays
+ * are trimmed once the thread stops producing big outputs.
+ * <p>
+ * The pool counts how many buffers were taken from the pool (hits) and how
+ * many had to be created (misses). The counters are only written by the
+ * owning thread; they are aggregated by the {@link BufferPoolThreadLocal}.
+ * <p>
  * This class is designed to that a subclass can be made. This is done for the Enterprise version.
  */
 public class BufferPoolImpl implements BufferPool {
     static final int MAX_POOLED_ITEMS = 3;
 
+    /**
+     * The name of the system property which configures the maximum size in
+     * bytes of the output buffer arrays retained by the pools.
+     */
+    static final String MAX_RETAINED_OUTPUT_SIZE_PROPERTY = "hazelcast.serialization.buffer.pool.max.retained.size";
+    static final int TRIM_AFTER_SMALL_RETURNS = 64;
+
+    private static final int DEFAULT_MAX_RETAINED_OUTPUT_SIZE = Integer.getInteger(MAX_RETAINED_OUTPUT_SIZE_PROPERTY, 0);
+    private static final int SMALL_USE_SHIFT = 2;
+
     protected final InternalSerializationService serializationService;
 
     // accessible for testing.
     final Queue<BufferObjectDataOutput> outputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
     final Queue<BufferObjectDataInput> inputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
 
+    private final int maxRetainedOutputSize;
+    private final SwCounter outputHits = newSwCounter();
+    private final SwCounter outputMisses = newSwCounter();
+    private final SwCounter inputHits = newSwCounter();
+    private final SwCounter inputMisses = newSwCounter();
+    private final SwCounter trimmedOutputs = newSwCounter();
+    private int outputSizeClass;
+    private int smallReturns;
+
     public BufferPoolImpl(InternalSerializationService serializationService) {
+        this(serializationService, DEFAULT_MAX_RETAINED_OUTPUT_SIZE);
+    }
+
+    BufferPoolImpl(InternalSerializationService serializationService, int maxRetainedOutputSize) {
         this.serializationService = serializationService;
+        this.maxRetainedOutputSize = maxRetainedOutputSize;
     }
 
     @Override
     public BufferObjectDataOutput takeOutputBuffer() {
         BufferObjectDataOutput out = outputQueue.poll();
         if (out == null) {
+            outputMisses.inc();
             out = serializationService.createObjectDataOutput();
+        } else {
+            outputHits.inc();
         }
         return out;
     }
@@ -58,7 +105,13 @@ public class BufferPoolImpl implements BufferPool {
             return;
         }
 
-        out.clear();
+        if (maxRetainedOutputSize > 0 && out instanceof ByteArrayObjectDataOutput byteArrayOut) {
+            if (byteArrayOut.clear(updateOutputSizeClass(out.position()))) {
+                trimmedOutputs.inc();
+            }
+        } else {
+            out.clear();
+        }
 
         tryOffer(outputQueue, out);
     }
@@ -67,7 +120,10 @@ public class BufferPoolImpl implements BufferPool {
     public BufferObjectDataInput takeInputBuffer(Data data) {
         BufferObjectDataInput in = inputQueue.poll();
         if (in == null) {
+            inputMisses.inc();
             in = serializationService.createObjectDataInput((byte[]) null);
+        } else {
+            inputHits.inc();
         }
         in.init(data.toByteArray(), HeapData.DATA_OFFSET);
         return in;
@@ -84,6 +140,52 @@ public class BufferPoolImpl implements BufferPool {
         tryOffer(inputQueue, in);
     }
 
+    public long getOutputHits() {
+        return outputHits.get();
+    }
+
+    public long getOutputMisses() {
+        return outputMisses.get();
+    }
+
+    public long getInputHits() {
+        return inputHits.get();
+    }
+
+    public long getInputMisses() {
+        return inputMisses.get();
+    }
+
+    public long getTrimmedOutputs() {
+        return trimmedOutputs.get();
+    }
+
+    // accessible for testing.
+    int getOutputSizeClass() {
+        return outputSizeClass;
+    }
+
+    /**
+     * Updates the size class with the number of bytes written to a returned
+     * output and returns the capacity the output may retain.
+     */
+    private int updateOutputSizeClass(int used) {
+        if (used > outputSizeClass) {
+            outputSizeClass = used >= maxRetainedOutputSize
+                    ? maxRetainedOutputSize
+                    : Math.min(QuickMath.nextPowerOfTwo(used), maxRetainedOutputSize);
+            smallReturns = 0;
+        } else if (used <= outputSizeClass >> SMALL_USE_SHIFT) {
+            if (++smallReturns == TRIM_AFTER_SMALL_RETURNS) {
+                outputSizeClass >>= 1;
+                smallReturns = 0;
+            }
+        } else {
+            smallReturns = 0;
+        }
+        return outputSizeClass;
+    }
+
     private static <C> void tryOffer(Queue<C> queue, C item) {
         if (queue.size() == MAX_POOLED_ITEMS) {
             return;
@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.serialization.impl.bufferpool;
 
+import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.ConcurrentReferenceHashMap;
@@ -23,7 +24,14 @@ import com.hazelcast.internal.util.ConcurrentReferenceHashMap;
 import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_METRIC_BUFFER_POOL_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_METRIC_BUFFER_POOL_INPUT_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_METRIC_BUFFER_POOL_INPUT_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_METRIC_BUFFER_POOL_OUTPUT_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_METRIC_BUFFER_POOL_OUTPUT_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_METRIC_BUFFER_POOL_TRIMMED_OUTPUTS;
 import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
 import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
 
@@ -76,6 +84,10 @@ import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceTy
  * The Performance of using a ThreadLocal in combination with a WeakReference is almost the same as using a ThreadLocal without
  * WeakReference. There is an extra pointer indirection and some additional pressure on the gc system since it needs to deal with
  * the WeakReferences, but the number of threads is limited.
+ *
+ * <h1>Metrics</h1>
+ * The probes of this class sum up the counters of the {@link BufferPoolImpl} instances of all live threads. The counters of
+ * threads which died are lost, so the sums aren't monotonic.
  */
 public final class BufferPoolThreadLocal {
 
@@ -113,4 +125,44 @@ public final class BufferPoolThreadLocal {
     public void clear() {
         strongReferences.clear();
     }
+
+    @Probe(name = SERIALIZATION_METRIC_BUFFER_POOL_COUNT)
+    public int getPoolCount() {
+        return strongReferences.size();
+    }
+
+    @Probe(name = SERIALIZATION_METRIC_BUFFER_POOL_OUTPUT_HITS)
+    public long getOutputHits() {
+        return sum(BufferPoolImpl::getOutputHits);
+    }
+
+    @Probe(name = SERIALIZATION_METRIC_BUFFER_POOL_OUTPUT_MISSES)
+    public long getOutputMisses() {
+        return sum(BufferPoolImpl::getOutputMisses);
+    }
+
+    @Probe(name = SERIALIZATION_METRIC_BUFFER_POOL_INPUT_HITS)
+    public long getInputHits() {
+        return sum(BufferPoolImpl::getInputHits);
+    }
+
+    @Probe(name = SERIALIZATION_METRIC_BUFFER_POOL_INPUT_MISSES)
+    public long getInputMisses() {
+        return sum(BufferPoolImpl::getInputMisses);
+    }
+
+    @Probe(name = SERIALIZATION_METRIC_BUFFER_POOL_TRIMMED_OUTPUTS)
+    public long getTrimmedOutputs() {
+        return sum(BufferPoolImpl::getTrimmedOutputs);
+    }
+
+    private long sum(ToLongFunction<BufferPoolImpl> counter) {
+        long sum = 0;
+        for (BufferPool pool : strongReferences.values()) {
+            if (pool instanceof BufferPoolImpl poolImpl) {
+                sum += counter.applyAsLong(poolImpl);
+            }
+        }
+        return sum;
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.nio.serialization.FieldKind;
+
+import javax.annotation.Nonnull;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readInt;
+import static com.hazelcast.internal.nio.Bits.readLong;
+import static com.hazelcast.internal.nio.Bits.readShort;
+import static com.hazelcast.internal.serialization.impl.HeapData.HEAP_DATA_OVERHEAD;
+
+/**
+ * Reads a fixed-size field of a Compact serialized object straight from
+ * the payload of its {@link com.hazelcast.internal.serialization.impl.HeapData},
+ * without creating an input, a reader or a generic record.
+ * <p>
+ * The position of the field in the payload only depends on the schema,
+ * so it is computed once when the accessor is created. An accessor is
+ * only {@link #isApplicable() applicable} if the path is a top-level
+ * field of one of the fixed-size kinds, e.g. {@link FieldKind#INT32}.
+ * Nullable, variable-size and nested fields should be read through the
+ * generic record instead.
+ * <p>
+ * The payload must be in the {@link com.hazelcast.internal.serialization.impl.SerializationConstants#TYPE_COMPACT}
+ * format, i.e. it must not include the schema.
+ */
+public final class CompactFieldAccessor {
+
+    private static final int SCHEMA_ID_POSITION = HEAP_DATA_OVERHEAD;
+    private static final int FIELDS_POSITION = SCHEMA_ID_POSITION + LONG_SIZE_IN_BYTES;
+
+    private final long schemaId;
+    private final FieldKind kind;
+    private final int position;
+    private final int bitOffset;
+
+    private CompactFieldAccessor(long schemaId, FieldKind kind, int position, int bitOffset) {
+        this.schemaId = schemaId;
+        this.kind = kind;
+        this.position = position;
+        this.bitOffset = bitOffset;
+    }
+
+    /**
+     * Creates the accessor of the given field path for the given schema.
+     * The returned accessor might not be applicable, which is cached the
+     * same way as an applicable one.
+     */
+    @Nonnull
+    public static CompactFieldAccessor of(@Nonnull Schema schema, @Nonnull String fieldPath) {
+        FieldDescriptor field = schema.getField(fieldPath);
+        if (field == null || !isFixedSize(field.getKind())) {
+            return new CompactFieldAccessor(schema.getSchemaId(), null, -1, -1);
+        }
+        // the length of the variable-size section precedes the fixed-size
+        // fields if the schema has variable-size fields
+        int dataStartPosition = schema.getNumberOfVariableSizeFields() == 0
+                ? FIELDS_POSITION
+                : FIELDS_POSITION + INT_SIZE_IN_BYTES;
+        return new CompactFieldAccessor(schema.getSchemaId(), field.getKind(),
+                dataStartPosition + field.getOffset(), field.getBitOffset());
+    }
+
+    /**
+     * Reads the schema id from the payload of a Compact serialized object.
+     */
+    public static long readSchemaId(byte[] payload, boolean bigEndian) {
+        return readLong(payload, SCHEMA_ID_POSITION, bigEndian);
+    }
+
+    public long getSchemaId() {
+        return schemaId;
+    }
+
+    public boolean isApplicable() {
+        return kind != null;
+    }
+
+    /**
+     * Returns the kind of the field, or {@code null} if the accessor is not
+     * applicable.
+     */
+    public FieldKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Reads the field as an object of the same type as
+     * {@link com.hazelcast.internal.serialization.impl.GenericRecordQueryReader}
+     * returns for it.
+     */
+    public Object read(byte[] payload, boolean bigEndian) {
+        return switch (kind) {
+            case BOOLEAN -> readBoolean(payload);
+            case INT8 -> readInt8(payload);
+            case INT16 -> readInt16(payload, bigEndian);
+            case INT32 -> readInt32(payload, bigEndian);
+            case INT64 -> readInt64(payload, bigEndian);
+            case FLOAT32 -> readFloat32(payload, bigEndian);
+            case FLOAT64 -> readFloat64(payload, bigEndian);
+            default -> throw new IllegalStateException("Unexpected field kind " + kind);
+        };
+    }
+
+    public boolean readBoolean(byte[] payload) {
+        return ((payload[position] >>> bitOffset) & 1) != 0;
+    }
+
+    public byte readInt8(byte[] payload) {
+        return payload[position];
+    }
+
+    public short readInt16(byte[] payload, boolean bigEndian) {
+        return readShort(payload, position, bigEndian);
+    }
+
+    public int readInt32(byte[] payload, boolean bigEndian) {
+        return readInt(payload, position, bigEndian);
+    }
+
+    public long readInt64(byte[] payload, boolean bigEndian) {
+        return readLong(payload, position, bigEndian);
+    }
+
+    public float readFloat32(byte[] payload, boolean bigEndian) {
+        return Float.intBitsToFloat(readInt(payload, position, bigEndian));
+    }
+
+    public double readFloat64(byte[] payload, boolean bigEndian) {
+        return Double.longBitsToDouble(readLong(payload, position, bigEndian));
+    }
+
+    private static boolean isFixedSize(FieldKind kind) {
+        return switch (kind) {
+            case BOOLEAN, INT8, INT16, INT32, INT64, FLOAT32, FLOAT64 -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "CompactFieldAccessor{"
+                + "schemaId=" + schemaId
+                + ", kind=" + kind
+                + ", position=" + position
+                + ", bitOffset=" + bitOffset
+                + '}';
+    }
+}
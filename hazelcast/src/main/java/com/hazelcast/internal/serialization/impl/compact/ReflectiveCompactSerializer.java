@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.serialization.impl.compact;
 
+import com.hazelcast.internal.serialization.impl.compact.zeroconfig.LambdaAccessors;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriter;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriters;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
@@ -24,6 +25,7 @@ import com.hazelcast.nio.serialization.compact.CompactSerializer;
 import com.hazelcast.nio.serialization.compact.CompactWriter;
 
 import javax.annotation.Nonnull;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
@@ -31,9 +33,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static com.hazelcast.internal.nio.InstanceCreationUtil.createNewInstance;
 import static com.hazelcast.internal.serialization.impl.compact.CompactUtil.isFieldExist;
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.nio.serialization.FieldKind.BOOLEAN;
 import static com.hazelcast.nio.serialization.FieldKind.FLOAT32;
 import static com.hazelcast.nio.serialization.FieldKind.FLOAT64;
@@ -67,6 +71,7 @@ import static java.util.stream.Collectors.toList;
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
     private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private final Map<Class, Supplier<Object>> constructorsCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
 
     public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
@@ -147,13 +152,38 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
     @Nonnull
     private Object createObject(Class associatedClass) {
+        Supplier<Object> constructor = constructorsCache.get(associatedClass);
+        if (constructor == null) {
+            constructor = constructorsCache.computeIfAbsent(associatedClass, ReflectiveCompactSerializer::constructorOf);
+        }
         try {
-            return createNewInstance(associatedClass);
+            return constructor.get();
         } catch (Exception e) {
             throw new HazelcastSerializationException("Could not construct the class " + associatedClass, e);
         }
     }
 
+    /**
+     * Returns a supplier calling the empty constructor of the class directly
+     * if possible, and falls back to {@code createNewInstance} otherwise.
+     * Like {@code createNewInstance}, the constructor is only used if a trial
+     * call succeeds.
+     */
+    private static Supplier<Object> constructorOf(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            Supplier<Object> supplier = LambdaAccessors.constructor(constructor);
+            if (supplier != null) {
+                supplier.get();
+                return supplier;
+            }
+        } catch (Exception e) {
+            // no usable empty constructor, the instance is created by Objenesis
+            ignore(e);
+        }
+        return () -> createNewInstance(clazz);
+    }
+
     private static List<Field> getAllFields(List<Field> fields, Class<?> type) {
         fields.addAll(Arrays.stream(type.getDeclaredFields())
                 .filter(f -> !Modifier.isStatic(f.getModifiers()))
@@ -20,6 +20,7 @@ import com.hazelcast.internal.serialization.impl.compact.CompactStreamSerializer
 import com.hazelcast.internal.serialization.impl.compact.CompactUtil;
 import com.hazelcast.internal.serialization.impl.compact.DefaultCompactReader;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.serialization.impl.compact.zeroconfig.LambdaAccessors;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriter;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriters;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
@@ -34,6 +35,7 @@ import java.lang.reflect.RecordComponent;
 import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 
@@ -117,9 +119,13 @@ public class JavaRecordSerializer implements CompactSerializer<Object> {
                 componentTypes[i] = type;
                 Method componentGetter = clazz.getDeclaredMethod(name);
                 componentGetter.setAccessible(true);
+                Function<Object, Object> getter = LambdaAccessors.getter(componentGetter);
+                if (getter == null) {
+                    getter = recordObject -> invoke(componentGetter, recordObject);
+                }
                 componentReaderWriters[i] = new ComponentReaderWriterAdapter<>(
                         ValueReaderWriters.readerWriterFor(compactStreamSerializer, clazz, type, genericType, name),
-                        componentGetter
+                        getter
                 );
             }
 
@@ -134,9 +140,18 @@ public class JavaRecordSerializer implements CompactSerializer<Object> {
         }
     }
 
+    private static Object invoke(Method componentGetter, Object recordObject) {
+        try {
+            return componentGetter.invoke(recordObject);
+        } catch (Exception e) {
+            throw new HazelcastSerializationException("Failed to read the component " + componentGetter.getName()
+                    + " of the Java record", e);
+        }
+    }
+
     private record ComponentReaderWriterAdapter<T>(
             ValueReaderWriter<T> readerWriter,
-            Method componentGetter) implements ComponentReaderWriter {
+            Function<Object, Object> componentGetter) implements ComponentReaderWriter {
 
         @Override
         public Object readComponent(CompactReader compactReader, Schema schema) {
@@ -146,7 +161,7 @@ public class JavaRecordSerializer implements CompactSerializer<Object> {
         @Override
         @SuppressWarnings("unchecked")
         public void writeComponent(CompactWriter compactWriter, Object recordObject) throws Exception {
-            readerWriter.write(compactWriter, (T) componentGetter.invoke(recordObject));
+            readerWriter.write(compactWriter, (T) componentGetter.apply(recordObject));
         }
     }
 }
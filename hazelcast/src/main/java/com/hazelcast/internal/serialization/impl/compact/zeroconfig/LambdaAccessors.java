@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.compact.zeroconfig;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates functional interface instances which call a given method or
+ * constructor directly, through classes spun by the {@link LambdaMetafactory}.
+ * Unlike {@link Method#invoke} and {@link Constructor#newInstance}, these
+ * calls don't need argument arrays and access checks, and can be inlined
+ * by the JIT like any other call.
+ * <p>
+ * The methods return {@code null} if the accessor can't be created, e.g.
+ * because the module of the class doesn't open its package to Hazelcast.
+ * Callers are expected to fall back to reflection in that case.
+ */
+public final class LambdaAccessors {
+
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+
+    private LambdaAccessors() {
+    }
+
+    /**
+     * Returns a function calling the given no-arg instance method on its
+     * argument, with primitive results boxed.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getter(Method method) {
+        if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = privateLookupIn(method.getDeclaringClass());
+            MethodHandle target = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class), FUNCTION_TYPE, target, target.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a supplier calling the given no-arg constructor.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static Supplier<Object> constructor(Constructor<?> constructor) {
+        if (constructor.getParameterCount() != 0) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = privateLookupIn(constructor.getDeclaringClass());
+            MethodHandle target = lookup.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class), SUPPLIER_TYPE, target, target.type());
+            return (Supplier<Object>) site.getTarget().invoke();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static MethodHandles.Lookup privateLookupIn(Class<?> clazz) throws IllegalAccessException {
+        // the spun class is defined next to the target class, so it can
+        // access its private members just like a lambda in that class
+        return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.instance.ProtocolType;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmptyAfterTrim;
+import static com.hazelcast.internal.util.StringUtil.splitByComma;
+import static com.hazelcast.internal.util.StringUtil.upperCaseInternal;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_LEVEL;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_PROTOCOLS;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_THRESHOLD_BYTES;
+import static java.lang.System.nanoTime;
+
+/**
+ * Compresses the payload of outbound {@link Packet packets} and inflates the
+ * payload of inbound compressed packets of a single connection.
+ * <p>
+ * Compression is done per packet: a compressed packet has the
+ * {@link Packet#FLAG_COMPRESSED} raised and its payload consists of the
+ * length of the original payload followed by the deflated bytes. Because
+ * of that, the compression state never has to be synchronized between the
+ * two sides of a connection; the receiving side only needs to understand
+ * the flag.
+ * <p>
+ * A connection only sends compressed packets once both sides announced
+ * {@link #DEFLATE} in their member handshake, see {@link #negotiate(String)}.
+ * Which connections are allowed to compress is determined by the protocol
+ * type of the endpoint, so e.g. WAN replication connections can be
+ * compressed while the member-to-member connections are not.
+ * <p>
+ * The {@link #compress(Packet)} method is only called by the thread writing
+ * to the connection and the {@link #decompress(Packet)} method only by the
+ * thread reading from it.
+ */
+public final class PacketCompression {
+
+    /**
+     * The name of the only supported compression algorithm.
+     */
+    public static final String DEFLATE = "deflate";
+
+    private final boolean allowed;
+    private final int thresholdBytes;
+    private final int level;
+    private volatile boolean enabled;
+
+    // only written by the thread writing to the connection
+    private final SwCounter compressedPackets = newSwCounter();
+    private final SwCounter bytesBeforeCompression = newSwCounter();
+    private final SwCounter bytesAfterCompression = newSwCounter();
+    private final SwCounter compressionTimeNanos = newSwCounter();
+    private Deflater deflater;
+    private byte[] deflateBuffer;
+
+    // only written by the thread reading from the connection
+    private final SwCounter decompressedPackets = newSwCounter();
+    private final SwCounter decompressionTimeNanos = newSwCounter();
+    private Inflater inflater;
+
+    /**
+     * @param allowed whether the connection is allowed to compress, see
+     *                {@link #isAllowed(HazelcastProperties, EndpointQualifier)}
+     */
+    public PacketCompression(HazelcastProperties properties, boolean allowed) {
+        this(allowed,
+                properties.getInteger(IO_COMPRESSION_THRESHOLD_BYTES),
+                properties.getInteger(IO_COMPRESSION_LEVEL));
+    }
+
+    PacketCompression(boolean allowed, int thresholdBytes, int level) {
+        this.allowed = allowed;
+        this.thresholdBytes = thresholdBytes;
+        this.level = level;
+    }
+
+    /**
+     * Returns the compression algorithm this side announces in its member
+     * handshake, or {@code null} if compression isn't allowed for the
+     * connection.
+     */
+    public String announcedAlgorithm() {
+        return allowed ? DEFLATE : null;
+    }
+
+    /**
+     * Enables compression of outbound packets if compression is allowed for
+     * this connection and the remote side announced support for it.
+     *
+     * @param remoteAlgorithm the algorithm announced by the remote side,
+     *                        can be {@code null}.
+     * @return {@code true} if compression got enabled.
+     */
+    public boolean negotiate(String remoteAlgorithm) {
+        enabled = allowed && DEFLATE.equals(remoteAlgorithm);
+        return enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a compressed copy of the given packet, or the packet itself when
+     * compression isn't enabled, the packet is too small or compressing it
+     * doesn't reduce its size. The given packet is never modified since it
+     * can be shared between multiple connections.
+     */
+    public Packet compress(Packet packet) {
+        if (!enabled
+                || packet.getPacketType() == Packet.Type.SERVER_CONTROL
+                || packet.isFlagRaised(FLAG_COMPRESSED)
+                || packet.dataSize() < thresholdBytes) {
+            return packet;
+        }
+
+        long startNanos = nanoTime();
+        byte[] payload = packet.toByteArray();
+        Deflater deflater = deflater();
+        deflater.setInput(payload);
+        deflater.finish();
+        byte[] buffer = deflateBuffer(payload.length);
+        int length = INT_SIZE_IN_BYTES;
+        while (!deflater.finished() && length < buffer.length) {
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+        boolean smaller = deflater.finished();
+        deflater.reset();
+        compressionTimeNanos.inc(nanoTime() - startNanos);
+        if (!smaller) {
+            // the compressed form isn't smaller than the original
+            return packet;
+        }
+
+        writeIntB(buffer, 0, payload.length);
+        byte[] compressed = new byte[length];
+        System.arraycopy(buffer, 0, compressed, 0, length);
+        compressedPackets.inc();
+        bytesBeforeCompression.inc(payload.length);
+        bytesAfterCompression.inc(length);
+        return new Packet(compressed, packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() | FLAG_COMPRESSED);
+    }
+
+    /**
+     * Returns a packet with the inflated payload of the given compressed
+     * packet, or the packet itself if it isn't compressed.
+     *
+     * @throws IllegalStateException if the payload can't be inflated.
+     */
+    public Packet decompress(Packet packet) {
+        if (!packet.isFlagRaised(FLAG_COMPRESSED)) {
+            return packet;
+        }
+
+        long startNanos = nanoTime();
+        byte[] compressed = packet.toByteArray();
+        byte[] payload = new byte[readIntB(compressed, 0)];
+        Inflater inflater = inflater();
+        inflater.setInput(compressed, INT_SIZE_IN_BYTES, compressed.length - INT_SIZE_IN_BYTES);
+        try {
+            int length = 0;
+            while (length < payload.length) {
+                int inflated = inflater.inflate(payload, length, payload.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalStateException("Compressed packet payload is truncated, expected "
+                            + payload.length + " bytes but inflated only " + length);
+                }
+                length += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Failed to inflate compressed packet payload", e);
+        } finally {
+            inflater.reset();
+        }
+
+        decompressedPackets.inc();
+        decompressionTimeNanos.inc(nanoTime() - startNanos);
+        return new Packet(payload, packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() & ~FLAG_COMPRESSED);
+    }
+
+    public long compressedPackets() {
+        return compressedPackets.get();
+    }
+
+    public long decompressedPackets() {
+        return decompressedPackets.get();
+    }
+
+    /**
+     * Returns the ratio between the size of the payloads before and after
+     * compression, e.g. 4 means the compressed payloads are 4 times smaller.
+     * Returns 0 if nothing has been compressed yet.
+     */
+    public double compressionRatio() {
+        long after = bytesAfterCompression.get();
+        return after == 0 ? 0 : (double) bytesBeforeCompression.get() / after;
+    }
+
+    public long compressionTimeNanos() {
+        return compressionTimeNanos.get();
+    }
+
+    public long decompressionTimeNanos() {
+        return decompressionTimeNanos.get();
+    }
+
+    private Deflater deflater() {
+        if (deflater == null) {
+            deflater = new Deflater(level);
+        }
+        return deflater;
+    }
+
+    private Inflater inflater() {
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        return inflater;
+    }
+
+    // the buffer is as big as the original payload; if the deflated payload
+    // doesn't fit in there, there is no point in sending it compressed.
+    private byte[] deflateBuffer(int payloadLength) {
+        if (deflateBuffer == null || deflateBuffer.length < payloadLength) {
+            deflateBuffer = new byte[payloadLength];
+        }
+        return deflateBuffer;
+    }
+
+    /**
+     * Returns whether the connections of the given endpoint are allowed to
+     * compress packets. Called once per endpoint when the server is created.
+     *
+     * @throws InvalidConfigurationException if {@link
+     *      com.hazelcast.spi.properties.ClusterProperty#IO_COMPRESSION_PROTOCOLS}
+     *      contains an unknown protocol type.
+     */
+    public static boolean isAllowed(HazelcastProperties properties, EndpointQualifier qualifier) {
+        String protocols = properties.getString(IO_COMPRESSION_PROTOCOLS);
+        if (isNullOrEmptyAfterTrim(protocols)) {
+            return false;
+        }
+
+        Set<ProtocolType> allowedTypes = EnumSet.noneOf(ProtocolType.class);
+        for (String protocol : splitByComma(protocols, false)) {
+            try {
+                allowedTypes.add(ProtocolType.valueOf(upperCaseInternal(protocol.trim())));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigurationException("Invalid protocol type '" + protocol + "' in "
+                        + IO_COMPRESSION_PROTOCOLS.getName() + ", the allowed values are: "
+                        + Arrays.toString(ProtocolType.values()));
+            }
+        }
+        // the unified connection manager has no qualifier; it handles the member connections
+        ProtocolType type = qualifier == null ? ProtocolType.MEMBER : qualifier.getType();
+        return allowedTypes.contains(type);
+    }
+}
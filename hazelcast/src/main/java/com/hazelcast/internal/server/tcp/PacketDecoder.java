@@ -34,7 +34,8 @@ import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
  * The {@link InboundHandler} for member to member communication.
  * <p>
  * It reads as many packets from the src {@link ByteBuffer} as possible, and
- * each of the Packets is sent to the destination.
+ * each of the Packets is sent to the destination. Compressed packets are
+ * inflated before they are sent to the destination.
  *
  * @see Consumer
  * @see PacketEncoder
@@ -43,10 +44,15 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
 
     protected final ServerConnection connection;
     private final PacketIOHelper packetReader = new PacketIOHelper();
+    private final PacketCompression compression;
 
     public PacketDecoder(ServerConnection connection, Consumer<Packet> dst) {
         this.connection = connection;
         this.dst = dst;
+        this.compression = connection instanceof TcpServerConnection tcpConnection
+                ? tcpConnection.getPacketCompression()
+                // inflating doesn't depend on the configuration of this side
+                : new PacketCompression(false, 0, 0);
     }
 
     @Override
@@ -63,7 +69,7 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
                 if (packet == null) {
                     break;
                 }
-                onPacketComplete(packet);
+                onPacketComplete(compression.decompress(packet));
             }
 
             return CLEAN;
@@ -36,15 +36,27 @@ import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
  * It makes use of a flyweight to allow the sharing of a packet-instance over
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
+ * <p>
+ * If a {@link PacketCompression} is provided, packets are compressed just
+ * before they are written, so the shared packet instance is left untouched.
  *
  * @see PacketDecoder
  */
 public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final PacketCompression compression;
 
     private Packet packet;
 
+    public PacketEncoder() {
+        this(null);
+    }
+
+    public PacketEncoder(PacketCompression compression) {
+        this.compression = compression;
+    }
+
     @Override
     public void handlerAdded() {
         initDstBuffer();
@@ -62,6 +74,10 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
                         // everything is processed, so we are done
                         return CLEAN;
                     }
+
+                    if (compression != null) {
+                        packet = compression.compress(packet);
+                    }
                 }
 
                 if (packetWriter.writeTo(packet, dst)) {
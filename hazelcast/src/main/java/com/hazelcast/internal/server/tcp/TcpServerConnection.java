@@ -42,9 +42,17 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSED_PACKETS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSION_ENABLED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSION_RATIO;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_COMPRESSION_TIME_NANOS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_CONNECTION_TYPE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_DECOMPRESSED_PACKETS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_DECOMPRESSION_TIME_NANOS;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.BOOLEAN;
 import static com.hazelcast.internal.metrics.ProbeUnit.ENUM;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.nio.ConnectionType.MEMBER;
 import static com.hazelcast.internal.nio.ConnectionType.NONE;
 
@@ -83,6 +91,8 @@ public class TcpServerConnection implements ServerConnection {
 
     private final ServerContext serverContext;
 
+    private final PacketCompression packetCompression;
+
     private Address remoteAddress;
 
     private UUID remoteUuid;
@@ -112,6 +122,8 @@ public class TcpServerConnection implements ServerConnection {
         this.channel = channel;
         this.acceptorSide = acceptorSide;
         this.attributeMap = channel.attributeMap();
+        this.packetCompression = new PacketCompression(serverContext.properties(),
+                connectionManager.isCompressionAllowed());
         attributeMap.put(ServerConnection.class, this);
     }
 
@@ -150,6 +162,40 @@ public class TcpServerConnection implements ServerConnection {
         return ConnectionType.getTypeId(connectionType);
     }
 
+    public PacketCompression getPacketCompression() {
+        return packetCompression;
+    }
+
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSION_ENABLED, unit = BOOLEAN, level = DEBUG)
+    private int compressionEnabled() {
+        return packetCompression.isEnabled() ? 1 : 0;
+    }
+
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSED_PACKETS, level = DEBUG)
+    private long compressedPackets() {
+        return packetCompression.compressedPackets();
+    }
+
+    @Probe(name = TCP_METRIC_CONNECTION_DECOMPRESSED_PACKETS, level = DEBUG)
+    private long decompressedPackets() {
+        return packetCompression.decompressedPackets();
+    }
+
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSION_RATIO, level = DEBUG)
+    private double compressionRatio() {
+        return packetCompression.compressionRatio();
+    }
+
+    @Probe(name = TCP_METRIC_CONNECTION_COMPRESSION_TIME_NANOS, unit = NS, level = DEBUG)
+    private long compressionTimeNanos() {
+        return packetCompression.compressionTimeNanos();
+    }
+
+    @Probe(name = TCP_METRIC_CONNECTION_DECOMPRESSION_TIME_NANOS, unit = NS, level = DEBUG)
+    private long decompressionTimeNanos() {
+        return packetCompression.decompressionTimeNanos();
+    }
+
     @Override
     public void setConnectionType(String connectionType) {
         Objects.requireNonNull(connectionType);
@@ -83,6 +83,7 @@ public class TcpServerConnectionManager extends TcpServerConnectionManagerBase
     private final Function<EndpointQualifier, ChannelInitializer> channelInitializerFn;
     private final TcpServerConnector connector;
     private final TcpServerControl serverControl;
+    private final boolean compressionAllowed;
     private final AtomicInteger connectionIdGen = new AtomicInteger();
 
     TcpServerConnectionManager(
@@ -97,6 +98,16 @@ public class TcpServerConnectionManager extends TcpServerConnectionManagerBase
         this.channelInitializerFn = channelInitializerFn;
         this.connector = new TcpServerConnector(this);
         this.serverControl = new TcpServerControl(this, serverContext, logger, supportedProtocolTypes);
+        // parsed once, so that an invalid value fails the startup instead of the connections
+        this.compressionAllowed = PacketCompression.isAllowed(serverContext.properties(), endpointQualifier);
+    }
+
+    /**
+     * Returns whether the connections of this endpoint are allowed to
+     * compress packets, see {@link PacketCompression}.
+     */
+    boolean isCompressionAllowed() {
+        return compressionAllowed;
     }
 
     @Override
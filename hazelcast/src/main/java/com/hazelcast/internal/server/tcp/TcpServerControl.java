@@ -89,6 +89,9 @@ public final class TcpServerControl {
         // before we register the connection on the plane, we make sure the plane index is set on the connection
         // so that we can safely remove the connection from the plane.
         connection.setPlaneIndex(handshake.getPlaneIndex());
+        if (connection.getPacketCompression().negotiate(handshake.getCompression()) && logger.isFineEnabled()) {
+            logger.fine("Packet compression enabled on " + connection);
+        }
         process(connection, handshake);
     }
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
+
+/**
+ * Keeps track of the number of bytes allocated by the current thread while
+ * doing something, e.g. while deserializing an operation.
+ * <p>
+ * The allocated bytes are read from the JVM's {@link ThreadMXBean}, which
+ * needs the HotSpot specific {@code com.sun.management.ThreadMXBean}. When
+ * that isn't available, {@link #currentThreadAllocatedBytes()} returns
+ * {@code -1} and nothing gets recorded.
+ */
+public final class AllocationDistribution {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private static final AtomicLongFieldUpdater<AllocationDistribution> COUNT
+            = newUpdater(AllocationDistribution.class, "count");
+    private static final AtomicLongFieldUpdater<AllocationDistribution> TOTAL_BYTES
+            = newUpdater(AllocationDistribution.class, "totalBytes");
+    private static final AtomicLongFieldUpdater<AllocationDistribution> MAX_BYTES
+            = newUpdater(AllocationDistribution.class, "maxBytes");
+
+    private volatile long count;
+    private volatile long totalBytes;
+    private volatile long maxBytes;
+
+    /**
+     * Checks if the allocated bytes of a thread can be measured on this JVM.
+     */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the current thread so
+     * far, or {@code -1} if this can't be measured.
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long totalBytes() {
+        return totalBytes;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public long avgBytes() {
+        return count == 0 ? 0 : totalBytes / count;
+    }
+
+    /**
+     * Records the bytes allocated by the current thread since the given
+     * {@link #currentThreadAllocatedBytes()} value was taken.
+     */
+    public void done(long startAllocatedBytes) {
+        if (startAllocatedBytes < 0) {
+            return;
+        }
+        recordBytes(currentThreadAllocatedBytes() - startAllocatedBytes);
+    }
+
+    public void recordBytes(long bytes) {
+        if (bytes < 0) {
+            return;
+        }
+
+        COUNT.addAndGet(this, 1);
+        TOTAL_BYTES.addAndGet(this, bytes);
+
+        for (; ; ) {
+            long currentMax = maxBytes;
+            if (bytes <= currentMax) {
+                break;
+            }
+
+            if (MAX_BYTES.compareAndSet(this, currentMax, bytes)) {
+                break;
+            }
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean hotspotBean
+                    && hotspotBean.isThreadAllocatedMemorySupported()) {
+                if (!hotspotBean.isThreadAllocatedMemoryEnabled()) {
+                    hotspotBean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return hotspotBean;
+            }
+        } catch (Throwable e) {
+            // e.g. the jdk.management module isn't available
+            ignore(e);
+        }
+        return null;
+    }
+}
@@ -35,7 +35,9 @@ import com.hazelcast.jet.accumulator.LongLongAccumulator;
 import com.hazelcast.jet.accumulator.MutableReference;
 import com.hazelcast.jet.accumulator.PickAnyAccumulator;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.datamodel.DoubleBatch;
 import com.hazelcast.jet.datamodel.ItemsByTag;
+import com.hazelcast.jet.datamodel.LongBatch;
 import com.hazelcast.jet.datamodel.Tuple2;
 import com.hazelcast.jet.datamodel.Tuple3;
 import com.hazelcast.jet.function.TriFunction;
@@ -62,6 +64,8 @@ import java.util.stream.Collectors;
 
 import static com.hazelcast.function.FunctionEx.identity;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.checkSerializable;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
 import static com.hazelcast.jet.datamodel.Tuple3.tuple3;
 
@@ -435,6 +439,312 @@ public final class AggregateOperations {
                 .andExportFinish(a -> a.getDouble() / a.getLong());
     }
 
+    /**
+     * Returns an aggregate operation that computes the sum of the values in
+     * the {@link LongBatch} items it receives. It's the batched counterpart of
+     * {@link #summingLong(ToLongFunctionEx)}: it doesn't box each value and
+     * calls the accumulate primitive once per batch instead of once per value.
+     * <p>
+     * This sample computes the total quantity of the trades in a stream:
+     * <pre>{@code
+     * BatchStage<Long> totalQuantity = trades
+     *         .mapToLongBatches(Trade::getQuantity)
+     *         .aggregate(summingLongBatches());
+     * }</pre>
+     *
+     * <strong>Note:</strong> if the sum exceeds {@code Long.MAX_VALUE}, the job
+     * will fail with an {@code ArithmeticException}.
+     *
+     * @see GeneralStage#mapToLongBatches(ToLongFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<LongBatch, LongAccumulator, Long> summingLongBatches() {
+        return AggregateOperation
+                .withCreate(LongAccumulator::new)
+                .andAccumulate((LongAccumulator a, LongBatch batch) -> {
+                    long sum = a.get();
+                    for (long value : batch.values()) {
+                        sum = Math.addExact(sum, value);
+                    }
+                    a.set(sum);
+                })
+                .andCombine(LongAccumulator::add)
+                .andDeduct(LongAccumulator::subtract)
+                .andExportFinish(LongAccumulator::get);
+    }
+
+    /**
+     * Returns an aggregate operation that computes the sum of the values in
+     * the {@link DoubleBatch} items it receives. It's the batched counterpart
+     * of {@link #summingDouble(ToDoubleFunctionEx)}.
+     *
+     * @see GeneralStage#mapToDoubleBatches(ToDoubleFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<DoubleBatch, DoubleAccumulator, Double> summingDoubleBatches() {
+        return AggregateOperation
+                .withCreate(DoubleAccumulator::new)
+                .andAccumulate((DoubleAccumulator a, DoubleBatch batch) -> {
+                    double sum = 0;
+                    for (double value : batch.values()) {
+                        sum += value;
+                    }
+                    a.accumulate(sum);
+                })
+                .andCombine(DoubleAccumulator::combine)
+                .andDeduct(DoubleAccumulator::deduct)
+                .andExportFinish(DoubleAccumulator::export);
+    }
+
+    /**
+     * Returns an aggregate operation that finds the arithmetic mean of the
+     * values in the {@link LongBatch} items it receives. It's the batched
+     * counterpart of {@link #averagingLong(ToLongFunctionEx)}.
+     * <p>
+     * If the aggregate operation does not observe any value, its result is
+     * {@link Double#NaN NaN}.
+     * <p>
+     * <strong>NOTE:</strong> if the sum or the count of the values exceeds
+     * {@code Long.MAX_VALUE}, the job will fail with an {@link
+     * ArithmeticException}.
+     *
+     * @see GeneralStage#mapToLongBatches(ToLongFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<LongBatch, LongLongAccumulator, Double> averagingLongBatches() {
+        // count == accumulator.value1
+        // sum == accumulator.value2
+        return AggregateOperation
+                .withCreate(LongLongAccumulator::new)
+                .andAccumulate((LongLongAccumulator a, LongBatch batch) -> {
+                    long sum = a.get2();
+                    for (long value : batch.values()) {
+                        sum = Math.addExact(sum, value);
+                    }
+                    a.set1(Math.addExact(a.get1(), batch.size()));
+                    a.set2(sum);
+                })
+                .andCombine((a1, a2) -> {
+                    a1.set1(Math.addExact(a1.get1(), a2.get1()));
+                    a1.set2(Math.addExact(a1.get2(), a2.get2()));
+                })
+                .andDeduct((a1, a2) -> {
+                    a1.set1(Math.subtractExact(a1.get1(), a2.get1()));
+                    a1.set2(Math.subtractExact(a1.get2(), a2.get2()));
+                })
+                .andExportFinish(a -> (double) a.get2() / a.get1());
+    }
+
+    /**
+     * Returns an aggregate operation that finds the arithmetic mean of the
+     * values in the {@link DoubleBatch} items it receives. It's the batched
+     * counterpart of {@link #averagingDouble(ToDoubleFunctionEx)}.
+     * <p>
+     * If the aggregate operation does not observe any value, its result is
+     * {@link Double#NaN NaN}.
+     *
+     * @see GeneralStage#mapToDoubleBatches(ToDoubleFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<DoubleBatch, LongDoubleAccumulator, Double> averagingDoubleBatches() {
+        // count == accumulator.value1
+        // sum == accumulator.value2
+        return AggregateOperation
+                .withCreate(LongDoubleAccumulator::new)
+                .andAccumulate((LongDoubleAccumulator a, DoubleBatch batch) -> {
+                    double sum = a.getDouble();
+                    for (double value : batch.values()) {
+                        sum += value;
+                    }
+                    a.setLong(Math.addExact(a.getLong(), batch.size()));
+                    a.setDouble(sum);
+                })
+                .andCombine((a1, a2) -> {
+                    a1.setLong(Math.addExact(a1.getLong(), a2.getLong()));
+                    a1.setDouble(a1.getDouble() + a2.getDouble());
+                })
+                .andDeduct((a1, a2) -> {
+                    a1.setLong(Math.subtractExact(a1.getLong(), a2.getLong()));
+                    a1.setDouble(a1.getDouble() - a2.getDouble());
+                })
+                .andExportFinish(a -> a.getDouble() / a.getLong());
+    }
+
+    /**
+     * Returns an aggregate operation that finds the least value in the {@link
+     * LongBatch} items it receives.
+     * <p>
+     * <strong>NOTE:</strong> if this aggregate operation doesn't observe any
+     * value, its result will be {@code null}.
+     * <p>
+     * <em>Implementation note:</em> this aggregate operation does not
+     * implement the {@link AggregateOperation1#deductFn() deduct} primitive.
+     *
+     * @see GeneralStage#mapToLongBatches(ToLongFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<LongBatch, LongLongAccumulator, Long> minLongBatches() {
+        return extremeOfLongBatches(false);
+    }
+
+    /**
+     * Returns an aggregate operation that finds the greatest value in the
+     * {@link LongBatch} items it receives.
+     * <p>
+     * <strong>NOTE:</strong> if this aggregate operation doesn't observe any
+     * value, its result will be {@code null}.
+     * <p>
+     * <em>Implementation note:</em> this aggregate operation does not
+     * implement the {@link AggregateOperation1#deductFn() deduct} primitive.
+     *
+     * @see GeneralStage#mapToLongBatches(ToLongFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<LongBatch, LongLongAccumulator, Long> maxLongBatches() {
+        return extremeOfLongBatches(true);
+    }
+
+    /**
+     * Returns an aggregate operation that finds the least value in the {@link
+     * DoubleBatch} items it receives.
+     * <p>
+     * <strong>NOTE:</strong> if this aggregate operation doesn't observe any
+     * value, its result will be {@code null}.
+     * <p>
+     * <em>Implementation note:</em> this aggregate operation does not
+     * implement the {@link AggregateOperation1#deductFn() deduct} primitive.
+     *
+     * @see GeneralStage#mapToDoubleBatches(ToDoubleFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<DoubleBatch, LongDoubleAccumulator, Double> minDoubleBatches() {
+        return extremeOfDoubleBatches(false);
+    }
+
+    /**
+     * Returns an aggregate operation that finds the greatest value in the
+     * {@link DoubleBatch} items it receives.
+     * <p>
+     * <strong>NOTE:</strong> if this aggregate operation doesn't observe any
+     * value, its result will be {@code null}.
+     * <p>
+     * <em>Implementation note:</em> this aggregate operation does not
+     * implement the {@link AggregateOperation1#deductFn() deduct} primitive.
+     *
+     * @see GeneralStage#mapToDoubleBatches(ToDoubleFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<DoubleBatch, LongDoubleAccumulator, Double> maxDoubleBatches() {
+        return extremeOfDoubleBatches(true);
+    }
+
+    private static AggregateOperation1<LongBatch, LongLongAccumulator, Long> extremeOfLongBatches(boolean max) {
+        // count == accumulator.value1
+        // extreme == accumulator.value2
+        return AggregateOperation
+                .withCreate(() -> new LongLongAccumulator(0, max ? Long.MIN_VALUE : Long.MAX_VALUE))
+                .andAccumulate((LongLongAccumulator a, LongBatch batch) -> {
+                    long extreme = a.get2();
+                    for (long value : batch.values()) {
+                        extreme = max ? Math.max(extreme, value) : Math.min(extreme, value);
+                    }
+                    a.set1(a.get1() + batch.size());
+                    a.set2(extreme);
+                })
+                .andCombine((a1, a2) -> {
+                    a1.set1(a1.get1() + a2.get1());
+                    a1.set2(max ? Math.max(a1.get2(), a2.get2()) : Math.min(a1.get2(), a2.get2()));
+                })
+                .andExportFinish(a -> a.get1() == 0 ? null : a.get2());
+    }
+
+    private static AggregateOperation1<DoubleBatch, LongDoubleAccumulator, Double> extremeOfDoubleBatches(
+            boolean max
+    ) {
+        // count == accumulator.longValue
+        // extreme == accumulator.doubleValue
+        return AggregateOperation
+                .withCreate(() -> new LongDoubleAccumulator(0, max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY))
+                .andAccumulate((LongDoubleAccumulator a, DoubleBatch batch) -> {
+                    double extreme = a.getDouble();
+                    for (double value : batch.values()) {
+                        extreme = max ? Math.max(extreme, value) : Math.min(extreme, value);
+                    }
+                    a.setLong(a.getLong() + batch.size());
+                    a.setDouble(extreme);
+                })
+                .andCombine((a1, a2) -> {
+                    a1.setLong(a1.getLong() + a2.getLong());
+                    a1.setDouble(max
+                            ? Math.max(a1.getDouble(), a2.getDouble())
+                            : Math.min(a1.getDouble(), a2.getDouble()));
+                })
+                .andExportFinish(a -> a.getLong() == 0 ? null : a.getDouble());
+    }
+
+    /**
+     * Returns an aggregate operation that computes a histogram of the values
+     * in the {@link DoubleBatch} items it receives. The range between {@code
+     * min} and {@code max} is split into {@code bucketCount} buckets of equal
+     * width and the result is the array of the numbers of values that fell
+     * into each bucket. Values below {@code min} are counted in the first
+     * bucket and values at or above {@code max} in the last one. {@code NaN}
+     * values are ignored.
+     * <p>
+     * This sample computes the distribution of the trade prices in ten
+     * buckets between 0 and 100:
+     * <pre>{@code
+     * BatchStage<long[]> priceHistogram = trades
+     *         .mapToDoubleBatches(Trade::getPrice)
+     *         .aggregate(histogramOfDoubleBatches(0, 100, 10));
+     * }</pre>
+     *
+     * @param min the lower bound of the first bucket
+     * @param max the upper bound of the last bucket
+     * @param bucketCount the number of buckets
+     * @see GeneralStage#mapToDoubleBatches(ToDoubleFunctionEx)
+     * @since 6.0
+     */
+    @Nonnull
+    public static AggregateOperation1<DoubleBatch, long[], long[]> histogramOfDoubleBatches(
+            double min, double max, int bucketCount
+    ) {
+        checkTrue(min < max, "min must be less than max");
+        checkPositive("bucketCount", bucketCount);
+        double bucketWidth = (max - min) / bucketCount;
+        return AggregateOperation
+                .withCreate(() -> new long[bucketCount])
+                .andAccumulate((long[] buckets, DoubleBatch batch) -> {
+                    for (double value : batch.values()) {
+                        if (Double.isNaN(value)) {
+                            continue;
+                        }
+                        int bucket = (int) ((value - min) / bucketWidth);
+                        buckets[Math.max(0, Math.min(bucketCount - 1, bucket))]++;
+                    }
+                })
+                .andCombine((long[] buckets1, long[] buckets2) -> {
+                    for (int i = 0; i < bucketCount; i++) {
+                        buckets1[i] += buckets2[i];
+                    }
+                })
+                .andDeduct((long[] buckets1, long[] buckets2) -> {
+                    for (int i = 0; i < bucketCount; i++) {
+                        buckets1[i] -= buckets2[i];
+                    }
+                })
+                .andExport(long[]::clone)
+                .andFinish(identity());
+    }
+
     /**
      * Returns an aggregate operation that computes a linear trend over the
      * items. It will produce a {@code double}-valued coefficient that
@@ -137,6 +137,47 @@ public final class MetricNames {
      */
     public static final String SNAPSHOT_KEYS = "snapshotKeys";
 
+    /**
+     * Tracks the number of keys a particular {@link Vertex} skipped in the
+     * last snapshot because they didn't change since the previous snapshot.
+     * Only incremental snapshots skip keys. The name of the vertex can be
+     * found in the {@link MetricTags#VERTEX} tag of the metric.
+     *
+     * @since 6.0
+     */
+    public static final String SNAPSHOT_UNCHANGED_KEYS = "snapshotUnchangedKeys";
+
+    /**
+     * Tracks the number of keys a particular {@link Vertex} wrote as removed
+     * in the last snapshot. Only incremental snapshots contain removed keys.
+     * The name of the vertex can be found in the {@link MetricTags#VERTEX} tag
+     * of the metric.
+     *
+     * @since 6.0
+     */
+    public static final String SNAPSHOT_REMOVED_KEYS = "snapshotRemovedKeys";
+
+    /**
+     * Tracks the time in milliseconds it took a particular {@link Vertex} to
+     * write its state in the last snapshot, measured from the first entry or
+     * the barrier of the snapshot it received until all its chunks were
+     * stored. The name of the vertex can be found in the {@link
+     * MetricTags#VERTEX} tag of the metric.
+     *
+     * @since 6.0
+     */
+    public static final String SNAPSHOT_DURATION = "snapshotDuration";
+
+    /**
+     * Counts the items a particular {@link Vertex} on a particular {@link
+     * Processor} captured in its input queues and wrote to unaligned
+     * snapshots. They both can be identified based on the {@link
+     * MetricTags#VERTEX} and {@link MetricTags#PROCESSOR} tags of the metric.
+     *
+     * @since 6.0
+     */
+    public static final String SNAPSHOT_IN_FLIGHT_ITEMS = "snapshotInFlightItems";
+
     /**
      * Tracks the start time of a given execution of a specific job.
      * The execution and the job can be identified based on the
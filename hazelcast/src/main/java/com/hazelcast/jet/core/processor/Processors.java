@@ -21,6 +21,7 @@ import com.hazelcast.function.BiPredicateEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.function.PredicateEx;
 import com.hazelcast.function.SupplierEx;
+import com.hazelcast.function.ToDoubleFunctionEx;
 import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
@@ -35,11 +36,14 @@ import com.hazelcast.jet.core.ResettableSingletonTraverser;
 import com.hazelcast.jet.core.SlidingWindowPolicy;
 import com.hazelcast.jet.core.TimestampKind;
 import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
+import com.hazelcast.jet.datamodel.DoubleBatch;
 import com.hazelcast.jet.datamodel.KeyedWindowResult;
+import com.hazelcast.jet.datamodel.LongBatch;
 import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.impl.processor.AggregateP;
 import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceOrderedP;
 import com.hazelcast.jet.impl.processor.AsyncTransformUsingServiceUnorderedP;
+import com.hazelcast.jet.impl.processor.BatchPrimitivesP;
 import com.hazelcast.jet.impl.processor.GroupP;
 import com.hazelcast.jet.impl.processor.InsertWatermarksP;
 import com.hazelcast.jet.impl.processor.NoopP;
@@ -925,6 +929,51 @@ public final class Processors {
         return mapP((T t) -> filterFn.test(t) ? t : null);
     }
 
+    /**
+     * Returns a supplier of processors for a vertex that extracts a {@code
+     * long} value from each received item and emits the values in {@link
+     * LongBatch} items, one for each batch of items it receives. Downstream
+     * vertices then receive one item per batch instead of one boxed value per
+     * received item, see for example {@link
+     * com.hazelcast.jet.aggregate.AggregateOperations#summingLongBatches()}.
+     * <p>
+     * If the received items are timestamped, a batch only contains items
+     * with the same timestamp and gets that timestamp. A received batch of
+     * items with different timestamps is emitted as several batches, so that
+     * a downstream window assigns each value to its own frame. If most
+     * received items have distinct timestamps, most emitted batches
+     * therefore hold a single value.
+     * <p>
+     * This processor is stateless.
+     *
+     * @param toLongFn a stateless function that extracts the value from the
+     *                 received item
+     * @param <T> received item type
+     * @since 6.0
+     */
+    @Nonnull
+    public static <T> SupplierEx<Processor> batchLongsP(@Nonnull ToLongFunctionEx<? super T> toLongFn) {
+        return () -> BatchPrimitivesP.batchLongs(toLongFn);
+    }
+
+    /**
+     * Returns a supplier of processors for a vertex that extracts a {@code
+     * double} value from each received item and emits the values in {@link
+     * DoubleBatch} items, one for each batch of items it receives. See {@link
+     * #batchLongsP(ToLongFunctionEx)} for details.
+     * <p>
+     * This processor is stateless.
+     *
+     * @param toDoubleFn a stateless function that extracts the value from the
+     *                   received item
+     * @param <T> received item type
+     * @since 6.0
+     */
+    @Nonnull
+    public static <T> SupplierEx<Processor> batchDoublesP(@Nonnull ToDoubleFunctionEx<? super T> toDoubleFn) {
+        return () -> BatchPrimitivesP.batchDoubles(toDoubleFn);
+    }
+
     /**
      * Returns a supplier of processors for a vertex that applies the provided
      * item-to-traverser mapping function to each received item and emits all
@@ -1185,6 +1234,11 @@ public final class Processors {
      * Returns a supplier of processors for a vertex that sorts its input using
      * a {@link PriorityQueue} and emits it in the {@code complete} phase.
      * <p>
+     * If {@link com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_DIRECTORY}
+     * is configured, the processor spills sorted runs to local disk when the
+     * queue reaches its size limit and merges them in the {@code complete}
+     * phase, so the input doesn't have to fit into memory.
+     * <p>
      * The output edge of this vertex should be {@link Edge#distributed
      * distributed} {@link Edge#ordered monotonicOrder} {@link
      * Edge#allToOne allToOne} so it preserves the ordering when merging
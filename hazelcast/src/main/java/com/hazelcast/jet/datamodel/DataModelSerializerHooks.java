@@ -373,4 +373,68 @@ final class DataModelSerializerHooks {
             return SerializerHookConstants.ITEMS_BY_TAG;
         }
     }
+
+    public static final class LongBatchHook implements SerializerHook<LongBatch> {
+
+        @Override
+        public Class<LongBatch> getSerializationType() {
+            return LongBatch.class;
+        }
+
+        @Override
+        public Serializer createSerializer() {
+            return new StreamSerializer<LongBatch>() {
+                @Override
+                public void write(ObjectDataOutput out, LongBatch batch) throws IOException {
+                    out.writeLongArray(batch.values());
+                }
+
+                @Override
+                public LongBatch read(ObjectDataInput in) throws IOException {
+                    return new LongBatch(in.readLongArray());
+                }
+
+                @Override
+                public int getTypeId() {
+                    return SerializerHookConstants.LONG_BATCH;
+                }
+            };
+        }
+
+        @Override public boolean isOverwritable() {
+            return false;
+        }
+    }
+
+    public static final class DoubleBatchHook implements SerializerHook<DoubleBatch> {
+
+        @Override
+        public Class<DoubleBatch> getSerializationType() {
+            return DoubleBatch.class;
+        }
+
+        @Override
+        public Serializer createSerializer() {
+            return new StreamSerializer<DoubleBatch>() {
+                @Override
+                public void write(ObjectDataOutput out, DoubleBatch batch) throws IOException {
+                    out.writeDoubleArray(batch.values());
+                }
+
+                @Override
+                public DoubleBatch read(ObjectDataInput in) throws IOException {
+                    return new DoubleBatch(in.readDoubleArray());
+                }
+
+                @Override
+                public int getTypeId() {
+                    return SerializerHookConstants.DOUBLE_BATCH;
+                }
+            };
+        }
+
+        @Override public boolean isOverwritable() {
+            return false;
+        }
+    }
 }
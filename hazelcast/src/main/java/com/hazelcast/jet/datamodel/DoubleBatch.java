@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.datamodel;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * An immutable batch of {@code double} values. Jet passes each item between
+ * processors as an object; a pipeline that emits many numbers can use this
+ * class to pass a chunk of them as a single item, without boxing each one.
+ * <p>
+ * The batch wraps the given array without copying it, the array must not
+ * be modified after the batch is created.
+ *
+ * @see com.hazelcast.jet.core.processor.Processors#batchDoublesP
+ * @since 6.0
+ */
+public final class DoubleBatch {
+
+    private final double[] values;
+
+    /**
+     * Creates a new batch of the given values.
+     */
+    public DoubleBatch(@Nonnull double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the number of values in the batch.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value at the given index.
+     */
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the array of values. The array must not be modified.
+     */
+    @Nonnull
+    public double[] values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj ||
+                obj instanceof DoubleBatch that
+                && Arrays.equals(this.values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleBatch" + Arrays.toString(values);
+    }
+}
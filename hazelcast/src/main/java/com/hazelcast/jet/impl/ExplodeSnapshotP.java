@@ -23,26 +23,66 @@ import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.BroadcastKey;
 import com.hazelcast.jet.impl.execution.BroadcastEntry;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataEntryId;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Stream;
 
+import static com.hazelcast.jet.Traversers.traverseStream;
 import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
 
+/**
+ * Reads the chunks of a snapshot and emits the entries in them to the
+ * ordinal of the vertex that saved them.
+ * <p>
+ * If the snapshot is incremental, the map contains the chunks of a full
+ * snapshot followed by the chunks of the incremental snapshots up to the
+ * expected one. The entries are then resolved in memory: for each {@link
+ * SnapshotDataEntryId entry ID} and key the entry from the latest snapshot
+ * wins, entries whose latest value is a tombstone are dropped, and
+ * everything is emitted in {@link #complete()}. All the entries of the
+ * chain read by this processor are held on heap until then.
+ * Broadcast entries are written to each snapshot, they are only taken from
+ * the expected one.
+ */
 public class ExplodeSnapshotP extends AbstractProcessor {
 
     private final Map<String, FlatMapper<byte[], Object>> vertexToFlatMapper = new HashMap<>();
     private final long expectedSnapshotId;
+    private final long baseSnapshotId;
+    private final Map<String, SnapshotChain> vertexToChain;
     private InternalSerializationService serializationService;
 
+    private Iterator<SnapshotChain> chainIterator;
+    private SnapshotChain currentChain;
+    private Traverser<Object> chainTraverser;
+
     ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long expectedSnapshotId) {
+        this(vertexToOrdinal, expectedSnapshotId, NO_SNAPSHOT);
+    }
+
+    ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long expectedSnapshotId, long baseSnapshotId) {
         this.expectedSnapshotId = expectedSnapshotId;
+        this.baseSnapshotId = baseSnapshotId;
+        this.vertexToChain = isIncremental() ? new HashMap<>() : null;
         for (Entry<String, Integer> en : vertexToOrdinal.entrySet()) {
+            if (vertexToChain != null) {
+                vertexToChain.put(en.getKey(), new SnapshotChain(en.getValue()));
+            }
             Object oldValue = vertexToFlatMapper.put(en.getKey(), flatMapper(en.getValue(), this::traverser));
             assert oldValue == null : "Duplicate ordinal: " + en.getValue();
         }
@@ -66,6 +106,10 @@ public class ExplodeSnapshotP extends AbstractProcessor {
             if (key == SnapshotDataValueTerminator.INSTANCE) {
                 return null;
             }
+            if (key instanceof SnapshotDataEntryId) {
+                // only needed to resolve an incremental chain
+                key = serializationService.readObject(in, true);
+            }
             Object value = serializationService.readObject(in, true);
             return key instanceof BroadcastKey
                     ? new BroadcastEntry<>(key, value)
@@ -91,6 +135,19 @@ public class ExplodeSnapshotP extends AbstractProcessor {
             return true;
         }
         long snapshotId = castItem.getKey().snapshotId();
+        if (isIncremental()) {
+            if (snapshotId < baseSnapshotId || snapshotId > expectedSnapshotId) {
+                // chunks of a failed incremental snapshot remain in the map until the next full one
+                getLogger().fine("Data for snapshot ID outside of the incremental chain encountered, ignoring. "
+                        + "Expected=" + baseSnapshotId + ".." + expectedSnapshotId + ", found=" + snapshotId);
+                return true;
+            }
+            uncheckCall(() -> {
+                vertexToChain.get(vertexName).addChunk(snapshotId, castItem.getValue());
+                return null;
+            });
+            return true;
+        }
         if (snapshotId != expectedSnapshotId) {
             getLogger().warning("Data for unexpected snapshot ID encountered, ignoring. Expected="
                     + expectedSnapshotId + ", found=" + snapshotId);
@@ -99,8 +156,96 @@ public class ExplodeSnapshotP extends AbstractProcessor {
         return flatMapper.tryProcess(castItem.getValue());
     }
 
+    @Override
+    public boolean complete() {
+        if (!isIncremental()) {
+            return true;
+        }
+        if (chainIterator == null) {
+            chainIterator = vertexToChain.values().iterator();
+        }
+        for (;;) {
+            if (chainTraverser == null) {
+                if (!chainIterator.hasNext()) {
+                    return true;
+                }
+                currentChain = chainIterator.next();
+                chainTraverser = currentChain.traverser();
+            }
+            if (!emitFromTraverser(currentChain.ordinal, chainTraverser)) {
+                return false;
+            }
+            chainTraverser = null;
+        }
+    }
+
+    private boolean isIncremental() {
+        return baseSnapshotId != NO_SNAPSHOT && baseSnapshotId != expectedSnapshotId;
+    }
+
     @Override
     public boolean closeIsCooperative() {
         return true;
     }
+
+    /**
+     * The latest entries of one vertex across the snapshots of an incremental
+     * chain. The entries are identified by their entry ID and by the key in
+     * serialized form.
+     */
+    private final class SnapshotChain {
+        final int ordinal;
+        final List<Object> broadcastEntries = new ArrayList<>();
+        final Map<ChainEntryKey, ChainEntry> entries = new HashMap<>();
+
+        SnapshotChain(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        void addChunk(long snapshotId, byte[] data) throws IOException {
+            BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+            for (;;) {
+                int keyStart = in.position();
+                Object key = serializationService.readObject(in, true);
+                if (key == SnapshotDataValueTerminator.INSTANCE) {
+                    return;
+                }
+                SnapshotDataEntryId entryId = null;
+                if (key instanceof SnapshotDataEntryId id) {
+                    entryId = id;
+                    keyStart = in.position();
+                    key = serializationService.readObject(in, true);
+                }
+                int valueStart = in.position();
+                Object value = serializationService.readObject(in, true);
+                if (key instanceof BroadcastKey) {
+                    if (snapshotId == expectedSnapshotId) {
+                        broadcastEntries.add(new BroadcastEntry<>(key, value));
+                    }
+                    continue;
+                }
+                // the writer adds the entry ID to all the entries of a chain except for the broadcast ones
+                ByteBuffer keyBytes = ByteBuffer.wrap(Arrays.copyOfRange(data, keyStart, valueStart));
+                ChainEntryKey entryKey = entryId == null
+                        ? new ChainEntryKey(-1, 0, keyBytes)
+                        : new ChainEntryKey(entryId.memberIndex(), entryId.occurrence(), keyBytes);
+                ChainEntry previous = entries.get(entryKey);
+                if (previous == null || previous.snapshotId < snapshotId) {
+                    entries.put(entryKey, new ChainEntry(snapshotId, key, value));
+                }
+            }
+        }
+
+        Traverser<Object> traverser() {
+            return traverseStream(Stream.concat(
+                    broadcastEntries.stream(),
+                    entries.values().stream()
+                           .filter(e -> e.value != SnapshotDataTombstone.INSTANCE)
+                           .map(e -> entry(e.key, e.value))));
+        }
+    }
+
+    private record ChainEntryKey(int memberIndex, int occurrence, ByteBuffer keyBytes) { }
+
+    private record ChainEntry(long snapshotId, Object key, Object value) { }
 }
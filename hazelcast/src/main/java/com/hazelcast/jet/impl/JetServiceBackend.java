@@ -54,6 +54,7 @@ import com.hazelcast.jet.impl.submitjob.memberside.JobUploadStatus;
 import com.hazelcast.jet.impl.submitjob.memberside.JobUploadStore;
 import com.hazelcast.jet.impl.submitjob.memberside.validator.JarOnClientValidator;
 import com.hazelcast.jet.impl.submitjob.memberside.validator.JarOnMemberValidator;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore;
 import com.hazelcast.jet.impl.util.ExceptionUtil;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -65,6 +66,7 @@ import com.hazelcast.spi.merge.DiscardMergePolicy;
 import com.hazelcast.spi.merge.LatestUpdateMergePolicy;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Properties;
@@ -120,6 +122,7 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
     private final JobUploadStore jobUploadStore = new JobUploadStore();
     private final ConcurrentMap<String, Long> connectorInitializeCounts = new ConcurrentHashMap<>();
     private ScheduledFuture<?> jobUploadStoreCheckerFuture;
+    private DiskSnapshotStore diskSnapshotStore;
 
     public JetServiceBackend(Node node) {
         this.logger = node.getLogger(getClass());
@@ -139,6 +142,7 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
         jobCoordinationService = createJobCoordinationService();
         jobClassLoaderService = new JobClassLoaderService(nodeEngine, jobRepository);
         jobExecutionService = new JobExecutionService(nodeEngine, taskletExecutionService, jobClassLoaderService);
+        diskSnapshotStore = DiskSnapshotStore.create(nodeEngine);
 
         MetricsService metricsService = nodeEngine.getService(MetricsService.SERVICE_NAME);
         metricsService.registerPublisher(nodeEngine ->
@@ -303,6 +307,10 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
         if (networking != null) {
             networking.shutdown();
         }
+
+        if (diskSnapshotStore != null) {
+            diskSnapshotStore.shutdown();
+        }
     }
 
     @Override
@@ -405,6 +413,15 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
         getJobCoordinationService().clusterChangeDone();
     }
 
+    /**
+     * Returns the store of the snapshot data on the local disk, or {@code
+     * null} if the snapshots are stored in IMaps.
+     */
+    @Nullable
+    public DiskSnapshotStore getDiskSnapshotStore() {
+        return diskSnapshotStore;
+    }
+
     public AtomicInteger numConcurrentAsyncOps() {
         return numConcurrentAsyncOps;
     }
@@ -34,6 +34,7 @@ import com.hazelcast.jet.impl.deployment.IMapOutputStream;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.jet.impl.metrics.RawJobMetrics;
 import com.hazelcast.jet.impl.util.ConcurrentMemoizingSupplier;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore;
 import com.hazelcast.jet.impl.util.ImdgUtil;
 import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.logging.ILogger;
@@ -68,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
@@ -84,6 +86,7 @@ import static com.hazelcast.jet.Util.idToString;
 import static com.hazelcast.jet.impl.util.IOUtil.fileNameFromUrl;
 import static com.hazelcast.jet.impl.util.IOUtil.packDirectoryIntoZip;
 import static com.hazelcast.jet.impl.util.IOUtil.packStreamIntoZip;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
 import static com.hazelcast.jet.impl.util.Util.memoizeConcurrent;
 import static com.hazelcast.map.impl.EntryRemovingProcessor.ENTRY_REMOVING_PROCESSOR;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
@@ -506,6 +509,7 @@ public class JobRepository {
                 if (!activeJobs.contains(id)) {
                     logger.fine("Deleting snapshot data map '%s' because job already finished", map.getName());
                     map.destroy();
+                    DiskSnapshotStore.deleteOnAllMembers(nodeEngine, map.getName());
                 }
             } else if (map.getName().startsWith(RESOURCES_MAP_NAME_PREFIX)) {
                 deleteMap(activeJobs, map);
@@ -729,13 +733,20 @@ public class JobRepository {
         return JobRepository.EXPORTED_SNAPSHOTS_PREFIX + name;
     }
 
-    void clearSnapshotData(long jobId, int dataMapIndex) {
+    /**
+     * Clears the given snapshot data map. Returns a future that completes
+     * when the data is also deleted from the disks of the members.
+     */
+    CompletableFuture<Void> clearSnapshotData(long jobId, int dataMapIndex) {
         String mapName = snapshotDataMapName(jobId, dataMapIndex);
         try {
             instance.getMap(mapName).clear();
+            CompletableFuture<Void> diskDelete = DiskSnapshotStore.deleteOnAllMembers(getNodeEngine(instance), mapName);
             logger.fine("Cleared snapshot data map %s", mapName);
+            return diskDelete;
         } catch (Exception logged) {
             logger.warning("Cannot delete old snapshot data  " + idToString(jobId), logged);
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -55,6 +55,7 @@ import com.hazelcast.jet.impl.operation.GetLocalExecutionMetricsOperation;
 import com.hazelcast.jet.impl.operation.InitExecutionOperation;
 import com.hazelcast.jet.impl.operation.StartExecutionOperation;
 import com.hazelcast.jet.impl.operation.TerminateExecutionOperation;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore;
 import com.hazelcast.jet.impl.util.NonCompletableFuture;
 import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.logging.ILogger;
@@ -105,6 +106,7 @@ import static com.hazelcast.jet.core.JobStatus.SUSPENDED_EXPORTING_SNAPSHOT;
 import static com.hazelcast.jet.core.processor.SourceProcessors.readMapP;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
 import static com.hazelcast.jet.impl.JobClassLoaderService.JobPhase.COORDINATOR;
+import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 import static com.hazelcast.jet.impl.JobRepository.exportedSnapshotMapName;
 import static com.hazelcast.jet.impl.SnapshotValidator.validateSnapshot;
 import static com.hazelcast.jet.impl.TerminationMode.ActionAfterTerminate.RESTART;
@@ -531,16 +533,23 @@ public class MasterJobContext {
         IMap<Object, Object> snapshotMap = mc.nodeEngine().getHazelcastInstance().getMap(mapName);
         long resolvedSnapshotId = validateSnapshot(
                 snapshotId, snapshotMap, mc.jobIdString(), snapshotName);
+        Long storedBaseSnapshotId = (Long) snapshotMap.get(SnapshotValidationRecord.BASE_SNAPSHOT_ID_KEY);
+        long baseSnapshotId = storedBaseSnapshotId != null ? storedBaseSnapshotId : NO_SNAPSHOT;
         logger.info(String.format(
-                "About to restore the state of %s from snapshot %d, mapName = %s",
-                mc.jobIdString(), resolvedSnapshotId, mapName));
+                "About to restore the state of %s from snapshot %d%s, mapName = %s",
+                mc.jobIdString(), resolvedSnapshotId,
+                baseSnapshotId != NO_SNAPSHOT ? " (incremental since snapshot " + baseSnapshotId + ")" : "",
+                mapName));
         List<Vertex> originalVertices = new ArrayList<>();
         dag.iterator().forEachRemaining(originalVertices::add);
 
         Map<String, Integer> vertexToOrdinal = new HashMap<>();
-        Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
+        Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read",
+                snapshotMap.containsKey(SnapshotValidationRecord.STORED_ON_DISK_KEY)
+                        ? readDiskSnapshotP(snapshotMap, mapName, resolvedSnapshotId, baseSnapshotId)
+                        : readMapP(mapName));
         Vertex explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
-                () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId));
+                () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId, baseSnapshotId));
         dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
 
         int index = 0;
@@ -553,6 +562,19 @@ public class MasterJobContext {
         }
     }
 
+    private ProcessorMetaSupplier readDiskSnapshotP(
+            IMap<Object, Object> snapshotMap, String mapName, long snapshotId, long baseSnapshotId
+    ) {
+        SnapshotValidationRecord validationRecord =
+                (SnapshotValidationRecord) snapshotMap.get(SnapshotValidationRecord.KEY);
+        long minSnapshotId = baseSnapshotId != NO_SNAPSHOT ? baseSnapshotId : snapshotId;
+        // the number of chunks is known only for the snapshot the validation record describes
+        long expectedChunks = snapshotId == validationRecord.snapshotId() ? validationRecord.numChunks() : -1;
+        Map<UUID, List<UUID>> holderToOwners =
+                DiskSnapshotStore.locateChunks(mc.nodeEngine(), mapName, minSnapshotId, snapshotId, expectedChunks);
+        return ReadDiskSnapshotP.metaSupplier(mapName, minSnapshotId, snapshotId, holderToOwners);
+    }
+
     private boolean scheduleRestartIfClusterIsNotSafe() {
         if (mc.coordinationService().shouldStartJobs()) {
             return false;
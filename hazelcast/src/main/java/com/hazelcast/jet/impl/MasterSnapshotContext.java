@@ -26,6 +26,7 @@ import com.hazelcast.jet.impl.execution.init.ExecutionPlan;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation.SnapshotPhase1Result;
 import com.hazelcast.jet.impl.operation.SnapshotPhase2Operation;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.operationservice.Operation;
@@ -46,11 +47,13 @@ import java.util.logging.Level;
 
 import static com.hazelcast.jet.Util.idToString;
 import static com.hazelcast.jet.core.JobStatus.RUNNING;
+import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 import static com.hazelcast.jet.impl.JobRepository.exportedSnapshotMapName;
 import static com.hazelcast.jet.impl.JobRepository.safeImap;
 import static com.hazelcast.jet.impl.JobRepository.snapshotDataMapName;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.jobNameAndExecutionId;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
@@ -75,6 +78,28 @@ class MasterSnapshotContext {
     @Nonnull
     private volatile CompletableFuture<Void> terminalSnapshotFuture = completedFuture(null);
 
+    /*
+     * The chain of incremental snapshots the next snapshot can build on, see
+     * ClusterProperty.JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS. The chain starts
+     * with a full snapshot and only lives within one execution because the
+     * members forget the written keys when the execution ends. Accessed only
+     * under the lock.
+     */
+    private long chainExecutionId;
+    private long chainBaseSnapshotId = NO_SNAPSHOT;
+    private int chainDeltaCount;
+    private long chainNumChunks;
+    private long chainNumBytes;
+
+    /**
+     * Completes when the snapshot data deleted from the disks of the members
+     * after the last snapshot is gone. The next snapshot waits for it, so
+     * that a late delete doesn't remove its data. Accessed only under the
+     * lock.
+     */
+    @Nonnull
+    private CompletableFuture<Void> pendingDiskDelete = completedFuture(null);
+
     private class SnapshotRequest {
         /**
          * User-specified name of the snapshot or null, if no name is specified
@@ -91,6 +116,12 @@ class MasterSnapshotContext {
          * be null.
          */
         final CompletableFuture<Void> future;
+        /**
+         * If true, the snapshot only contains the changes since the previous
+         * snapshot, and it's written to the map of the previous snapshot.
+         * Decided when the snapshot begins.
+         */
+        boolean isIncremental;
 
         SnapshotRequest(@Nullable String snapshotName, boolean isTerminal, @Nullable CompletableFuture<Void> future) {
             this.snapshotName = snapshotName;
@@ -110,12 +141,16 @@ class MasterSnapshotContext {
         }
 
         public int snapshotFlags() {
-            return SnapshotFlags.create(isTerminal, isExport());
+            return SnapshotFlags.create(isTerminal, isExport(), isIncremental);
         }
 
         public String mapName() {
-            return isExport() ? exportedSnapshotMapName(snapshotName)
-                    : snapshotDataMapName(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
+            if (isExport()) {
+                return exportedSnapshotMapName(snapshotName);
+            }
+            return snapshotDataMapName(mc.jobId(), isIncremental
+                    ? mc.jobExecutionRecord().dataMapIndex()
+                    : mc.jobExecutionRecord().ongoingDataMapIndex());
         }
 
         /**
@@ -181,6 +216,7 @@ class MasterSnapshotContext {
             final SnapshotRequest requestedSnapshot;
             mc.lock();
             long localExecutionId;
+            CompletableFuture<Void> diskDelete;
             try {
                 if (mc.jobStatus() != RUNNING) {
                     logger.fine("Not beginning snapshot, " + mc.jobIdString() + " is not RUNNING, but " + mc.jobStatus());
@@ -200,8 +236,10 @@ class MasterSnapshotContext {
                     return;
                 }
                 snapshotInProgress = true;
+                requestedSnapshot.isIncremental = canTakeIncrementalSnapshot(requestedSnapshot);
                 mc.jobExecutionRecord().startNewSnapshot(requestedSnapshot.snapshotName);
                 localExecutionId = mc.executionId();
+                diskDelete = pendingDiskDelete;
             } finally {
                 mc.unlock();
             }
@@ -210,9 +248,22 @@ class MasterSnapshotContext {
             int snapshotFlags = requestedSnapshot.snapshotFlags();
             String mapName = requestedSnapshot.mapName();
 
+            try {
+                diskDelete.join();
+            } catch (Exception e) {
+                // the data is deleted again before a full snapshot and the chunks of an
+                // incremental snapshot are ignored unless the validation record covers them
+                logger.warning(mc.jobIdString() + ": failed to delete the data of the previous snapshot", e);
+            }
+
             try {
                 mc.writeJobExecutionRecordSafe(false);
-                mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                if (!requestedSnapshot.isIncremental) {
+                    mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                    if (!requestedSnapshot.isExport()) {
+                        DiskSnapshotStore.deleteOnAllMembers(mc.nodeEngine(), mapName).join();
+                    }
+                }
             } catch (Exception e) {
                 logger.warning(String.format("Failed to start snapshot %d for %s",
                         newSnapshotId, jobNameAndExecutionId(mc.jobName(), localExecutionId)),
@@ -237,6 +288,88 @@ class MasterSnapshotContext {
         });
     }
 
+    private void writeValidationRecord(
+            SnapshotRequest requestedSnapshot, long snapshotId, String mapName,
+            IMap<Object, Object> snapshotMap, SnapshotPhase1Result mergedResult
+    ) {
+        // The validation record of an incremental snapshot covers the whole chain
+        // stored in the map, and the map also tells where the chain starts.
+        long numChunks = mergedResult.getNumChunks();
+        long numBytes = mergedResult.getNumBytes();
+        if (requestedSnapshot.isIncremental) {
+            numChunks += chainNumChunks;
+            numBytes += chainNumBytes;
+            snapshotMap.put(SnapshotValidationRecord.BASE_SNAPSHOT_ID_KEY, chainBaseSnapshotId);
+        }
+        if (!requestedSnapshot.isExport() && DiskSnapshotStore.isEnabled(mc.nodeEngine().getProperties())) {
+            snapshotMap.put(SnapshotValidationRecord.STORED_ON_DISK_KEY, true);
+        }
+        SnapshotValidationRecord validationRecord = new SnapshotValidationRecord(snapshotId,
+                numChunks, numBytes,
+                mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
+                mc.jobRecord().getDagJson());
+
+        // The decision moment for _exported_ snapshots: after this the snapshot is valid to be restored
+        // from, however it will be not listed by JetInstance.getJobStateSnapshots unless the validation
+        // record is inserted into the cache below.
+        //
+        // Error during update for JobExecutionRecord does not invalidate the _exported_ snapshot.
+        // JobExecutionRecord data in IMap becomes stale (indicates that the exported snapshot is in progress)
+        // but it should not cause problems. They may be overwritten later (in-memory values will be correct)
+        // or ignored when JobExecutionRecord is loaded from IMap.
+        //
+        // Terminal exported snapshot is formally valid from this point on, but it is safe to use it
+        // to restore from only after and only if the job was cleanly terminated due to _this_ snapshot request.
+        // On API level, using this snapshot is not safe if cancelAndExportSnapshot throws exception
+        // and the job will not be cancelled but restarted.
+        Object oldValue = snapshotMap.put(SnapshotValidationRecord.KEY, validationRecord);
+
+        if (requestedSnapshot.isExport()) {
+            assert requestedSnapshot.snapshotName != null;
+            // update also for failed snapshots because the map may have contained different snapshot before
+            mc.jobRepository().cacheValidationRecord(requestedSnapshot.snapshotName, validationRecord);
+        }
+        if (oldValue != null && !requestedSnapshot.isIncremental) {
+            logger.severe("SnapshotValidationRecord overwritten after writing to '" + mapName
+                    + "' for " + mc.jobIdString() + ": snapshot data might be corrupted");
+        }
+    }
+
+    private boolean canTakeIncrementalSnapshot(SnapshotRequest requestedSnapshot) {
+        int maxDeltas = mc.nodeEngine().getProperties().getInteger(JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS);
+        return maxDeltas > 0
+                && !requestedSnapshot.isExport()
+                && chainBaseSnapshotId != NO_SNAPSHOT
+                && chainExecutionId == mc.executionId()
+                && chainBaseSnapshotId <= mc.jobExecutionRecord().snapshotId()
+                && chainDeltaCount < maxDeltas;
+    }
+
+    /**
+     * Updates the chain of incremental snapshots after a snapshot other than
+     * an export-only one completed. A failed snapshot ends the chain: the
+     * members already moved on to the keys of the failed snapshot, so the
+     * next snapshot must be full.
+     */
+    private void updateSnapshotChain(
+            SnapshotRequest requestedSnapshot, long executionId, long snapshotId, boolean isSuccess,
+            long numChunks, long numBytes
+    ) {
+        if (!isSuccess || requestedSnapshot.isExport()) {
+            chainBaseSnapshotId = NO_SNAPSHOT;
+        } else if (requestedSnapshot.isIncremental) {
+            chainDeltaCount++;
+            chainNumChunks += numChunks;
+            chainNumBytes += numBytes;
+        } else {
+            chainExecutionId = executionId;
+            chainBaseSnapshotId = snapshotId;
+            chainDeltaCount = 0;
+            chainNumChunks = numChunks;
+            chainNumBytes = numBytes;
+        }
+    }
+
     /**
      * @param responses collected responses from the members
      */
@@ -327,45 +460,25 @@ class MasterSnapshotContext {
                 // Snapshot IMap proxy instance may be shared, but we always want it
                 // to have failOnIndeterminateOperationState enabled.
                 IMap<Object, Object> snapshotMap = safeImap(mc.nodeEngine().getHazelcastInstance().getMap(mapName));
-                try {
-                    SnapshotValidationRecord validationRecord = new SnapshotValidationRecord(snapshotId,
-                            mergedResult.getNumChunks(), mergedResult.getNumBytes(),
-                            mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
-                            mc.jobRecord().getDagJson());
-
-                    // The decision moment for _exported_ snapshots: after this the snapshot is valid to be restored
-                    // from, however it will be not listed by JetInstance.getJobStateSnapshots unless the validation
-                    // record is inserted into the cache below.
-                    //
-                    // Error during update for JobExecutionRecord does not invalidate the _exported_ snapshot.
-                    // JobExecutionRecord data in IMap becomes stale (indicates that the exported snapshot is in progress)
-                    // but it should not cause problems. They may be overwritten later (in-memory values will be correct)
-                    // or ignored when JobExecutionRecord is loaded from IMap.
-                    //
-                    // Terminal exported snapshot is formally valid from this point on, but it is safe to use it
-                    // to restore from only after and only if the job was cleanly terminated due to _this_ snapshot request.
-                    // On API level, using this snapshot is not safe if cancelAndExportSnapshot throws exception
-                    // and the job will not be cancelled but restarted.
-                    Object oldValue = snapshotMap.put(SnapshotValidationRecord.KEY, validationRecord);
-
-                    if (requestedSnapshot.isExport()) {
-                        assert requestedSnapshot.snapshotName != null;
-                        // update also for failed snapshots because the map may have contained different snapshot before
-                        mc.jobRepository().cacheValidationRecord(requestedSnapshot.snapshotName, validationRecord);
-                    }
-                    if (oldValue != null) {
-                        logger.severe("SnapshotValidationRecord overwritten after writing to '" + mapName
-                                + "' for " + mc.jobIdString() + ": snapshot data might be corrupted");
+                // A failed incremental snapshot must not replace the validation record of the
+                // previous snapshot, which is still in the same map.
+                if (!requestedSnapshot.isIncremental || mergedResult.getError() == null) {
+                    try {
+                        writeValidationRecord(requestedSnapshot, snapshotId, mapName, snapshotMap, mergedResult);
+                    } catch (Exception e) {
+                        mergedResult.merge(new SnapshotPhase1Result(0, 0, 0, e));
                     }
-                } catch (Exception e) {
-                    mergedResult.merge(new SnapshotPhase1Result(0, 0, 0, e));
                 }
 
                 isSuccess = mergedResult.getError() == null;
                 // update snapshot state in memory after success or failure
                 stats = mc.jobExecutionRecord().ongoingSnapshotDone(
                         mergedResult.getNumBytes(), mergedResult.getNumKeys(), mergedResult.getNumChunks(),
-                        mergedResult.getError(), requestedSnapshot.isTerminal);
+                        mergedResult.getError(), requestedSnapshot.isTerminal, requestedSnapshot.isIncremental);
+                if (!requestedSnapshot.isExportOnly()) {
+                    updateSnapshotChain(requestedSnapshot, executionId, snapshotId, isSuccess,
+                            mergedResult.getNumChunks(), mergedResult.getNumBytes());
+                }
 
                 // There is no need to restart job in case of a failed snapshot:
                 // - ongoingSnapshotId is safe in IMap, because it was written at the beginning
@@ -399,8 +512,9 @@ class MasterSnapshotContext {
                 }
 
                 if (logger.isFineEnabled()) {
-                    logger.fine(String.format("Snapshot %d phase 1 for %s completed with status %s in %dms, " +
+                    logger.fine(String.format("%s %d phase 1 for %s completed with status %s in %dms, " +
                                     "%,d bytes, %,d keys in %,d chunks, stored in '%s'%s",
+                            requestedSnapshot.isIncremental ? "Incremental snapshot" : "Snapshot",
                             snapshotId, mc.jobIdString(),
                             (skipPhase2 ? "INDETERMINATE/" : "") + (isSuccess ? "SUCCESS" : "FAILURE"),
                             stats.duration(), stats.numBytes(), stats.numKeys(), stats.numChunks(),
@@ -414,8 +528,15 @@ class MasterSnapshotContext {
                     try {
                         // Clear data of failed snapshot (automatic or exported) to decrease memory usage.
                         // This can be done regardless of skipPhase2 because failed snapshot
-                        // can never be used for restore.
-                        snapshotMap.clear();
+                        // can never be used for restore. A failed incremental snapshot shares the map
+                        // with the previous snapshots; its chunks have a higher snapshot ID than the
+                        // validation record and are ignored until the map is cleared for a full snapshot.
+                        if (!requestedSnapshot.isIncremental) {
+                            snapshotMap.clear();
+                            if (!requestedSnapshot.isExport()) {
+                                pendingDiskDelete = DiskSnapshotStore.deleteOnAllMembers(mc.nodeEngine(), mapName);
+                            }
+                        }
                     } catch (Exception e) {
                         logger.warning(mc.jobIdString() + ": failed to clear snapshot map '" + mapName
                                 + "' after a failure", e);
@@ -426,7 +547,8 @@ class MasterSnapshotContext {
                 // It may turn out that this will be a correct snapshot after all.
                 if (isSuccess && !skipPhase2 && !requestedSnapshot.isExport()) {
                     // clear IMap for next automatic snapshot early to decrease memory usage
-                    mc.jobRepository().clearSnapshotData(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
+                    pendingDiskDelete = mc.jobRepository().clearSnapshotData(
+                            mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
                 }
             } finally {
                 mc.unlock();
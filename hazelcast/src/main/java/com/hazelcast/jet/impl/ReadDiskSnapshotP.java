@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore.SegmentReader;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+
+/**
+ * Reads the chunks of a snapshot stored in the {@link DiskSnapshotStore} of
+ * the members and emits them in the same form as they are stored in the
+ * snapshot IMap, to be consumed by {@link ExplodeSnapshotP}.
+ * <p>
+ * Each member reads the segments of the owners assigned to it by {@link
+ * DiskSnapshotStore#locateChunks}. The local processors split the chunks by
+ * the partition key, so the chunks of a partition from all the snapshots of
+ * an incremental chain go to the same processor.
+ */
+public final class ReadDiskSnapshotP extends AbstractProcessor {
+
+    private final String mapName;
+    private final long minSnapshotId;
+    private final long maxSnapshotId;
+    private final List<UUID> owners;
+
+    private DiskSnapshotStore store;
+    private InternalSerializationService serializationService;
+    private int localParallelism;
+    private int localProcessorIndex;
+
+    private int nextOwnerIndex;
+    private SegmentReader reader;
+    private Entry<SnapshotDataKey, byte[]> pendingItem;
+
+    private ReadDiskSnapshotP(String mapName, long minSnapshotId, long maxSnapshotId, List<UUID> owners) {
+        this.mapName = mapName;
+        this.minSnapshotId = minSnapshotId;
+        this.maxSnapshotId = maxSnapshotId;
+        this.owners = owners;
+    }
+
+    /**
+     * Returns a meta-supplier of processors that read the chunks with the
+     * snapshot ID in the given range.
+     *
+     * @param holderToOwners the owners whose segments each member reads
+     */
+    @Nonnull
+    static ProcessorMetaSupplier metaSupplier(
+            @Nonnull String mapName, long minSnapshotId, long maxSnapshotId,
+            @Nonnull Map<UUID, List<UUID>> holderToOwners
+    ) {
+        return new MetaSupplier(mapName, minSnapshotId, maxSnapshotId, holderToOwners);
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return false;
+    }
+
+    @Override
+    protected void init(@Nonnull Context context) {
+        serializationService = ((ProcCtx) context).serializationService();
+        localParallelism = context.localParallelism();
+        localProcessorIndex = context.localProcessorIndex();
+        JetServiceBackend jetServiceBackend = getNodeEngine(context.hazelcastInstance())
+                .getService(JetServiceBackend.SERVICE_NAME);
+        store = jetServiceBackend.getDiskSnapshotStore();
+        if (store == null && !owners.isEmpty()) {
+            throw new JetException("Can't restore from snapshot in '" + mapName + "', the member doesn't "
+                    + "store the snapshots on disk");
+        }
+    }
+
+    @Override
+    public boolean complete() {
+        try {
+            for (;;) {
+                if (pendingItem != null) {
+                    if (!tryEmit(pendingItem)) {
+                        return false;
+                    }
+                    pendingItem = null;
+                }
+                if (reader == null) {
+                    if (nextOwnerIndex == owners.size()) {
+                        return true;
+                    }
+                    reader = store.openReader(mapName, owners.get(nextOwnerIndex++));
+                }
+                Entry<SnapshotDataKey, Data> chunk = reader.next();
+                if (chunk == null) {
+                    reader.close();
+                    reader = null;
+                    continue;
+                }
+                SnapshotDataKey key = chunk.getKey();
+                if (key.snapshotId() >= minSnapshotId && key.snapshotId() <= maxSnapshotId
+                        && Math.floorMod(key.partitionKey(), localParallelism) == localProcessorIndex) {
+                    pendingItem = entry(key, serializationService.toObject(chunk.getValue()));
+                }
+            }
+        } catch (IOException e) {
+            throw new JetException("Failed to read the snapshot data of '" + mapName + "' from disk", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    private static final class MetaSupplier implements ProcessorMetaSupplier {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String mapName;
+        private final long minSnapshotId;
+        private final long maxSnapshotId;
+        private final HashMap<UUID, List<UUID>> holderToOwners;
+        private transient Map<Address, UUID> addressToUuid;
+
+        MetaSupplier(String mapName, long minSnapshotId, long maxSnapshotId, Map<UUID, List<UUID>> holderToOwners) {
+            this.mapName = mapName;
+            this.minSnapshotId = minSnapshotId;
+            this.maxSnapshotId = maxSnapshotId;
+            this.holderToOwners = new HashMap<>(holderToOwners);
+        }
+
+        @Override
+        public void init(@Nonnull Context context) {
+            addressToUuid = new HashMap<>();
+            for (Member member : context.hazelcastInstance().getCluster().getMembers()) {
+                addressToUuid.put(member.getAddress(), member.getUuid());
+            }
+        }
+
+        @Nonnull
+        @Override
+        public Function<? super Address, ? extends ProcessorSupplier> get(@Nonnull List<Address> addresses) {
+            return address -> {
+                List<UUID> owners = new ArrayList<>(holderToOwners.getOrDefault(addressToUuid.get(address), List.of()));
+                String mapName = this.mapName;
+                long minSnapshotId = this.minSnapshotId;
+                long maxSnapshotId = this.maxSnapshotId;
+                return ProcessorSupplier.of(() -> new ReadDiskSnapshotP(mapName, minSnapshotId, maxSnapshotId, owners));
+            };
+        }
+    }
+}
@@ -26,6 +26,18 @@ import java.io.IOException;
 
 public class SnapshotValidationRecord implements IdentifiedDataSerializable {
     public static final SnapshotValidationKey KEY = SnapshotValidationKey.KEY;
+    /**
+     * The key under which the ID of the full snapshot is stored if the
+     * snapshot in the map is incremental. The map then contains the chunks of
+     * all the snapshots from that one up to the ID in the validation record.
+     */
+    public static final SnapshotValidationKey BASE_SNAPSHOT_ID_KEY = SnapshotValidationKey.BASE_SNAPSHOT_ID;
+    /**
+     * The key present in the map if the chunks of the snapshot are stored in
+     * the {@link com.hazelcast.jet.impl.util.DiskSnapshotStore} of the members
+     * and not in the map.
+     */
+    public static final SnapshotValidationKey STORED_ON_DISK_KEY = SnapshotValidationKey.STORED_ON_DISK;
 
     private long snapshotId;
     private long numChunks;
@@ -124,6 +136,8 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
     }
 
     enum SnapshotValidationKey {
-        KEY
+        KEY,
+        BASE_SNAPSHOT_ID,
+        STORED_ON_DISK
     }
 }
@@ -50,23 +50,48 @@ final class SnapshotValidator {
                     "snapshot %s in IMap %s (%d entries) is damaged. Unable to restore the state for %s.",
                     nameOrId, snapshotMap.getName(), snapshotMap.size(), jobIdString));
         }
-        if (validationRecord.numChunks() != snapshotMap.size() - 1) {
+        // if the snapshot is incremental, the map contains the chunks of all the snapshots since the base one
+        Long baseSnapshotId = (Long) snapshotMap.get(SnapshotValidationRecord.BASE_SNAPSHOT_ID_KEY);
+        if (baseSnapshotId != null && snapshotId != NO_SNAPSHOT
+                && baseSnapshotId <= snapshotId && snapshotId < validationRecord.snapshotId()) {
+            // The update of the JobExecutionRecord after a later incremental snapshot was indeterminate,
+            // but the chunks of the requested snapshot are still in the map, we can restore from it.
+            return snapshotId;
+        }
+        if (snapshotMap.containsKey(SnapshotValidationRecord.STORED_ON_DISK_KEY)) {
+            // the chunks are counted on the members when the job locates them, see DiskSnapshotStore.locateChunks
+            checkSnapshotId(snapshotId, validationRecord, snapshotMap, jobIdString);
+            return validationRecord.snapshotId();
+        }
+        int numNonDataEntries = baseSnapshotId == null ? 1 : 2;
+        if (validationRecord.numChunks() != snapshotMap.size() - numNonDataEntries) {
             // fallback validation that counts using aggregate(), ignoring different snapshot IDs
+            long minSnapshotId = baseSnapshotId == null ? snapshotId : baseSnapshotId;
+            long maxSnapshotId = baseSnapshotId == null ? snapshotId : validationRecord.snapshotId();
             long filteredCount = snapshotMap.aggregate(
                     Aggregators.count(),
                     e -> e.getKey() instanceof SnapshotDataKey snapshotDataKey
-                            && snapshotDataKey.snapshotId() == snapshotId);
+                            && snapshotDataKey.snapshotId() >= minSnapshotId
+                            && snapshotDataKey.snapshotId() <= maxSnapshotId);
             if (validationRecord.numChunks() != filteredCount) {
                 throw new JetException(String.format(
                         "State for %s in IMap '%s' is corrupted: it should have %,d entries, but has %,d",
-                        jobIdString, snapshotMap.getName(), validationRecord.numChunks(), snapshotMap.size() - 1));
+                        jobIdString, snapshotMap.getName(), validationRecord.numChunks(),
+                        snapshotMap.size() - numNonDataEntries));
             }
         }
+        checkSnapshotId(snapshotId, validationRecord, snapshotMap, jobIdString);
+        return validationRecord.snapshotId();
+    }
+
+    private static void checkSnapshotId(
+            long snapshotId, SnapshotValidationRecord validationRecord, IMap<Object, Object> snapshotMap,
+            String jobIdString
+    ) {
         if (snapshotId != NO_SNAPSHOT && snapshotId != validationRecord.snapshotId()) {
             throw new JetException(String.format(
                     "%s: IMap '%s' was supposed to contain snapshotId %d, but it contains snapshotId %d",
                     jobIdString, snapshotMap.getName(), snapshotId, validationRecord.snapshotId()));
         }
-        return validationRecord.snapshotId();
     }
 }
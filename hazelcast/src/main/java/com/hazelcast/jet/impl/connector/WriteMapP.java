@@ -38,6 +38,7 @@ import javax.annotation.Nullable;
 import java.io.Serial;
 import java.security.Permission;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -57,6 +58,9 @@ public final class WriteMapP<T, K, V> extends AsyncHazelcastWriterP {
     private ArrayMap<Object, Object> buffer;
     private IMap<Object, Object> map;
     private Consumer<T> addToBuffer;
+    private PartitioningStrategy<?> keyPartitionStrategy;
+    private List<Object> pendingKeys;
+    private List<Object> pendingValues;
 
     private WriteMapP(
             @Nonnull HazelcastInstance instance,
@@ -91,23 +95,21 @@ public final class WriteMapP<T, K, V> extends AsyncHazelcastWriterP {
 
         if (!hasCustomSerializers) {
             addToBuffer = item -> buffer.add(new SimpleEntry<>(key(item), value(item)));
-        } else if (map instanceof MapProxyImpl) {
-            PartitioningStrategy<?> partitionStrategy = ((MapProxyImpl<K, V>) map).getPartitionStrategy();
-            addToBuffer = item -> {
-                Data key = serializationService.toData(key(item), partitionStrategy);
-                Data value = serializationService.toData(value(item));
-                buffer.add(new SimpleEntry<>(key, value));
-            };
-        } else if (map instanceof ClientMapProxy) {
-            // TODO: add strategy/unify after https://github.com/hazelcast/hazelcast/issues/13950 is fixed
-            addToBuffer = item -> {
-                Data key = serializationService.toData(key(item));
-                Data value = serializationService.toData(value(item));
-                buffer.add(new SimpleEntry<>(key, value));
-            };
-        } else {
+            return;
+        }
+        if (map instanceof MapProxyImpl) {
+            keyPartitionStrategy = ((MapProxyImpl<K, V>) map).getPartitionStrategy();
+        } else if (!(map instanceof ClientMapProxy)) {
+            // TODO: add strategy for ClientMapProxy/unify after https://github.com/hazelcast/hazelcast/issues/13950 is fixed
             throw new RuntimeException("Unexpected map class: " + map.getClass().getName());
         }
+        // the items are serialized in batches after draining the inbox, see serializePending()
+        pendingKeys = new ArrayList<>();
+        pendingValues = new ArrayList<>();
+        addToBuffer = item -> {
+            pendingKeys.add(key(item));
+            pendingValues.add(value(item));
+        };
     }
 
     private K key(T item) {
@@ -122,10 +124,24 @@ public final class WriteMapP<T, K, V> extends AsyncHazelcastWriterP {
     protected void processInternal(Inbox inbox) {
         if (buffer.size() < BUFFER_LIMIT) {
             inbox.drain(addToBuffer);
+            serializePending();
         }
         submitPending();
     }
 
+    private void serializePending() {
+        if (pendingKeys == null || pendingKeys.isEmpty()) {
+            return;
+        }
+        List<Data> keys = serializationService.toDataBatch(pendingKeys, keyPartitionStrategy);
+        List<Data> values = serializationService.toDataBatch(pendingValues);
+        for (int i = 0; i < keys.size(); i++) {
+            buffer.add(new SimpleEntry<>(keys.get(i), values.get(i)));
+        }
+        pendingKeys.clear();
+        pendingValues.clear();
+    }
+
     @Override
     protected boolean flushInternal() {
         return submitPending();
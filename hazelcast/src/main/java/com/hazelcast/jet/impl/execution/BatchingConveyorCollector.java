@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.util.concurrent.ConcurrentConveyor;
+import com.hazelcast.internal.util.concurrent.QueuedPipe;
+import com.hazelcast.jet.impl.util.ProgressState;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+
+/**
+ * A {@link ConveyorCollector} that buffers the offered items and passes
+ * them to the queue as a single {@link ItemBatch}, so that the producer and
+ * the consumer pay the cost of the concurrent queue once per batch instead
+ * of once per item.
+ * <p>
+ * The buffer is flushed when it's full, before any {@link BroadcastItem}
+ * (so watermarks, barriers and the done item stay in order with the items)
+ * and when the {@link ProcessorTasklet} calls {@link #flush()} at the end of
+ * each call. Items therefore never wait in the buffer longer than one
+ * tasklet call.
+ * <p>
+ * The size limit of the batch adapts to the occupancy of the queue. Each
+ * slot of the queue holds a batch, so when the consumer falls behind, the
+ * number of items waiting in the queue would grow by the batch size. When
+ * the queue is more than half full, the limit is halved to keep the
+ * queueing latency close to that of an unbatched queue. When the queue is
+ * nearly empty, the limit is doubled, up to {@code maxBatchSize}.
+ */
+public class BatchingConveyorCollector extends ConveyorCollector {
+
+    private final QueuedPipe<Object> queue;
+    private final int maxBatchSize;
+    private final Object[] buffer;
+    private int count;
+    private int batchLimit;
+
+    public BatchingConveyorCollector(
+            @Nonnull ConcurrentConveyor<Object> conveyor,
+            int queueIndex,
+            @Nullable int[] partitions,
+            int maxBatchSize
+    ) {
+        super(conveyor, queueIndex, partitions);
+        checkTrue(maxBatchSize > 1, "maxBatchSize must be greater than 1");
+        this.queue = conveyor.queue(queueIndex);
+        this.maxBatchSize = maxBatchSize;
+        this.buffer = new Object[maxBatchSize];
+        this.batchLimit = maxBatchSize;
+    }
+
+    @Override
+    public ProgressState offer(Object item) {
+        if (count == batchLimit && !flush().isDone()) {
+            return ProgressState.NO_PROGRESS;
+        }
+        buffer[count++] = item;
+        return ProgressState.DONE;
+    }
+
+    @Override
+    public ProgressState offerBroadcast(BroadcastItem item) {
+        if (!flush().isDone()) {
+            return ProgressState.NO_PROGRESS;
+        }
+        return offerToConveyor(item);
+    }
+
+    @Override
+    public ProgressState flush() {
+        if (count == 0) {
+            return ProgressState.WAS_ALREADY_DONE;
+        }
+        // a single item doesn't need the wrapper
+        Object batch = count == 1 ? buffer[0] : new ItemBatch(Arrays.copyOf(buffer, count));
+        if (!offerToConveyor(batch).isDone()) {
+            return ProgressState.NO_PROGRESS;
+        }
+        Arrays.fill(buffer, 0, count, null);
+        count = 0;
+        adaptBatchLimit();
+        return ProgressState.DONE;
+    }
+
+    private void adaptBatchLimit() {
+        int queued = queue.size();
+        int capacity = queue.capacity();
+        if (queued > capacity / 2) {
+            batchLimit = Math.max(1, batchLimit / 2);
+        } else if (queued < capacity / 8) {
+            batchLimit = Math.min(maxBatchSize, batchLimit * 2);
+        }
+    }
+
+    // for tests
+    int batchLimit() {
+        return batchLimit;
+    }
+}
@@ -67,9 +67,34 @@ public final class ConcurrentInboundEdgeStream {
             boolean waitForAllBarriers,
             @Nonnull String debugName,
             @Nullable ComparatorEx<?> comparator
+    ) {
+        return create(conveyor, ordinal, priority, waitForAllBarriers, false, debugName, comparator);
+    }
+
+    /**
+     * @param waitForAllBarriers If {@code true}, a queue that had a barrier won't
+     *          be drained until the same barrier is received from all other
+     *          queues. This will enforce exactly-once vs. at-least-once, if it
+     *          is {@code false}.
+     * @param unaligned If {@code true}, the stream forwards a non-terminal
+     *          barrier as soon as it receives it from the first queue and
+     *          reports the items it receives from the other queues until
+     *          they deliver the barrier as in-flight items, see {@link
+     *          InboundEdgeStream#drainInFlightItems}. Only used with {@code
+     *          waitForAllBarriers} and without a {@code comparator}.
+     */
+    public static InboundEdgeStream create(
+            @Nonnull ConcurrentConveyor<Object> conveyor,
+            int ordinal,
+            int priority,
+            boolean waitForAllBarriers,
+            boolean unaligned,
+            @Nonnull String debugName,
+            @Nullable ComparatorEx<?> comparator
     ) {
         if (comparator == null) {
-            return new RoundRobinDrain(conveyor, ordinal, priority, debugName, waitForAllBarriers);
+            return new RoundRobinDrain(conveyor, ordinal, priority, debugName, waitForAllBarriers,
+                    waitForAllBarriers && unaligned);
         } else {
             return new OrderedDrain(conveyor, ordinal, priority, debugName, comparator);
         }
@@ -150,26 +175,37 @@ public final class ConcurrentInboundEdgeStream {
         private boolean waitForAllBarriers;
         private SnapshotBarrier currentBarrier;  // next snapshot barrier to emit
         private final List<SpecialBroadcastItem> specialItemsStash = new ArrayList<>();
+        // Tells whether a non-terminal barrier is forwarded as soon as it's received
+        // from the first queue, without waiting for the other queues.
+        private final boolean unaligned;
+        // the current barrier is in the specialItemsStash, waiting to be forwarded early
+        private boolean barrierForwardPending;
+        // the current barrier was forwarded early, the items from the queues without
+        // the barrier are in-flight items
+        private boolean barrierForwarded;
+        private final List<Object> inFlightItems = new ArrayList<>();
 
         RoundRobinDrain(
                 @Nonnull ConcurrentConveyor<Object> conveyor,
                 int ordinal,
                 int priority,
                 @Nonnull String debugName,
-                boolean waitForAllBarriers
+                boolean waitForAllBarriers,
+                boolean unaligned
         ) {
             super(conveyor, ordinal, priority, debugName);
 
             this.waitForAllBarriers = waitForAllBarriers;
+            this.unaligned = unaligned;
             this.coalescers = new KeyedWatermarkCoalescer(conveyor.queueCount());
             receivedBarriers = new BitSet(conveyor.queueCount());
         }
 
         @Nonnull @Override
         public ProgressState drainTo(@Nonnull Consumer<Object> dest) {
+            inFlightItems.clear();
             if (!specialItemsStash.isEmpty()) {
-                specialItemsStash.forEach(dest);
-                specialItemsStash.clear();
+                flushSpecialItemsStash(dest);
                 return MADE_PROGRESS;
             }
 
@@ -185,11 +221,14 @@ public final class ConcurrentInboundEdgeStream {
                     continue;
                 }
 
-                // skip queues where a snapshot barrier has already been received
-                if (waitForAllBarriers && receivedBarriers.get(queueIndex)) {
+                // skip queues where a snapshot barrier has already been received,
+                // unless the barrier was already forwarded
+                if (waitForAllBarriers && receivedBarriers.get(queueIndex) && !barrierForwarded) {
                     continue;
                 }
 
+                itemDetector.inFlightItems = barrierForwarded && !receivedBarriers.get(queueIndex)
+                        ? inFlightItems : null;
                 ProgressState result = drainQueue(q, dest);
                 tracker.mergeWith(result);
 
@@ -205,6 +244,11 @@ public final class ConcurrentInboundEdgeStream {
                     } else if (itemDetector.item instanceof SnapshotBarrier barrier) {
                         observeBarrier(queueIndex, barrier);
                         tracker.madeProgress();
+                        if (unaligned && !barrier.isTerminal() && !barrierForwardPending && !barrierForwarded) {
+                            // forward the barrier before the items from the queues that don't have it yet
+                            specialItemsStash.add(currentBarrier);
+                            barrierForwardPending = true;
+                        }
                     } else {
                         assert false : "should never get here";
                     }
@@ -217,16 +261,19 @@ public final class ConcurrentInboundEdgeStream {
                 // if we have received the current snapshot from all active queues, forward it
                 if (liveQueueCount > 0 && itemDetector.item != null && receivedBarriers.cardinality() == liveQueueCount) {
                     assert currentBarrier != null : "currentBarrier == null";
-                    specialItemsStash.add(currentBarrier);
+                    if (!barrierForwardPending && !barrierForwarded) {
+                        specialItemsStash.add(currentBarrier);
+                    }
                     currentBarrier = null;
                     receivedBarriers.clear();
+                    barrierForwardPending = false;
+                    barrierForwarded = false;
                     break;
                 }
             }
 
             if (!normalItemWasObservedOnAnyQueue) {
-                specialItemsStash.forEach(dest);
-                specialItemsStash.clear();
+                flushSpecialItemsStash(dest);
             }
 
             if (conveyor.liveQueueCount() > 0) {
@@ -235,6 +282,26 @@ public final class ConcurrentInboundEdgeStream {
             return tracker.toProgressState();
         }
 
+        private void flushSpecialItemsStash(Consumer<Object> dest) {
+            specialItemsStash.forEach(dest);
+            specialItemsStash.clear();
+            if (barrierForwardPending) {
+                barrierForwardPending = false;
+                barrierForwarded = true;
+            }
+        }
+
+        @Override
+        public void drainInFlightItems(@Nonnull Consumer<Object> dest) {
+            inFlightItems.forEach(dest);
+            inFlightItems.clear();
+        }
+
+        @Override
+        public boolean isCapturingInFlightItems() {
+            return barrierForwarded && conveyor.liveQueueCount() > 0;
+        }
+
         @Override
         public boolean isDone() {
             return super.isDone() && specialItemsStash.isEmpty();
@@ -276,6 +343,7 @@ public final class ConcurrentInboundEdgeStream {
          */
         private static final class ItemDetector implements Predicate<Object> {
             Consumer<Object> dest;
+            List<Object> inFlightItems;
             SpecialBroadcastItem item;
             boolean normalItemObserved;
 
@@ -289,9 +357,21 @@ public final class ConcurrentInboundEdgeStream {
                 if (o instanceof SpecialBroadcastItem broadcastItem) {
                     item = broadcastItem;
                     return false;
+                } else if (o instanceof ItemBatch batch) {
+                    normalItemObserved = true;
+                    for (Object batchItem : batch.items) {
+                        dest.accept(batchItem);
+                        if (inFlightItems != null) {
+                            inFlightItems.add(batchItem);
+                        }
+                    }
+                    return true;
                 } else {
                     normalItemObserved = true;
                     dest.accept(o);
+                    if (inFlightItems != null) {
+                        inFlightItems.add(o);
+                    }
                     return true;
                 }
             }
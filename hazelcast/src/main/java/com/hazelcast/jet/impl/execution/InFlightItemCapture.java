@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.util.collection.Int2ObjectHashMap;
+import com.hazelcast.jet.core.Partitioner;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates the snapshot keys of the items a processor captures in its input
+ * queues while it takes an unaligned snapshot.
+ * <p>
+ * An item received on a partitioned edge gets the partition key of the
+ * partition the edge's partitioner assigns it to. Any processor can handle
+ * an item received on a unicast edge, it gets the partition key of a
+ * partition chosen by the capturing processor.
+ */
+public final class InFlightItemCapture {
+
+    private final Int2ObjectHashMap<Partitioner<Object>> ordinalToPartitioner;
+    private final int[] partitionKeys;
+    private final int processorIndex;
+    private final int unicastPartitionId;
+    private long sequence;
+
+    /**
+     * @param ordinalToPartitioner the partitioners of the partitioned input
+     *                             edges, by the ordinal of the edge
+     * @param partitionKeys        a partition key for each partition ID
+     * @param processorIndex       the global index of the processor
+     */
+    public InFlightItemCapture(
+            @Nonnull Int2ObjectHashMap<Partitioner<Object>> ordinalToPartitioner,
+            @Nonnull int[] partitionKeys,
+            int processorIndex
+    ) {
+        this.ordinalToPartitioner = ordinalToPartitioner;
+        this.partitionKeys = partitionKeys;
+        this.processorIndex = processorIndex;
+        this.unicastPartitionId = processorIndex % partitionKeys.length;
+    }
+
+    /**
+     * Returns the key of an item received on the given ordinal.
+     */
+    InFlightItemKey keyFor(int ordinal, @Nonnull Object item) {
+        Partitioner<Object> partitioner = ordinalToPartitioner.get(ordinal);
+        int partitionId = partitioner != null
+                ? partitioner.getPartition(item, partitionKeys.length)
+                : unicastPartitionId;
+        return new InFlightItemKey(partitionKeys[partitionId], processorIndex, ordinal, sequence++);
+    }
+
+    /**
+     * Starts the numbering of the items from zero for the next snapshot.
+     */
+    void reset() {
+        sequence = 0;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.partition.PartitionAware;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * The snapshot key of an item an unaligned snapshot captured in the input
+ * queues of a processor. The partition key is the one of the partition the
+ * item belongs to on its edge, so that the restore edge routes the item to
+ * the processor that would have received it.
+ */
+public final class InFlightItemKey implements IdentifiedDataSerializable, PartitionAware<Integer>,
+        Comparable<InFlightItemKey> {
+
+    private static final Comparator<InFlightItemKey> COMPARATOR =
+            Comparator.comparingInt(InFlightItemKey::processorIndex)
+                      .thenComparingLong(InFlightItemKey::sequence);
+
+    private int partitionKey;
+    private int processorIndex;
+    private int ordinal;
+    private long sequence;
+
+    public InFlightItemKey() {
+    }
+
+    InFlightItemKey(int partitionKey, int processorIndex, int ordinal, long sequence) {
+        this.partitionKey = partitionKey;
+        this.processorIndex = processorIndex;
+        this.ordinal = ordinal;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public Integer getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * Returns the global index of the processor that captured the item.
+     */
+    public int processorIndex() {
+        return processorIndex;
+    }
+
+    /**
+     * Returns the ordinal of the edge the item was received from.
+     */
+    public int ordinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the sequence number of the item among the items captured by
+     * the same processor, it keeps the order in which they were received.
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    @Override
+    public int compareTo(@Nonnull InFlightItemKey o) {
+        return COMPARATOR.compare(this, o);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetInitDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetInitDataSerializerHook.IN_FLIGHT_ITEM_KEY;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(partitionKey);
+        out.writeInt(processorIndex);
+        out.writeInt(ordinal);
+        out.writeLong(sequence);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        partitionKey = in.readInt();
+        processorIndex = in.readInt();
+        ordinal = in.readInt();
+        sequence = in.readLong();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        InFlightItemKey that = (InFlightItemKey) o;
+        return processorIndex == that.processorIndex && sequence == that.sequence;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * processorIndex + Long.hashCode(sequence);
+    }
+
+    @Override
+    public String toString() {
+        return "InFlightItemKey{processorIndex=" + processorIndex + ", ordinal=" + ordinal
+                + ", sequence=" + sequence + ", partitionKey=" + partitionKey + '}';
+    }
+}
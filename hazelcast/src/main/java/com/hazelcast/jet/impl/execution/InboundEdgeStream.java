@@ -46,6 +46,23 @@ public interface InboundEdgeStream {
     @Nonnull
     ProgressState drainTo(@Nonnull Consumer<Object> dest);
 
+    /**
+     * Passes the items from the last {@link #drainTo} call that the stream
+     * received after it forwarded the barrier of an unaligned snapshot, from
+     * the queues that didn't deliver the barrier yet. These items are also
+     * passed to the {@code drainTo} consumer.
+     */
+    default void drainInFlightItems(@Nonnull Consumer<Object> dest) {
+    }
+
+    /**
+     * Returns true if the stream forwarded the barrier of an unaligned
+     * snapshot and some of its queues didn't deliver it yet.
+     */
+    default boolean isCapturingInFlightItems() {
+        return false;
+    }
+
     /**
      * Returns true after all the input queues are done.
      */
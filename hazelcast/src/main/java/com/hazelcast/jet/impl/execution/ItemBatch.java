@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Several items passed in a single slot of a local conveyor queue by the
+ * {@link BatchingConveyorCollector}. The inbound edge stream passes the
+ * items to the processor one by one, in the same order. It never travels
+ * over the network.
+ */
+final class ItemBatch {
+
+    final Object[] items;
+
+    ItemBatch(@Nonnull Object[] items) {
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemBatch{size=" + items.length + '}';
+    }
+}
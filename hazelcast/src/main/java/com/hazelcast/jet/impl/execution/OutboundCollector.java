@@ -41,6 +41,15 @@ public interface OutboundCollector {
         return offer(item);
     }
 
+    /**
+     * Offers the items buffered by this collector, if any, to the downstream
+     * queues. Returns a done state when no items remain buffered.
+     * If the collector cannot complete the operation, the call must be retried later.
+     */
+    default ProgressState flush() {
+        return ProgressState.WAS_ALREADY_DONE;
+    }
+
     /**
      * Offers an item with a known partition id
      */
@@ -110,6 +119,15 @@ public interface OutboundCollector {
             }
             return progTracker.toProgressState();
         }
+
+        @Override
+        public ProgressState flush() {
+            progTracker.reset();
+            for (OutboundCollector collector : collectors) {
+                progTracker.mergeWith(collector.flush());
+            }
+            return progTracker.toProgressState();
+        }
     }
 
     class RoundRobin extends Composite {
@@ -258,6 +258,26 @@ public class OutboxImpl implements OutboxInternal {
         return offerInternal(allEdgesAndSnapshot, item);
     }
 
+    final boolean offerToSnapshotEdge(Object item) {
+        return offerInternal(snapshotEdge, item);
+    }
+
+    /**
+     * Flushes the items buffered in the outbound collectors, see {@link
+     * OutboundCollector#flush()}. Returns true if no items remain buffered.
+     */
+    final boolean flush() {
+        boolean done = true;
+        for (OutboundCollector outstream : outstreams) {
+            ProgressState result = outstream.flush();
+            if (result.isMadeProgress()) {
+                progTracker.madeProgress();
+            }
+            done &= result.isDone();
+        }
+        return done;
+    }
+
     @Override
     public long lastForwardedWm(byte wmKey) {
         Counter counter = lastForwardedWm.get(wmKey);
@@ -71,6 +71,13 @@ enum ProcessorState {
      */
     EMIT_BARRIER,
 
+    /**
+     * Waiting for the outbox to accept the items captured in the input queues
+     * during an unaligned snapshot and then the {@link SnapshotBarrier} to the
+     * snapshot queue.
+     */
+    EMIT_SNAPSHOT_BARRIER,
+
     /**
      * Making calls to {@link Processor#snapshotCommitFinish(boolean)} until it
      * returns {@code true} and then return to {@link #PROCESS_INBOX}. Used
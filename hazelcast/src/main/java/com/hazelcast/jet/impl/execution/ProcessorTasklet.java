@@ -50,10 +50,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.TreeMap;
@@ -75,6 +77,7 @@ import static com.hazelcast.jet.impl.execution.ProcessorState.COMPLETE;
 import static com.hazelcast.jet.impl.execution.ProcessorState.COMPLETE_EDGE;
 import static com.hazelcast.jet.impl.execution.ProcessorState.EMIT_BARRIER;
 import static com.hazelcast.jet.impl.execution.ProcessorState.EMIT_DONE_ITEM;
+import static com.hazelcast.jet.impl.execution.ProcessorState.EMIT_SNAPSHOT_BARRIER;
 import static com.hazelcast.jet.impl.execution.ProcessorState.END;
 import static com.hazelcast.jet.impl.execution.ProcessorState.NULLARY_PROCESS;
 import static com.hazelcast.jet.impl.execution.ProcessorState.PRE_EMIT_DONE_ITEM;
@@ -89,6 +92,7 @@ import static com.hazelcast.jet.impl.execution.ProcessorState.WAITING_FOR_SNAPSH
 import static com.hazelcast.jet.impl.execution.WatermarkCoalescer.IDLE_MESSAGE;
 import static com.hazelcast.jet.impl.execution.WatermarkCoalescer.IDLE_MESSAGE_TIME;
 import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
+import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.impl.util.PrefixedLogger.prefix;
 import static com.hazelcast.jet.impl.util.PrefixedLogger.prefixedLogger;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
@@ -151,6 +155,21 @@ public class ProcessorTasklet implements Tasklet {
     // Once a terminal snapshot barrier is reached, this is always true.
     private boolean waitForAllBarriers;
 
+    // Non-null if the processor takes unaligned snapshots, see ClusterProperty.JET_SNAPSHOT_UNALIGNED
+    private final InFlightItemCapture inFlightItemCapture;
+    // Tells whether the current snapshot barrier is emitted to the edges before it's received from all ordinals
+    private boolean unalignedSnapshot;
+    // True after the state was saved for an unaligned snapshot and until the barrier is received from all
+    // ordinals. The items received in the meantime on the ordinals without the barrier are written to the
+    // snapshot, besides being processed.
+    private boolean capturingInFlightItems;
+    private final Deque<Entry<InFlightItemKey, Object>> pendingInFlightItems = new ArrayDeque<>();
+    // the in-flight items of an unaligned snapshot, found while restoring from it
+    private final List<Entry<InFlightItemKey, Object>> restoredInFlightItems = new ArrayList<>();
+    // the restored in-flight items, processed before any other input
+    private final Deque<Entry<InFlightItemKey, Object>> inFlightItemsToReplay = new ArrayDeque<>();
+    private boolean replayingInFlightItems;
+
     private final AtomicLongArray receivedCounts;
     private final AtomicLongArray receivedBatches;
     private final AtomicLongArray emittedCounts;
@@ -161,10 +180,12 @@ public class ProcessorTasklet implements Tasklet {
     @Probe(name = MetricNames.QUEUES_CAPACITY)
     private final Counter queuesCapacity = SwCounter.newSwCounter();
 
+    @Probe(name = MetricNames.SNAPSHOT_IN_FLIGHT_ITEMS)
+    private final Counter snapshotInFlightItems = SwCounter.newSwCounter();
+
     private final Consumer<Object> addToInboxFunction = inbox.queue()::add;
     private Future<?> closeFuture;
 
-    @SuppressWarnings("checkstyle:ExecutableStatementCount")
     public ProcessorTasklet(
             @Nonnull Context context,
             @Nonnull ExecutorService executionService,
@@ -175,6 +196,28 @@ public class ProcessorTasklet implements Tasklet {
             @Nonnull SnapshotContext ssContext,
             @Nullable OutboundCollector ssCollector,
             boolean isSource
+    ) {
+        this(context, executionService, serializationService, processor, instreams, outstreams, ssContext,
+                ssCollector, isSource, null);
+    }
+
+    /**
+     * @param inFlightItemCapture non-null if the processor takes unaligned
+     *      snapshots. The inbound streams must then forward the barriers
+     *      of non-terminal snapshots without aligning them.
+     */
+    @SuppressWarnings("checkstyle:ExecutableStatementCount")
+    public ProcessorTasklet(
+            @Nonnull Context context,
+            @Nonnull ExecutorService executionService,
+            @Nonnull SerializationService serializationService,
+            @Nonnull Processor processor,
+            @Nonnull List<? extends InboundEdgeStream> instreams,
+            @Nonnull List<? extends OutboundEdgeStream> outstreams,
+            @Nonnull SnapshotContext ssContext,
+            @Nullable OutboundCollector ssCollector,
+            boolean isSource,
+            @Nullable InFlightItemCapture inFlightItemCapture
     ) {
         Preconditions.checkNotNull(processor, "processor");
         this.context = context;
@@ -202,6 +245,7 @@ public class ProcessorTasklet implements Tasklet {
         state = processingState();
         pendingSnapshotId1 = pendingSnapshotId2 = ssContext.activeSnapshotIdPhase1() + 1;
         waitForAllBarriers = ssContext.processingGuarantee() == ProcessingGuarantee.EXACTLY_ONCE;
+        this.inFlightItemCapture = waitForAllBarriers && ssCollector != null ? inFlightItemCapture : null;
 
         coalescers = new KeyedWatermarkCoalescer(instreams.size());
     }
@@ -289,6 +333,8 @@ public class ProcessorTasklet implements Tasklet {
         progTracker.notDone();
         outbox.reset();
         stateMachineStep();
+        // don't keep the items batched by the outbound collectors until the next call
+        outbox.flush();
         return progTracker.toProgressState();
     }
 
@@ -347,6 +393,11 @@ public class ProcessorTasklet implements Tasklet {
                         : doWithClassLoader(context.classLoader(), () -> processor.completeEdge(currInstream.ordinal()))) {
                     assert !outbox.hasUnfinishedItem() || !isSnapshotInbox() :
                             "outbox has an unfinished item after successful finishSnapshotRestore()";
+                    if (isSnapshotInbox() && !restoredInFlightItems.isEmpty()) {
+                        restoredInFlightItems.sort(Entry.comparingByKey());
+                        inFlightItemsToReplay.addAll(restoredInFlightItems);
+                        restoredInFlightItems.clear();
+                    }
                     progTracker.madeProgress();
                     state = processingState();
                 }
@@ -370,19 +421,33 @@ public class ProcessorTasklet implements Tasklet {
 
             case EMIT_BARRIER:
                 assert currentBarrier != null : "currentBarrier == null";
-                if (outbox.offerToEdgesAndSnapshot(currentBarrier)) {
+                if (unalignedSnapshot
+                        ? outbox.offer(currentBarrier)
+                        : outbox.offerToEdgesAndSnapshot(currentBarrier)) {
                     progTracker.madeProgress();
                     if (currentBarrier.isTerminal()) {
                         state = WAITING_FOR_SNAPSHOT_COMPLETED;
-                    } else {
-                        currentBarrier = null;
-                        receivedBarriers.clear();
-                        pendingSnapshotId1++;
+                    } else if (unalignedSnapshot) {
+                        // the barrier goes to the snapshot queue after the in-flight items
+                        capturingInFlightItems = true;
                         state = processingState();
+                    } else {
+                        barrierEmitted();
                     }
                 }
                 return;
 
+            case EMIT_SNAPSHOT_BARRIER:
+                assert currentBarrier != null : "currentBarrier == null";
+                if (offerInFlightItems() && outbox.offerToSnapshotEdge(currentBarrier)) {
+                    progTracker.madeProgress();
+                    capturingInFlightItems = false;
+                    unalignedSnapshot = false;
+                    inFlightItemCapture.reset();
+                    barrierEmitted();
+                }
+                return;
+
             case SNAPSHOT_COMMIT_FINISH__PROCESS, SNAPSHOT_COMMIT_FINISH__COMPLETE, SNAPSHOT_COMMIT_FINISH__FINAL:
                 if (ssContext.isExportOnly() ||
                         doWithClassLoader(context.classLoader(),
@@ -479,6 +544,9 @@ public class ProcessorTasklet implements Tasklet {
         }
 
         if (inbox.isEmpty()) {
+            if (!offerInFlightItems()) {
+                return;
+            }
             fillInbox();
         }
         if (!inbox.isEmpty()) {
@@ -491,12 +559,25 @@ public class ProcessorTasklet implements Tasklet {
 
         if (inbox.isEmpty()) {
             // there is either snapshot or instream is done, not both
-            if (currInstream != null && currInstream.isDone()) {
+            if (currInstream != null && !replayingInFlightItems && currInstream.isDone()) {
                 state = COMPLETE_EDGE;
                 progTracker.madeProgress();
+            } else if (capturingInFlightItems) {
+                if (isInFlightCaptureDone()) {
+                    state = EMIT_SNAPSHOT_BARRIER;
+                    progTracker.madeProgress();
+                } else {
+                    state = PROCESS_WATERMARKS;
+                }
             } else if (numActiveOrdinals > 0
                     && receivedBarriers.cardinality() == numActiveOrdinals) {
                 // we have an empty inbox and received the current snapshot barrier from all active ordinals
+                unalignedSnapshot = canTakeUnalignedSnapshot();
+                state = SAVE_SNAPSHOT;
+            } else if (canTakeUnalignedSnapshot()) {
+                // we have an empty inbox and received the current snapshot barrier from some ordinals,
+                // the rest of the input is captured after saving the state
+                unalignedSnapshot = true;
                 state = SAVE_SNAPSHOT;
             } else if (numActiveOrdinals == 0) {
                 progTracker.madeProgress();
@@ -508,6 +589,12 @@ public class ProcessorTasklet implements Tasklet {
     }
 
     private void complete() {
+        if (capturingInFlightItems) {
+            // all the input is done, so all the in-flight items were captured
+            state = EMIT_SNAPSHOT_BARRIER;
+            progTracker.madeProgress();
+            return;
+        }
         // check ssContext to see if a snapshot phase should be executed
         if (pendingSnapshotId1 == pendingSnapshotId2) {
             long currSnapshotId1 = ssContext.activeSnapshotIdPhase1();
@@ -560,14 +647,21 @@ public class ProcessorTasklet implements Tasklet {
             return;
         }
 
+        replayingInFlightItems = false;
+        if (!inFlightItemsToReplay.isEmpty()) {
+            fillInboxWithInFlightItems();
+            return;
+        }
+
         final InboundEdgeStream first = instreamCursor.value();
         ProgressState result;
         do {
             currInstream = instreamCursor.value();
             result = NO_PROGRESS;
 
-            // skip ordinals where a snapshot barrier has already been received
-            if (waitForAllBarriers && receivedBarriers.get(currInstream.ordinal())) {
+            // skip ordinals where a snapshot barrier has already been received,
+            // unless the state was already saved for an unaligned snapshot
+            if (waitForAllBarriers && receivedBarriers.get(currInstream.ordinal()) && !capturingInFlightItems) {
                 instreamCursor.advance();
                 continue;
             }
@@ -597,6 +691,11 @@ public class ProcessorTasklet implements Tasklet {
                 // in the inbox, there must be no normal items there, and vice versa.
                 assert pendingEdgeWatermark.isEmpty() && pendingGlobalWatermarks.isEmpty();
                 coalescers.observeEvent(currInstream.ordinal());
+                if (capturingInFlightItems) {
+                    captureInFlightItems();
+                } else if (isSnapshotInbox()) {
+                    extractRestoredInFlightItems();
+                }
             }
 
             if (result.isDone()) {
@@ -620,6 +719,112 @@ public class ProcessorTasklet implements Tasklet {
         }
     }
 
+    private void barrierEmitted() {
+        currentBarrier = null;
+        receivedBarriers.clear();
+        pendingSnapshotId1++;
+        state = processingState();
+    }
+
+    /**
+     * Returns true if the processor can save its state for the current
+     * snapshot without waiting for the barrier from all ordinals. The
+     * barriers are always aligned while restoring from a snapshot, because
+     * the snapshot restoring edge has its own priority group.
+     */
+    private boolean canTakeUnalignedSnapshot() {
+        return inFlightItemCapture != null
+                && currentBarrier != null
+                && !currentBarrier.isTerminal()
+                && instreamGroupQueue.isEmpty();
+    }
+
+    private boolean isInFlightCaptureDone() {
+        if (receivedBarriers.cardinality() != numActiveOrdinals) {
+            return false;
+        }
+        for (InboundEdgeStream instream : instreams) {
+            if (instream.isCapturingInFlightItems()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the items in the inbox received after the state was saved for an
+     * unaligned snapshot, but before the barrier, to the pending in-flight
+     * items. If the barrier was already received from the current ordinal,
+     * only the items from its queues that didn't deliver the barrier yet are
+     * in-flight.
+     */
+    private void captureInFlightItems() {
+        int ordinal = currInstream.ordinal();
+        if (receivedBarriers.get(ordinal)) {
+            currInstream.drainInFlightItems(item -> captureInFlightItem(ordinal, item));
+        } else {
+            for (Object item : inbox.queue()) {
+                captureInFlightItem(ordinal, item);
+            }
+        }
+    }
+
+    private void captureInFlightItem(int ordinal, Object item) {
+        pendingInFlightItems.add(entry(inFlightItemCapture.keyFor(ordinal, item), item));
+    }
+
+    private boolean offerInFlightItems() {
+        for (Entry<InFlightItemKey, Object> en; (en = pendingInFlightItems.peek()) != null; ) {
+            if (!outbox.offerToSnapshot(en.getKey(), en.getValue())) {
+                return false;
+            }
+            pendingInFlightItems.remove();
+            snapshotInFlightItems.inc();
+        }
+        return true;
+    }
+
+    /**
+     * Moves the in-flight items from the snapshot restoring inbox to the
+     * items to replay, the processor doesn't restore them.
+     */
+    @SuppressWarnings("unchecked")
+    private void extractRestoredInFlightItems() {
+        inbox.queue().removeIf(item -> {
+            if (item instanceof Entry<?, ?> en && en.getKey() instanceof InFlightItemKey) {
+                restoredInFlightItems.add((Entry<InFlightItemKey, Object>) en);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Fills the inbox with the next restored in-flight items received on the
+     * same ordinal.
+     */
+    private void fillInboxWithInFlightItems() {
+        int ordinal = inFlightItemsToReplay.peek().getKey().ordinal();
+        currInstream = null;
+        for (InboundEdgeStream instream : instreams) {
+            if (instream.ordinal() == ordinal) {
+                currInstream = instream;
+            }
+        }
+        if (currInstream == null) {
+            throw new JetException("The snapshot contains in-flight items for unknown ordinal " + ordinal);
+        }
+        for (Entry<InFlightItemKey, Object> en;
+             inbox.size() < OUTBOX_BATCH_SIZE
+                     && (en = inFlightItemsToReplay.peek()) != null
+                     && en.getKey().ordinal() == ordinal; ) {
+            inbox.queue().add(en.getValue());
+            inFlightItemsToReplay.remove();
+        }
+        replayingInFlightItems = true;
+        progTracker.madeProgress();
+    }
+
     private CircularListCursor<InboundEdgeStream> popInstreamGroup() {
         return Optional.ofNullable(instreamGroupQueue.poll())
                        .map(CircularListCursor::new)
@@ -173,6 +173,18 @@ public class SnapshotContext {
         return SnapshotFlags.isExportOnly(snapshotFlags);
     }
 
+    public boolean isExport() {
+        return SnapshotFlags.isExport(snapshotFlags);
+    }
+
+    /**
+     * Returns whether the current snapshot only contains the changes since
+     * the previous one, see {@link SnapshotFlags#isIncremental(int)}.
+     */
+    public boolean isIncremental() {
+        return SnapshotFlags.isIncremental(snapshotFlags);
+    }
+
     boolean isLastPhase1Successful() {
         return lastPhase1Successful;
     }
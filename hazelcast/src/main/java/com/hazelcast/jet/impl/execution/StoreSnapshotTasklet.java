@@ -22,7 +22,6 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.JetException;
-import com.hazelcast.jet.accumulator.LongLongAccumulator;
 import com.hazelcast.jet.core.metrics.MetricTags;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriter;
 import com.hazelcast.jet.impl.util.ProgressState;
@@ -35,11 +34,15 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_BYTES;
+import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_DURATION;
 import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_KEYS;
+import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_REMOVED_KEYS;
+import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_UNCHANGED_KEYS;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.DONE;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.DRAIN;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.FLUSH;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.REACHED_BARRIER;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class StoreSnapshotTasklet implements Tasklet {
 
@@ -53,11 +56,12 @@ public class StoreSnapshotTasklet implements Tasklet {
 
     private final AsyncSnapshotWriter ssWriter;
     private final ProgressTracker progTracker = new ProgressTracker();
-    private final AtomicReference<LongLongAccumulator> metrics = new AtomicReference<>(new LongLongAccumulator());
+    private final AtomicReference<SnapshotMetrics> metrics = new AtomicReference<>(new SnapshotMetrics(0, 0, 0, 0, 0));
     private State state = DRAIN;
     private boolean hasReachedBarrier;
     private Entry<Data, Data> pendingEntry;
     private Consumer<Object> addToInboxFunction;
+    private long snapshotStartNanos = Long.MIN_VALUE;
 
     public StoreSnapshotTasklet(
             SnapshotContext snapshotContext,
@@ -134,8 +138,10 @@ public class StoreSnapshotTasklet implements Tasklet {
                 long keys = ssWriter.getTotalKeys();
                 long chunks = ssWriter.getTotalChunks();
                 snapshotContext.phase1DoneForTasklet(bytes, keys, chunks);
-                metrics.set(new LongLongAccumulator(bytes, keys));
+                metrics.set(new SnapshotMetrics(bytes, keys, ssWriter.getTotalUnchangedKeys(),
+                        ssWriter.getTotalRemovedKeys(), NANOSECONDS.toMillis(System.nanoTime() - snapshotStartNanos)));
                 ssWriter.resetStats();
+                snapshotStartNanos = Long.MIN_VALUE;
                 pendingSnapshotId++;
                 hasReachedBarrier = false;
                 state = DRAIN;
@@ -149,6 +155,9 @@ public class StoreSnapshotTasklet implements Tasklet {
     }
 
     private boolean addToInbox(Object o) {
+        if (snapshotStartNanos == Long.MIN_VALUE) {
+            snapshotStartNanos = System.nanoTime();
+        }
         if (o instanceof SnapshotBarrier barrier) {
             assert pendingSnapshotId == barrier.snapshotId() : "Unexpected barrier, expected was " +
                     pendingSnapshotId + ", but barrier was " + barrier.snapshotId() + ", this=" + this;
@@ -166,9 +175,13 @@ public class StoreSnapshotTasklet implements Tasklet {
     public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
         descriptor = descriptor.withTag(MetricTags.VERTEX, vertexName);
 
-        LongLongAccumulator metricValues = metrics.get();
-        context.collect(descriptor, SNAPSHOT_BYTES, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.get1());
-        context.collect(descriptor, SNAPSHOT_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.get2());
+        SnapshotMetrics metricValues = metrics.get();
+        context.collect(descriptor, SNAPSHOT_BYTES, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.bytes());
+        context.collect(descriptor, SNAPSHOT_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.keys());
+        context.collect(descriptor, SNAPSHOT_UNCHANGED_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT,
+                metricValues.unchangedKeys());
+        context.collect(descriptor, SNAPSHOT_REMOVED_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.removedKeys());
+        context.collect(descriptor, SNAPSHOT_DURATION, ProbeLevel.INFO, ProbeUnit.MS, metricValues.durationMillis());
     }
 
     @Override
@@ -176,6 +189,13 @@ public class StoreSnapshotTasklet implements Tasklet {
         return StoreSnapshotTasklet.class.getSimpleName() + '{' + vertexName + '}';
     }
 
+    /**
+     * The metrics of the last snapshot, replaced as a whole since they're
+     * read by the metrics collector thread.
+     */
+    private record SnapshotMetrics(long bytes, long keys, long unchangedKeys, long removedKeys, long durationMillis) {
+    }
+
     enum State {
         /** Draining the queue, flushing as necessary. */
         DRAIN,
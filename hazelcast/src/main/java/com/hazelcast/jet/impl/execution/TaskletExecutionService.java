@@ -59,12 +59,14 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.util.executor.ExecutorType.CACHED;
 import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_WORK_STEALING;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MAX_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MIN_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS;
@@ -72,6 +74,7 @@ import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATI
 import static java.lang.Thread.currentThread;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
@@ -80,6 +83,17 @@ public class TaskletExecutionService {
 
     public static final String TASKLET_INIT_CLOSE_EXECUTOR_NAME = "jet:tasklet_initClose";
 
+    // the period over which the utilization of a cooperative worker is computed
+    private static final long UTILIZATION_WINDOW_NANOS = MILLISECONDS.toNanos(100);
+    // how often an idle cooperative worker tries to steal a tasklet
+    private static final long STEAL_INTERVAL_NANOS = MILLISECONDS.toNanos(10);
+    // a moved tasklet isn't moved again for this long, to avoid ping-pong
+    private static final long MIN_TASKLET_RESIDENCE_NANOS = MILLISECONDS.toNanos(1000);
+    // a worker with utilization below this percentage tries to steal
+    private static final int THIEF_MAX_UTILIZATION_PERCENT = 20;
+    // a worker with utilization at or above this percentage can be stolen from
+    private static final int VICTIM_MIN_UTILIZATION_PERCENT = 80;
+
     private final ExecutorService blockingTaskletExecutor = newCachedThreadPool(new BlockingTaskThreadFactory());
     private final ExecutionService hzExecutionService;
     private final CooperativeWorker[] cooperativeWorkers;
@@ -93,6 +107,9 @@ public class TaskletExecutionService {
     private final Object lock = new Object();
     private final IdleStrategy idlerCooperative;
     private final IdleStrategy idlerNonCooperative;
+    private final boolean workStealing;
+    // whether the cooperative workers time their iterations to compute the utilization
+    private final boolean trackUtilization;
 
     public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties) {
         hzExecutionService = nodeEngine.getExecutionService();
@@ -110,6 +127,9 @@ public class TaskletExecutionService {
             properties, JET_IDLE_NONCOOPERATIVE_MIN_MICROSECONDS, JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS
         );
 
+        workStealing = properties.getBoolean(JET_COOPERATIVE_WORK_STEALING);
+        trackUtilization = workStealing || DEBUG.isEnabled(nodeEngine.getMetricsRegistry().minimumLevel());
+
         Arrays.setAll(cooperativeWorkers, i -> new CooperativeWorker());
         Arrays.setAll(cooperativeThreadPool, i -> new CooperativeWorkerThread(cooperativeWorkers[i],
                 String.format("hz.%s.jet.cooperative.thread-%d", hzInstanceName, i)));
@@ -342,6 +362,23 @@ public class TaskletExecutionService {
         private final CopyOnWriteArrayList<TaskletTracker> trackers;
         @Probe(name = "iterationCount")
         private final Counter iterationCount = SwCounter.newSwCounter();
+        /**
+         * Percentage of time in the last utilization window the worker spent
+         * in iterations in which some tasklet made progress. Only computed if
+         * work stealing or the debug metrics are enabled.
+         */
+        @Probe(name = "utilizationPercent", level = DEBUG)
+        private volatile long utilizationPercent;
+        @Probe(name = "stolenTaskletCount")
+        private final Counter stolenTaskletCount = MwCounter.newMwCounter();
+
+        // an idle worker that asked this worker to hand over a tasklet
+        private final AtomicReference<CooperativeWorker> stealRequest = new AtomicReference<>();
+        // guarded by this, set when the worker no longer accepts stolen tasklets
+        private boolean terminated;
+        private long busyNanos;
+        private long windowStartNanos;
+        private long nextStealAttemptNanos;
 
         private final ProgressTracker progressTracker = new ProgressTracker();
         // prevent lambda allocation on each iteration
@@ -364,13 +401,29 @@ public class TaskletExecutionService {
 
             IdleStrategy idlerLocal = idlerCooperative;
             long idleCount = 0;
+            windowStartNanos = System.nanoTime();
+            nextStealAttemptNanos = windowStartNanos;
 
             while (!isShutdown) {
                 finestLogEnabled = logger.isFinestEnabled();
+                if (workStealing) {
+                    handOverStolenTasklet();
+                }
                 progressTracker.reset();
+                long iterationStart = trackUtilization ? System.nanoTime() : 0;
                 // garbage-free iteration -- relies on implementation in COWArrayList that doesn't use an Iterator
                 trackers.forEach(runTasklet);
                 iterationCount.inc();
+                long now = 0;
+                if (trackUtilization) {
+                    now = System.nanoTime();
+                    if (progressTracker.isMadeProgress()) {
+                        busyNanos += now - iterationStart;
+                    }
+                    if (now - windowStartNanos >= UTILIZATION_WINDOW_NANOS) {
+                        closeUtilizationWindow(now);
+                    }
+                }
                 if (!progressTracker.isMadeProgress() && newTaskletSemaphore.drainPermits() > 0) {
                     progressTracker.madeProgress();
                 }
@@ -380,22 +433,132 @@ public class TaskletExecutionService {
                     if (trackers.isEmpty()) {
                         newTaskletSemaphore.drainPermits();
                         if (trackers.isEmpty() && !isShutdown) {
+                            utilizationPercent = 0;
                             try {
-                                newTaskletSemaphore.acquire();
+                                awaitNewTasklet();
                             } catch (InterruptedException e) {
                                 logger.severe("Cooperative worker interrupted", e);
                                 return;
                             }
+                            windowStartNanos = System.nanoTime();
+                            busyNanos = 0;
                         }
                     } else {
+                        // the utilization is tracked when work stealing is enabled, so `now` is set
+                        if (workStealing) {
+                            requestTasklet(now);
+                        }
                         idlerLocal.idle(++idleCount);
                     }
                 }
             }
+            synchronized (this) {
+                terminated = true;
+            }
             trackers.forEach(t -> t.executionTracker.taskletDone());
             trackers.clear();
         }
 
+        private void awaitNewTasklet() throws InterruptedException {
+            if (!workStealing) {
+                newTaskletSemaphore.acquire();
+                return;
+            }
+            // a worker without tasklets is the best candidate to steal one
+            while (trackers.isEmpty() && !isShutdown) {
+                requestTasklet(System.nanoTime());
+                if (newTaskletSemaphore.tryAcquire(STEAL_INTERVAL_NANOS, NANOSECONDS)) {
+                    return;
+                }
+            }
+        }
+
+        private void closeUtilizationWindow(long now) {
+            utilizationPercent = busyNanos * 100 / (now - windowStartNanos);
+            busyNanos = 0;
+            windowStartNanos = now;
+            for (TaskletTracker t : trackers) {
+                t.recentProgress = t.progressCount;
+                t.progressCount = 0;
+            }
+        }
+
+        /**
+         * Asks the busiest other worker to hand over one of its tasklets, if
+         * this worker is mostly idle.
+         */
+        private void requestTasklet(long now) {
+            if (now - nextStealAttemptNanos < 0 || utilizationPercent >= THIEF_MAX_UTILIZATION_PERCENT) {
+                return;
+            }
+            nextStealAttemptNanos = now + STEAL_INTERVAL_NANOS;
+            CooperativeWorker victim = null;
+            for (CooperativeWorker w : cooperativeWorkers) {
+                if (w != this
+                        && w.trackers.size() > 1
+                        && w.utilizationPercent >= VICTIM_MIN_UTILIZATION_PERCENT
+                        && (victim == null || w.utilizationPercent > victim.utilizationPercent)) {
+                    victim = w;
+                }
+            }
+            // The victim hands the tasklet over on its own thread between two
+            // iterations, so the tasklet is never called by two threads at once.
+            // The new tasklet is signalled through our semaphore.
+            if (victim != null) {
+                victim.stealRequest.compareAndSet(null, this);
+            }
+        }
+
+        /**
+         * Moves one tasklet to the worker that requested it, if there's a
+         * request. The tasklet that made the most progress in the last
+         * utilization window stays, it's likely to have the hottest data in
+         * the CPU cache. From the rest, the one with the most progress is
+         * moved, skipping those that were moved recently.
+         */
+        private void handOverStolenTasklet() {
+            // a plain read first, to not write to the shared cache line in every iteration
+            if (stealRequest.get() == null) {
+                return;
+            }
+            CooperativeWorker thief = stealRequest.getAndSet(null);
+            if (thief == null || trackers.size() < 2) {
+                return;
+            }
+            long now = System.nanoTime();
+            TaskletTracker hottest = null;
+            TaskletTracker candidate = null;
+            for (TaskletTracker t : trackers) {
+                if (hottest == null || t.recentProgress > hottest.recentProgress) {
+                    if (hottest != null && now - hottest.lastMovedNanos >= MIN_TASKLET_RESIDENCE_NANOS
+                            && (candidate == null || hottest.recentProgress > candidate.recentProgress)) {
+                        candidate = hottest;
+                    }
+                    hottest = t;
+                } else if (now - t.lastMovedNanos >= MIN_TASKLET_RESIDENCE_NANOS
+                        && (candidate == null || t.recentProgress > candidate.recentProgress)) {
+                    candidate = t;
+                }
+            }
+            if (candidate == null) {
+                return;
+            }
+            synchronized (thief) {
+                if (thief.terminated || isShutdown) {
+                    return;
+                }
+                trackers.remove(candidate);
+                candidate.lastMovedNanos = now;
+                candidate.recentProgress = 0;
+                candidate.progressCount = 0;
+                thief.trackers.add(candidate);
+            }
+            thief.stolenTaskletCount.inc();
+            thief.newTaskletSemaphore.release();
+            LockSupport.unpark(thief.myThread);
+            logger.finest("Tasklet %s moved to an idle cooperative worker", candidate.tasklet);
+        }
+
         private void runTasklet(TaskletTracker t) {
             long start = 0;
             if (finestLogEnabled) {
@@ -405,6 +568,9 @@ public class TaskletExecutionService {
                 myThread.setContextClassLoader(t.jobClassLoader);
                 contextContainer.setContext(t.tasklet.getProcessorContext());
                 final ProgressState result = t.tasklet.call();
+                if (result.isMadeProgress()) {
+                    t.progressCount++;
+                }
                 if (result.isDone()) {
                     dismissTasklet(t);
                 }
@@ -439,6 +605,11 @@ public class TaskletExecutionService {
         final ExecutionTracker executionTracker;
         final ClassLoader jobClassLoader;
 
+        // used for work stealing, accessed only by the worker running the tasklet
+        long progressCount;
+        long recentProgress;
+        long lastMovedNanos = Long.MIN_VALUE / 2;
+
         TaskletTracker(Tasklet tasklet, ExecutionTracker executionTracker, ClassLoader jobClassLoader) {
             this.tasklet = tasklet;
             this.executionTracker = executionTracker;
@@ -22,6 +22,7 @@ import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationServiceAware;
+import com.hazelcast.internal.util.collection.Int2ObjectHashMap;
 import com.hazelcast.internal.util.concurrent.ConcurrentConveyor;
 import com.hazelcast.internal.util.concurrent.OneToOneConcurrentArrayQueue;
 import com.hazelcast.internal.util.concurrent.QueuedPipe;
@@ -31,15 +32,18 @@ import com.hazelcast.jet.config.JetConfig;
 import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.config.ProcessingGuarantee;
 import com.hazelcast.jet.core.Edge.RoutingPolicy;
+import com.hazelcast.jet.core.Partitioner;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.TopologyChangedException;
 import com.hazelcast.jet.function.RunnableEx;
 import com.hazelcast.jet.impl.JetServiceBackend;
 import com.hazelcast.jet.impl.JobClassLoaderService;
+import com.hazelcast.jet.impl.execution.BatchingConveyorCollector;
 import com.hazelcast.jet.impl.execution.ConcurrentInboundEdgeStream;
 import com.hazelcast.jet.impl.execution.ConveyorCollector;
 import com.hazelcast.jet.impl.execution.ConveyorCollectorWithPartition;
+import com.hazelcast.jet.impl.execution.InFlightItemCapture;
 import com.hazelcast.jet.impl.execution.InboundEdgeStream;
 import com.hazelcast.jet.impl.execution.OutboundCollector;
 import com.hazelcast.jet.impl.execution.OutboundEdgeStream;
@@ -51,6 +55,9 @@ import com.hazelcast.jet.impl.execution.StoreSnapshotTasklet;
 import com.hazelcast.jet.impl.execution.Tasklet;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcSupplierCtx;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
+import com.hazelcast.jet.impl.processor.ProcessorWrapper;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl;
 import com.hazelcast.jet.impl.util.ImdgUtil;
 import com.hazelcast.jet.impl.util.ObjectWithPartitionId;
@@ -96,6 +103,8 @@ import static com.hazelcast.jet.impl.util.PrefixedLogger.prefix;
 import static com.hazelcast.jet.impl.util.PrefixedLogger.prefixedLogger;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.memoize;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_LOCAL_EDGE_MAX_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_UNALIGNED;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.JOB_OFFLOADABLE_EXECUTOR;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
@@ -264,6 +273,15 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                             processorClassLoader
                     );
 
+                    Processor unwrapped = processor;
+                    while (unwrapped instanceof ProcessorWrapper wrapper) {
+                        unwrapped = wrapper.getWrapped();
+                    }
+                    if (unwrapped instanceof SpillingProcessor spillingProcessor) {
+                        // needed before the tasklets are split to cooperative and blocking ones
+                        spillingProcessor.setSpillDirectory(SpillFile.spillDirectory(context));
+                    }
+
                     List<OutboundEdgeStream> outboundStreams = createOutboundEdgeStreams(
                             vertex, localProcessorIdx);
                     List<InboundEdgeStream> inboundStreams = createInboundEdgeStreams(
@@ -277,10 +295,14 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                     boolean isSource = vertex.inboundEdges().stream().allMatch(EdgeDef::isSnapshotRestoreEdge)
                             && !vertex.isSnapshotVertex();
 
+                    InFlightItemCapture inFlightItemCapture = isUnaligned(vertex)
+                            ? createInFlightItemCapture(vertex, globalProcessorIndex)
+                            : null;
+
                     ProcessorTasklet processorTasklet = new ProcessorTasklet(context,
                             nodeEngine.getExecutionService().getExecutor(TASKLET_INIT_CLOSE_EXECUTOR_NAME),
                             jobSerializationService, processor, inboundStreams, outboundStreams, snapshotContext,
-                            snapshotCollector, isSource);
+                            snapshotCollector, isSource, inFlightItemCapture);
                     tasklets.add(processorTasklet);
                     this.processors.add(processor);
                     localProcessorIdx++;
@@ -490,8 +512,10 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
         }
         final IPartitionService partitionService = nodeEngine.getPartitionService();
         stream(vertices)
-                .map(VertexDef::outboundEdges)
-                .flatMap(List::stream)
+                // the inbound partitioners of the unaligned vertices compute the partitions of the in-flight items
+                .flatMap(v -> isUnaligned(v)
+                        ? Stream.concat(v.outboundEdges().stream(), v.inboundEdges().stream())
+                        : v.outboundEdges().stream())
                 .map(EdgeDef::partitioner)
                 .filter(Objects::nonNull)
                 .forEach(partitioner -> {
@@ -609,7 +633,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
         if (edge.routingPolicy() == RoutingPolicy.ISOLATED) {
             OutboundCollector[] localCollectors = IntStream.range(0, downstreamParallelism)
                     .filter(i -> i % upstreamParallelism == processorIndex % downstreamParallelism)
-                    .mapToObj(i -> new ConveyorCollector(localConveyors[i],
+                    .mapToObj(i -> newLocalConveyorCollector(edge, localConveyors[i],
                             processorIndex / downstreamParallelism, null))
                     .toArray(OutboundCollector[]::new);
             return compositeCollector(localCollectors, edge, totalPartitionCount, true, false);
@@ -617,12 +641,23 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
             OutboundCollector[] localCollectors = new OutboundCollector[downstreamParallelism];
             Arrays.setAll(
                     localCollectors,
-                    n -> new ConveyorCollector(localConveyors[n], processorIndex, partitionsPerProcessor[n])
+                    n -> newLocalConveyorCollector(edge, localConveyors[n], processorIndex, partitionsPerProcessor[n])
             );
             return compositeCollector(localCollectors, edge, totalPartitionCount, true, false);
         }
     }
 
+    private ConveyorCollector newLocalConveyorCollector(
+            EdgeDef edge, ConcurrentConveyor<Object> conveyor, int queueIndex, int[] partitions
+    ) {
+        int maxBatchSize = nodeEngine.getProperties().getInteger(JET_LOCAL_EDGE_MAX_BATCH_SIZE);
+        // the ordered drain of the edge stream merges the queues item by item
+        if (maxBatchSize <= 1 || edge.getOrderComparator() != null) {
+            return new ConveyorCollector(conveyor, queueIndex, partitions);
+        }
+        return new BatchingConveyorCollector(conveyor, queueIndex, partitions, maxBatchSize);
+    }
+
     private OutboundCollector[] createRemoteOutboundCollectors(EdgeDef edge, int processorIndex) {
         // the distributed-to-one edge must be partitioned and the target member must be present
         if (!edge.getDistributedTo().equals(DISTRIBUTE_TO_ALL)) {
@@ -688,9 +723,12 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
             ConcurrentConveyor<Object> conveyor = createConveyorArray(
                     1, edge.sourceVertex().localParallelism(), edge.getConfig().getQueueSize())[0];
 
+            // the barriers must stay aligned in the sender, the receiving processors
+            // couldn't tell the in-flight items from the items after the barrier
             InboundEdgeStream inboundEdgeStream = newEdgeStream(
                     edge,
                     conveyor,
+                    false,
                     jobPrefix + "/toVertex:" + edge.destVertex().name() + "-toMember:" + destAddr,
                     adaptedComparator);
             SenderTasklet t = new SenderTasklet(inboundEdgeStream, nodeEngine, destAddr,
@@ -806,26 +844,70 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
     private List<InboundEdgeStream> createInboundEdgeStreams(VertexDef srcVertex, int localProcessorIdx,
                                                              String jobPrefix, int globalProcessorIdx) {
         final List<InboundEdgeStream> inboundStreams = new ArrayList<>();
+        boolean unaligned = isUnaligned(srcVertex);
         for (EdgeDef inEdge : srcVertex.inboundEdges()) {
             if (dagNodeUtil.getEdgeSources(inEdge).isEmpty()) {
                 continue;
             }
             // each tasklet has one input conveyor per edge
             final ConcurrentConveyor<Object> conveyor = localConveyorMap.get(inEdge.edgeId())[localProcessorIdx];
-            inboundStreams.add(newEdgeStream(inEdge, conveyor,
+            inboundStreams.add(newEdgeStream(inEdge, conveyor, unaligned && !inEdge.isSnapshotRestoreEdge(),
                     jobPrefix + "#" + globalProcessorIdx, inEdge.getOrderComparator()));
         }
         return inboundStreams;
     }
 
     private InboundEdgeStream newEdgeStream(
-            EdgeDef inEdge, ConcurrentConveyor<Object> conveyor, String debugName, ComparatorEx<?> comparator
+            EdgeDef inEdge, ConcurrentConveyor<Object> conveyor, boolean unaligned, String debugName,
+            ComparatorEx<?> comparator
     ) {
         return ConcurrentInboundEdgeStream.create(conveyor, inEdge.destOrdinal(), inEdge.priority(),
-                jobConfig.getProcessingGuarantee() == ProcessingGuarantee.EXACTLY_ONCE,
+                jobConfig.getProcessingGuarantee() == ProcessingGuarantee.EXACTLY_ONCE, unaligned,
                 debugName, comparator);
     }
 
+    /**
+     * Returns true if the processors of the vertex take unaligned snapshots.
+     * It requires that the items on the input edges can be replayed on any
+     * processor handling their partition, without any ordering constraints.
+     * The input edges must also have the same priority, otherwise the
+     * barriers can't be received from the lower-priority edges until the
+     * higher-priority ones complete.
+     */
+    private boolean isUnaligned(VertexDef vertex) {
+        if (isLightJob
+                || jobConfig.getProcessingGuarantee() != ProcessingGuarantee.EXACTLY_ONCE
+                || !nodeEngine.getProperties().getBoolean(JET_SNAPSHOT_UNALIGNED)) {
+            return false;
+        }
+        Integer priority = null;
+        for (EdgeDef edge : vertex.inboundEdges()) {
+            if (edge.isSnapshotRestoreEdge()) {
+                continue;
+            }
+            if (edge.routingPolicy() != RoutingPolicy.UNICAST && edge.routingPolicy() != RoutingPolicy.PARTITIONED
+                    || edge.getOrderComparator() != null
+                    || priority != null && priority != edge.priority()) {
+                return false;
+            }
+            priority = edge.priority();
+        }
+        return priority != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private InFlightItemCapture createInFlightItemCapture(VertexDef vertex, int globalProcessorIndex) {
+        Int2ObjectHashMap<Partitioner<Object>> ordinalToPartitioner = new Int2ObjectHashMap<>();
+        for (EdgeDef edge : vertex.inboundEdges()) {
+            if (edge.routingPolicy() == RoutingPolicy.PARTITIONED && !edge.isSnapshotRestoreEdge()) {
+                ordinalToPartitioner.put(edge.destOrdinal(), (Partitioner<Object>) edge.partitioner());
+            }
+        }
+        int[] partitionKeys =
+                ((JetServiceBackend) nodeEngine.getService(JetServiceBackend.SERVICE_NAME)).getSharedPartitionKeys();
+        return new InFlightItemCapture(ordinalToPartitioner, partitionKeys, globalProcessorIndex);
+    }
+
     public List<Processor> getProcessors() {
         return processors;
     }
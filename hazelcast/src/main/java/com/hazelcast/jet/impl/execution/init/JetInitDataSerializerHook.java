@@ -29,8 +29,11 @@ import com.hazelcast.jet.impl.JobSummary;
 import com.hazelcast.jet.impl.JobSuspensionCauseImpl;
 import com.hazelcast.jet.impl.SnapshotValidationRecord;
 import com.hazelcast.jet.impl.connector.WriteFileP;
+import com.hazelcast.jet.impl.execution.InFlightItemKey;
 import com.hazelcast.jet.impl.operation.AddJobStatusListenerOperation;
 import com.hazelcast.jet.impl.operation.CheckLightJobsOperation;
+import com.hazelcast.jet.impl.operation.CountDiskSnapshotChunksOperation;
+import com.hazelcast.jet.impl.operation.DeleteDiskSnapshotOperation;
 import com.hazelcast.jet.impl.operation.GetJobAndSqlSummaryListOperation;
 import com.hazelcast.jet.impl.operation.GetJobConfigOperation;
 import com.hazelcast.jet.impl.operation.GetJobIdsOperation;
@@ -57,6 +60,7 @@ import com.hazelcast.jet.impl.operation.TerminateJobOperation;
 import com.hazelcast.jet.impl.operation.UpdateJobConfigOperation;
 import com.hazelcast.jet.impl.operation.UploadJobMetaDataOperation;
 import com.hazelcast.jet.impl.operation.UploadJobMultiPartOperation;
+import com.hazelcast.jet.impl.operation.WriteDiskSnapshotChunkOperation;
 import com.hazelcast.jet.impl.processor.NoopP;
 import com.hazelcast.jet.impl.processor.ProcessorSupplierFromSimpleSupplier;
 import com.hazelcast.jet.impl.processor.SessionWindowP;
@@ -122,6 +126,12 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
     public static final int UPLOAD_JOB_METADATA_OP = 52;
     public static final int UPLOAD_JOB_MULTIPART_OP = 53;
     public static final int UPDATE_JOB_CONFIG_OP = 54;
+    public static final int ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE = 55;
+    public static final int WRITE_DISK_SNAPSHOT_CHUNK_OP = 56;
+    public static final int COUNT_DISK_SNAPSHOT_CHUNKS_OP = 57;
+    public static final int DELETE_DISK_SNAPSHOT_OP = 58;
+    public static final int IN_FLIGHT_ITEM_KEY = 59;
+    public static final int ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_ENTRY_ID = 60;
 
     public static final int FACTORY_ID = FactoryIdHelper.getFactoryId(JET_IMPL_DS_FACTORY, JET_IMPL_DS_FACTORY_ID);
 
@@ -165,6 +175,8 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
                 case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_KEY -> new AsyncSnapshotWriterImpl.SnapshotDataKey();
                 case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_VALUE_TERMINATOR ->
                         AsyncSnapshotWriterImpl.SnapshotDataValueTerminator.INSTANCE;
+                case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE -> AsyncSnapshotWriterImpl.SnapshotDataTombstone.INSTANCE;
+                case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_ENTRY_ID -> new AsyncSnapshotWriterImpl.SnapshotDataEntryId();
                 case SNAPSHOT_PHASE1_RESULT -> new SnapshotPhase1Result();
                 case RESUME_JOB_OP -> new ResumeJobOperation();
                 case NOTIFY_MEMBER_SHUTDOWN_OP -> new NotifyMemberShutdownOperation();
@@ -190,6 +202,10 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
                 case UPLOAD_JOB_METADATA_OP -> new UploadJobMetaDataOperation();
                 case UPLOAD_JOB_MULTIPART_OP -> new UploadJobMultiPartOperation();
                 case GET_JOB_USER_CANCELLED_OP -> new IsJobUserCancelledOperation();
+                case WRITE_DISK_SNAPSHOT_CHUNK_OP -> new WriteDiskSnapshotChunkOperation();
+                case COUNT_DISK_SNAPSHOT_CHUNKS_OP -> new CountDiskSnapshotChunksOperation();
+                case DELETE_DISK_SNAPSHOT_OP -> new DeleteDiskSnapshotOperation();
+                case IN_FLIGHT_ITEM_KEY -> new InFlightItemKey();
                 default -> throw new IllegalArgumentException("Unknown type id " + typeId);
             };
         }
@@ -36,4 +36,8 @@ public class AccumulationLimitExceededException extends RuntimeException {
                 + " e.g. grouping, sorting, join."
                 + "See InstanceConfig.setMaxProcessorAccumulatedRecords() for further details.");
     }
+
+    public AccumulationLimitExceededException(String message) {
+        super(message);
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * {@link KeyedFrameStore} keeping the accumulators as objects on the heap.
+ * The accumulators are modified in place, {@link #store} is a no-op.
+ */
+public final class HeapKeyedFrameStore<K, A> implements KeyedFrameStore<K, A> {
+
+    private final Long2ObjectHashMap<Map<K, A>> tsToKeyToAcc = new Long2ObjectHashMap<>();
+    private final Supplier<A> createFn;
+    private final long maxKeys;
+    private long keyCount;
+
+    // extracted lambdas to reduce GC litter
+    private final LongFunction<Map<K, A>> createMapPerTsFunction = x -> new HashMap<>();
+    private final Function<K, A> createAccFunction;
+
+    public HeapKeyedFrameStore(@Nonnull Supplier<A> createFn, long maxKeys) {
+        this.createFn = createFn;
+        this.maxKeys = maxKeys;
+        this.createAccFunction = k -> {
+            if (++keyCount == maxKeys) {
+                throw new AccumulationLimitExceededException();
+            }
+            return createFn.get();
+        };
+    }
+
+    @Nonnull
+    @Override
+    public A accumulator(long frameTs, @Nonnull K key) {
+        return tsToKeyToAcc
+                .computeIfAbsent(frameTs, createMapPerTsFunction)
+                .computeIfAbsent(key, createAccFunction);
+    }
+
+    @Override
+    public void store(long frameTs, @Nonnull K key, @Nonnull A acc) {
+    }
+
+    @Override
+    public void merge(long frameTs, @Nonnull K key, @Nonnull A acc,
+                      @Nonnull BiConsumer<? super A, ? super A> combineFn) {
+        Map<K, A> frame = tsToKeyToAcc.computeIfAbsent(frameTs, createMapPerTsFunction);
+        A existing = frame.putIfAbsent(key, acc);
+        if (existing != null) {
+            combineFn.accept(existing, acc);
+        } else if (++keyCount == maxKeys) {
+            throw new AccumulationLimitExceededException();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Map<K, A> frame(long frameTs) {
+        return tsToKeyToAcc.get(frameTs);
+    }
+
+    @Nullable
+    @Override
+    public Map<K, A> removeFrame(long frameTs) {
+        Map<K, A> removed = tsToKeyToAcc.remove(frameTs);
+        if (removed != null) {
+            keyCount -= removed.size();
+        }
+        return removed;
+    }
+
+    @Nonnull
+    @Override
+    public long[] frameTimestamps() {
+        long[] result = new long[tsToKeyToAcc.size()];
+        int i = 0;
+        for (Long2ObjectHashMap<Map<K, A>>.KeyIterator it = tsToKeyToAcc.keySet().iterator(); it.hasNext(); ) {
+            result[i++] = it.nextLong();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tsToKeyToAcc.isEmpty();
+    }
+
+    @Override
+    public int frameCount() {
+        return tsToKeyToAcc.size();
+    }
+
+    @Override
+    public long keyCount() {
+        return keyCount;
+    }
+
+    @Override
+    public long memoryUsage() {
+        return 0;
+    }
+
+    @Override
+    public void dispose() {
+        tsToKeyToAcc.clear();
+        keyCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return tsToKeyToAcc.toString();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.util.StringUtil.upperCaseInternal;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WINDOW_STATE_OFF_HEAP_MAX_BYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_WINDOW_STATE_STORE;
+
+/**
+ * Keeps the accumulators of a window aggregation processor, keyed by the
+ * frame timestamp and the grouping key.
+ * <p>
+ * Depending on the implementation, the store may keep the accumulators in
+ * serialized form. In that case, {@link #accumulator} returns a copy and
+ * the caller must write it back with {@link #store} after modifying it.
+ * The maps returned by {@link #frame} and {@link #removeFrame} must not be
+ * modified.
+ * <p>
+ * The store is not thread-safe.
+ *
+ * @param <K> type of the grouping key
+ * @param <A> type of the accumulator
+ */
+public interface KeyedFrameStore<K, A> {
+
+    /**
+     * Returns the accumulator for the given key in the given frame, creating
+     * a new one if there's none. The accumulator must be written back with
+     * {@link #store} after it's modified.
+     *
+     * @throws AccumulationLimitExceededException if creating the accumulator
+     *      would exceed the limit of the store
+     */
+    @Nonnull
+    A accumulator(long frameTs, @Nonnull K key);
+
+    /**
+     * Writes back the accumulator previously returned by {@link
+     * #accumulator} for the same frame and key.
+     */
+    void store(long frameTs, @Nonnull K key, @Nonnull A acc);
+
+    /**
+     * Adds the accumulator for the given key to the given frame. If the frame
+     * already contains the key, the existing accumulator is combined with the
+     * given one using {@code combineFn}.
+     */
+    void merge(long frameTs, @Nonnull K key, @Nonnull A acc, @Nonnull BiConsumer<? super A, ? super A> combineFn);
+
+    /**
+     * Returns the contents of the given frame or {@code null} if there's no
+     * such frame.
+     */
+    @Nullable
+    Map<K, A> frame(long frameTs);
+
+    /**
+     * Removes the given frame and returns its contents, or returns {@code
+     * null} if there's no such frame.
+     */
+    @Nullable
+    Map<K, A> removeFrame(long frameTs);
+
+    /**
+     * Returns the timestamps of all frames in the store, in no particular
+     * order.
+     */
+    @Nonnull
+    long[] frameTimestamps();
+
+    boolean isEmpty();
+
+    int frameCount();
+
+    /**
+     * Returns the number of keys summed over all frames.
+     */
+    long keyCount();
+
+    /**
+     * Returns the number of off-heap bytes used by the store, 0 for an
+     * on-heap store.
+     */
+    long memoryUsage();
+
+    /**
+     * Releases the memory held by the store. The store can't be used
+     * afterwards.
+     */
+    void dispose();
+
+    /**
+     * Creates the store configured with {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_WINDOW_STATE_STORE} on
+     * the member the processor runs on. Creates an on-heap store if the
+     * processor doesn't run on a member, e.g. in a unit test.
+     *
+     * @param createFn creates new accumulators
+     * @param maxKeys  the maximum number of keys summed over all frames
+     */
+    @Nonnull
+    static <K, A> KeyedFrameStore<K, A> create(
+            @Nonnull Processor.Context context,
+            @Nonnull Supplier<A> createFn,
+            long maxKeys
+    ) {
+        HazelcastProperties properties = SpillFile.properties(context);
+        if (properties == null) {
+            return new HeapKeyedFrameStore<>(createFn, maxKeys);
+        }
+        String type = upperCaseInternal(properties.getString(JET_WINDOW_STATE_STORE).trim());
+        return switch (type) {
+            case "HEAP" -> new HeapKeyedFrameStore<>(createFn, maxKeys);
+            case "OFF_HEAP" -> new OffHeapKeyedFrameStore<>(SpillFile.serializationService(context), createFn,
+                    maxKeys, properties.getLong(JET_WINDOW_STATE_OFF_HEAP_MAX_BYTES));
+            default -> throw new IllegalArgumentException("Unknown window state store: '" + type
+                    + "', the supported values are HEAP and OFF_HEAP");
+        };
+    }
+}
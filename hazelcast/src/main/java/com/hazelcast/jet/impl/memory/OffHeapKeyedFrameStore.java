@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+
+/**
+ * {@link KeyedFrameStore} keeping the keys and accumulators in serialized
+ * form in direct byte buffers, outside of the Java heap. This keeps the
+ * number of objects the garbage collector has to trace independent of the
+ * number of keys, at the cost of serializing the accumulator on each
+ * update.
+ * <p>
+ * Each frame has its own chunks of memory and an open-addressing index of
+ * the records in them. The records are found by comparing the serialized
+ * key, therefore the keys must have a deterministic serialized form. A
+ * record is a header of three ints (key length, accumulator capacity,
+ * accumulator length) followed by the key and the accumulator. An updated
+ * accumulator is written in place if it fits into the record, otherwise
+ * the record is copied with a larger capacity and the frame is compacted
+ * when more than half of its memory is garbage. The memory of a frame is
+ * released as a whole when the frame is removed.
+ */
+public final class OffHeapKeyedFrameStore<K, A> implements KeyedFrameStore<K, A> {
+
+    private static final int KEY_LENGTH_OFFSET = 0;
+    private static final int ACC_CAPACITY_OFFSET = INT_SIZE_IN_BYTES;
+    private static final int ACC_LENGTH_OFFSET = 2 * INT_SIZE_IN_BYTES;
+    private static final int RECORD_HEADER_SIZE = 3 * INT_SIZE_IN_BYTES;
+
+    // the chunks of a frame double in size, so that small frames stay small
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+    private static final int MAX_CHUNK_SIZE = 1 << 20;
+    private static final int INITIAL_SLOT_COUNT = 16;
+    private static final long NULL_ADDRESS = 0;
+
+    private final InternalSerializationService serializationService;
+    private final Supplier<A> createFn;
+    private final long maxKeys;
+    private final long maxBytes;
+    private final Long2ObjectHashMap<Frame> frames = new Long2ObjectHashMap<>();
+    private long keyCount;
+    private long memoryUsage;
+
+    // the result of the last lookup in accumulator(), saves serializing and
+    // looking up the key again in the following store()
+    private Frame lastFrame;
+    private long lastFrameTs;
+    private Object lastKey;
+    private byte[] lastKeyBytes;
+    private int lastHash;
+    private int lastSlot;
+
+    /**
+     * @param maxKeys  the maximum number of keys summed over all frames
+     * @param maxBytes the maximum number of bytes allocated by the store, 0
+     *                 means no limit
+     */
+    public OffHeapKeyedFrameStore(
+            @Nonnull InternalSerializationService serializationService,
+            @Nonnull Supplier<A> createFn,
+            long maxKeys,
+            long maxBytes
+    ) {
+        this.serializationService = serializationService;
+        this.createFn = createFn;
+        this.maxKeys = maxKeys;
+        this.maxBytes = maxBytes;
+    }
+
+    @Nonnull
+    @Override
+    public A accumulator(long frameTs, @Nonnull K key) {
+        Frame frame = frames.get(frameTs);
+        if (frame == null) {
+            frame = new Frame();
+            frames.put(frameTs, frame);
+        }
+        Data keyData = serializationService.toData(key);
+        byte[] keyBytes = keyData.toByteArray();
+        int hash = fastIntMix(keyData.hashCode());
+        int slot = frame.find(keyBytes, hash);
+        A acc;
+        if (slot >= 0) {
+            acc = frame.readAcc(slot);
+        } else {
+            checkKeyLimit();
+            acc = createFn.get();
+        }
+        lastFrame = frame;
+        lastFrameTs = frameTs;
+        lastKey = key;
+        lastKeyBytes = keyBytes;
+        lastHash = hash;
+        lastSlot = slot;
+        return acc;
+    }
+
+    @Override
+    public void store(long frameTs, @Nonnull K key, @Nonnull A acc) {
+        byte[] accBytes = serializationService.toData(acc).toByteArray();
+        if (lastFrame != null && lastFrameTs == frameTs && lastKey == key) {
+            lastFrame.put(lastSlot, lastKeyBytes, lastHash, accBytes);
+            forgetLastLookup();
+            return;
+        }
+        Frame frame = frames.get(frameTs);
+        if (frame == null) {
+            throw new IllegalStateException("store() called for frame " + frameTs + " without accumulator()");
+        }
+        Data keyData = serializationService.toData(key);
+        byte[] keyBytes = keyData.toByteArray();
+        int hash = fastIntMix(keyData.hashCode());
+        frame.put(frame.find(keyBytes, hash), keyBytes, hash, accBytes);
+    }
+
+    @Override
+    public void merge(long frameTs, @Nonnull K key, @Nonnull A acc,
+                      @Nonnull BiConsumer<? super A, ? super A> combineFn) {
+        forgetLastLookup();
+        Frame frame = frames.get(frameTs);
+        if (frame == null) {
+            frame = new Frame();
+            frames.put(frameTs, frame);
+        }
+        Data keyData = serializationService.toData(key);
+        byte[] keyBytes = keyData.toByteArray();
+        int hash = fastIntMix(keyData.hashCode());
+        int slot = frame.find(keyBytes, hash);
+        A result = acc;
+        if (slot >= 0) {
+            result = frame.readAcc(slot);
+            combineFn.accept(result, acc);
+        } else {
+            checkKeyLimit();
+        }
+        frame.put(slot, keyBytes, hash, serializationService.toData(result).toByteArray());
+    }
+
+    @Nullable
+    @Override
+    public Map<K, A> frame(long frameTs) {
+        Frame frame = frames.get(frameTs);
+        return frame == null ? null : frame.toMap();
+    }
+
+    @Nullable
+    @Override
+    public Map<K, A> removeFrame(long frameTs) {
+        forgetLastLookup();
+        Frame frame = frames.remove(frameTs);
+        if (frame == null) {
+            return null;
+        }
+        Map<K, A> result = frame.toMap();
+        keyCount -= frame.size;
+        frame.free();
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public long[] frameTimestamps() {
+        long[] result = new long[frames.size()];
+        int i = 0;
+        for (Long2ObjectHashMap<Frame>.KeyIterator it = frames.keySet().iterator(); it.hasNext(); ) {
+            result[i++] = it.nextLong();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    @Override
+    public int frameCount() {
+        return frames.size();
+    }
+
+    @Override
+    public long keyCount() {
+        return keyCount;
+    }
+
+    @Override
+    public long memoryUsage() {
+        return memoryUsage;
+    }
+
+    @Override
+    public void dispose() {
+        forgetLastLookup();
+        for (Frame frame : frames.values()) {
+            frame.free();
+        }
+        frames.clear();
+        keyCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapKeyedFrameStore{frameCount=" + frames.size()
+                + ", keyCount=" + keyCount
+                + ", memoryUsage=" + memoryUsage + '}';
+    }
+
+    private void checkKeyLimit() {
+        if (keyCount + 1 == maxKeys) {
+            throw new AccumulationLimitExceededException();
+        }
+    }
+
+    private void forgetLastLookup() {
+        lastFrame = null;
+        lastKey = null;
+        lastKeyBytes = null;
+    }
+
+    private ByteBuffer allocate(int size, boolean enforceLimit) {
+        if (enforceLimit && maxBytes > 0 && memoryUsage + size > maxBytes) {
+            throw new AccumulationLimitExceededException("The off-heap window state store exceeded its limit of "
+                    + maxBytes + " bytes, see ClusterProperty.JET_WINDOW_STATE_OFF_HEAP_MAX_BYTES");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        memoryUsage += size;
+        return buffer;
+    }
+
+    private void free(ByteBuffer buffer) {
+        memoryUsage -= buffer.capacity();
+        clean(buffer);
+    }
+
+    private static void clean(ByteBuffer buffer) {
+        if (UNSAFE_AVAILABLE) {
+            UNSAFE.invokeCleaner(buffer);
+        }
+    }
+
+    private final class Frame {
+
+        // (chunk index + 1) in the high and the offset in the low 32 bits
+        private long[] addresses = new long[INITIAL_SLOT_COUNT];
+        private int[] hashes = new int[INITIAL_SLOT_COUNT];
+        private int size;
+
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private int nextChunkSize = MIN_CHUNK_SIZE;
+        private long usedBytes;
+        private long garbageBytes;
+
+        /**
+         * Returns the slot of the key or, if the key isn't present, the
+         * complement of the slot to insert it to.
+         */
+        int find(byte[] keyBytes, int hash) {
+            int mask = addresses.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                long address = addresses[slot];
+                if (address == NULL_ADDRESS) {
+                    return ~slot;
+                }
+                if (hashes[slot] == hash && keyEquals(address, keyBytes)) {
+                    return slot;
+                }
+            }
+        }
+
+        /**
+         * Writes the accumulator of the key to the slot returned by {@link
+         * #find}.
+         */
+        void put(int slot, byte[] keyBytes, int hash, byte[] accBytes) {
+            if (slot < 0) {
+                slot = ~slot;
+                addresses[slot] = append(keyBytes, accBytes, accBytes.length);
+                hashes[slot] = hash;
+                size++;
+                keyCount++;
+                if (size * 4 >= addresses.length * 3) {
+                    resize();
+                }
+                return;
+            }
+            long address = addresses[slot];
+            ByteBuffer chunk = chunk(address);
+            int offset = offset(address);
+            if (accBytes.length <= chunk.getInt(offset + ACC_CAPACITY_OFFSET)) {
+                chunk.putInt(offset + ACC_LENGTH_OFFSET, accBytes.length);
+                chunk.put(offset + RECORD_HEADER_SIZE + keyBytes.length, accBytes);
+                return;
+            }
+            // the accumulator grew, reserve some space for it to grow further
+            int oldRecordSize = recordSize(chunk, offset);
+            addresses[slot] = append(keyBytes, accBytes, accBytes.length + accBytes.length / 2);
+            garbageBytes += oldRecordSize;
+            if (garbageBytes * 2 > usedBytes && garbageBytes > MIN_CHUNK_SIZE) {
+                compact();
+            }
+        }
+
+        A readAcc(int slot) {
+            long address = addresses[slot];
+            ByteBuffer chunk = chunk(address);
+            int offset = offset(address);
+            int accOffset = offset + RECORD_HEADER_SIZE + chunk.getInt(offset + KEY_LENGTH_OFFSET);
+            return serializationService.toObject(
+                    new HeapData(read(chunk, accOffset, chunk.getInt(offset + ACC_LENGTH_OFFSET))));
+        }
+
+        Map<K, A> toMap() {
+            Map<K, A> map = createHashMap(size);
+            for (long address : addresses) {
+                if (address == NULL_ADDRESS) {
+                    continue;
+                }
+                ByteBuffer chunk = chunk(address);
+                int offset = offset(address);
+                int keyLength = chunk.getInt(offset + KEY_LENGTH_OFFSET);
+                int keyOffset = offset + RECORD_HEADER_SIZE;
+                K key = serializationService.toObject(new HeapData(read(chunk, keyOffset, keyLength)));
+                A acc = serializationService.toObject(new HeapData(
+                        read(chunk, keyOffset + keyLength, chunk.getInt(offset + ACC_LENGTH_OFFSET))));
+                map.put(key, acc);
+            }
+            return map;
+        }
+
+        void free() {
+            for (ByteBuffer chunk : chunks) {
+                OffHeapKeyedFrameStore.this.free(chunk);
+            }
+            chunks.clear();
+        }
+
+        private boolean keyEquals(long address, byte[] keyBytes) {
+            ByteBuffer chunk = chunk(address);
+            int offset = offset(address);
+            if (chunk.getInt(offset + KEY_LENGTH_OFFSET) != keyBytes.length) {
+                return false;
+            }
+            int keyOffset = offset + RECORD_HEADER_SIZE;
+            for (int i = 0; i < keyBytes.length; i++) {
+                if (chunk.get(keyOffset + i) != keyBytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long append(byte[] keyBytes, byte[] accBytes, int accCapacity) {
+            long address = allocateRecord(RECORD_HEADER_SIZE + keyBytes.length + accCapacity, true);
+            ByteBuffer chunk = chunk(address);
+            int offset = offset(address);
+            chunk.putInt(offset + KEY_LENGTH_OFFSET, keyBytes.length);
+            chunk.putInt(offset + ACC_CAPACITY_OFFSET, accCapacity);
+            chunk.putInt(offset + ACC_LENGTH_OFFSET, accBytes.length);
+            chunk.put(offset + RECORD_HEADER_SIZE, keyBytes);
+            chunk.put(offset + RECORD_HEADER_SIZE + keyBytes.length, accBytes);
+            return address;
+        }
+
+        private long allocateRecord(int recordSize, boolean enforceLimit) {
+            ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+            if (chunk == null || chunk.remaining() < recordSize) {
+                chunk = allocate(Math.max(nextChunkSize, recordSize), enforceLimit);
+                chunks.add(chunk);
+                nextChunkSize = Math.min(nextChunkSize * 2, MAX_CHUNK_SIZE);
+            }
+            int offset = chunk.position();
+            chunk.position(offset + recordSize);
+            usedBytes += recordSize;
+            return ((long) chunks.size() << Integer.SIZE) | offset;
+        }
+
+        private void resize() {
+            long[] oldAddresses = addresses;
+            int[] oldHashes = hashes;
+            addresses = new long[oldAddresses.length * 2];
+            hashes = new int[oldAddresses.length * 2];
+            int mask = addresses.length - 1;
+            for (int i = 0; i < oldAddresses.length; i++) {
+                if (oldAddresses[i] == NULL_ADDRESS) {
+                    continue;
+                }
+                int slot = oldHashes[i] & mask;
+                while (addresses[slot] != NULL_ADDRESS) {
+                    slot = (slot + 1) & mask;
+                }
+                addresses[slot] = oldAddresses[i];
+                hashes[slot] = oldHashes[i];
+            }
+        }
+
+        // Copies the live records to new chunks and releases the old ones.
+        // The live records take less than half of the old chunks, so the old
+        // chunks are released from the memory usage up front and the memory
+        // limit isn't checked for the new ones: the compaction must not fail
+        // halfway, when the store is close to the limit.
+        private void compact() {
+            List<ByteBuffer> oldChunks = new ArrayList<>(chunks);
+            for (ByteBuffer chunk : oldChunks) {
+                memoryUsage -= chunk.capacity();
+            }
+            long liveBytes = usedBytes - garbageBytes;
+            long[] oldAddresses = addresses.clone();
+            chunks.clear();
+            nextChunkSize = (int) Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, liveBytes));
+            usedBytes = 0;
+            garbageBytes = 0;
+            for (int slot = 0; slot < oldAddresses.length; slot++) {
+                long address = oldAddresses[slot];
+                if (address == NULL_ADDRESS) {
+                    continue;
+                }
+                ByteBuffer oldChunk = oldChunks.get((int) (address >>> Integer.SIZE) - 1);
+                int offset = offset(address);
+                byte[] record = read(oldChunk, offset, recordSize(oldChunk, offset));
+                long newAddress = allocateRecord(record.length, false);
+                chunk(newAddress).put(offset(newAddress), record);
+                addresses[slot] = newAddress;
+            }
+            for (ByteBuffer chunk : oldChunks) {
+                clean(chunk);
+            }
+        }
+
+        private ByteBuffer chunk(long address) {
+            return chunks.get((int) (address >>> Integer.SIZE) - 1);
+        }
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+
+    private static int recordSize(ByteBuffer chunk, int offset) {
+        return RECORD_HEADER_SIZE + chunk.getInt(offset + KEY_LENGTH_OFFSET) + chunk.getInt(offset + ACC_CAPACITY_OFFSET);
+    }
+
+    private static byte[] read(ByteBuffer chunk, int offset, int length) {
+        byte[] bytes = new byte[length];
+        chunk.get(offset, bytes);
+        return bytes;
+    }
+}
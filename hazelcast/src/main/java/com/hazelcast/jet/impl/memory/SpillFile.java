@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmptyAfterTrim;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_RUN_MAX_RECORDS;
+
+/**
+ * A local file a processor spills accumulated items to when they don't fit
+ * into memory. The items are written sequentially in their serialized form,
+ * each prefixed with its length, and are read back once, in the same order.
+ * <p>
+ * The file is deleted when it's {@linkplain #close() closed}. The instances
+ * are not thread-safe.
+ *
+ * @param <T> type of the items
+ */
+public final class SpillFile<T> implements Closeable {
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    // small since many files are read at the same time when merging
+    private static final int READ_BUFFER_SIZE = 1 << 13;
+
+    private final Path path;
+    private final InternalSerializationService serializationService;
+    private DataOutputStream out;
+    private DataInputStream in;
+    private long itemCount;
+    private long sizeInBytes;
+
+    public SpillFile(@Nonnull Path directory, @Nonnull InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+        try {
+            Files.createDirectories(directory);
+            path = Files.createTempFile(directory, "jet-spill-", ".bin");
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), WRITE_BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new JetException("Failed to create a spill file in " + directory, e);
+        }
+    }
+
+    /**
+     * Returns the directory configured with {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_DIRECTORY} on the
+     * member the processor runs on, or {@code null} if spilling is disabled or
+     * the processor doesn't run on a member, e.g. in a unit test.
+     */
+    @Nullable
+    public static Path spillDirectory(@Nonnull Processor.Context context) {
+        HazelcastProperties properties = properties(context);
+        String directory = properties == null ? null : properties.getString(JET_SPILL_DIRECTORY);
+        return isNullOrEmptyAfterTrim(directory) ? null : Paths.get(directory.trim());
+    }
+
+    /**
+     * Returns the maximum number of items a processor can keep in memory
+     * before spilling them, taking the {@link
+     * Processor.Context#maxProcessorAccumulatedRecords()} limit into account.
+     */
+    public static long maxRecordsInMemory(@Nonnull Processor.Context context) {
+        HazelcastProperties properties = properties(context);
+        long maxRecords = context.maxProcessorAccumulatedRecords();
+        return properties == null ? maxRecords : Math.min(maxRecords, properties.getLong(JET_SPILL_RUN_MAX_RECORDS));
+    }
+
+    /**
+     * Returns the serialization service of the job, which must be used to
+     * serialize the spilled items.
+     */
+    @Nonnull
+    public static InternalSerializationService serializationService(@Nonnull Processor.Context context) {
+        return ((InternalProcSupplierCtx) context).serializationService();
+    }
+
+    @Nullable
+    static HazelcastProperties properties(Processor.Context context) {
+        HazelcastInstance instance = context.hazelcastInstance();
+        if (instance instanceof HazelcastInstanceImpl || instance instanceof HazelcastInstanceProxy) {
+            return getNodeEngine(instance).getProperties();
+        }
+        return null;
+    }
+
+    /**
+     * Appends the given item to the file. Can't be called after {@link
+     * #read()}.
+     */
+    public void write(@Nonnull T item) {
+        Data data = serializationService.toData(item);
+        byte[] bytes = data.toByteArray();
+        try {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new JetException("Failed to write to spill file " + path, e);
+        }
+        itemCount++;
+        sizeInBytes += INT_SIZE_IN_BYTES + bytes.length;
+    }
+
+    public long itemCount() {
+        return itemCount;
+    }
+
+    public long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Finishes writing and returns a traverser over the items in the order
+     * they were written. Can be called only once.
+     */
+    @Nonnull
+    public Traverser<T> read() {
+        if (in != null) {
+            throw new IllegalStateException("Spill file " + path + " is already being read");
+        }
+        try {
+            out.close();
+            out = null;
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), READ_BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new JetException("Failed to open spill file " + path, e);
+        }
+        long[] remaining = {itemCount};
+        return () -> {
+            if (remaining[0] == 0) {
+                return null;
+            }
+            remaining[0]--;
+            try {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return serializationService.toObject(new HeapData(bytes));
+            } catch (IOException e) {
+                throw new JetException("Failed to read from spill file " + path, e);
+            }
+        };
+    }
+
+    /**
+     * Closes the file and deletes it.
+     */
+    @Override
+    public void close() {
+        closeResource(out);
+        closeResource(in);
+        out = null;
+        in = null;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new JetException("Failed to delete spill file " + path, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpillFile{path=" + path + ", itemCount=" + itemCount + ", sizeInBytes=" + sizeInBytes + '}';
+    }
+}
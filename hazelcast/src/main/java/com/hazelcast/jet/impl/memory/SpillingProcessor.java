@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.jet.core.Processor;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+
+/**
+ * A processor that spills to {@link SpillFile}s when a {@linkplain
+ * SpillFile#spillDirectory spill directory} is configured. The spilling is
+ * blocking IO, so such a processor must not be cooperative. The directory is
+ * a member property, but {@link Processor#isCooperative()} is called before
+ * the processor is initialized, so the execution plan passes the directory
+ * to the processor right after creating it.
+ */
+public interface SpillingProcessor {
+
+    /**
+     * Sets the directory to spill to, {@code null} if spilling is disabled.
+     * Called before {@link Processor#isCooperative()} and {@link
+     * Processor#init}.
+     */
+    void setSpillDirectory(@Nullable Path spillDirectory);
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.operation;
+
+import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.jet.impl.util.Util.uncheckCall;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.JOB_OFFLOADABLE_EXECUTOR;
+
+/**
+ * Returns the number of chunks of a snapshot the {@link DiskSnapshotStore}
+ * of the target member holds for each member that wrote them.
+ */
+public class CountDiskSnapshotChunksOperation extends AsyncOperation {
+
+    private String mapName;
+    private long minSnapshotId;
+    private long maxSnapshotId;
+
+    public CountDiskSnapshotChunksOperation() {
+    }
+
+    public CountDiskSnapshotChunksOperation(String mapName, long minSnapshotId, long maxSnapshotId) {
+        this.mapName = mapName;
+        this.minSnapshotId = minSnapshotId;
+        this.maxSnapshotId = maxSnapshotId;
+    }
+
+    @Override
+    protected CompletableFuture<Map<UUID, Long>> doRun() {
+        DiskSnapshotStore store = getJetServiceBackend().getDiskSnapshotStore();
+        if (store == null) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+        return CompletableFuture.supplyAsync(() -> uncheckCall(() ->
+                        store.countChunks(mapName, minSnapshotId, maxSnapshotId)),
+                getNodeEngine().getExecutionService().getExecutor(JOB_OFFLOADABLE_EXECUTOR));
+    }
+
+    @Override
+    public int getClassId() {
+        return JetInitDataSerializerHook.COUNT_DISK_SNAPSHOT_CHUNKS_OP;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(mapName);
+        out.writeLong(minSnapshotId);
+        out.writeLong(maxSnapshotId);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        mapName = in.readString();
+        minSnapshotId = in.readLong();
+        maxSnapshotId = in.readLong();
+    }
+}
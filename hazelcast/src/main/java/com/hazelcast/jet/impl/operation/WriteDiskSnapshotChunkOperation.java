@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.operation;
+
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.JOB_OFFLOADABLE_EXECUTOR;
+
+/**
+ * Writes a replica of a snapshot chunk to the {@link DiskSnapshotStore} of
+ * the target member.
+ */
+public class WriteDiskSnapshotChunkOperation extends AsyncOperation {
+
+    private String mapName;
+    private UUID owner;
+    private SnapshotDataKey key;
+    private byte[] chunk;
+
+    public WriteDiskSnapshotChunkOperation() {
+    }
+
+    public WriteDiskSnapshotChunkOperation(String mapName, UUID owner, SnapshotDataKey key, byte[] chunk) {
+        this.mapName = mapName;
+        this.owner = owner;
+        this.key = key;
+        this.chunk = chunk;
+    }
+
+    @Override
+    protected CompletableFuture<Void> doRun() {
+        DiskSnapshotStore store = getJetServiceBackend().getDiskSnapshotStore();
+        if (store == null) {
+            throw new JetException("Snapshot data can't be replicated to " + getNodeEngine().getLocalMember()
+                    + ", the member doesn't store the snapshots on disk");
+        }
+        return CompletableFuture.runAsync(() -> {
+            try {
+                store.write(mapName, owner, key, chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, getNodeEngine().getExecutionService().getExecutor(JOB_OFFLOADABLE_EXECUTOR));
+    }
+
+    @Override
+    public int getClassId() {
+        return JetInitDataSerializerHook.WRITE_DISK_SNAPSHOT_CHUNK_OP;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(mapName);
+        UUIDSerializationUtil.writeUUID(out, owner);
+        out.writeObject(key);
+        out.writeByteArray(chunk);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        mapName = in.readString();
+        owner = UUIDSerializationUtil.readUUID(in);
+        key = in.readObject();
+        chunk = in.readByteArray();
+    }
+}
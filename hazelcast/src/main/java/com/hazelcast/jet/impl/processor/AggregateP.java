@@ -19,6 +19,8 @@ package com.hazelcast.jet.impl.processor;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
 
 import static java.util.Collections.nCopies;
 
@@ -36,4 +38,9 @@ public class AggregateP<A, R> extends GroupP<String, A, R, R> {
         super(nCopies(aggrOp.arity(), t -> CONSTANT_KEY), aggrOp, (k, r) -> r);
         keyToAcc.put(CONSTANT_KEY, aggrOp.createFn().get());
     }
+
+    @Override
+    public void setSpillDirectory(@Nullable Path spillDirectory) {
+        // there's only one key, it never spills, so the processor stays cooperative
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
+import com.hazelcast.jet.datamodel.DoubleBatch;
+import com.hazelcast.jet.datamodel.LongBatch;
+import com.hazelcast.jet.impl.JetEvent;
+
+import javax.annotation.Nonnull;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import static com.hazelcast.jet.impl.JetEvent.jetEvent;
+
+/**
+ * Processor which exploits natural batching of {@link Inbox} items. For
+ * each received batch of items it emits a single {@link LongBatch} or
+ * {@link DoubleBatch} with the values extracted from the items.
+ * <p>
+ * If the items are {@link JetEvent}s, the values are extracted from their
+ * payloads and the batch is emitted as a {@code JetEvent}. An inbox batch
+ * can contain items with different timestamps, which a downstream window
+ * can assign to different frames. Therefore, a new batch is started
+ * whenever the timestamp changes and each batch carries the common
+ * timestamp of its items. If the timestamps of consecutive items are
+ * mostly distinct, most batches hold a single value.
+ *
+ * @param <T> received item type
+ */
+public final class BatchPrimitivesP<T> extends AbstractProcessor {
+
+    private final ToLongFunction<? super T> toLongFn;
+    private final ToDoubleFunction<? super T> toDoubleFn;
+
+    private Object pendingBatch;
+    private int pendingBatchSize;
+
+    private BatchPrimitivesP(ToLongFunction<? super T> toLongFn, ToDoubleFunction<? super T> toDoubleFn) {
+        this.toLongFn = toLongFn;
+        this.toDoubleFn = toDoubleFn;
+    }
+
+    public static <T> BatchPrimitivesP<T> batchLongs(@Nonnull ToLongFunction<? super T> toLongFn) {
+        return new BatchPrimitivesP<>(toLongFn, null);
+    }
+
+    public static <T> BatchPrimitivesP<T> batchDoubles(@Nonnull ToDoubleFunction<? super T> toDoubleFn) {
+        return new BatchPrimitivesP<>(null, toDoubleFn);
+    }
+
+    @Override
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        while (!inbox.isEmpty()) {
+            if (pendingBatch == null) {
+                pendingBatch = createBatch(inbox);
+            }
+            if (!tryEmit(pendingBatch)) {
+                return;
+            }
+            for (int i = 0; i < pendingBatchSize; i++) {
+                inbox.remove();
+            }
+            pendingBatch = null;
+        }
+    }
+
+    /**
+     * Creates a batch from the items at the head of the inbox up to the first
+     * item with a different timestamp. Doesn't remove the items.
+     */
+    @SuppressWarnings("unchecked")
+    private Object createBatch(Inbox inbox) {
+        Object first = inbox.peek();
+        boolean hasTimestamp = first instanceof JetEvent;
+        long timestamp = hasTimestamp ? ((JetEvent<?>) first).timestamp() : Long.MIN_VALUE;
+        int size = 0;
+        for (Object item : inbox) {
+            if (hasTimestamp != item instanceof JetEvent
+                    || hasTimestamp && ((JetEvent<?>) item).timestamp() != timestamp) {
+                break;
+            }
+            size++;
+        }
+        long[] longs = toLongFn != null ? new long[size] : null;
+        double[] doubles = toDoubleFn != null ? new double[size] : null;
+        int count = 0;
+        for (Object item : inbox) {
+            if (count == size) {
+                break;
+            }
+            if (hasTimestamp) {
+                item = ((JetEvent<?>) item).payload();
+            }
+            if (longs != null) {
+                longs[count++] = toLongFn.applyAsLong((T) item);
+            } else {
+                doubles[count++] = toDoubleFn.applyAsDouble((T) item);
+            }
+        }
+        pendingBatchSize = size;
+        Object batch = longs != null ? new LongBatch(longs) : new DoubleBatch(doubles);
+        return hasTimestamp ? jetEvent(timestamp, batch) : batch;
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+}
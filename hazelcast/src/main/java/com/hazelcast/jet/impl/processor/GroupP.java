@@ -14,17 +14,27 @@
  * limitations under the License.
  */
 
+
 package com.hazelcast.jet.impl.processor;
 
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -33,7 +43,10 @@ import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static java.lang.System.nanoTime;
 import static java.util.Collections.singletonList;
 
 /**
@@ -41,8 +54,23 @@ import static java.util.Collections.singletonList;
  * aggregate operation on each group. The items may originate from one or
  * more inbound edges. The supplied aggregate operation must have as many
  * accumulation functions as there are inbound edges.
+ * <p>
+ * If a {@linkplain SpillFile#spillDirectory spill directory} is configured
+ * and the aggregate operation has a {@linkplain AggregateOperation#combineFn()
+ * combine} primitive, the processor does a hybrid hash aggregation: the keys
+ * are hashed into {@value #BUCKET_COUNT} buckets and when the number of
+ * accumulators reaches the limit, the largest bucket is marked as spilled and
+ * the accumulators of all spilled buckets are written to their {@link
+ * SpillFile}s. Accumulation continues in memory with fresh accumulators. When
+ * the input is complete, the buckets that were never spilled are emitted
+ * first, then each spilled bucket is read back, its accumulators are combined
+ * per key and emitted. The spill files are accessed by blocking IO, so the
+ * processor isn't cooperative if it can spill.
  */
-public class GroupP<K, A, R, OUT> extends AbstractProcessor {
+public class GroupP<K, A, R, OUT> extends AbstractProcessor implements SpillingProcessor {
+
+    static final int BUCKET_COUNT = 64;
+    private static final int SPILL_BATCH_SIZE = 1024;
 
     protected final Map<K, A> keyToAcc = new HashMap<>();
 
@@ -50,9 +78,28 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     private final AggregateOperation<A, R> aggrOp;
     private final BiFunction<? super K, ? super R, OUT> mapToOutputFn;
 
+    @Probe(name = "spilledBuckets")
+    private final Counter spilledBuckets = SwCounter.newSwCounter();
+    @Probe(name = "spilledEntries")
+    private final Counter spilledEntries = SwCounter.newSwCounter();
+    @Probe(name = "spilledBytes", unit = ProbeUnit.BYTES)
+    private final Counter spilledBytes = SwCounter.newSwCounter();
+    @Probe(name = "spillTime", unit = ProbeUnit.NS)
+    private final Counter spillTimeNanos = SwCounter.newSwCounter();
+
     private long maxEntries;
     private Traverser<OUT> resultTraverser;
 
+    // spilling state, used only if spilling is enabled
+    private Path spillDirectory;
+    private InternalSerializationService serializationService;
+    private SpillFile<Object>[] bucketFiles;
+    private int[] bucketSizes;
+    private Iterator<Entry<K, A>> spillIterator;
+    private boolean completing;
+    private int mergedBucket;
+    private Traverser<Object> mergeReader;
+
     public GroupP(
             @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
             @Nonnull AggregateOperation<A, R> aggrOp,
@@ -74,39 +121,209 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     }
 
     @Override
+    public void setSpillDirectory(@Nullable Path spillDirectory) {
+        // the spilled accumulators of a key are merged using the combine primitive
+        this.spillDirectory = aggrOp.combineFn() == null ? null : spillDirectory;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return spillDirectory == null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     protected void init(@Nonnull Processor.Context context) throws Exception {
-        maxEntries = context.maxProcessorAccumulatedRecords();
+        if (spillDirectory == null) {
+            // not set if the processor isn't created by the execution plan, e.g. in a test
+            setSpillDirectory(SpillFile.spillDirectory(context));
+        }
+        if (spillDirectory == null) {
+            maxEntries = context.maxProcessorAccumulatedRecords();
+        } else {
+            maxEntries = SpillFile.maxRecordsInMemory(context);
+            serializationService = SpillFile.serializationService(context);
+            bucketFiles = new SpillFile[BUCKET_COUNT];
+            bucketSizes = new int[BUCKET_COUNT];
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess(int ordinal, @Nonnull Object item) {
+        if (spillIterator != null && !spill()) {
+            return false;
+        }
         Function<Object, ? extends K> keyFn = (Function<Object, ? extends K>) groupKeyFns.get(ordinal);
         K key = keyFn.apply(item);
-        A acc = keyToAcc.computeIfAbsent(key, k -> {
+        A acc = keyToAcc.get(key);
+        if (acc == null) {
             if (keyToAcc.size() == maxEntries) {
-                throw new AccumulationLimitExceededException();
+                if (spillDirectory == null) {
+                    throw new AccumulationLimitExceededException();
+                }
+                startSpill();
+                if (!spill()) {
+                    return false;
+                }
             }
-
-            return aggrOp.createFn().get();
-        });
+            acc = aggrOp.createFn().get();
+            keyToAcc.put(key, acc);
+            if (bucketSizes != null) {
+                bucketSizes[bucket(key)]++;
+            }
+        }
         aggrOp.accumulateFn(ordinal).accept(acc, item);
         return true;
     }
 
     @Override
     public boolean complete() {
+        if (spillIterator != null && !spill()) {
+            return false;
+        }
+        if (!completing) {
+            completing = true;
+            if (hasSpilledBuckets()) {
+                // move the in-memory accumulators of the spilled buckets to disk, too
+                spillIterator = keyToAcc.entrySet().iterator();
+                if (!spill()) {
+                    return false;
+                }
+            }
+        }
         if (resultTraverser == null) {
-            resultTraverser = new ResultTraverser()
-                    // reuse null filtering done by map()
-                    .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
+            resultTraverser = newResultTraverser();
+        }
+        if (!emitFromTraverser(resultTraverser)) {
+            return false;
+        }
+        while (bucketFiles != null && mergedBucket < BUCKET_COUNT) {
+            if (mergeReader == null) {
+                if (bucketFiles[mergedBucket] == null) {
+                    mergedBucket++;
+                    continue;
+                }
+                mergeReader = bucketFiles[mergedBucket].read();
+            }
+            if (!readSpilledBucket()) {
+                return false;
+            }
+            closeResource(bucketFiles[mergedBucket]);
+            bucketFiles[mergedBucket] = null;
+            mergeReader = null;
+            mergedBucket++;
+            resultTraverser = newResultTraverser();
+            if (!emitFromTraverser(resultTraverser)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Traverser<OUT> newResultTraverser() {
+        return new ResultTraverser()
+                // reuse null filtering done by map()
+                .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
+    }
+
+    private static int bucket(Object key) {
+        return fastIntMix(key.hashCode()) & (BUCKET_COUNT - 1);
+    }
+
+    private boolean hasSpilledBuckets() {
+        if (bucketFiles != null) {
+            for (SpillFile<Object> file : bucketFiles) {
+                if (file != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the largest bucket that isn't spilled yet as spilled and starts
+     * a pass over the accumulators to write those of the spilled buckets to
+     * disk.
+     */
+    private void startSpill() {
+        int largest = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (bucketFiles[i] == null && (largest < 0 || bucketSizes[i] > bucketSizes[largest])) {
+                largest = i;
+            }
+        }
+        if (largest >= 0) {
+            bucketFiles[largest] = new SpillFile<>(spillDirectory, serializationService);
+            spilledBuckets.inc();
+        }
+        spillIterator = keyToAcc.entrySet().iterator();
+    }
+
+    /**
+     * Continues the pass started by {@link #startSpill()} with the next batch
+     * of accumulators. Returns {@code true} when the pass is done.
+     */
+    private boolean spill() {
+        long start = nanoTime();
+        for (int i = 0; i < SPILL_BATCH_SIZE && spillIterator.hasNext(); i++) {
+            Entry<K, A> entry = spillIterator.next();
+            int bucket = bucket(entry.getKey());
+            SpillFile<Object> file = bucketFiles[bucket];
+            if (file != null) {
+                long sizeBefore = file.sizeInBytes();
+                file.write(entry.getKey());
+                file.write(entry.getValue());
+                spilledBytes.inc(file.sizeInBytes() - sizeBefore);
+                spilledEntries.inc();
+                bucketSizes[bucket]--;
+                spillIterator.remove();
+            }
+        }
+        boolean done = !spillIterator.hasNext();
+        if (done) {
+            spillIterator = null;
+        }
+        spillTimeNanos.inc(nanoTime() - start);
+        return done;
+    }
+
+    /**
+     * Reads the next batch of the spilled accumulators of the current bucket
+     * into {@link #keyToAcc}, which is empty at the start of each bucket.
+     * Returns {@code true} when the whole bucket is read.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean readSpilledBucket() {
+        for (int i = 0; i < SPILL_BATCH_SIZE; i++) {
+            K key = (K) mergeReader.next();
+            if (key == null) {
+                return true;
+            }
+            A acc = (A) mergeReader.next();
+            A existing = keyToAcc.putIfAbsent(key, acc);
+            if (existing != null) {
+                aggrOp.combineFn().accept(existing, acc);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (bucketFiles != null) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                closeResource(bucketFiles[i]);
+                bucketFiles[i] = null;
+            }
         }
-        return emitFromTraverser(resultTraverser);
     }
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        // deleting the spill files is blocking
+        return !hasSpilledBuckets();
     }
 
     private class ResultTraverser implements Traverser<Entry<K, A>> {
@@ -17,7 +17,6 @@
 package com.hazelcast.jet.impl.processor;
 
 import com.hazelcast.internal.metrics.Probe;
-import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.JetException;
@@ -32,7 +31,8 @@ import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
-import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.HeapKeyedFrameStore;
+import com.hazelcast.jet.impl.memory.KeyedFrameStore;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -48,12 +48,11 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.function.LongFunction;
 import java.util.function.ToLongFunction;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
-import static com.hazelcast.function.ComparatorEx.naturalOrder;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
 import static com.hazelcast.jet.Traversers.traverseIterable;
@@ -78,7 +77,7 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
 
     // package-visible for testing
-    final Long2ObjectHashMap<Map<K, A>> tsToKeyToAcc = new Long2ObjectHashMap<>();
+    KeyedFrameStore<K, A> tsToKeyToAcc;
     Map<K, A> slidingWindow;
     // Holds the sliding window while emitting early window results. We reuse the
     // slidingWindow field for early results so the code can be simpler.
@@ -105,22 +104,13 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     private ProcessingGuarantee processingGuarantee;
     private final byte windowWatermarkKey;
 
-    // extracted lambdas to reduce GC litter
-    private final LongFunction<Map<K, A>> createMapPerTsFunction;
-    private final Function<K, A> createAccFunction;
-
     @Probe(name = "lateEventsDropped")
     private final Counter lateEventsDropped = SwCounter.newSwCounter();
-    @Probe(name = "totalFrames")
-    private final Counter totalFrames = SwCounter.newSwCounter();
-    @Probe(name = "totalKeysInFrames")
-    private final Counter totalKeysInFrames = SwCounter.newSwCounter();
 
     // Fields for early results emission
     private final long earlyResultsPeriod;
     private long lastTimeEarlyResultsEmitted;
     private Traverser<? extends OUT> earlyWinTraverser;
-    private long maxEntries;
 
     private Traverser<Object> flushTraverser;
     private Traverser<Entry> snapshotTraverser;
@@ -165,17 +155,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                         .onFirstNull(() -> nextWinToEmit = winPolicy.higherFrameTs(wm.timestamp()))
         );
         this.emptyAcc = aggrOp.createFn().get();
-        this.createMapPerTsFunction = x -> {
-            totalFrames.inc();
-            return new HashMap<>();
-        };
-        this.createAccFunction = k -> {
-            long newCount = totalKeysInFrames.inc();
-            if (newCount == maxEntries) {
-                throw new AccumulationLimitExceededException();
-            }
-            return aggrOp.createFn().get();
-        };
+        this.tsToKeyToAcc = new HeapKeyedFrameStore<>(aggrOp.createFn(), Long.MAX_VALUE);
         this.windowWatermarkKey = windowWatermarkKey;
     }
 
@@ -183,7 +163,22 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     protected void init(@Nonnull Context context) {
         processingGuarantee = context.processingGuarantee();
         lastTimeEarlyResultsEmitted = NANOSECONDS.toMillis(System.nanoTime());
-        maxEntries = context.maxProcessorAccumulatedRecords();
+        tsToKeyToAcc = KeyedFrameStore.create(context, aggrOp.createFn(), context.maxProcessorAccumulatedRecords());
+    }
+
+    @Probe(name = "totalFrames")
+    private long totalFrames() {
+        return tsToKeyToAcc.frameCount();
+    }
+
+    @Probe(name = "totalKeysInFrames")
+    private long totalKeysInFrames() {
+        return tsToKeyToAcc.keyCount();
+    }
+
+    @Probe(name = "stateMemoryUsage", unit = BYTES)
+    private long stateMemoryUsage() {
+        return tsToKeyToAcc.memoryUsage();
     }
 
     @Override
@@ -244,10 +239,9 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return true;
         }
         final K key = keyFns.get(ordinal).apply(item);
-        A acc = tsToKeyToAcc
-                .computeIfAbsent(frameTs, createMapPerTsFunction)
-                .computeIfAbsent(key, createAccFunction);
+        A acc = tsToKeyToAcc.accumulator(frameTs, key);
         aggrOp.accumulateFn(ordinal).accept(acc, item);
+        tsToKeyToAcc.store(frameTs, key, acc);
         topTs = max(topTs, frameTs);
         return true;
     }
@@ -272,9 +266,9 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return flushBuffers();
         }
         if (snapshotTraverser == null) {
-            snapshotTraverser = traverseIterable(tsToKeyToAcc.entrySet())
-                    .<Entry>flatMap(e -> traverseIterable(e.getValue().entrySet())
-                            .map(e2 -> entry(new SnapshotKey(e.getKey(), e2.getKey()), e2.getValue()))
+            snapshotTraverser = traverseStream(LongStream.of(tsToKeyToAcc.frameTimestamps()).boxed())
+                    .<Entry>flatMap(ts -> traverseIterable(tsToKeyToAcc.frame(ts).entrySet())
+                            .map(e -> entry(new SnapshotKey(ts, e.getKey()), e.getValue()))
                     )
                     .append(entry(broadcastKey(Keys.NEXT_WIN_TO_EMIT), nextWinToEmit))
                     .onFirstNull(() -> {
@@ -314,20 +308,15 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             }
         }
         minRestoredFrameTs = Math.min(higherFrameTs, minRestoredFrameTs);
-        tsToKeyToAcc
-                .computeIfAbsent(higherFrameTs, createMapPerTsFunction)
-                .merge((K) k.key, (A) value, (o, n) -> {
-                    if (!badFrameRestored) {
-                        throw new JetException("Duplicate key in snapshot: " + k);
-                    }
-                    if (combineFn == null) {
-                        throw new JetException("AggregateOperation.combineFn required for merging restored frames");
-                    }
-                    combineFn.accept(o, n);
-                    totalKeysInFrames.inc(-1);
-                    return o;
-                });
-        totalKeysInFrames.inc();
+        tsToKeyToAcc.merge(higherFrameTs, (K) k.key, (A) value, (o, n) -> {
+            if (!badFrameRestored) {
+                throw new JetException("Duplicate key in snapshot: " + k);
+            }
+            if (combineFn == null) {
+                throw new JetException("AggregateOperation.combineFn required for merging restored frames");
+            }
+            combineFn.accept(o, n);
+        });
         topTs = max(topTs, higherFrameTs);
     }
 
@@ -348,11 +337,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             if (nextWinToEmit > Long.MIN_VALUE + winPolicy.windowSize()) {
                 for (long ts = minRestoredFrameTs; ts <= nextWinToEmit - winPolicy.windowSize();
                         ts += winPolicy.frameSize()) {
-                    Map<K, A> removed = tsToKeyToAcc.remove(ts);
-                    if (removed != null) {
-                        totalFrames.inc(-1);
-                        totalKeysInFrames.inc(-removed.size());
-                    }
+                    tsToKeyToAcc.removeFrame(ts);
                 }
             }
         }
@@ -364,6 +349,11 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return true;
     }
 
+    @Override
+    public void close() {
+        tsToKeyToAcc.dispose();
+    }
+
     private Traverser<Object> windowTraverserAndEvictor(long wm) {
         long rangeStart = startingWindowTs(wm);
         if (rangeStart == Long.MIN_VALUE) {
@@ -394,16 +384,16 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         // be correctly initialized using the "add leading/deduct trailing" approach
         // because we start from a window that covers at most one existing frame --
         // the lowest one on record.
-        long bottomTs = tsToKeyToAcc
-                .keySet().stream()
-                .min(naturalOrder())
+        long bottomTs = LongStream.of(tsToKeyToAcc.frameTimestamps())
+                .min()
                 .orElseThrow(() -> new AssertionError("Failed to find the min key in a non-empty map"));
         return min(bottomTs, winPolicy.floorFrameTs(wm));
     }
 
     private Map<K, A> computeWindow(long frameTs) {
         if (winPolicy.isTumbling()) {
-            return tsToKeyToAcc.getOrDefault(frameTs, emptyMap());
+            Map<K, A> frame = tsToKeyToAcc.frame(frameTs);
+            return frame != null ? frame : emptyMap();
         }
         if (aggrOp.deductFn() == null) {
             return recomputeWindow(frameTs);
@@ -412,7 +402,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             slidingWindow = recomputeWindow(frameTs);
         } else {
             // add leading-edge frame
-            patchSlidingWindow(aggrOp.combineFn(), tsToKeyToAcc.get(frameTs));
+            patchSlidingWindow(aggrOp.combineFn(), tsToKeyToAcc.frame(frameTs));
         }
         return slidingWindow;
     }
@@ -424,7 +414,11 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
              ts += winPolicy.frameSize()
         ) {
             assert combineFn != null : "combineFn == null";
-            for (Entry<K, A> entry : tsToKeyToAcc.getOrDefault(ts, emptyMap()).entrySet()) {
+            Map<K, A> frame = tsToKeyToAcc.frame(ts);
+            if (frame == null) {
+                continue;
+            }
+            for (Entry<K, A> entry : frame.entrySet()) {
                 combineFn.accept(
                         window.computeIfAbsent(entry.getKey(), k -> aggrOp.createFn().get()),
                         entry.getValue());
@@ -448,25 +442,18 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
 
     private void completeWindow(long frameTs) {
         long tsOfFrameToEvict = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
-        Map<K, A> evictedFrame = tsToKeyToAcc.remove(tsOfFrameToEvict);
-        if (evictedFrame != null) {
-            totalKeysInFrames.inc(-evictedFrame.size());
-            totalFrames.inc(-1);
-            if (!winPolicy.isTumbling() && aggrOp.deductFn() != null) {
-                // deduct trailing-edge frame
-                patchSlidingWindow(aggrOp.deductFn(), evictedFrame);
-            }
+        Map<K, A> evictedFrame = tsToKeyToAcc.removeFrame(tsOfFrameToEvict);
+        if (evictedFrame != null && !winPolicy.isTumbling() && aggrOp.deductFn() != null) {
+            // deduct trailing-edge frame
+            patchSlidingWindow(aggrOp.deductFn(), evictedFrame);
         }
-        assert tsToKeyToAcc.values().stream().mapToInt(Map::size).sum() == totalKeysInFrames.get()
-                : "totalKeysInFrames mismatch, expected=" + tsToKeyToAcc.values().stream().mapToInt(Map::size).sum()
-                + ", actual=" + totalKeysInFrames.get();
     }
 
     private void completeEarlyWindow(long frameTs) {
         if (winPolicy.isTumbling() || aggrOp.deductFn() == null) {
             return;
         }
-        Map<K, A> frameToDeduct = tsToKeyToAcc.get(frameTs - winPolicy.windowSize() + winPolicy.frameSize());
+        Map<K, A> frameToDeduct = tsToKeyToAcc.frame(frameTs - winPolicy.windowSize() + winPolicy.frameSize());
         if (frameToDeduct != null) {
             patchSlidingWindow(aggrOp.deductFn(), frameToDeduct);
         }
@@ -14,53 +14,217 @@
  * limitations under the License.
  */
 
+
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.PriorityQueue;
 
-public class SortP<T> extends AbstractProcessor {
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static java.lang.System.nanoTime;
+
+/**
+ * Sorts its input and emits it in the {@code complete} phase.
+ * <p>
+ * The items are kept in a priority queue. When the queue reaches the
+ * accumulation limit and a {@linkplain SpillFile#spillDirectory spill
+ * directory} is configured, the queue is drained to a {@link SpillFile} as a
+ * sorted run and the processor continues with an empty queue. When the input
+ * is complete, the spilled runs and the items left in the queue are merged.
+ * The runs are written and read in small batches so that the processor
+ * returns regularly, but since that's blocking IO, the processor isn't
+ * cooperative if the spill directory is configured.
+ */
+public class SortP<T> extends AbstractProcessor implements SpillingProcessor {
 
+    private static final int SPILL_BATCH_SIZE = 1024;
+
+    private final Comparator<T> comparator;
     private final PriorityQueue<T> priorityQueue;
     private final Traverser<T> resultTraverser;
+    private final List<SpillFile<T>> runs = new ArrayList<>();
+
+    @Probe(name = "spilledRuns")
+    private final Counter spilledRuns = SwCounter.newSwCounter();
+    @Probe(name = "spilledItems")
+    private final Counter spilledItems = SwCounter.newSwCounter();
+    @Probe(name = "spilledBytes", unit = ProbeUnit.BYTES)
+    private final Counter spilledBytes = SwCounter.newSwCounter();
+    @Probe(name = "spillTime", unit = ProbeUnit.NS)
+    private final Counter spillTimeNanos = SwCounter.newSwCounter();
 
     private long maxItems;
+    private Path spillDirectory;
+    private InternalSerializationService serializationService;
+    private SpillFile<T> spillingRun;
+    private Traverser<T> mergeTraverser;
 
+    @SuppressWarnings("unchecked")
     public SortP(@Nullable Comparator<T> comparator) {
-        this.priorityQueue = new PriorityQueue<>(comparator);
+        this.comparator = comparator != null ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        this.priorityQueue = new PriorityQueue<>(this.comparator);
         this.resultTraverser = priorityQueue::poll;
     }
 
+    @Override
+    public void setSpillDirectory(@Nullable Path spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return spillDirectory == null;
+    }
+
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
-        maxItems = context.maxProcessorAccumulatedRecords();
+        if (spillDirectory == null) {
+            // not set if the processor isn't created by the execution plan, e.g. in a test
+            spillDirectory = SpillFile.spillDirectory(context);
+        }
+        if (spillDirectory == null) {
+            maxItems = context.maxProcessorAccumulatedRecords();
+        } else {
+            maxItems = SpillFile.maxRecordsInMemory(context);
+            serializationService = SpillFile.serializationService(context);
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess0(@Nonnull Object item) {
+        if (spillingRun != null && !spill()) {
+            return false;
+        }
         if (priorityQueue.size() == maxItems) {
-            throw new AccumulationLimitExceededException();
+            if (spillDirectory == null) {
+                throw new AccumulationLimitExceededException();
+            }
+            spillingRun = new SpillFile<>(spillDirectory, serializationService);
+            if (!spill()) {
+                return false;
+            }
         }
 
         priorityQueue.add((T) item);
         return true;
     }
 
+    /**
+     * Writes the next batch of the sorted run to the spill file. Returns
+     * {@code true} when the queue is fully drained.
+     */
+    private boolean spill() {
+        long start = nanoTime();
+        for (int i = 0; i < SPILL_BATCH_SIZE; i++) {
+            T item = priorityQueue.poll();
+            if (item == null) {
+                runs.add(spillingRun);
+                spilledRuns.inc();
+                spilledItems.inc(spillingRun.itemCount());
+                spilledBytes.inc(spillingRun.sizeInBytes());
+                spillingRun = null;
+                spillTimeNanos.inc(nanoTime() - start);
+                return true;
+            }
+            spillingRun.write(item);
+        }
+        spillTimeNanos.inc(nanoTime() - start);
+        return false;
+    }
+
     @Override
     public boolean complete() {
-        return emitFromTraverser(resultTraverser);
+        if (spillingRun != null && !spill()) {
+            return false;
+        }
+        if (runs.isEmpty()) {
+            return emitFromTraverser(resultTraverser);
+        }
+        if (mergeTraverser == null) {
+            mergeTraverser = mergeRuns();
+        }
+        if (!emitFromTraverser(mergeTraverser)) {
+            return false;
+        }
+        closeRuns();
+        return true;
+    }
+
+    private Traverser<T> mergeRuns() {
+        PriorityQueue<MergeSource<T>> sources = new PriorityQueue<>(runs.size() + 1,
+                (left, right) -> comparator.compare(left.head, right.head));
+        for (SpillFile<T> run : runs) {
+            MergeSource<T> source = new MergeSource<>(run.read());
+            if (source.advance()) {
+                sources.add(source);
+            }
+        }
+        MergeSource<T> inMemory = new MergeSource<>(resultTraverser);
+        if (inMemory.advance()) {
+            sources.add(inMemory);
+        }
+        return () -> {
+            MergeSource<T> source = sources.poll();
+            if (source == null) {
+                return null;
+            }
+            T item = source.head;
+            if (source.advance()) {
+                sources.add(source);
+            }
+            return item;
+        };
+    }
+
+    private void closeRuns() {
+        closeResource(spillingRun);
+        spillingRun = null;
+        for (SpillFile<T> run : runs) {
+            closeResource(run);
+        }
+        runs.clear();
+    }
+
+    @Override
+    public void close() {
+        closeRuns();
     }
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        // deleting the spill files is blocking
+        return runs.isEmpty() && spillingRun == null;
+    }
+
+    private static final class MergeSource<T> {
+        private final Traverser<T> traverser;
+        private T head;
+
+        MergeSource(Traverser<T> traverser) {
+            this.traverser = traverser;
+        }
+
+        boolean advance() {
+            head = traverser.next();
+            return head != null;
+        }
     }
 }
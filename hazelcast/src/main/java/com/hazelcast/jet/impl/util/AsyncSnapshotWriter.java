@@ -43,4 +43,16 @@ public interface AsyncSnapshotWriter {
     long getTotalPayloadBytes();
     long getTotalKeys();
     long getTotalChunks();
+
+    /**
+     * Returns the number of keys skipped in the current incremental snapshot
+     * because their value didn't change.
+     */
+    long getTotalUnchangedKeys();
+
+    /**
+     * Returns the number of keys written as removed in the current
+     * incremental snapshot.
+     */
+    long getTotalRemovedKeys();
 }
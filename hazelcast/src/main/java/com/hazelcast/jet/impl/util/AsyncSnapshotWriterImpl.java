@@ -40,6 +40,9 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -49,7 +52,28 @@ import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import static com.hazelcast.jet.impl.JobRepository.safeImap;
-
+import static com.hazelcast.jet.impl.serialization.SerializerHookConstants.BROADCAST_KEY;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS;
+
+/**
+ * Writes the snapshot entries of one vertex on one member to the snapshot
+ * map, packing them into chunks per partition.
+ * <p>
+ * If {@link com.hazelcast.spi.properties.ClusterProperty#JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS
+ * incremental snapshots} are enabled, the writer remembers a hash of each
+ * value it wrote in the last snapshot that wasn't exported. The same key
+ * can be offered multiple times, the values are told apart by the order in
+ * which they were offered: each entry is preceded by a {@link
+ * SnapshotDataEntryId} with the index of the member and the occurrence of
+ * the key. In an incremental snapshot, the writer skips the entries whose
+ * value hash didn't change and writes a {@link SnapshotDataTombstone} for
+ * the entries that weren't offered anymore. Broadcast keys are always
+ * written without an ID.
+ * <p>
+ * If the snapshots are {@linkplain DiskSnapshotStore stored on disk}, the
+ * chunks of the snapshots that aren't exported are written to the local
+ * disk and replicated to the disks of other members instead of to the map.
+ */
 public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
 
     public static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
@@ -69,16 +93,33 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     private final boolean useBigEndian;
     private final SnapshotContext snapshotContext;
     private final String vertexName;
+    private final int memberIndex;
     private final int memberCount;
     private IMap<SnapshotDataKey, Object> currentMap;
+    private String currentMapName;
+    private final DiskSnapshotStore diskSnapshotStore;
+    private boolean writeToDisk;
     private long currentSnapshotId;
     private final AtomicReference<Throwable> firstError = new AtomicReference<>();
     private final AtomicInteger numActiveFlushes = new AtomicInteger();
 
+    // Value hashes of the entries written to the last snapshot that wasn't
+    // exported, null if incremental snapshots are disabled. While a snapshot
+    // is written, the entries offered to it are tracked in currentValueHashes.
+    private Map<Data, ValueHashes> lastValueHashes;
+    private Map<Data, ValueHashes> currentValueHashes;
+    private boolean incremental;
+    private final Data tombstone;
+    private final InternalSerializationService serializationService;
+    // the ID of the first occurrence of a key, which is by far the most common
+    private final Data firstOccurrenceId;
+
     // stats
     private long totalKeys;
     private long totalChunks;
     private long totalPayloadBytes;
+    private long totalUnchangedKeys;
+    private long totalRemovedKeys;
 
     private final BiConsumer<Object, Throwable> putResponseConsumer = this::consumePutResponse;
 
@@ -107,7 +148,9 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         this.logger = nodeEngine.getLogger(getClass());
         this.snapshotContext = snapshotContext;
         this.vertexName = vertexName;
+        this.memberIndex = memberIndex;
         this.memberCount = memberCount;
+        this.serializationService = serializationService;
         currentSnapshotId = snapshotContext.currentSnapshotId();
 
         useBigEndian = serializationService.getByteOrder().equals(ByteOrder.BIG_ENDIAN);
@@ -123,6 +166,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         this.partitionSequence = memberIndex;
 
         this.numConcurrentAsyncOps = jetServiceBackend.numConcurrentAsyncOps();
+        this.diskSnapshotStore = jetServiceBackend.getDiskSnapshotStore();
 
         byte[] valueTerminatorWithHeader = serializationService.toData(SnapshotDataValueTerminator.INSTANCE).toByteArray();
         valueTerminator = Arrays.copyOfRange(valueTerminatorWithHeader, HeapData.TYPE_OFFSET,
@@ -131,6 +175,11 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         if (usableChunkCapacity <= 0) {
             throw new IllegalArgumentException("too small chunk size: " + chunkSize);
         }
+        tombstone = serializationService.toData(SnapshotDataTombstone.INSTANCE);
+        firstOccurrenceId = serializationService.toData(new SnapshotDataEntryId(memberIndex, 0));
+        if (nodeEngine.getProperties().getInteger(JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS) > 0) {
+            lastValueHashes = new HashMap<>();
+        }
     }
 
     private static CustomByteArrayOutputStream[] createAndInitBuffers(
@@ -163,8 +212,51 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     @Override
     @CheckReturnValue
     public boolean offer(Entry<? extends Data, ? extends Data> entry) {
-        int partitionId = partitionService.getPartitionId(entry.getKey());
-        int length = entry.getKey().totalSize() + entry.getValue().totalSize() - 2 * HeapData.TYPE_OFFSET;
+        if (!initCurrentMap()) {
+            return false;
+        }
+        Data key = entry.getKey();
+        if (currentValueHashes == null || key.getType() == BROADCAST_KEY) {
+            return write(null, key, entry.getValue());
+        }
+        ValueHashes current = currentValueHashes.get(key);
+        int occurrence = current == null ? 0 : current.size;
+        long valueHash = valueHash(entry.getValue());
+        ValueHashes last = lastValueHashes.get(key);
+        boolean unchanged = incremental && last != null && occurrence < last.size
+                && last.hashes[occurrence] == valueHash;
+        if (unchanged) {
+            totalUnchangedKeys++;
+        } else if (!write(entryId(occurrence), key, entry.getValue())) {
+            return false;
+        }
+        if (current == null) {
+            current = new ValueHashes();
+            currentValueHashes.put(key, current);
+        }
+        current.add(valueHash);
+        return true;
+    }
+
+    private Data entryId(int occurrence) {
+        return occurrence == 0
+                ? firstOccurrenceId
+                : serializationService.toData(new SnapshotDataEntryId(memberIndex, occurrence));
+    }
+
+    private static long valueHash(Data value) {
+        return 31 * value.hash64() + value.getType();
+    }
+
+    /**
+     * Writes the entry to the chunk of the key's partition, preceded by the
+     * {@code entryId}, if not null.
+     */
+    @CheckReturnValue
+    private boolean write(Data entryId, Data key, Data value) {
+        int partitionId = partitionService.getPartitionId(key);
+        int entryIdLength = entryId == null ? 0 : entryId.totalSize() - HeapData.TYPE_OFFSET;
+        int length = entryIdLength + key.totalSize() + value.totalSize() - 2 * HeapData.TYPE_OFFSET;
 
         // if the entry is larger than usableChunkSize, send it in its own chunk. We avoid adding it to the
         // ByteArrayOutputStream since it would expand it beyond its maximum capacity.
@@ -179,11 +271,16 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
                 Bits.writeInt(data, offset, length + valueTerminator.length, useBigEndian);
                 offset += Bits.INT_SIZE_IN_BYTES;
 
-                copyWithoutHeader(entry.getKey(), data, offset);
-                offset += entry.getKey().totalSize() - HeapData.TYPE_OFFSET;
+                if (entryId != null) {
+                    copyWithoutHeader(entryId, data, offset);
+                    offset += entryIdLength;
+                }
+
+                copyWithoutHeader(key, data, offset);
+                offset += key.totalSize() - HeapData.TYPE_OFFSET;
 
-                copyWithoutHeader(entry.getValue(), data, offset);
-                offset += entry.getValue().totalSize() - HeapData.TYPE_OFFSET;
+                copyWithoutHeader(value, data, offset);
+                offset += value.totalSize() - HeapData.TYPE_OFFSET;
 
                 System.arraycopy(valueTerminator, 0, data, offset, valueTerminator.length);
 
@@ -198,8 +295,11 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
 
         // append to buffer
-        writeWithoutHeader(entry.getKey(), buffer);
-        writeWithoutHeader(entry.getValue(), buffer);
+        if (entryId != null) {
+            writeWithoutHeader(entryId, buffer);
+        }
+        writeWithoutHeader(key, buffer);
+        writeWithoutHeader(value, buffer);
         totalKeys++;
         return true;
     }
@@ -257,9 +357,11 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             Data data = dataSupplier.get();
             totalPayloadBytes += data.dataSize();
             totalChunks++;
-            CompletableFuture<Object> future = currentMap.putAsync(
-                    new SnapshotDataKey(partitionKeys[partitionId], currentSnapshotId, vertexName, partitionSequence),
-                    data).toCompletableFuture();
+            SnapshotDataKey key =
+                    new SnapshotDataKey(partitionKeys[partitionId], currentSnapshotId, vertexName, partitionSequence);
+            CompletableFuture<?> future = writeToDisk
+                    ? diskSnapshotStore.writeAndReplicateAsync(nodeEngine, currentMapName, key, data)
+                    : currentMap.putAsync(key, data).toCompletableFuture();
             partitionSequence += memberCount;
             future.whenComplete(putResponseConsumer);
             numActiveFlushes.incrementAndGet();
@@ -278,7 +380,40 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             // Snapshot IMap proxy instance may be shared, but we always want it
             // to have failOnIndeterminateOperationState enabled.
             currentMap = safeImap(nodeEngine.getHazelcastInstance().getMap(mapName));
+            currentMapName = mapName;
+            writeToDisk = diskSnapshotStore != null && !snapshotContext.isExport();
             this.currentSnapshotId = snapshotContext.currentSnapshotId();
+            if (lastValueHashes != null && !snapshotContext.isExport()) {
+                incremental = snapshotContext.isIncremental();
+                currentValueHashes = new HashMap<>();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a tombstone for each entry of the last snapshot that wasn't
+     * offered to the current incremental snapshot, that is for the
+     * occurrences of a key beyond the number of times it was offered now.
+     */
+    @CheckReturnValue
+    private boolean writeRemovedKeys() {
+        if (!incremental) {
+            return true;
+        }
+        for (Iterator<Entry<Data, ValueHashes>> it = lastValueHashes.entrySet().iterator(); it.hasNext(); ) {
+            Entry<Data, ValueHashes> en = it.next();
+            ValueHashes current = currentValueHashes.get(en.getKey());
+            int offeredCount = current == null ? 0 : current.size;
+            ValueHashes last = en.getValue();
+            // going from the end so that the written tombstones can be dropped if we have to retry
+            for (; last.size > offeredCount; last.size--) {
+                if (!write(entryId(last.size - 1), en.getKey(), tombstone)) {
+                    return false;
+                }
+                totalRemovedKeys++;
+            }
+            it.remove();
         }
         return true;
     }
@@ -293,7 +428,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     @Override
     @CheckReturnValue
     public boolean flushAndResetMap() {
-        if (!initCurrentMap()) {
+        if (!initCurrentMap() || !writeRemovedKeys()) {
             return false;
         }
 
@@ -305,16 +440,24 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
 
         // we're done
         currentMap = null;
+        if (currentValueHashes != null) {
+            // the keys not offered to a full snapshot are simply dropped
+            lastValueHashes = currentValueHashes;
+            currentValueHashes = null;
+        }
         if (logger.isFineEnabled()) {
-            logger.fine("Stats for %s: keys=%,d, chunks=%,d, bytes=%,d",
-                    vertexName, totalKeys, totalChunks, totalPayloadBytes);
+            logger.fine(String.format("Stats for %s: keys=%,d, chunks=%,d, bytes=%,d, incremental=%s, "
+                            + "unchangedKeys=%,d, removedKeys=%,d",
+                    vertexName, totalKeys, totalChunks, totalPayloadBytes, incremental, totalUnchangedKeys,
+                    totalRemovedKeys));
         }
+        incremental = false;
         return true;
     }
 
     @Override
     public void resetStats() {
-        totalKeys = totalChunks = totalPayloadBytes = 0;
+        totalKeys = totalChunks = totalPayloadBytes = totalUnchangedKeys = totalRemovedKeys = 0;
     }
 
     @Override
@@ -358,6 +501,10 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             return partitionKey;
         }
 
+        public int partitionKey() {
+            return partitionKey;
+        }
+
         public long snapshotId() {
             return snapshotId;
         }
@@ -366,6 +513,10 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             return vertexName;
         }
 
+        public int sequence() {
+            return sequence;
+        }
+
         @Override
         public String toString() {
             return "SnapshotDataKey{" +
@@ -423,6 +574,77 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
     }
 
+    /**
+     * Precedes an entry in a snapshot chunk if incremental snapshots are
+     * enabled. It identifies the entry within the snapshots of an incremental
+     * chain: by the index of the member that wrote it and by the number of
+     * entries with the same key the member wrote before it.
+     */
+    public static final class SnapshotDataEntryId implements IdentifiedDataSerializable {
+        private int memberIndex;
+        private int occurrence;
+
+        // for deserialization
+        public SnapshotDataEntryId() {
+        }
+
+        public SnapshotDataEntryId(int memberIndex, int occurrence) {
+            this.memberIndex = memberIndex;
+            this.occurrence = occurrence;
+        }
+
+        public int memberIndex() {
+            return memberIndex;
+        }
+
+        public int occurrence() {
+            return occurrence;
+        }
+
+        @Override
+        public String toString() {
+            return "SnapshotDataEntryId{memberIndex=" + memberIndex + ", occurrence=" + occurrence + '}';
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_ENTRY_ID;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(memberIndex);
+            out.writeInt(occurrence);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            memberIndex = in.readInt();
+            occurrence = in.readInt();
+        }
+    }
+
+    /**
+     * The hashes of the values offered under one key, in the order in which
+     * they were offered.
+     */
+    private static final class ValueHashes {
+        long[] hashes = new long[1];
+        int size;
+
+        void add(long hash) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            hashes[size++] = hash;
+        }
+    }
+
     public static final class SnapshotDataValueTerminator implements IdentifiedDataSerializable {
 
         public static final IdentifiedDataSerializable INSTANCE = new SnapshotDataValueTerminator();
@@ -449,6 +671,36 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
     }
 
+    /**
+     * The value written to an incremental snapshot for a key that was removed
+     * since the previous snapshot.
+     */
+    public static final class SnapshotDataTombstone implements IdentifiedDataSerializable {
+
+        public static final IdentifiedDataSerializable INSTANCE = new SnapshotDataTombstone();
+
+        private SnapshotDataTombstone() {
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_TOMBSTONE;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) {
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) {
+        }
+    }
+
     /**
      * Non-synchronized variant of {@code java.io.ByteArrayOutputStream} with capacity limit.
      */
@@ -525,4 +777,14 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     public long getTotalChunks() {
         return totalChunks;
     }
+
+    @Override
+    public long getTotalUnchangedKeys() {
+        return totalUnchangedKeys;
+    }
+
+    @Override
+    public long getTotalRemovedKeys() {
+        return totalRemovedKeys;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.util;
+
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_fmix;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * A Bloom filter over the {@link Object#hashCode() hash codes} of the added
+ * items. {@link #mightContain} never returns {@code false} for an added
+ * item; it returns {@code true} for an item that wasn't added with a
+ * probability that depends on the number of added items per bit.
+ * <p>
+ * The indexes of the bits are derived from a single 64-bit mix of the hash
+ * code using double hashing. The filter isn't thread-safe.
+ */
+public class BloomFilter {
+
+    private static final int HASH_FUNCTIONS = 5;
+    private static final int MIN_BITS = Long.SIZE;
+    private static final int MAX_BITS = 1 << 30;
+
+    private final long[] words;
+    private final int mask;
+
+    /**
+     * @param expectedItems the expected number of items
+     * @param bitsPerItem   the number of bits per expected item, 8 bits give a
+     *                      false positive probability of about 2%
+     */
+    public BloomFilter(int expectedItems, int bitsPerItem) {
+        long bits = Math.max(MIN_BITS, Math.min(MAX_BITS, (long) expectedItems * bitsPerItem));
+        int size = (int) nextPowerOfTwo(bits);
+        this.words = new long[size / Long.SIZE];
+        this.mask = size - 1;
+    }
+
+    public void add(Object item) {
+        long hash = MurmurHash3_fmix((long) item.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> Integer.SIZE) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & mask;
+            words[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(Object item) {
+        long hash = MurmurHash3_fmix((long) item.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> Integer.SIZE) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((words[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the size of the filter in bits.
+     */
+    public int sizeInBits() {
+        return mask + 1;
+    }
+}
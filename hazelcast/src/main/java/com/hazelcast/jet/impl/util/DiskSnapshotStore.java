@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.util;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.impl.JetServiceBackend;
+import com.hazelcast.jet.impl.operation.CountDiskSnapshotChunksOperation;
+import com.hazelcast.jet.impl.operation.DeleteDiskSnapshotOperation;
+import com.hazelcast.jet.impl.operation.WriteDiskSnapshotChunkOperation;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmptyAfterTrim;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.JOB_OFFLOADABLE_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_DISK_BACKUP_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_DISK_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_STORE;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Stores the chunks of the automatic snapshots on the local disk instead of
+ * in the snapshot IMap, see {@link
+ * com.hazelcast.spi.properties.ClusterProperty#JET_SNAPSHOT_STORE}.
+ * <p>
+ * The chunks of one snapshot map are appended to one segment file per
+ * member that wrote them, the <em>owner</em>. A member stores the segments
+ * it owns and the replicas of the segments of other members. Each record in
+ * a segment is prefixed with its length and a CRC32 checksum:
+ * <pre>
+ *     int length, long crc32, int partitionKey, long snapshotId, int sequence,
+ *     UTF vertexName, byte[] chunk (the serialized byte array, as in the IMap)
+ * </pre>
+ * A record that isn't fully written, e.g. because the member crashed while
+ * writing it, can only be the last one in the segment and is ignored when
+ * reading. A record with a wrong checksum fails the read.
+ * <p>
+ * The data of a member is stored in a directory named after its UUID. It's
+ * useful only while the member is in the cluster: a restarted member has a
+ * new UUID and doesn't read the directory of its previous run, the replicas
+ * on the other members protect the data against the failure of a member.
+ * The data isn't forced to the storage device.
+ * <p>
+ * A running member holds a lock on the {@value #LOCK_FILE} file in its
+ * directory. When a member starts, it deletes the directories in the same
+ * root that aren't locked: they were left behind by members that didn't
+ * shut down cleanly.
+ * <p>
+ * The methods are thread-safe and blocking.
+ */
+public class DiskSnapshotStore {
+
+    /**
+     * The value of {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_SNAPSHOT_STORE} that
+     * enables this store.
+     */
+    public static final String DISK = "DISK";
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String LOCK_FILE = ".lock";
+    private static final long LOCK_RETRY_MILLIS = 10;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final ILogger logger;
+    private final ConcurrentMap<Path, FileChannel> openSegments = new ConcurrentHashMap<>();
+    private FileChannel lockChannel;
+
+    public DiskSnapshotStore(@Nonnull Path directory, @Nonnull ILogger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Creates the store for the local member, or returns {@code null} if the
+     * snapshots are stored in IMaps.
+     */
+    @Nullable
+    public static DiskSnapshotStore create(@Nonnull NodeEngine nodeEngine) {
+        if (!isEnabled(nodeEngine.getProperties())) {
+            return null;
+        }
+        String configuredDirectory = nodeEngine.getProperties().getString(JET_SNAPSHOT_DISK_DIRECTORY);
+        Path root = isNullOrEmptyAfterTrim(configuredDirectory)
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "hazelcast-jet-snapshots")
+                : Paths.get(configuredDirectory.trim());
+        Path directory = root.resolve(nodeEngine.getLocalMember().getUuid().toString());
+        ILogger logger = nodeEngine.getLogger(DiskSnapshotStore.class);
+        logger.info("Storing the snapshot data of the jobs in " + directory);
+        DiskSnapshotStore store = new DiskSnapshotStore(directory, logger);
+        try {
+            store.lockDirectory();
+            store.deleteStaleDirectories();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return store;
+    }
+
+    public static boolean isEnabled(@Nonnull HazelcastProperties properties) {
+        return DISK.equalsIgnoreCase(properties.getString(JET_SNAPSHOT_STORE).trim());
+    }
+
+    /**
+     * Appends the chunk to the segment of the given owner in the given
+     * snapshot map.
+     */
+    public void write(@Nonnull String mapName, @Nonnull UUID owner, @Nonnull SnapshotDataKey key,
+                      @Nonnull byte[] chunk) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(RECORD_HEADER_SIZE + chunk.length + 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        // placeholders for the length and the checksum
+        out.writeInt(0);
+        out.writeLong(0);
+        out.writeInt(key.partitionKey());
+        out.writeLong(key.snapshotId());
+        out.writeInt(key.sequence());
+        out.writeUTF(key.vertexName());
+        out.write(chunk);
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        int length = record.capacity() - RECORD_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), RECORD_HEADER_SIZE, length);
+        record.putInt(0, length).putLong(Integer.BYTES, crc.getValue());
+
+        Path segment = segmentPath(mapName, owner);
+        FileChannel channel = openSegments.computeIfAbsent(segment, this::openForAppend);
+        // the records of concurrent writers must not interleave
+        synchronized (channel) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of chunks with a snapshot ID in the given range the
+     * store holds for each owner in the given snapshot map.
+     */
+    @Nonnull
+    public Map<UUID, Long> countChunks(@Nonnull String mapName, long minSnapshotId, long maxSnapshotId)
+            throws IOException {
+        Map<UUID, Long> counts = new HashMap<>();
+        for (UUID owner : owners(mapName)) {
+            long count = 0;
+            // only the headers are read, the checksums are verified when the chunks are read
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Files.newInputStream(segmentPath(mapName, owner)), READ_BUFFER_SIZE))) {
+                for (;;) {
+                    int length = in.readInt();
+                    in.readLong(); // checksum
+                    in.readInt(); // partitionKey
+                    long snapshotId = in.readLong();
+                    int remaining = length - Integer.BYTES - Long.BYTES;
+                    if (in.skipBytes(remaining) < remaining) {
+                        // a record that wasn't fully written
+                        break;
+                    }
+                    if (snapshotId >= minSnapshotId && snapshotId <= maxSnapshotId) {
+                        count++;
+                    }
+                }
+            } catch (EOFException ignored) {
+                // the end of the segment
+            }
+            counts.put(owner, count);
+        }
+        return counts;
+    }
+
+    /**
+     * Opens a reader of the segment of the given owner in the given snapshot
+     * map. The reader returns no chunks if the store doesn't hold the segment.
+     */
+    @Nonnull
+    public SegmentReader openReader(@Nonnull String mapName, @Nonnull UUID owner) throws IOException {
+        Path segment = segmentPath(mapName, owner);
+        try {
+            return new SegmentReader(segment, new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(segment), READ_BUFFER_SIZE)));
+        } catch (NoSuchFileException e) {
+            return new SegmentReader(segment, null);
+        }
+    }
+
+    /**
+     * Deletes the data of the given snapshot map.
+     */
+    public void delete(@Nonnull String mapName) {
+        Path mapDirectory = directory.resolve(mapName);
+        openSegments.keySet().removeIf(segment -> {
+            if (!segment.getParent().equals(mapDirectory)) {
+                return false;
+            }
+            IOUtil.closeResource(openSegments.get(segment));
+            return true;
+        });
+        IOUtil.delete(mapDirectory);
+    }
+
+    /**
+     * Closes the open segments and deletes all the data of the local member.
+     */
+    public void shutdown() {
+        openSegments.values().forEach(IOUtil::closeResource);
+        openSegments.clear();
+        // the lock file can't be deleted while it's locked on some platforms
+        IOUtil.closeResource(lockChannel);
+        IOUtil.delete(directory);
+    }
+
+    /**
+     * Creates the directory of the local member and locks it, so that other
+     * members don't delete it as stale, see {@link #deleteStaleDirectories()}.
+     */
+    void lockDirectory() throws IOException {
+        Path lockFile = directory.resolve(LOCK_FILE);
+        for (;;) {
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE);
+            try {
+                // Another member checking whether the directory is stale
+                // holds the lock briefly. If it acquired the lock before us,
+                // it deleted the file and we have to start over.
+                if (channel.tryLock() != null && Files.exists(lockFile)) {
+                    lockChannel = channel;
+                    return;
+                }
+            } catch (OverlappingFileLockException ignored) {
+                // locked by another member in this JVM
+            }
+            IOUtil.closeResource(channel);
+            LockSupport.parkNanos(MILLISECONDS.toNanos(LOCK_RETRY_MILLIS));
+        }
+    }
+
+    /**
+     * Deletes the directories of the other members in the parent directory
+     * of the local member's directory, which aren't locked by a running
+     * member. Directories without a lock file are skipped: their member is
+     * starting.
+     */
+    void deleteStaleDirectories() throws IOException {
+        List<Path> siblings;
+        try (Stream<Path> paths = Files.list(directory.getParent())) {
+            siblings = paths.filter(path -> Files.isDirectory(path) && !path.equals(directory)).toList();
+        }
+        for (Path sibling : siblings) {
+            Path lockFile = sibling.resolve(LOCK_FILE);
+            try (FileChannel channel = FileChannel.open(lockFile, WRITE)) {
+                if (channel.tryLock() == null) {
+                    // locked by a member in another process
+                    continue;
+                }
+                logger.info("Deleting the snapshot data left behind by a stopped member in " + sibling);
+                try (Stream<Path> files = Files.list(sibling)) {
+                    files.filter(path -> !path.getFileName().toString().equals(LOCK_FILE))
+                         .forEach(IOUtil::delete);
+                }
+            } catch (NoSuchFileException | OverlappingFileLockException ignored) {
+                // a member that is starting or is running in this JVM
+                continue;
+            }
+            try {
+                IOUtil.delete(sibling);
+            } catch (Exception e) {
+                logger.fine("Failed to delete " + sibling, e);
+            }
+        }
+    }
+
+    private List<UUID> owners(String mapName) throws IOException {
+        Path mapDirectory = directory.resolve(mapName);
+        if (!Files.isDirectory(mapDirectory)) {
+            return List.of();
+        }
+        List<UUID> owners = new ArrayList<>();
+        try (Stream<Path> segments = Files.list(mapDirectory)) {
+            segments.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> owners.add(UUID.fromString(
+                            name.substring(0, name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        return owners;
+    }
+
+    private Path segmentPath(String mapName, UUID owner) {
+        return directory.resolve(mapName).resolve(owner + SEGMENT_SUFFIX);
+    }
+
+    private FileChannel openForAppend(Path segment) {
+        try {
+            Files.createDirectories(segment.getParent());
+            return FileChannel.open(segment, CREATE, WRITE, APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the chunk to the local store and to the stores of the backup
+     * members. The returned future completes when all the copies are written.
+     * The local write is done in the job offloadable executor since it's
+     * blocking.
+     */
+    @Nonnull
+    public CompletableFuture<Void> writeAndReplicateAsync(
+            @Nonnull NodeEngine nodeEngine, @Nonnull String mapName, @Nonnull SnapshotDataKey key, @Nonnull Data chunk
+    ) {
+        UUID owner = nodeEngine.getLocalMember().getUuid();
+        byte[] bytes = chunk.toByteArray();
+        Executor executor = nodeEngine.getExecutionService().getExecutor(JOB_OFFLOADABLE_EXECUTOR);
+        CompletableFuture<Void> localWrite = CompletableFuture.runAsync(() -> {
+            try {
+                write(mapName, owner, key, bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+
+        OperationService operationService = nodeEngine.getOperationService();
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (Member target : backupMembers(nodeEngine)) {
+            futures.add(operationService.invokeOnTarget(JetServiceBackend.SERVICE_NAME,
+                    new WriteDiskSnapshotChunkOperation(mapName, owner, key, bytes), target.getAddress()));
+        }
+        return CompletableFuture.allOf(Stream.concat(Stream.of(localWrite), futures.stream())
+                                             .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Returns the members to which the local member replicates its chunks:
+     * the data members following it in the member list.
+     */
+    private static List<Member> backupMembers(NodeEngine nodeEngine) {
+        List<Member> members = new ArrayList<>(nodeEngine.getClusterService().getMembers(DATA_MEMBER_SELECTOR));
+        int localIndex = members.indexOf(nodeEngine.getLocalMember());
+        int backupCount = Math.min(nodeEngine.getProperties().getInteger(JET_SNAPSHOT_DISK_BACKUP_COUNT),
+                members.size() - 1);
+        List<Member> backups = new ArrayList<>(backupCount);
+        for (int i = 1; i <= backupCount; i++) {
+            backups.add(members.get((localIndex + i) % members.size()));
+        }
+        return backups;
+    }
+
+    /**
+     * Deletes the data of the given snapshot map on all members. Does nothing
+     * if the snapshots are stored in IMaps.
+     */
+    @Nonnull
+    public static CompletableFuture<Void> deleteOnAllMembers(@Nonnull NodeEngine nodeEngine, @Nonnull String mapName) {
+        if (!isEnabled(nodeEngine.getProperties())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        OperationService operationService = nodeEngine.getOperationService();
+        return CompletableFuture.allOf(nodeEngine.getClusterService().getMembers().stream()
+                .map(member -> operationService.invokeOnTarget(JetServiceBackend.SERVICE_NAME,
+                        new DeleteDiskSnapshotOperation(mapName), member.getAddress()))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Finds a member to read the chunks of each owner from. The owner itself
+     * is preferred, otherwise one of its replicas is used.
+     *
+     * @param expectedChunks the number of chunks the snapshot must have in
+     *                       total, or -1 to not check it
+     * @return the owners assigned to each member that has to read
+     * @throws JetException if there are fewer chunks than expected, e.g.
+     *      because the owner and all its replicas left the cluster
+     */
+    @Nonnull
+    public static Map<UUID, List<UUID>> locateChunks(
+            @Nonnull NodeEngine nodeEngine, @Nonnull String mapName, long minSnapshotId, long maxSnapshotId,
+            long expectedChunks
+    ) {
+        OperationService operationService = nodeEngine.getOperationService();
+        Map<UUID, CompletableFuture<Map<UUID, Long>>> futures = new HashMap<>();
+        for (Member member : nodeEngine.getClusterService().getMembers()) {
+            futures.put(member.getUuid(), operationService.invokeOnTarget(JetServiceBackend.SERVICE_NAME,
+                    new CountDiskSnapshotChunksOperation(mapName, minSnapshotId, maxSnapshotId), member.getAddress()));
+        }
+
+        // owner -> (holder, count)
+        Map<UUID, Entry<UUID, Long>> ownerToHolder = new HashMap<>();
+        for (Entry<UUID, CompletableFuture<Map<UUID, Long>>> en : futures.entrySet()) {
+            UUID holder = en.getKey();
+            for (Entry<UUID, Long> ownerCount : en.getValue().join().entrySet()) {
+                UUID owner = ownerCount.getKey();
+                Entry<UUID, Long> current = ownerToHolder.get(owner);
+                if (current == null || ownerCount.getValue() > current.getValue()
+                        || ownerCount.getValue().equals(current.getValue()) && holder.equals(owner)) {
+                    ownerToHolder.put(owner, entry(holder, ownerCount.getValue()));
+                }
+            }
+        }
+
+        long foundChunks = ownerToHolder.values().stream().mapToLong(Entry::getValue).sum();
+        if (expectedChunks >= 0 && foundChunks != expectedChunks) {
+            throw new JetException(String.format("Snapshot data of '%s' on the disks of the members is incomplete: "
+                            + "it should have %,d chunks, but has %,d. The member that wrote the data and all its "
+                            + "replicas might have left the cluster.", mapName, expectedChunks, foundChunks));
+        }
+        Map<UUID, List<UUID>> holderToOwners = new HashMap<>();
+        ownerToHolder.forEach((owner, holder) ->
+                holderToOwners.computeIfAbsent(holder.getKey(), k -> new ArrayList<>()).add(owner));
+        return holderToOwners;
+    }
+
+    /**
+     * Reads the records of a segment sequentially. Not thread-safe.
+     */
+    public final class SegmentReader implements Closeable {
+        private final Path segment;
+        private final DataInputStream in;
+
+        private SegmentReader(Path segment, @Nullable DataInputStream in) {
+            this.segment = segment;
+            this.in = in;
+        }
+
+        /**
+         * Returns the next chunk, or {@code null} if there are no more.
+         *
+         * @throws JetException if the checksum of a record doesn't match
+         */
+        @Nullable
+        public Entry<SnapshotDataKey, Data> next() throws IOException {
+            if (in == null) {
+                return null;
+            }
+            byte[] record;
+            long checksum;
+            try {
+                int length = in.readInt();
+                checksum = in.readLong();
+                record = new byte[length];
+                in.readFully(record);
+            } catch (EOFException e) {
+                // the end of the segment or a record that wasn't fully written
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(record);
+            if (crc.getValue() != checksum) {
+                logger.warning("Checksum mismatch in " + segment);
+                throw new JetException("Snapshot data in " + segment + " is corrupted: checksum mismatch");
+            }
+            DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record));
+            int partitionKey = recordIn.readInt();
+            long snapshotId = recordIn.readLong();
+            int sequence = recordIn.readInt();
+            String vertexName = recordIn.readUTF();
+            byte[] chunk = recordIn.readAllBytes();
+            return entry(new SnapshotDataKey(partitionKey, snapshotId, vertexName, sequence), new HeapData(chunk));
+        }
+
+        @Override
+        public void close() {
+            IOUtil.closeResource(in);
+        }
+    }
+}
@@ -22,6 +22,8 @@ import com.hazelcast.function.ComparatorEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.function.PredicateEx;
 import com.hazelcast.function.SupplierEx;
+import com.hazelcast.function.ToDoubleFunctionEx;
+import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
@@ -32,6 +34,9 @@ import com.hazelcast.jet.config.InstanceConfig;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.datamodel.DoubleBatch;
+import com.hazelcast.jet.datamodel.LongBatch;
 import com.hazelcast.jet.datamodel.Tuple2;
 import com.hazelcast.jet.datamodel.Tuple3;
 import com.hazelcast.jet.function.TriFunction;
@@ -118,6 +123,16 @@ public interface BatchStage<T> extends GeneralStage<T> {
     @Nonnull @Override
     BatchStage<T> filter(@Nonnull PredicateEx<T> filterFn);
 
+    @Nonnull @Override
+    default BatchStage<LongBatch> mapToLongBatches(@Nonnull ToLongFunctionEx<? super T> toLongFn) {
+        return customTransform("mapToLongBatches", Processors.batchLongsP(toLongFn));
+    }
+
+    @Nonnull @Override
+    default BatchStage<DoubleBatch> mapToDoubleBatches(@Nonnull ToDoubleFunctionEx<? super T> toDoubleFn) {
+        return customTransform("mapToDoubleBatches", Processors.batchDoublesP(toDoubleFn));
+    }
+
     @Nonnull @Override
     <R> BatchStage<R> flatMap(@Nonnull FunctionEx<? super T, ? extends Traverser<R>> flatMapFn);
 
@@ -21,6 +21,7 @@ import com.hazelcast.function.BiPredicateEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.function.PredicateEx;
 import com.hazelcast.function.SupplierEx;
+import com.hazelcast.function.ToDoubleFunctionEx;
 import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
@@ -29,6 +30,8 @@ import com.hazelcast.jet.config.JetConfig;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.datamodel.DoubleBatch;
+import com.hazelcast.jet.datamodel.LongBatch;
 import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.impl.pipeline.ComputeStageImplBase;
 import com.hazelcast.map.IMap;
@@ -102,6 +105,56 @@ public interface GeneralStage<T> extends Stage {
     @Nonnull
     GeneralStage<T> filter(@Nonnull PredicateEx<T> filterFn);
 
+    /**
+     * Attaches a stage which extracts a {@code long} value from each input
+     * item and emits the values in {@link LongBatch} items. Items travel
+     * between Jet processors as objects, so a stage that emits numbers boxes
+     * each of them; this stage instead emits one batch for each chunk of
+     * items it receives. Use it before an aggregation that accepts batches,
+     * such as {@link com.hazelcast.jet.aggregate.AggregateOperations#summingLongBatches()}.
+     * <p>
+     * This sample computes the total volume of the trades in a stream:
+     * <pre>{@code
+     * stage.mapToLongBatches(Trade::getQuantity)
+     *      .aggregate(summingLongBatches())
+     * }</pre>
+     * In a stream stage with timestamps, a batch only contains items with
+     * the same timestamp and gets that timestamp.
+     * <p>
+     * <b>Note:</b> in a stream where consecutive items rarely share a
+     * timestamp, for example with millisecond event times and a moderate
+     * event rate, most batches hold a single value. Each of them then costs
+     * more than the boxed value it replaces, so use this stage on such
+     * streams only after the timestamps were coarsened, or not at all.
+     *
+     * @param toLongFn a function that extracts the value from the item. It
+     *     must be stateless and {@linkplain Processor#isCooperative()
+     *     cooperative}.
+     * @return the newly attached stage
+     * @since 6.0
+     */
+    @Nonnull
+    GeneralStage<LongBatch> mapToLongBatches(@Nonnull ToLongFunctionEx<? super T> toLongFn);
+
+    /**
+     * Attaches a stage which extracts a {@code double} value from each input
+     * item and emits the values in {@link DoubleBatch} items. See {@link
+     * #mapToLongBatches(ToLongFunctionEx)} for details.
+     * <p>
+     * <b>Note:</b> in a stream stage with timestamps, a batch only contains
+     * items with the same timestamp, so in a stream with mostly distinct
+     * timestamps most batches hold a single value and the stage is slower
+     * than emitting the boxed values.
+     *
+     * @param toDoubleFn a function that extracts the value from the item. It
+     *     must be stateless and {@linkplain Processor#isCooperative()
+     *     cooperative}.
+     * @return the newly attached stage
+     * @since 6.0
+     */
+    @Nonnull
+    GeneralStage<DoubleBatch> mapToDoubleBatches(@Nonnull ToDoubleFunctionEx<? super T> toDoubleFn);
+
     /**
      * Attaches a flat-mapping stage which applies the supplied function to
      * each input item independently and emits all the items from the {@link
@@ -21,11 +21,16 @@ import com.hazelcast.function.BiPredicateEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.function.PredicateEx;
 import com.hazelcast.function.SupplierEx;
+import com.hazelcast.function.ToDoubleFunctionEx;
+import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.datamodel.DoubleBatch;
+import com.hazelcast.jet.datamodel.LongBatch;
 import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.map.IMap;
 import com.hazelcast.replicatedmap.ReplicatedMap;
@@ -81,6 +86,16 @@ public interface StreamStage<T> extends GeneralStage<T> {
     @Nonnull @Override
     StreamStage<T> filter(@Nonnull PredicateEx<T> filterFn);
 
+    @Nonnull @Override
+    default StreamStage<LongBatch> mapToLongBatches(@Nonnull ToLongFunctionEx<? super T> toLongFn) {
+        return customTransform("mapToLongBatches", Processors.batchLongsP(toLongFn));
+    }
+
+    @Nonnull @Override
+    default StreamStage<DoubleBatch> mapToDoubleBatches(@Nonnull ToDoubleFunctionEx<? super T> toDoubleFn) {
+        return customTransform("mapToDoubleBatches", Processors.batchDoublesP(toDoubleFn));
+    }
+
     @Nonnull @Override
     <R> StreamStage<R> flatMap(@Nonnull FunctionEx<? super T, ? extends Traverser<R>> flatMapFn);
 
@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.json.internal;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.NonTerminalJsonValue;
+import com.hazelcast.query.impl.getters.JsonPathCursor;
+import com.hazelcast.query.impl.getters.MultiResult;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.readLongB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Bits.writeLongB;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A JSON document converted to a compact binary form in which every
+ * object and array carries an offset table of its members. Looking up
+ * a path is a matter of following offsets, one level at a time, instead
+ * of tokenizing the document up to the queried value.
+ * <p>
+ * Every value starts with a one byte tag. Scalars are followed by their
+ * payload: a big endian {@code long} or {@code double}, or the length and
+ * the UTF-8 bytes of a string. Arrays are followed by the element count
+ * and the offsets of the elements. Objects are followed by the member
+ * count and a table of {@code (name hash, name offset, value offset)}
+ * entries sorted by the hash, so members are found by binary search.
+ * Containers are written after their members, the offset of the root
+ * value is stored in the last 4 bytes of the buffer.
+ * <p>
+ * Integers which don't fit in a {@code long} are stored as {@code double}.
+ * The JSON text is only rendered when {@link #toString()} is called.
+ * <p>
+ * Instances are immutable apart from the cached text and thread-safe.
+ */
+public final class IndexedJson {
+
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte STRING = 5;
+    static final byte ARRAY = 6;
+    static final byte OBJECT = 7;
+
+    private static final int CONTAINER_HEADER_SIZE = 1 + INT_SIZE_IN_BYTES;
+    private static final int OBJECT_ENTRY_SIZE = 3 * INT_SIZE_IN_BYTES;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private final byte[] buffer;
+    private final int root;
+    private volatile String text;
+
+    private IndexedJson(byte[] buffer) {
+        this.buffer = buffer;
+        this.root = readIntB(buffer, buffer.length - INT_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Converts the JSON document read by the given parser. The parser
+     * should not have consumed any tokens yet.
+     *
+     * @throws IOException if the document is empty or not valid JSON
+     */
+    public static IndexedJson create(JsonParser parser) throws IOException {
+        if (parser.nextToken() == null) {
+            throw new JsonParseException(parser, "Empty JSON document");
+        }
+        Encoder encoder = new Encoder();
+        int root = encoder.writeValue(parser);
+        return new IndexedJson(encoder.finish(root));
+    }
+
+    /**
+     * Returns the size of the binary form in bytes.
+     */
+    public int size() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns the value at the given path, converted the same way as
+     * {@link com.hazelcast.query.impl.getters.AbstractJsonGetter} does
+     * for the text form: strings, {@code long}s, {@code double}s,
+     * {@code boolean}s and {@code null}s as they are, objects and arrays
+     * as {@link NonTerminalJsonValue#INSTANCE}. Paths containing
+     * {@code [any]} return a {@link MultiResult}. Returns {@code null}
+     * if the path doesn't exist.
+     */
+    public Object getValue(JsonPathCursor pathCursor) {
+        int offset = root;
+        while (pathCursor.getNext() != null) {
+            if (pathCursor.isArray()) {
+                if (pathCursor.isAny()) {
+                    return getMultiValue(offset, pathCursor);
+                }
+                offset = findElement(offset, pathCursor.getArrayIndex());
+            } else {
+                offset = findMember(offset, pathCursor.getCurrentAsUTF8());
+            }
+            if (offset < 0) {
+                return null;
+            }
+        }
+        return valueAt(offset);
+    }
+
+    /**
+     * Renders the document as JSON text. The text is rendered on the first
+     * call and cached.
+     */
+    @Override
+    public String toString() {
+        String result = text;
+        if (result == null) {
+            StringBuilder sb = new StringBuilder(buffer.length);
+            render(root, sb);
+            result = sb.toString();
+            text = result;
+        }
+        return result;
+    }
+
+    /**
+     * Mirrors the {@code [any]} handling of the streaming getter: without
+     * a further path the scalar elements are collected, otherwise the rest
+     * of the path is looked up in every object element.
+     */
+    private MultiResult<Object> getMultiValue(int arrayOffset, JsonPathCursor pathCursor) {
+        // consume [any] from cursor
+        pathCursor.getNext();
+        if (buffer[arrayOffset] != ARRAY) {
+            return null;
+        }
+        int initialState = pathCursor.saveState();
+        MultiResult<Object> multiResult = new MultiResult<>();
+        int count = readIntB(buffer, arrayOffset + 1);
+        for (int i = 0; i < count; i++) {
+            int elementOffset = readIntB(buffer, arrayOffset + CONTAINER_HEADER_SIZE + i * INT_SIZE_IN_BYTES);
+            byte tag = buffer[elementOffset];
+            if (pathCursor.getCurrent() == null) {
+                if (tag < ARRAY) {
+                    multiResult.add(valueAt(elementOffset));
+                }
+            } else if (tag == OBJECT) {
+                int offset = elementOffset;
+                do {
+                    if (pathCursor.isArray()) {
+                        throw new UnsupportedOperationException("Nested arrays in JSON paths are not supported");
+                    }
+                    offset = findMember(offset, pathCursor.getCurrentAsUTF8());
+                } while (offset >= 0 && pathCursor.getNext() != null);
+                if (offset >= 0) {
+                    multiResult.add(valueAt(offset));
+                }
+                pathCursor.restoreState(initialState);
+            } else if (tag == ARRAY && pathCursor.isArray()) {
+                throw new UnsupportedOperationException("Nested arrays in JSON paths are not supported");
+            }
+        }
+        return multiResult;
+    }
+
+    private int findElement(int offset, int index) {
+        if (buffer[offset] != ARRAY || index < 0 || index >= readIntB(buffer, offset + 1)) {
+            return -1;
+        }
+        return readIntB(buffer, offset + CONTAINER_HEADER_SIZE + index * INT_SIZE_IN_BYTES);
+    }
+
+    private int findMember(int offset, byte[] name) {
+        if (buffer[offset] != OBJECT) {
+            return -1;
+        }
+        int table = offset + CONTAINER_HEADER_SIZE;
+        int hash = hash(name, 0, name.length);
+        int low = 0;
+        int count = readIntB(buffer, offset + 1);
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midHash = readIntB(buffer, table + mid * OBJECT_ENTRY_SIZE);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                return findMemberWithHash(table, count, mid, hash, name);
+            }
+        }
+        return -1;
+    }
+
+    // entries with the same hash are in document order, so the first
+    // matching one wins just like with the streaming getter
+    private int findMemberWithHash(int table, int count, int index, int hash, byte[] name) {
+        int first = index;
+        while (first > 0 && readIntB(buffer, table + (first - 1) * OBJECT_ENTRY_SIZE) == hash) {
+            first--;
+        }
+        for (int i = first; i < count; i++) {
+            int entry = table + i * OBJECT_ENTRY_SIZE;
+            if (readIntB(buffer, entry) != hash) {
+                break;
+            }
+            if (nameEquals(readIntB(buffer, entry + INT_SIZE_IN_BYTES), name)) {
+                return readIntB(buffer, entry + 2 * INT_SIZE_IN_BYTES);
+            }
+        }
+        return -1;
+    }
+
+    private boolean nameEquals(int nameOffset, byte[] name) {
+        int length = readIntB(buffer, nameOffset);
+        int start = nameOffset + INT_SIZE_IN_BYTES;
+        return length == name.length
+                && Arrays.equals(buffer, start, start + length, name, 0, length);
+    }
+
+    private Object valueAt(int offset) {
+        return switch (buffer[offset]) {
+            case NULL -> null;
+            case TRUE -> true;
+            case FALSE -> false;
+            case LONG -> readLongB(buffer, offset + 1);
+            case DOUBLE -> Double.longBitsToDouble(readLongB(buffer, offset + 1));
+            case STRING -> readString(offset + 1);
+            default -> NonTerminalJsonValue.INSTANCE;
+        };
+    }
+
+    private String readString(int offset) {
+        return new String(buffer, offset + INT_SIZE_IN_BYTES, readIntB(buffer, offset), UTF_8);
+    }
+
+    private void render(int offset, StringBuilder sb) {
+        switch (buffer[offset]) {
+            case ARRAY -> {
+                int count = readIntB(buffer, offset + 1);
+                sb.append('[');
+                for (int i = 0; i < count; i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    render(readIntB(buffer, offset + CONTAINER_HEADER_SIZE + i * INT_SIZE_IN_BYTES), sb);
+                }
+                sb.append(']');
+            }
+            case OBJECT -> {
+                // names are written in document order, so sorting the
+                // entries by name offset restores the original order
+                int count = readIntB(buffer, offset + 1);
+                long[] members = new long[count];
+                for (int i = 0; i < count; i++) {
+                    int entry = offset + CONTAINER_HEADER_SIZE + i * OBJECT_ENTRY_SIZE;
+                    members[i] = ((long) readIntB(buffer, entry + INT_SIZE_IN_BYTES) << Integer.SIZE)
+                            | readIntB(buffer, entry + 2 * INT_SIZE_IN_BYTES);
+                }
+                Arrays.sort(members);
+                sb.append('{');
+                for (int i = 0; i < count; i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    sb.append(Json.value(readString((int) (members[i] >>> Integer.SIZE)))).append(':');
+                    render((int) members[i], sb);
+                }
+                sb.append('}');
+            }
+            case STRING -> sb.append(Json.value(readString(offset + 1)));
+            default -> sb.append(valueAt(offset));
+        }
+    }
+
+    static int hash(byte[] bytes, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = HASH_MULTIPLIER * hash + bytes[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Writes the values in post-order: members first, then the container
+     * with the offsets of its members. The offsets of the members of the
+     * containers being written are kept on a stack.
+     */
+    private static final class Encoder {
+
+        private static final int INITIAL_BUFFER_SIZE = 256;
+        private static final int INITIAL_STACK_SIZE = 32;
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int position;
+        private long[] stack = new long[INITIAL_STACK_SIZE];
+        private int stackSize;
+
+        int writeValue(JsonParser parser) throws IOException {
+            int offset = position;
+            switch (parser.currentTokenId()) {
+                case JsonTokenId.ID_START_OBJECT -> {
+                    return writeObject(parser);
+                }
+                case JsonTokenId.ID_START_ARRAY -> {
+                    return writeArray(parser);
+                }
+                case JsonTokenId.ID_STRING -> {
+                    writeTag(STRING);
+                    writeBytes(parser.getText().getBytes(UTF_8));
+                }
+                case JsonTokenId.ID_NUMBER_INT -> {
+                    if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                        writeTag(DOUBLE);
+                        writeLong(Double.doubleToRawLongBits(parser.getValueAsDouble()));
+                    } else {
+                        writeTag(LONG);
+                        writeLong(parser.getLongValue());
+                    }
+                }
+                case JsonTokenId.ID_NUMBER_FLOAT -> {
+                    writeTag(DOUBLE);
+                    writeLong(Double.doubleToRawLongBits(parser.getValueAsDouble()));
+                }
+                case JsonTokenId.ID_TRUE -> writeTag(TRUE);
+                case JsonTokenId.ID_FALSE -> writeTag(FALSE);
+                case JsonTokenId.ID_NULL -> writeTag(NULL);
+                default -> throw new JsonParseException(parser, "Unexpected token " + parser.currentToken());
+            }
+            return offset;
+        }
+
+        private int writeObject(JsonParser parser) throws IOException {
+            int base = stackSize;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                byte[] name = parser.currentName().getBytes(UTF_8);
+                int nameOffset = position;
+                writeBytes(name);
+                parser.nextToken();
+                int valueOffset = writeValue(parser);
+                // sorting by (hash, member index) keeps the members
+                // with the same hash in document order
+                push(((long) hash(name, 0, name.length) << Integer.SIZE) | (stackSize - base));
+                push(((long) nameOffset << Integer.SIZE) | valueOffset);
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of object");
+            }
+
+            int count = (stackSize - base) / 2;
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = stack[base + 2 * i];
+            }
+            Arrays.sort(keys);
+
+            int offset = position;
+            writeTag(OBJECT);
+            writeInt(count);
+            for (long key : keys) {
+                long member = stack[base + (int) key + 1];
+                writeInt((int) (key >> Integer.SIZE));
+                writeInt((int) (member >>> Integer.SIZE));
+                writeInt((int) member);
+            }
+            stackSize = base;
+            return offset;
+        }
+
+        private int writeArray(JsonParser parser) throws IOException {
+            int base = stackSize;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of array");
+                }
+                push(writeValue(parser));
+            }
+
+            int offset = position;
+            writeTag(ARRAY);
+            writeInt(stackSize - base);
+            for (int i = base; i < stackSize; i++) {
+                writeInt((int) stack[i]);
+            }
+            stackSize = base;
+            return offset;
+        }
+
+        byte[] finish(int root) {
+            writeInt(root);
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void push(long value) {
+            if (stackSize == stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[stackSize++] = value;
+        }
+
+        private void writeTag(byte tag) {
+            ensureCapacity(1);
+            buffer[position++] = tag;
+        }
+
+        private void writeInt(int value) {
+            ensureCapacity(INT_SIZE_IN_BYTES);
+            writeIntB(buffer, position, value);
+            position += INT_SIZE_IN_BYTES;
+        }
+
+        private void writeLong(long value) {
+            ensureCapacity(LONG_SIZE_IN_BYTES);
+            writeLongB(buffer, position, value);
+            position += LONG_SIZE_IN_BYTES;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.hazelcast.core.HazelcastJsonValue;
+import com.hazelcast.json.internal.IndexedJson;
 import com.hazelcast.json.internal.JsonSchemaHelper;
 import com.hazelcast.internal.serialization.Data;
 
@@ -29,18 +30,34 @@ import static com.hazelcast.internal.serialization.impl.HeapData.HEAP_DATA_OVERH
 
 public class JsonMetadataInitializer implements MetadataInitializer {
 
-    public static final JsonMetadataInitializer INSTANCE = new JsonMetadataInitializer();
+    /**
+     * Creates {@link com.hazelcast.json.internal.JsonSchemaNode}s which
+     * describe the structure of the JSON text.
+     */
+    public static final JsonMetadataInitializer INSTANCE = new JsonMetadataInitializer(false);
+
+    /**
+     * Creates {@link IndexedJson}s which contain the whole document in a
+     * binary form that can be queried without parsing the text.
+     */
+    public static final JsonMetadataInitializer INDEXED_INSTANCE = new JsonMetadataInitializer(true);
 
     private static final int UTF_CHAR_COUNT_FIELD_SIZE = 4;
 
     private static final JsonFactory FACTORY = new JsonFactory();
 
+    private final boolean indexed;
+
+    protected JsonMetadataInitializer(boolean indexed) {
+        this.indexed = indexed;
+    }
+
     @Override
     public Object createFromData(Data data) throws IOException {
         if (data.isJson()) {
             try (JsonParser parser = FACTORY.createParser(new ByteArrayInputStream(data.toByteArray(),
                     HEAP_DATA_OVERHEAD + UTF_CHAR_COUNT_FIELD_SIZE, data.dataSize() - UTF_CHAR_COUNT_FIELD_SIZE))) {
-                return JsonSchemaHelper.createSchema(parser);
+                return createMetadata(parser);
             }
         }
         return null;
@@ -51,9 +68,13 @@ public class JsonMetadataInitializer implements MetadataInitializer {
         if (obj instanceof HazelcastJsonValue) {
             String str = obj.toString();
             try (JsonParser parser = FACTORY.createParser(str)) {
-                return JsonSchemaHelper.createSchema(parser);
+                return createMetadata(parser);
             }
         }
         return null;
     }
+
+    private Object createMetadata(JsonParser parser) throws IOException {
+        return indexed ? IndexedJson.create(parser) : JsonSchemaHelper.createSchema(parser);
+    }
 }
@@ -465,6 +465,7 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Map<K, V> getAll(@Nullable Set<K> keys) {
         if (CollectionUtil.isEmpty(keys)) {
             // Wrap emptyMap() into unmodifiableMap to make sure put/putAll methods throw UnsupportedOperationException
@@ -476,10 +477,11 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         List<Object> resultingKeyValuePairs = new ArrayList<>(keysSize * 2);
         getAllInternal(keys, dataKeys, resultingKeyValuePairs);
 
+        List<Object> keyValuePairs = serializationService.toObjectBatch(resultingKeyValuePairs);
         Map<K, V> result = createHashMap(keysSize);
-        for (int i = 0; i < resultingKeyValuePairs.size(); ) {
-            K key = toObject(resultingKeyValuePairs.get(i++));
-            V value = toObject(resultingKeyValuePairs.get(i++));
+        for (int i = 0; i < keyValuePairs.size(); ) {
+            K key = (K) keyValuePairs.get(i++);
+            V value = (V) keyValuePairs.get(i++);
             result.put(key, value);
         }
         return Collections.unmodifiableMap(result);
@@ -208,6 +208,12 @@ abstract class MapProxySupport<K, V>
     private static final HazelcastProperty MAP_PUT_ALL_INITIAL_SIZE_FACTOR
             = new HazelcastProperty("hazelcast.map.put.all.initial.size.factor", 0);
 
+    /**
+     * The number of entries {@link IMap#putAll(Map)} serializes at once, see
+     * {@link com.hazelcast.internal.serialization.SerializationService#toDataBatch}.
+     */
+    private static final int PUT_ALL_SERIALIZATION_CHUNK_SIZE = 1024;
+
     protected final String name;
     protected final LocalMapStatsImpl localMapStats;
     protected final LockProxySupport lockSupport;
@@ -1014,28 +1020,40 @@ abstract class MapProxySupport<K, V>
                 }
             }
 
-            // fill entriesPerPartition
+            // fill entriesPerPartition, serializing the entries in chunks
             MapEntries[] entriesPerPartition = new MapEntries[partitionCount];
-            for (Entry entry : map.entrySet()) {
-                checkNotNull(entry.getKey(), NULL_KEY_IS_NOT_ALLOWED);
-                checkNotNull(entry.getValue(), NULL_VALUE_IS_NOT_ALLOWED);
-
-                Data keyData = toDataWithStrategy(entry.getKey());
-                int partitionId = partitionService.getPartitionId(keyData);
-                MapEntries entries = entriesPerPartition[partitionId];
-                if (entries == null) {
-                    entries = new MapEntries(initialSize);
-                    entriesPerPartition[partitionId] = entries;
+            int chunkSize = min(mapSize, PUT_ALL_SERIALIZATION_CHUNK_SIZE);
+            List<Object> keys = new ArrayList<>(chunkSize);
+            List<Object> values = new ArrayList<>(chunkSize);
+            Iterator<? extends Entry<? extends K, ? extends V>> iterator = map.entrySet().iterator();
+            while (iterator.hasNext()) {
+                keys.clear();
+                values.clear();
+                while (iterator.hasNext() && keys.size() < chunkSize) {
+                    Entry<? extends K, ? extends V> entry = iterator.next();
+                    keys.add(checkNotNull(entry.getKey(), NULL_KEY_IS_NOT_ALLOWED));
+                    values.add(checkNotNull(entry.getValue(), NULL_VALUE_IS_NOT_ALLOWED));
                 }
+                List<Data> keyData = serializationService.toDataBatch(keys, partitionStrategy);
+                List<Data> valueData = serializationService.toDataBatch(values);
+
+                for (int i = 0; i < keyData.size(); i++) {
+                    int partitionId = partitionService.getPartitionId(keyData.get(i));
+                    MapEntries entries = entriesPerPartition[partitionId];
+                    if (entries == null) {
+                        entries = new MapEntries(initialSize);
+                        entriesPerPartition[partitionId] = entries;
+                    }
 
-                entries.add(keyData, toData(entry.getValue()));
+                    entries.add(keyData.get(i), valueData.get(i));
 
-                if (useBatching) {
-                    long currentSize = ++counterPerMember[partitionId].value;
-                    if (currentSize % putAllBatchSize == 0) {
-                        List<Integer> partitions = memberPartitionsMap.get(addresses[partitionId]);
-                        invokePutAllOperation(addresses[partitionId], partitions, entriesPerPartition, true, triggerMapLoader)
-                                .get();
+                    if (useBatching) {
+                        long currentSize = ++counterPerMember[partitionId].value;
+                        if (currentSize % putAllBatchSize == 0) {
+                            List<Integer> partitions = memberPartitionsMap.get(addresses[partitionId]);
+                            invokePutAllOperation(addresses[partitionId], partitions, entriesPerPartition, true,
+                                    triggerMapLoader).get();
+                        }
                     }
                 }
             }
@@ -1408,8 +1426,8 @@ abstract class MapProxySupport<K, V>
     protected void toDataCollectionWithNonNullKeyValidation(Set<K> keys, Collection<Data> dataKeys) {
         for (K key : keys) {
             checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
-            dataKeys.add(toDataWithStrategy(key));
         }
+        dataKeys.addAll(serializationService.toDataBatch(keys, partitionStrategy));
     }
 
     private void publishMapEvent(int numberOfAffectedEntries, EntryEventType eventType) {
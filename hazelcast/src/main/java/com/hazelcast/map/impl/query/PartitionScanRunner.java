@@ -23,6 +23,7 @@ import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.Clock;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.LazyMapEntry;
 import com.hazelcast.map.impl.MapContainer;
@@ -33,9 +34,11 @@ import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.ColumnarAttributeCache;
 import com.hazelcast.query.impl.QueryableEntriesSegment;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.query.impl.predicates.ColumnarPredicates;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.OperationService;
@@ -88,6 +91,11 @@ public class PartitionScanRunner {
         Map.Entry<Integer, Map.Entry> nearestAnchorEntry =
                 pagingPredicate == null ? null : pagingPredicate.getNearestAnchorEntry();
 
+        if (pagingPredicate == null && runOnColumnarCache(recordStore, predicate, useCachedValues, extractors, result)) {
+            result.orderAndLimit(null, null);
+            return;
+        }
+
         recordStore.forEachAfterLoad(new BiConsumer<>() {
             LazyMapEntry queryEntry = new LazyMapEntry();
 
@@ -119,6 +127,45 @@ public class PartitionScanRunner {
         result.orderAndLimit(pagingPredicate, nearestAnchorEntry);
     }
 
+    /**
+     * Evaluates the predicate over the columnar attribute cache of the record
+     * store and adds the matching entries to the result.
+     *
+     * @return {@code false} if the record store has no columnar cache or the
+     * predicate can't be evaluated over it, nothing is added to the result then
+     */
+    private boolean runOnColumnarCache(RecordStore<Record> recordStore, Predicate predicate, boolean useCachedValues,
+                                       Extractors extractors, Result result) {
+        ColumnarAttributeCache cache = recordStore.getColumnarAttributeCache();
+        if (cache == null) {
+            return false;
+        }
+        // fail before reading the cache, the same as the regular scan
+        recordStore.checkIfLoaded();
+        List<Data> keys = ColumnarPredicates.select(predicate, cache);
+        if (keys == null) {
+            return false;
+        }
+
+        long now = Clock.currentTimeMillis();
+        for (Data key : keys) {
+            Record record = recordStore.getRecord(key);
+            if (record == null || recordStore.isExpired(key, now, false)) {
+                // removed or expired after it was selected
+                continue;
+            }
+            Object value = useCachedValues ? getValueOrCachedValue(record, ss) : record.getValue();
+            if (value == null) {
+                continue;
+            }
+            LazyMapEntry queryEntry = new LazyMapEntry();
+            queryEntry.init(ss, toHeapData(key), value, extractors);
+            queryEntry.setRecord(record);
+            result.add(queryEntry);
+        }
+        return true;
+    }
+
     /**
      * Executes the predicate on a partition chunk. The offset in the partition
      * is defined by the {@code pointers} and the soft limit is defined by the
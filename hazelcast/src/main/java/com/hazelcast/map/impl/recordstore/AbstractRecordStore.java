@@ -42,11 +42,14 @@ import com.hazelcast.map.impl.record.ObjectRecordFactory;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.record.RecordFactory;
 import com.hazelcast.map.impl.record.RecordReaderWriter;
+import com.hazelcast.query.impl.ColumnarAttributeCache;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.wan.impl.CallerProvenance;
 
 import javax.annotation.Nonnull;
 
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_JSON_INDEXED_METADATA;
+
 /**
  * Contains record store common parts.
  */
@@ -68,6 +71,7 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     protected RecordFactory recordFactory;
     protected Storage<Data, Record> storage;
     protected IndexingMutationObserver<Record> indexingObserver;
+    protected ColumnarAttributeCache columnarAttributeCache;
 
     protected AbstractRecordStore(MapContainer mapContainer, int partitionId) {
         this.name = mapContainer.getName();
@@ -123,19 +127,34 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
 
         // Add observer for json metadata
         if (mapContainer.getMapConfig().getMetadataPolicy() == MetadataPolicy.CREATE_ON_UPDATE) {
+            boolean indexed = mapServiceContext.getNodeEngine().getProperties().getBoolean(QUERY_JSON_INDEXED_METADATA);
             mutationObserver.add(new JsonMetadataMutationObserver(serializationService,
-                    JsonMetadataInitializer.INSTANCE, getOrCreateMetadataStore()));
+                    indexed ? JsonMetadataInitializer.INDEXED_INSTANCE : JsonMetadataInitializer.INSTANCE,
+                    getOrCreateMetadataStore()));
         }
 
         // Add observer for indexing
         indexingObserver = new IndexingMutationObserver<>(this, serializationService);
         mutationObserver.add(indexingObserver);
+
+        // Add observer for the columnar attribute cache
+        String[] columnarAttributes = ColumnarAttributeCache.configuredAttributes(name,
+                mapServiceContext.getNodeEngine().getProperties());
+        if (columnarAttributes != null && inMemoryFormat != InMemoryFormat.NATIVE) {
+            columnarAttributeCache = new ColumnarAttributeCache(columnarAttributes);
+            mutationObserver.add(new ColumnarMutationObserver<>(this, serializationService, columnarAttributeCache));
+        }
     }
 
     public IndexingMutationObserver<Record> getIndexingObserver() {
         return indexingObserver;
     }
 
+    @Override
+    public ColumnarAttributeCache getColumnarAttributeCache() {
+        return columnarAttributeCache;
+    }
+
     @Override
     public InMemoryFormat getInMemoryFormat() {
         return inMemoryFormat;
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.query.impl.ColumnarAttributeCache;
+
+import javax.annotation.Nonnull;
+
+import static com.hazelcast.map.impl.record.Records.getValueOrCachedValue;
+
+/**
+ * Keeps the {@link ColumnarAttributeCache} of a partition up to date.
+ * <p>
+ * Unlike indexes, the cache is also maintained on backup partitions, so it is
+ * complete as soon as a backup is promoted.
+ */
+public class ColumnarMutationObserver<R extends Record> implements MutationObserver<R> {
+
+    private final MapContainer mapContainer;
+    private final SerializationService ss;
+    private final RecordStore recordStore;
+    private final ColumnarAttributeCache cache;
+
+    public ColumnarMutationObserver(RecordStore recordStore, SerializationService ss, ColumnarAttributeCache cache) {
+        this.mapContainer = recordStore.getMapContainer();
+        this.recordStore = recordStore;
+        this.ss = ss;
+        this.cache = cache;
+    }
+
+    @Override
+    public void onPutRecord(@Nonnull Data key, R record, Object oldValue, boolean backup) {
+        put(key, record);
+    }
+
+    @Override
+    public void onReplicationPutRecord(@Nonnull Data key, @Nonnull R record, boolean populateIndex) {
+        put(key, record);
+    }
+
+    @Override
+    public void onUpdateRecord(@Nonnull Data key, @Nonnull R record, Object oldValue, Object newValue, boolean backup) {
+        put(key, record);
+    }
+
+    @Override
+    public void onRemoveRecord(@Nonnull Data key, R record, boolean backup) {
+        cache.remove(toBackingKeyFormat(key));
+    }
+
+    @Override
+    public void onEvictRecord(@Nonnull Data key, @Nonnull R record, boolean backup) {
+        cache.remove(toBackingKeyFormat(key));
+    }
+
+    @Override
+    public void onLoadRecord(@Nonnull Data key, @Nonnull R record, boolean backup) {
+        put(key, record);
+    }
+
+    @Override
+    public void onReset() {
+        cache.clear();
+    }
+
+    @Override
+    public void onClear() {
+        cache.clear();
+    }
+
+    @Override
+    public void onDestroy(boolean isDuringShutdown, boolean internal) {
+        cache.clear();
+    }
+
+    private void put(Data key, Record record) {
+        Data backingKey = toBackingKeyFormat(key);
+        cache.put(backingKey, mapContainer.newQueryEntry(backingKey, getValueOrCachedValue(record, ss)));
+    }
+
+    private Data toBackingKeyFormat(Data key) {
+        return recordStore.getStorage().toBackingDataKeyFormat(key);
+    }
+}
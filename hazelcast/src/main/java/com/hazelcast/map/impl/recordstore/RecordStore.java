@@ -39,6 +39,7 @@ import com.hazelcast.map.impl.record.RecordFactory;
 import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
 import com.hazelcast.map.impl.recordstore.expiry.ExpiryReason;
 import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.query.impl.ColumnarAttributeCache;
 import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
 import com.hazelcast.spi.merge.SplitBrainMergeTypes.MapMergeTypes;
@@ -528,6 +529,17 @@ public interface RecordStore<R extends Record> {
      */
     JsonMetadataStore getOrCreateMetadataStore();
 
+    /**
+     * Returns the cache of the attributes configured with
+     * {@link com.hazelcast.spi.properties.ClusterProperty#QUERY_COLUMNAR_ATTRIBUTES}
+     * for the entries of this record store.
+     *
+     * @return the columnar attribute cache or {@code null} if no attributes
+     * are cached for this map
+     */
+    @Nullable
+    ColumnarAttributeCache getColumnarAttributeCache();
+
     Storage getStorage();
 
     void sampleAndForceRemoveEntries(int entryCountToRemove);
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.collection.Object2LongHashMap;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hazelcast.internal.util.StringUtil.splitByComma;
+import static com.hazelcast.query.impl.IndexUtils.canonicalizeAttribute;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_COLUMNAR_ATTRIBUTES;
+
+/**
+ * Keeps the values of selected numeric attributes of the entries of a single
+ * partition in primitive arrays, so that full partition scans can evaluate
+ * simple comparisons in tight loops instead of extracting the attribute of
+ * every entry, see {@link com.hazelcast.spi.properties.ClusterProperty#QUERY_COLUMNAR_ATTRIBUTES}.
+ * <p>
+ * Every entry has a slot, the slots are kept dense by moving the last slot
+ * into the slot of a removed entry. The values of a column are stored as
+ * {@code long}s: integral values as they are and floating point values
+ * {@link #encode(Comparable) encoded} so that comparing the encoded values
+ * orders them the same way as {@link Double#compare(double, double)}. All
+ * values of a column must have the same class, otherwise the column is
+ * invalidated and can't be used until the cache is cleared.
+ * <p>
+ * The cache is updated by the partition thread and can be read by query
+ * threads at the same time, so all methods are synchronized.
+ */
+public final class ColumnarAttributeCache {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long NO_SLOT = -1;
+
+    private final String[] attributeNames;
+    private final Column[] columns;
+    private final Object2LongHashMap<Data> slots = new Object2LongHashMap<>(NO_SLOT);
+    private Data[] keys = new Data[INITIAL_CAPACITY];
+    private int size;
+
+    public ColumnarAttributeCache(String... attributeNames) {
+        this.attributeNames = attributeNames.clone();
+        this.columns = new Column[attributeNames.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column();
+        }
+    }
+
+    /**
+     * Returns the canonical names of the attributes of the given map that are
+     * configured to be cached, or {@code null} if there are none.
+     */
+    public static String[] configuredAttributes(String mapName, HazelcastProperties properties) {
+        String prefix = mapName + ":";
+        List<String> attributes = new ArrayList<>();
+        for (String pair : splitByComma(properties.getString(QUERY_COLUMNAR_ATTRIBUTES), false)) {
+            pair = pair.trim();
+            if (pair.startsWith(prefix) && pair.length() > prefix.length()) {
+                String attribute = canonicalizeAttribute(pair.substring(prefix.length()).trim());
+                if (!attributes.contains(attribute)) {
+                    attributes.add(attribute);
+                }
+            }
+        }
+        return attributes.isEmpty() ? null : attributes.toArray(new String[0]);
+    }
+
+    /**
+     * Encodes a {@link Byte}, {@link Short}, {@link Integer}, {@link Long},
+     * {@link Float} or {@link Double} value into a {@code long} so that the
+     * encoded values of the same class are ordered like the original values.
+     * For floating point values, the order is the one of
+     * {@link Double#compare(double, double)}, and equal encoded values mean
+     * {@link Double#equals(Object)} values.
+     */
+    public static long encode(Comparable value) {
+        if (value instanceof Double || value instanceof Float) {
+            long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+            // flip all but the sign bit of negative values
+            return bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+        }
+        return ((Number) value).longValue();
+    }
+
+    public String[] attributeNames() {
+        return attributeNames.clone();
+    }
+
+    /**
+     * Updates the cached attribute values of the given entry.
+     *
+     * @param key    the key of the entry
+     * @param entry  the entry to read the attributes from
+     */
+    public synchronized void put(Data key, QueryableEntry entry) {
+        long slot = slots.getValue(key);
+        if (slot == NO_SLOT) {
+            slot = addSlot(key);
+        }
+        int index = (int) slot;
+        for (int i = 0; i < columns.length; i++) {
+            Column column = columns[i];
+            if (!column.valid) {
+                continue;
+            }
+            Object value;
+            try {
+                value = entry.getAttributeValue(attributeNames[i]);
+            } catch (RuntimeException e) {
+                // e.g. a missing attribute, the regular scan will report it
+                column.invalidate();
+                continue;
+            }
+            column.set(index, value);
+        }
+    }
+
+    /**
+     * Removes the given entry from the cache, if it is there.
+     */
+    public synchronized void remove(Data key) {
+        long slot = slots.removeKey(key);
+        if (slot == NO_SLOT) {
+            return;
+        }
+        int index = (int) slot;
+        int last = --size;
+        if (index != last) {
+            Data lastKey = keys[last];
+            keys[index] = lastKey;
+            slots.put(lastKey, index);
+            for (Column column : columns) {
+                column.move(last, index);
+            }
+        }
+        keys[last] = null;
+        for (Column column : columns) {
+            column.clear(last);
+        }
+    }
+
+    /**
+     * Removes all entries and makes the invalidated columns usable again.
+     */
+    public synchronized void clear() {
+        slots.clear();
+        keys = new Data[INITIAL_CAPACITY];
+        size = 0;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column();
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns a value of the given attribute, which can be used to find out
+     * the type of its values, or {@code null} if the attribute isn't cached,
+     * its column is invalid or no entry has a value for it.
+     */
+    public synchronized Comparable sampleValue(String attributeName) {
+        Column column = column(attributeName);
+        return column == null || !column.valid ? null : column.sample;
+    }
+
+    /**
+     * Returns the keys of the entries matching all the given filters, or
+     * {@code null} if there are no filters or one of them can't be evaluated
+     * because its column is invalid or its values have a different class
+     * than the filter expects. Entries without a value for an attribute
+     * never match a filter on that attribute.
+     */
+    public synchronized List<Data> select(List<Filter> filters) {
+        if (filters.isEmpty()) {
+            return null;
+        }
+        int words = wordCount(size);
+        long[] matches = null;
+        for (Filter filter : filters) {
+            Column column = column(filter.attributeName());
+            if (column == null || !column.valid || column.sample == null
+                    || column.sample.getClass() != filter.valueClass()) {
+                return null;
+            }
+            if (matches == null) {
+                matches = Arrays.copyOf(column.present, words);
+            } else {
+                for (int i = 0; i < words; i++) {
+                    matches[i] &= column.present[i];
+                }
+            }
+            if (filter.from() > filter.to()) {
+                Arrays.fill(matches, 0);
+            } else {
+                column.and(matches, size, filter.from(), filter.to());
+            }
+        }
+
+        List<Data> result = new ArrayList<>();
+        for (int i = 0; i < words; i++) {
+            long word = matches[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                result.add(keys[(i << 6) + bit]);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    private Column column(String attributeName) {
+        for (int i = 0; i < attributeNames.length; i++) {
+            if (attributeNames[i].equals(attributeName)) {
+                return columns[i];
+            }
+        }
+        return null;
+    }
+
+    private int addSlot(Data key) {
+        int index = size++;
+        if (index == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[index] = key;
+        slots.put(key, index);
+        for (Column column : columns) {
+            column.ensureCapacity(keys.length);
+        }
+        return index;
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * A filter matching the values in the range {@code [from, to]} of an
+     * attribute whose values are of the given class. The bounds are
+     * {@link #encode(Comparable) encoded}; the filter matches nothing if
+     * {@code from > to}.
+     */
+    public record Filter(String attributeName, Class<?> valueClass, long from, long to) {
+    }
+
+    private static final class Column {
+
+        private boolean valid = true;
+        private Comparable sample;
+        private long[] values = new long[INITIAL_CAPACITY];
+        // a bit for every slot that has a value
+        private long[] present = new long[wordCount(INITIAL_CAPACITY)];
+
+        void set(int index, Object value) {
+            if (value == null) {
+                clear(index);
+                return;
+            }
+            if (!isSupported(value) || (sample != null && sample.getClass() != value.getClass())) {
+                invalidate();
+                return;
+            }
+            if (sample == null) {
+                sample = (Comparable) value;
+            }
+            values[index] = encode((Comparable) value);
+            present[index >>> 6] |= 1L << index;
+        }
+
+        void clear(int index) {
+            values[index] = 0;
+            present[index >>> 6] &= ~(1L << index);
+        }
+
+        void move(int from, int to) {
+            values[to] = values[from];
+            if ((present[from >>> 6] & (1L << from)) != 0) {
+                present[to >>> 6] |= 1L << to;
+            } else {
+                present[to >>> 6] &= ~(1L << to);
+            }
+        }
+
+        void ensureCapacity(int capacity) {
+            if (values.length < capacity) {
+                values = Arrays.copyOf(values, capacity);
+                present = Arrays.copyOf(present, wordCount(capacity));
+            }
+        }
+
+        void invalidate() {
+            valid = false;
+            sample = null;
+        }
+
+        /**
+         * Clears the bits of the slots whose value is outside {@code [from, to]}.
+         */
+        void and(long[] matches, int size, long from, long to) {
+            long[] values = this.values;
+            // a single unsigned comparison checks both bounds
+            long span = to - from;
+            for (int i = 0; i < size; i++) {
+                if (Long.compareUnsigned(values[i] - from, span) > 0) {
+                    matches[i >>> 6] &= ~(1L << i);
+                }
+            }
+        }
+
+        private static boolean isSupported(Object value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Double
+                    || value instanceof Float || value instanceof Short || value instanceof Byte;
+        }
+    }
+}
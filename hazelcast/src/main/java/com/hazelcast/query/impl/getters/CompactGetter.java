@@ -19,18 +19,54 @@ package com.hazelcast.query.impl.getters;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
+import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactFieldAccessor;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class CompactGetter extends Getter {
+
+    /**
+     * The maximum number of attribute paths for which field accessors are
+     * cached. Accessors for the other paths are created on every access.
+     */
+    private static final int MAX_CACHED_PATHS = 100;
+
+    /**
+     * The maximum number of schemas for which the field accessors of a
+     * single attribute path are cached.
+     */
+    private static final int MAX_CACHED_SCHEMAS_PER_PATH = 8;
+
     private final InternalSerializationService serializationService;
+    private final boolean bigEndian;
+    /**
+     * Field accessors per attribute path, one for each schema seen for the
+     * path. Most maps only have a single schema per value type, so a short
+     * array scanned for the schema id is enough.
+     */
+    private final Map<String, CompactFieldAccessor[]> accessorsCache = new ConcurrentHashMap<>();
 
     public CompactGetter(InternalSerializationService serializationService) {
         super(null);
         this.serializationService = serializationService;
+        this.bigEndian = serializationService.getByteOrder() == ByteOrder.BIG_ENDIAN;
     }
 
     private Object getValueInternal(Object target, String fieldPath, boolean useLazyDeserialization) throws Exception {
+        if (target instanceof HeapData data && data.isCompact()) {
+            // fixed-size top-level fields are read from the bytes directly
+            CompactFieldAccessor accessor = getAccessor(data, fieldPath);
+            if (accessor.isApplicable()) {
+                return accessor.read(data.toByteArray(), bigEndian);
+            }
+        }
         InternalGenericRecord record;
         if (target instanceof CompactGenericRecord genericRecord) {
             record = genericRecord;
@@ -41,6 +77,30 @@ public class CompactGetter extends Getter {
         return reader.read(fieldPath);
     }
 
+    CompactFieldAccessor getAccessor(HeapData data, String fieldPath) throws IOException {
+        long schemaId = CompactFieldAccessor.readSchemaId(data.toByteArray(), bigEndian);
+        CompactFieldAccessor[] accessors = accessorsCache.get(fieldPath);
+        if (accessors != null) {
+            for (CompactFieldAccessor accessor : accessors) {
+                if (accessor.getSchemaId() == schemaId) {
+                    return accessor;
+                }
+            }
+        }
+
+        CompactFieldAccessor accessor = CompactFieldAccessor.of(serializationService.extractSchemaFromData(data), fieldPath);
+        if (accessors == null ? accessorsCache.size() < MAX_CACHED_PATHS : accessors.length < MAX_CACHED_SCHEMAS_PER_PATH) {
+            // a concurrent update might get lost, which only means that
+            // the lost accessor is created once more later
+            CompactFieldAccessor[] newAccessors = accessors == null
+                    ? new CompactFieldAccessor[1]
+                    : Arrays.copyOf(accessors, accessors.length + 1);
+            newAccessors[newAccessors.length - 1] = accessor;
+            accessorsCache.put(fieldPath, newAccessors);
+        }
+        return accessor;
+    }
+
     @Override
     public Object getValue(Object target, String fieldPath) throws Exception {
         return getValueInternal(target, fieldPath, false);
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.ColumnarAttributeCache;
+import com.hazelcast.query.impl.ColumnarAttributeCache.Filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.query.impl.ColumnarAttributeCache.encode;
+
+/**
+ * Translates predicates into {@link Filter filters} of a
+ * {@link ColumnarAttributeCache}.
+ * <p>
+ * Supported are the {@link EqualPredicate}, {@link GreaterLessPredicate} and
+ * {@link BetweenPredicate} on cached attributes and {@link AndPredicate}s of
+ * them. The compared values are converted to the type of the attribute the
+ * same way the predicates do it for every entry; if the converted value
+ * doesn't have exactly the class of the cached values, the predicate isn't
+ * translated and the partition has to be scanned as usual.
+ */
+public final class ColumnarPredicates {
+
+    private ColumnarPredicates() {
+    }
+
+    /**
+     * Returns the keys of the entries in the given cache matching the given
+     * predicate, or {@code null} if the predicate can't be evaluated over the
+     * cache.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K> List<K> select(Predicate predicate, ColumnarAttributeCache cache) {
+        List<Filter> filters = new ArrayList<>();
+        if (!addFilters(predicate, cache, filters)) {
+            return null;
+        }
+        return (List<K>) cache.select(filters);
+    }
+
+    private static boolean addFilters(Predicate predicate, ColumnarAttributeCache cache, List<Filter> filters) {
+        if (predicate instanceof AndPredicate andPredicate) {
+            for (Predicate subPredicate : andPredicate.predicates) {
+                if (!addFilters(subPredicate, cache, filters)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Filter filter;
+        if (predicate instanceof EqualPredicate equalPredicate) {
+            // the null checks of the predicate aren't supported
+            filter = equalPredicate.value == null
+                    ? null
+                    : filter(equalPredicate, cache, equalPredicate.value, true, equalPredicate.value, true);
+        } else if (predicate instanceof GreaterLessPredicate greaterLess) {
+            filter = greaterLess.less
+                    ? filter(greaterLess, cache, null, false, greaterLess.value, greaterLess.equal)
+                    : filter(greaterLess, cache, greaterLess.value, greaterLess.equal, null, false);
+        } else if (predicate instanceof BetweenPredicate between) {
+            filter = filter(between, cache, between.from, true, between.to, true);
+        } else {
+            return false;
+        }
+        if (filter == null) {
+            return false;
+        }
+        filters.add(filter);
+        return true;
+    }
+
+    /**
+     * Creates a filter for the given bounds, {@code null} bounds are
+     * unbounded.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private static Filter filter(AbstractPredicate predicate, ColumnarAttributeCache cache,
+                                 Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        Comparable sample = cache.sampleValue(predicate.attributeName);
+        if (sample == null) {
+            return null;
+        }
+        long encodedFrom = Long.MIN_VALUE;
+        long encodedTo = Long.MAX_VALUE;
+        if (from != null) {
+            Comparable converted = predicate.convert(sample, from);
+            if (converted == null || converted.getClass() != sample.getClass()) {
+                return null;
+            }
+            encodedFrom = encode(converted);
+            if (!fromInclusive) {
+                if (encodedFrom == Long.MAX_VALUE) {
+                    return emptyFilter(predicate, sample);
+                }
+                encodedFrom++;
+            }
+        }
+        if (to != null) {
+            Comparable converted = predicate.convert(sample, to);
+            if (converted == null || converted.getClass() != sample.getClass()) {
+                return null;
+            }
+            encodedTo = encode(converted);
+            if (!toInclusive) {
+                if (encodedTo == Long.MIN_VALUE) {
+                    return emptyFilter(predicate, sample);
+                }
+                encodedTo--;
+            }
+        }
+        return new Filter(predicate.attributeName, sample.getClass(), encodedFrom, encodedTo);
+    }
+
+    private static Filter emptyFilter(AbstractPredicate predicate, Comparable sample) {
+        return new Filter(predicate.attributeName, sample.getClass(), Long.MAX_VALUE, Long.MIN_VALUE);
+    }
+}
@@ -39,6 +39,7 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.SerializationServiceV1;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.util.ExceptionUtil;
+import com.hazelcast.internal.util.AllocationDistribution;
 import com.hazelcast.internal.util.LatencyDistribution;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.logging.ILogger;
@@ -291,6 +292,16 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
         }
     }
 
+    private static void recordAllocations(ConcurrentMap<Class, AllocationDistribution> allocations,
+                                          Operation op, long startAllocatedBytes) {
+        Class<?> c = op.getClass();
+        AllocationDistribution distribution = allocations.get(c);
+        if (distribution == null) {
+            distribution = allocations.computeIfAbsent(c, k -> new AllocationDistribution());
+        }
+        distribution.done(startAllocatedBytes);
+    }
+
     void call(Operation op) throws Exception {
         CallStatus callStatus = op.call();
 
@@ -483,8 +494,13 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
         UUID callerUuid = connection.getRemoteUuid();
         Operation op = null;
         try {
+            ConcurrentMap<Class, AllocationDistribution> allocations = operationService.opDeserializationAllocations;
+            long startAllocatedBytes = allocations == null ? -1 : AllocationDistribution.currentThreadAllocatedBytes();
             Object object = nodeEngine.toObject(packet);
             op = (Operation) object;
+            if (allocations != null) {
+                recordAllocations(allocations, op, startAllocatedBytes);
+            }
             op.setNodeEngine(nodeEngine);
             setCallerAddress(op, caller);
             setConnection(op, connection);
@@ -30,6 +30,7 @@ import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.AllocationDistribution;
 import com.hazelcast.internal.util.LatencyDistribution;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.MwCounter;
@@ -116,6 +117,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     @Probe(name = OPERATION_METRIC_OPERATION_SERVICE_ASYNC_OPERATIONS)
     final Set<Operation> asyncOperations = newSetFromMap(new ConcurrentHashMap<>());
     final ConcurrentMap<Class, LatencyDistribution> opLatencyDistributions;
+    final ConcurrentMap<Class, AllocationDistribution> opDeserializationAllocations;
 
     final InvocationRegistry invocationRegistry;
     final OperationExecutor operationExecutor;
@@ -159,6 +161,11 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         this.opLatencyDistributions = nodeEngine.getProperties().getInteger(OperationProfilerPlugin.PERIOD_SECONDS) > 0
                 ? new ConcurrentHashMap<>()
                 : null;
+        this.opDeserializationAllocations = opLatencyDistributions != null
+                && nodeEngine.getProperties().getBoolean(OperationProfilerPlugin.ALLOCATIONS_ENABLED)
+                && AllocationDistribution.isSupported()
+                ? new ConcurrentHashMap<>()
+                : null;
         HazelcastProperties properties = node.getProperties();
         this.invocationMaxRetryCount = properties.getInteger(INVOCATION_MAX_RETRY_COUNT);
         this.invocationRetryPauseMillis = properties.getMillis(INVOCATION_RETRY_PAUSE);
@@ -205,6 +212,15 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         return opLatencyDistributions;
     }
 
+    /**
+     * Returns the bytes allocated while deserializing the operations received
+     * from remote members per operation class, or {@code null} if allocation
+     * profiling is disabled.
+     */
+    public ConcurrentMap<Class, AllocationDistribution> getOpDeserializationAllocations() {
+        return opDeserializationAllocations;
+    }
+
     public OutboundResponseHandler getOutboundResponseHandler() {
         return outboundResponseHandler;
     }
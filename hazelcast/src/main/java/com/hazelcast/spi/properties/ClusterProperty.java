@@ -363,6 +363,58 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * The maximum time in microseconds an outbound connection pipeline waits
+     * for more packets before it writes a partially filled send buffer to the
+     * socket. Packets offered within this window are sent with the same socket
+     * write, which reduces the number of write system calls for chatty traffic
+     * like backups at the cost of some latency. The window is only opened when
+     * the send buffer has room left and is closed immediately when an urgent
+     * packet is offered.
+     * <p>
+     * The waiting is done by spinning on the thread doing the write, so keep
+     * the value in the order of tens of microseconds.
+     * <p>
+     * It is disabled (0) by default.
+     */
+    public static final HazelcastProperty IO_WRITE_COALESCING_DELAY_MICROS
+            = new HazelcastProperty("hazelcast.io.write.coalescing.delay.micros", 0, MICROSECONDS);
+
+    /**
+     * Comma separated list of the endpoint protocol types ({@code MEMBER},
+     * {@code WAN}) whose connections are allowed to compress the payload of
+     * packets. A connection only sends compressed packets if both members
+     * allow compression for it; this is negotiated in the member handshake.
+     * <p>
+     * Compression trades CPU for bandwidth, so it is mainly useful on
+     * bandwidth bound links like cross-region WAN replication or clusters
+     * spread over availability zones.
+     * <p>
+     * The value is validated when the member starts: an unknown protocol
+     * type fails the startup.
+     * <p>
+     * Compression is disabled (empty) by default.
+     */
+    public static final HazelcastProperty IO_COMPRESSION_PROTOCOLS
+            = new HazelcastProperty("hazelcast.io.compression.protocols", "");
+
+    /**
+     * The minimum payload size in bytes of a packet for it to be compressed
+     * when compression is enabled for a connection, see
+     * {@link #IO_COMPRESSION_PROTOCOLS}. The size of the serialized payload
+     * is compared; the packet and serialization headers aren't counted.
+     */
+    public static final HazelcastProperty IO_COMPRESSION_THRESHOLD_BYTES
+            = new HazelcastProperty("hazelcast.io.compression.threshold.bytes", 2048);
+
+    /**
+     * The Deflate compression level (1-9) used for packets when compression is
+     * enabled for a connection, see {@link #IO_COMPRESSION_PROTOCOLS}. Lower
+     * levels are faster, higher levels compress better.
+     */
+    public static final HazelcastProperty IO_COMPRESSION_LEVEL
+            = new HazelcastProperty("hazelcast.io.compression.level", 1);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -532,6 +584,23 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB
             = new HazelcastProperty("hazelcast.partition.migration.chunks.max.migrating.data.in.mb", 250);
 
+    /**
+     * Upper bound of the migrating data in MB which is allowed to be in flight
+     * on a member at the same time. When chunked migration is enabled, each
+     * concurrent migration can hold up to
+     * {@link #PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB} on the heap, so the
+     * number of concurrent migrations on a member is set to this value
+     * divided by the chunk size, and never less than one. This can be more
+     * than the default of {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}, so a
+     * lower chunk size lets more partitions migrate concurrently without
+     * risking to exhaust the heap. If {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}
+     * is set explicitly, it is an upper limit for the derived value.
+     * <p>
+     * It is disabled (0) by default.
+     */
+    public static final HazelcastProperty PARTITION_MIGRATION_MAX_IN_FLIGHT_DATA_IN_MB
+            = new HazelcastProperty("hazelcast.partition.migration.max.in.flight.data.in.mb", 0);
+
     /**
      * The time that a newly-appointed master node waits before forming a cluster.
      * Once a cluster is being started, a newly-appointed master node may receive
@@ -1009,6 +1078,48 @@ public final class ClusterProperty {
     public static final HazelcastProperty QUERY_PREDICATE_PARALLEL_EVALUATION
             = new HazelcastProperty("hazelcast.query.predicate.parallel.evaluation", false);
 
+    /**
+     * Store the JSON metadata of map entries as binary indexed documents.
+     * <p>
+     * For maps with {@link com.hazelcast.config.MetadataPolicy#CREATE_ON_UPDATE}
+     * Hazelcast keeps metadata next to every {@link com.hazelcast.core.HazelcastJsonValue}
+     * key and value. By default, the metadata only describes the structure of
+     * the JSON text, and the queried values are still parsed from the text.
+     * When this property is enabled, the metadata is a binary copy of the
+     * document with an offset table for every object and array, so queries
+     * and indexes read attributes in time proportional to the path depth
+     * without tokenizing the text. This makes queries on JSON values cheaper
+     * at the cost of roughly one more copy of every JSON entry in memory.
+     * <p>
+     * The default is {@code false}.
+     */
+    public static final HazelcastProperty QUERY_JSON_INDEXED_METADATA
+            = new HazelcastProperty("hazelcast.query.json.indexed.metadata", false);
+
+    /**
+     * Comma separated list of {@code map:attribute} pairs of numeric
+     * attributes to keep in a columnar cache, e.g.
+     * {@code trades:price,trades:quantity}.
+     * <p>
+     * For every partition of the listed maps, the values of the listed
+     * attributes are kept in primitive arrays next to the entries and are
+     * updated on every mutation, just like indexes. Full partition scans of
+     * queries consisting of equal, greater/less and between predicates on
+     * these attributes, optionally combined with {@code and}, then compare
+     * the arrays instead of reading the attribute of every entry. Other
+     * queries, paging queries and maps with {@code NATIVE} in-memory format
+     * are not affected. A column falls back to the regular scan if one of
+     * its values isn't a number or the types of its values are mixed.
+     * <p>
+     * This speeds up analytics-style scans at the cost of extracting the
+     * attributes on every update and 8 bytes plus a reference per entry and
+     * attribute, also on the backups.
+     * <p>
+     * No attributes are cached (empty) by default.
+     */
+    public static final HazelcastProperty QUERY_COLUMNAR_ATTRIBUTES
+            = new HazelcastProperty("hazelcast.query.columnar.attributes", "");
+
     /**
      * Run aggregation accumulation for multiple entries in parallel.
      * <p>
@@ -1865,6 +1976,41 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.jet.idle.noncooperative.max.microseconds", 5000, MICROSECONDS)
             .setDeprecatedName("jet.idle.noncooperative.max.microseconds");
 
+    /**
+     * Enables work stealing between the cooperative worker threads of Jet.
+     * Tasklets are assigned to the cooperative threads in a round-robin
+     * fashion when a job starts, so a thread can end up running several busy
+     * tasklets while another thread is mostly idle. With work stealing
+     * enabled, an idle worker asks the busiest worker to hand over one of its
+     * tasklets. The busiest tasklet of a worker is never moved and a moved
+     * tasklet isn't moved again for a while, so that tasklets keep their
+     * cache locality most of the time.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_COOPERATIVE_WORK_STEALING
+            = new HazelcastProperty("hazelcast.jet.cooperative.work.stealing", false);
+
+    /**
+     * The maximum number of items a Jet processor passes to a downstream
+     * processor on the same member in a single slot of the queue between
+     * them. Passing items in batches reduces the per-item cost of the
+     * concurrent queues, which dominates in pipelines with cheap
+     * transformations. The batch is handed over at the latest when the
+     * processor's tasklet finishes its current call, and the actual batch
+     * size is reduced when the downstream queue fills up, so that the
+     * number of items waiting in the queue, and thus the latency, doesn't
+     * grow. Edges with an order comparator are never batched.
+     * <p>
+     * The default is {@code 1}, which disables the batching.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_LOCAL_EDGE_MAX_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.jet.local.edge.max.batch.size", 1);
+
     /**
      * The directory containing jars, that can be used to specify custom classpath for
      * a stage in a pipeline.
@@ -1875,6 +2021,154 @@ public final class ClusterProperty {
     public static final HazelcastProperty PROCESSOR_CUSTOM_LIB_DIR
             = new HazelcastProperty("hazelcast.jet.custom.lib.dir", "custom-lib");
 
+    /**
+     * The local directory processors use to spill the data they accumulate
+     * when it doesn't fit into memory. When set, the sorting processor sorts
+     * runs of at most {@link #JET_SPILL_RUN_MAX_RECORDS} items in memory,
+     * writes them to files in this directory and merges the files when the
+     * input is complete, instead of failing with an
+     * {@code AccumulationLimitExceededException}. Likewise, the grouping
+     * processors write the accumulators of a part of the keys to files and
+     * combine them when the input is complete, if the aggregate operation
+     * has a combine primitive, and the SQL hash join writes partitions of its
+     * build and probe rows to files and joins them one by one at the end.
+     * The files are deleted when the processor completes or the job is
+     * cancelled. Since the file access is blocking, the processors that can
+     * spill aren't cooperative when this is set: they run on dedicated
+     * threads.
+     * <p>
+     * Spilling is disabled (empty) by default.
+     */
+    public static final HazelcastProperty JET_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.spill.directory", "");
+
+    /**
+     * The maximum number of items a processor keeps in memory before it
+     * spills them to the {@link #JET_SPILL_DIRECTORY}. A lower
+     * {@code maxProcessorAccumulatedRecords} limit of the instance or the job
+     * takes precedence. Has no effect if spilling is disabled.
+     * <p>
+     * The default is 1,000,000.
+     */
+    public static final HazelcastProperty JET_SPILL_RUN_MAX_RECORDS
+            = new HazelcastProperty("hazelcast.jet.spill.run.max.records", 1_000_000);
+
+    /**
+     * Where the sliding and tumbling window aggregation processors keep the
+     * accumulators of the open frames. {@code HEAP} keeps them as objects on
+     * the Java heap. {@code OFF_HEAP} keeps the keys and accumulators
+     * serialized in direct memory, which reduces the garbage collection
+     * pauses of jobs with many keys, at the cost of serializing the
+     * accumulator on each update. The keys must have a deterministic
+     * serialized form with {@code OFF_HEAP}.
+     * <p>
+     * The default is {@code HEAP}.
+     */
+    public static final HazelcastProperty JET_WINDOW_STATE_STORE
+            = new HazelcastProperty("hazelcast.jet.window.state.store", "HEAP");
+
+    /**
+     * The maximum number of bytes of direct memory one window aggregation
+     * processor can allocate when {@link #JET_WINDOW_STATE_STORE} is {@code
+     * OFF_HEAP}. The job fails with an {@code
+     * AccumulationLimitExceededException} when the limit is exceeded. 0 means
+     * no limit.
+     * <p>
+     * The default is 0.
+     */
+    public static final HazelcastProperty JET_WINDOW_STATE_OFF_HEAP_MAX_BYTES
+            = new HazelcastProperty("hazelcast.jet.window.state.off.heap.max.bytes", 0L);
+
+    /**
+     * The maximum number of incremental snapshots a job takes after a full
+     * snapshot before it takes the next full snapshot. An incremental
+     * snapshot only writes the keys whose value changed since the previous
+     * snapshot and markers for the keys that were removed, and it is stored
+     * next to the snapshots it builds on. Restoring from it replays the last
+     * full snapshot and the incremental snapshots taken since. Exported
+     * snapshots and the first snapshot after a failure or a restart are
+     * always full.
+     * <p>
+     * To detect the changes, each member keeps on heap the serialized form
+     * of each snapshot key of the last snapshot together with a 64-bit hash
+     * of each value saved under it, so the memory needed is about the size of
+     * the snapshot keys. The entries don't have to have unique keys: the
+     * values saved under the same key by the processors of one member are
+     * tracked by the order in which they were saved. Broadcast keys are
+     * always written in full. Restoring from an incremental snapshot resolves
+     * the latest value of each entry in the chain in memory, so the
+     * restoring members must be able to hold all the entries of the chain on
+     * heap.
+     * <p>
+     * The default is 0, which disables incremental snapshots.
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS
+            = new HazelcastProperty("hazelcast.jet.snapshot.incremental.max.deltas", 0);
+
+    /**
+     * Where the members store the data of the automatic snapshots of Jet jobs:
+     * <ul>
+     *     <li>{@code IMAP}: in IMaps, on the heap of the cluster
+     *     <li>{@code DISK}: in checksummed segment files in the {@link
+     *     #JET_SNAPSHOT_DISK_DIRECTORY} of each member, replicated to the disks
+     *     of {@link #JET_SNAPSHOT_DISK_BACKUP_COUNT} other members. Only the
+     *     small validation record is stored in the IMap.
+     * </ul>
+     * Exported snapshots are always stored in IMaps. All members must use the
+     * same setting.
+     * <p>
+     * The default is {@code IMAP}.
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_STORE
+            = new HazelcastProperty("hazelcast.jet.snapshot.store", "IMAP");
+
+    /**
+     * The local directory used to store the snapshot data when {@link
+     * #JET_SNAPSHOT_STORE} is {@code DISK}. Each member uses a subdirectory
+     * named after its UUID and deletes it when it shuts down. A member that
+     * restarts gets a new UUID, so the data doesn't survive a restart. A
+     * starting member deletes the subdirectories left behind by members that
+     * didn't shut down cleanly.
+     * <p>
+     * The default is empty, which means a directory in {@code java.io.tmpdir}.
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_DISK_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.snapshot.disk.directory", "");
+
+    /**
+     * The number of other members to which each member replicates the
+     * snapshot data it writes to its disk when {@link #JET_SNAPSHOT_STORE} is
+     * {@code DISK}. A snapshot is complete only after all the replicas are
+     * written. The job can restore from the snapshot as long as, for each
+     * member that wrote the data, the member itself or one of its replicas is
+     * still in the cluster.
+     * <p>
+     * The default is 1.
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_DISK_BACKUP_COUNT
+            = new HazelcastProperty("hazelcast.jet.snapshot.disk.backup.count", 1);
+
+    /**
+     * Enables unaligned snapshots for jobs with the exactly-once processing
+     * guarantee. A processor then saves its state as soon as it receives the
+     * snapshot barrier from any of its input queues and forwards the barrier
+     * right away, instead of waiting for the barrier from all its input
+     * queues. The items it keeps receiving from the queues that didn't
+     * deliver the barrier yet are processed and also written to the snapshot.
+     * After a restore, they are processed again before any new input.
+     * <p>
+     * This bounds the snapshot latency when some inputs are backpressured or
+     * lagging behind, at the cost of larger snapshots. Only processors whose
+     * input edges are all unicast or partitioned and unordered take
+     * unaligned snapshots, the others keep aligning the barriers. The
+     * terminal snapshots are always aligned. The items received on the edges
+     * of these processors must be serializable, even if the edges are local.
+     * <p>
+     * The default is false.
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_UNALIGNED
+            = new HazelcastProperty("hazelcast.jet.snapshot.unaligned", false);
+
     /**
      * Controls whether cluster emojis can be used in log messages. This is just a hint for components calling the logging.
      *
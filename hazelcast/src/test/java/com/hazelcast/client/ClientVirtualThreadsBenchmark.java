@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import org.junit.Ignore;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.client.properties.ClientProperty.RESPONSE_DIRECT_COMPLETION_ENABLED;
+import static com.hazelcast.client.properties.ClientProperty.RESPONSE_THREAD_COUNT;
+
+/**
+ * Runs a large number of concurrent callers, each doing map operations
+ * against a single client, and reports the throughput.
+ * <p>
+ * On Java 21+ every caller runs on its own virtual thread, otherwise the
+ * callers share a pool of platform threads. Run it with
+ * {@code -Djdk.tracePinnedThreads=short} to report the callers pinning
+ * their carrier thread.
+ * <p>
+ * By default the callers use the blocking {@code get}/{@code set}. With
+ * {@code atrue} they use {@code getAsync}/{@code setAsync}, count the
+ * operation in a completion callback and wait for the returned future. Only
+ * the asynchronous calls are affected by {@link
+ * com.hazelcast.client.properties.ClientProperty#RESPONSE_DIRECT_COMPLETION_ENABLED},
+ * compare {@code atrue dtrue} with {@code atrue dfalse}.
+ * <p>
+ * Arguments: {@code c<callers> s<seconds> a<async> d<direct completion> r<response threads>},
+ * e.g. {@code c100000 s30 atrue dtrue r0}.
+ */
+@Ignore("Not a JUnit test")
+public class ClientVirtualThreadsBenchmark {
+
+    static {
+        ClusterProperty.WAIT_SECONDS_BEFORE_JOIN.setSystemProperty("0");
+        System.setProperty("java.net.preferIPv4Stack", "true");
+        System.setProperty("hazelcast.local.localAddress", "127.0.0.1");
+        ClusterProperty.PHONE_HOME_ENABLED.setSystemProperty("false");
+    }
+
+    private static final int ENTRY_COUNT = 10_000;
+    private static final int PLATFORM_THREAD_COUNT = 200;
+
+    private static int callerCount = 100_000;
+    private static int durationSeconds = 30;
+    private static boolean async;
+    private static boolean directCompletion = true;
+    private static int responseThreadCount = 2;
+
+    public static void main(String[] args) throws Exception {
+        for (String arg : args) {
+            arg = arg.trim();
+            if (arg.startsWith("c")) {
+                callerCount = Integer.parseInt(arg.substring(1));
+            } else if (arg.startsWith("s")) {
+                durationSeconds = Integer.parseInt(arg.substring(1));
+            } else if (arg.startsWith("a")) {
+                async = Boolean.parseBoolean(arg.substring(1));
+            } else if (arg.startsWith("d")) {
+                directCompletion = Boolean.parseBoolean(arg.substring(1));
+            } else if (arg.startsWith("r")) {
+                responseThreadCount = Integer.parseInt(arg.substring(1));
+            }
+        }
+
+        HazelcastInstance member = Hazelcast.newHazelcastInstance();
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(RESPONSE_DIRECT_COMPLETION_ENABLED.getName(), String.valueOf(directCompletion))
+                .setProperty(RESPONSE_THREAD_COUNT.getName(), String.valueOf(responseThreadCount));
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+        IMap<Integer, Integer> map = client.getMap("default");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        ExecutorService executor = newCallerExecutor();
+        System.out.println("Starting " + callerCount + " callers on " + executor
+                + ", async=" + async + ", directCompletion=" + directCompletion
+                + ", responseThreads=" + responseThreadCount);
+
+        AtomicLong operations = new AtomicLong();
+        CountDownLatch stopped = new CountDownLatch(callerCount);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        for (int i = 0; i < callerCount; i++) {
+            executor.execute(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        int key = random.nextInt(ENTRY_COUNT);
+                        boolean get = random.nextInt(100) < 80;
+                        if (async) {
+                            CompletionStage<?> stage = get ? map.getAsync(key) : map.setAsync(key, key);
+                            stage.whenComplete((r, t) -> {
+                                if (t == null) {
+                                    operations.incrementAndGet();
+                                }
+                            }).toCompletableFuture().join();
+                        } else {
+                            if (get) {
+                                map.get(key);
+                            } else {
+                                map.set(key, key);
+                            }
+                            operations.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    stopped.countDown();
+                }
+            });
+        }
+
+        long previous = 0;
+        while (!stopped.await(1, TimeUnit.SECONDS)) {
+            long current = operations.get();
+            System.out.println("Operations per second: " + (current - previous));
+            previous = current;
+        }
+        System.out.println("Total operations: " + operations.get()
+                + ", average per second: " + operations.get() / durationSeconds);
+
+        executor.shutdown();
+        client.shutdown();
+        member.shutdown();
+    }
+
+    private static ExecutorService newCallerExecutor() {
+        try {
+            // Java 21+, looked up reflectively since the tests are compiled for an older release
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.out.println("Virtual threads aren't available, using " + PLATFORM_THREAD_COUNT + " platform threads");
+            return Executors.newFixedThreadPool(PLATFORM_THREAD_COUNT);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.clientside;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import example.serialization.EmployeeDTO;
+import example.serialization.EmployerDTO;
+import example.serialization.HiringStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static com.hazelcast.client.impl.clientside.ClientSchemaService.SCHEMA_CACHE_DIRECTORY;
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.assertSchemasAvailable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientSchemaServiceTest extends HazelcastTestSupport {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    private HazelcastInstance member;
+
+    @Before
+    public void setUp() {
+        member = factory.newHazelcastInstance(smallInstanceConfig());
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void fetchesUnknownSchemas() {
+        EmployerDTO employer = newEmployer();
+        factory.newHazelcastClient().getMap("employers").put(1, employer);
+
+        HazelcastInstance client = factory.newHazelcastClient();
+        IMap<Integer, EmployerDTO> map = client.getMap("employers");
+        assertEquals(employer, map.get(1));
+
+        ClientSchemaService schemaService = schemaService(client);
+        assertThat(schemaService.fetchCount()).isPositive();
+        assertThat(schemaService.fetchStallCount()).isGreaterThanOrEqualTo(schemaService.fetchCount());
+        assertEquals(0, schemaService.cachedSchemaCount());
+    }
+
+    @Test
+    public void restartedClient_usesCachedSchemas() {
+        EmployerDTO employer = newEmployer();
+        HazelcastInstance client = factory.newHazelcastClient(clientConfigWithCache());
+        client.getMap("employers").put(1, employer);
+        assertTrueEventually(() -> assertThat(fileCache().read()).hasSize(2));
+        client.shutdown();
+
+        client = factory.newHazelcastClient(clientConfigWithCache());
+        IMap<Integer, EmployerDTO> map = client.getMap("employers");
+        assertEquals(employer, map.get(1));
+
+        ClientSchemaService schemaService = schemaService(client);
+        assertEquals(2, schemaService.cachedSchemaCount());
+        assertEquals(0, schemaService.fetchCount());
+        assertEquals(0, schemaService.fetchStallCount());
+    }
+
+    @Test
+    public void cachedSchemas_areSentToRestartedCluster() {
+        HazelcastInstance client = factory.newHazelcastClient(clientConfigWithCache());
+        client.getMap("employers").put(1, newEmployer());
+        assertTrueEventually(() -> assertThat(fileCache().read()).hasSize(2));
+        client.shutdown();
+        member.shutdown();
+
+        HazelcastInstance newMember = factory.newHazelcastInstance(smallInstanceConfig());
+        factory.newHazelcastClient(clientConfigWithCache());
+
+        assertTrueEventually(() -> assertSchemasAvailable(List.of(newMember), EmployerDTO.class, EmployeeDTO.class));
+    }
+
+    private ClientConfig clientConfigWithCache() {
+        return new ClientConfig()
+                .setProperty(SCHEMA_CACHE_DIRECTORY.getName(), tempFolder.getRoot().getAbsolutePath());
+    }
+
+    private SchemaFileCache fileCache() {
+        return new SchemaFileCache(tempFolder.getRoot().toPath(), Logger.getLogger(ClientSchemaServiceTest.class));
+    }
+
+    private static ClientSchemaService schemaService(HazelcastInstance client) {
+        return (ClientSchemaService) getHazelcastClientInstanceImpl(client).getSchemaService();
+    }
+
+    private static EmployerDTO newEmployer() {
+        return new EmployerDTO(
+                "foo",
+                42,
+                HiringStatus.HIRING,
+                new long[]{1, 2, 3},
+                new EmployeeDTO(42, 24),
+                new EmployeeDTO[]{new EmployeeDTO(24, 42), null}
+        );
+    }
+}
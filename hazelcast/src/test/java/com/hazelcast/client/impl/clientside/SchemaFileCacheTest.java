@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.clientside;
+
+import com.hazelcast.internal.serialization.impl.compact.FieldDescriptor;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.serialization.FieldKind;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SchemaFileCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private SchemaFileCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new SchemaFileCache(tempFolder.getRoot().toPath(), Logger.getLogger(SchemaFileCacheTest.class));
+    }
+
+    @Test
+    public void read_whenNoFile() {
+        assertThat(cache.read()).isEmpty();
+    }
+
+    @Test
+    public void writeAndRead() {
+        Schema employee = schema("employee", "name", FieldKind.STRING, "age", FieldKind.INT32);
+        Schema empty = schema("empty");
+
+        cache.write(List.of(employee, empty));
+
+        assertThat(cache.read()).containsExactlyInAnyOrder(employee, empty);
+    }
+
+    @Test
+    public void write_keepsSchemasAlreadyInFile() {
+        Schema employee = schema("employee", "name", FieldKind.STRING);
+        Schema employer = schema("employer", "employees", FieldKind.ARRAY_OF_COMPACT);
+        cache.write(List.of(employee));
+
+        // e.g. written by another client sharing the directory
+        cache.write(List.of(employer));
+
+        assertThat(cache.read()).containsExactlyInAnyOrder(employee, employer);
+        assertThat(tempFolder.getRoot().list()).containsExactly(SchemaFileCache.FILE_NAME);
+    }
+
+    @Test
+    public void read_dropsSchemaWithMismatchingId() throws IOException {
+        Schema employee = schema("employee", "name", FieldKind.STRING);
+        cache.write(List.of(employee));
+
+        byte[] bytes = Files.readAllBytes(cache.file());
+        // the first byte of the schema id, after the magic, the version and the count
+        bytes[12]++;
+        Files.write(cache.file(), bytes);
+
+        assertThat(cache.read()).isEmpty();
+    }
+
+    @Test
+    public void read_ignoresCorruptFile() throws IOException {
+        cache.write(List.of(schema("employee", "name", FieldKind.STRING)));
+
+        byte[] bytes = Files.readAllBytes(cache.file());
+        Files.write(cache.file(), Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThat(cache.read()).isEmpty();
+    }
+
+    @Test
+    public void read_ignoresFileWithUnknownFormat() throws IOException {
+        Files.write(cache.file(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        assertThat(cache.read()).isEmpty();
+    }
+
+    private static Schema schema(String typeName, Object... fieldNamesAndKinds) {
+        List<FieldDescriptor> fields = new ArrayList<>();
+        for (int i = 0; i < fieldNamesAndKinds.length; i += 2) {
+            fields.add(new FieldDescriptor((String) fieldNamesAndKinds[i], (FieldKind) fieldNamesAndKinds[i + 1]));
+        }
+        return new Schema(typeName, fields);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.client.properties.ClientProperty.RESPONSE_DIRECT_COMPLETION_ENABLED;
+import static com.hazelcast.client.properties.ClientProperty.RESPONSE_THREAD_COUNT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientResponseDirectCompletionTest extends ClientTestSupport {
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void before() {
+        hazelcastFactory.newHazelcastInstance();
+        ClientConfig config = new ClientConfig()
+                .setProperty(RESPONSE_DIRECT_COMPLETION_ENABLED.getName(), "true")
+                .setProperty(RESPONSE_THREAD_COUNT.getName(), "1");
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient(config);
+        map = client.getMap(randomMapName());
+    }
+
+    @After
+    public void after() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testAsyncCallsComplete() {
+        map.setAsync(1, 1).toCompletableFuture().join();
+
+        assertEquals(1, (int) map.getAsync(1).toCompletableFuture().join());
+        assertEquals(1, (int) map.get(1));
+    }
+
+    @Test
+    public void testCallbacks_notExecutedOnResponseThread() {
+        map.set(1, 1);
+        AtomicReference<String> callbackThread = new AtomicReference<>();
+
+        CompletableFuture<Integer> future = map.getAsync(1)
+                .thenApply(value -> {
+                    callbackThread.set(Thread.currentThread().getName());
+                    return value;
+                })
+                .toCompletableFuture();
+
+        assertEquals(1, (int) future.join());
+        assertFalse(callbackThread.get(), callbackThread.get().contains("responsethread"));
+    }
+
+    @Test
+    public void testAsyncCall_whenCallbackFails() {
+        map.set(1, 1);
+
+        CompletableFuture<Integer> future = map.getAsync(1)
+                .thenApply(value -> value / 0)
+                .toCompletableFuture();
+
+        assertThrows(CompletionException.class, future::join);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static com.hazelcast.client.properties.ClientProperty.MAP_AUTO_BATCHING_MAX_BATCH_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_AUTO_BATCHING_WINDOW_MICROS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapAutoBatchingTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private TestHazelcastFactory factory;
+    private IMap<Integer, Integer> map;
+    private IMap<Integer, Integer> memberMap;
+    private HazelcastInstance client;
+    private HazelcastInstance member;
+
+    @Before
+    public void setUp() {
+        factory = new TestHazelcastFactory();
+        member = factory.newHazelcastInstance(getConfig());
+        factory.newHazelcastInstance(getConfig());
+
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(MAP_AUTO_BATCHING_WINDOW_MICROS.getName(), "1000")
+                .setProperty(MAP_AUTO_BATCHING_MAX_BATCH_SIZE.getName(), "16")
+                .addNearCacheConfig(new NearCacheConfig("nearCached*"));
+        client = factory.newHazelcastClient(clientConfig);
+
+        String mapName = randomMapName();
+        map = client.getMap(mapName);
+        memberMap = member.getMap(mapName);
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testSetAsync() {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map.setAsync(i, i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertEquals(ENTRY_COUNT, memberMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) memberMap.get(i));
+        }
+    }
+
+    @Test
+    public void testGetAsync() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            memberMap.set(i, i);
+        }
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map.getAsync(i).toCompletableFuture());
+        }
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) futures.get(i).join());
+        }
+    }
+
+    @Test
+    public void testGetAsync_whenKeyMissing() {
+        memberMap.set(1, 1);
+
+        CompletionStage<Integer> missing = map.getAsync(2);
+        CompletionStage<Integer> present = map.getAsync(1);
+
+        assertNull(missing.toCompletableFuture().join());
+        assertEquals(1, (int) present.toCompletableFuture().join());
+    }
+
+    @Test
+    public void testGetAsync_sameKeyMultipleTimes() {
+        memberMap.set(1, 1);
+
+        CompletionStage<Integer> first = map.getAsync(1);
+        CompletionStage<Integer> second = map.getAsync(1);
+
+        assertEquals(1, (int) first.toCompletableFuture().join());
+        assertEquals(1, (int) second.toCompletableFuture().join());
+    }
+
+    @Test
+    public void testGetAsync_seesPrecedingSetAsync() {
+        map.setAsync(1, 1);
+        map.setAsync(1, 2);
+        CompletionStage<Integer> future = map.getAsync(1);
+
+        assertEquals(2, (int) future.toCompletableFuture().join());
+    }
+
+    @Test
+    public void testSetAsync_withTtl_isNotBatched() {
+        map.setAsync(1, 1, 1, HOURS).toCompletableFuture().join();
+
+        assertEquals(1, (int) memberMap.get(1));
+        assertEquals(1, memberMap.getEntryView(1).getTtl() / 3_600_000);
+    }
+
+    @Test
+    public void testRemove_afterSetAsync_isNotOvertaken() {
+        CompletionStage<Void> setFuture = map.setAsync(1, 1);
+        map.remove(1);
+        setFuture.toCompletableFuture().join();
+
+        assertNull(memberMap.get(1));
+    }
+
+    @Test
+    public void testSetAsyncWithTtl_afterSetAsync_isNotOvertaken() {
+        CompletionStage<Void> setFuture = map.setAsync(1, 1);
+        map.setAsync(1, 2, 1, HOURS).toCompletableFuture().join();
+        setFuture.toCompletableFuture().join();
+
+        assertEquals(2, (int) memberMap.get(1));
+    }
+
+    @Test
+    public void testNearCachedMap_invalidatedInOrder() {
+        String mapName = "nearCached" + randomMapName();
+        IMap<Integer, Integer> nearCachedMap = client.getMap(mapName);
+        for (int i = 0; i < 10; i++) {
+            nearCachedMap.setAsync(1, i);
+            // populates the near cache, it must not keep a value older than the last set
+            nearCachedMap.get(1);
+        }
+
+        assertEquals(9, (int) nearCachedMap.getAsync(1).toCompletableFuture().join());
+        assertEquals(9, (int) nearCachedMap.get(1));
+        assertEquals(9, (int) member.<Integer, Integer>getMap(mapName).get(1));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.json;
+
+import com.hazelcast.internal.json.JsonPullParser.Token;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.json.JsonPullParser.Token.BEGIN_ARRAY;
+import static com.hazelcast.internal.json.JsonPullParser.Token.BEGIN_OBJECT;
+import static com.hazelcast.internal.json.JsonPullParser.Token.BOOLEAN;
+import static com.hazelcast.internal.json.JsonPullParser.Token.END_ARRAY;
+import static com.hazelcast.internal.json.JsonPullParser.Token.END_DOCUMENT;
+import static com.hazelcast.internal.json.JsonPullParser.Token.END_OBJECT;
+import static com.hazelcast.internal.json.JsonPullParser.Token.NAME;
+import static com.hazelcast.internal.json.JsonPullParser.Token.NULL;
+import static com.hazelcast.internal.json.JsonPullParser.Token.NUMBER;
+import static com.hazelcast.internal.json.JsonPullParser.Token.STRING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class JsonPullParserTest {
+
+    @Test
+    public void readsAllTokens() {
+        JsonPullParser parser = new JsonPullParser(
+                " {\"a\" : [1, -2.5e3, \"x\", true, false, null], \"b\":{}, \"c\":[]}\n");
+
+        assertTokens(parser, BEGIN_OBJECT, NAME, BEGIN_ARRAY, NUMBER, NUMBER, STRING, BOOLEAN, BOOLEAN, NULL, END_ARRAY,
+                NAME, BEGIN_OBJECT, END_OBJECT, NAME, BEGIN_ARRAY, END_ARRAY, END_OBJECT, END_DOCUMENT);
+        assertEquals(END_DOCUMENT, parser.next());
+    }
+
+    @Test
+    public void readsValues() {
+        JsonPullParser parser = new JsonPullParser("[\"fo\\\"o\\u0041\\n\", 42, -9223372036854775808, 1.5, true, \"plain\"]");
+
+        assertEquals(BEGIN_ARRAY, parser.next());
+        assertEquals(STRING, parser.next());
+        assertEquals("fo\"oA\n", parser.stringValue());
+        assertTrue(parser.textEquals("fo\"oA\n"));
+        assertEquals(NUMBER, parser.next());
+        assertEquals(42, parser.intValue());
+        assertEquals(NUMBER, parser.next());
+        assertEquals(Long.MIN_VALUE, parser.longValue());
+        assertThrows(NumberFormatException.class, parser::intValue);
+        assertEquals(NUMBER, parser.next());
+        assertEquals(1.5, parser.doubleValue(), 0);
+        assertThrows(NumberFormatException.class, parser::longValue);
+        assertEquals(BOOLEAN, parser.next());
+        assertTrue(parser.booleanValue());
+        assertEquals(STRING, parser.next());
+        assertTrue(parser.textEquals("plain"));
+        assertFalse(parser.textEquals("plai"));
+        assertEquals("plain", parser.stringValue());
+    }
+
+    @Test
+    public void readsWhatTheTreeWrites() {
+        JsonObject tree = Json.object()
+                .add("string", "\u0000\t\u2028\\/")
+                .add("number", 1234567890123L)
+                .add("nested", Json.array().add(Json.object().add("x", 0.25)));
+
+        JsonPullParser parser = new JsonPullParser(tree.toString());
+        assertTokens(parser, BEGIN_OBJECT, NAME, STRING);
+        assertEquals("\u0000\t\u2028\\/", parser.stringValue());
+        assertTokens(parser, NAME, NUMBER);
+        assertEquals(1234567890123L, parser.longValue());
+        assertTokens(parser, NAME, BEGIN_ARRAY, BEGIN_OBJECT, NAME, NUMBER);
+        assertEquals(0.25, parser.doubleValue(), 0);
+        assertTokens(parser, END_OBJECT, END_ARRAY, END_OBJECT, END_DOCUMENT);
+    }
+
+    @Test
+    public void skipValue() {
+        JsonPullParser parser = new JsonPullParser("{\"skip\":{\"a\":[1,{\"b\":2}]},\"scalar\":3,\"keep\":4}");
+
+        assertTokens(parser, BEGIN_OBJECT, NAME);
+        parser.skipValue();
+        assertTokens(parser, NAME);
+        parser.skipValue();
+        assertTokens(parser, NAME);
+        assertTrue(parser.textEquals("keep"));
+        assertTokens(parser, NUMBER, END_OBJECT, END_DOCUMENT);
+    }
+
+    @Test
+    public void skipValue_whenAtStartOfArray() {
+        JsonPullParser parser = new JsonPullParser("[[1,[2]],3]");
+
+        assertTokens(parser, BEGIN_ARRAY, BEGIN_ARRAY);
+        parser.skipValue();
+        assertEquals(END_ARRAY, parser.current());
+        assertTokens(parser, NUMBER, END_ARRAY, END_DOCUMENT);
+    }
+
+    @Test
+    public void reset_reusesParser() {
+        JsonPullParser parser = new JsonPullParser("[1]");
+        assertTokens(parser, BEGIN_ARRAY, NUMBER, END_ARRAY, END_DOCUMENT);
+
+        parser.reset("\"a\\\"\"");
+        assertTokens(parser, STRING);
+        assertEquals("a\"", parser.stringValue());
+        assertTokens(parser, END_DOCUMENT);
+    }
+
+    @Test
+    public void failsOnInvalidJson() {
+        assertParseException("{\"a\" 1}", "Expected ':' at 1:6");
+        assertParseException("[1 2]", "Expected ',' or ']' at 1:4");
+        assertParseException("{\"a\":1,}", "Expected name at 1:8");
+        assertParseException("[01]", "Expected ',' or ']' at 1:3");
+        assertParseException("[1.]", "Expected digit at 1:4");
+        assertParseException("[tru]", "Expected 'e' at 1:5");
+        assertParseException("[\"a", "Unexpected end of input at 1:4");
+        assertParseException("[\"\\x\"]", "Expected valid escape sequence at 1:4");
+        assertParseException("1 2", "Unexpected character at 1:3");
+        assertParseException("[\n}", "Expected value at 2:1");
+    }
+
+    @Test
+    public void failsOnTooDeepNesting() {
+        String json = "[".repeat(1001) + "]".repeat(1001);
+        JsonPullParser parser = new JsonPullParser(json);
+
+        ParseException exception = assertThrows(ParseException.class, () -> {
+            while (parser.next() != END_DOCUMENT) {
+                // just read
+            }
+        });
+        assertTrue(exception.getMessage(), exception.getMessage().startsWith("Nesting too deep"));
+    }
+
+    private static void assertParseException(String json, String message) {
+        JsonPullParser parser = new JsonPullParser(json);
+        ParseException exception = assertThrows(ParseException.class, () -> {
+            while (parser.next() != END_DOCUMENT) {
+                // just read
+            }
+        });
+        assertEquals(message, exception.getMessage());
+    }
+
+    private static void assertTokens(JsonPullParser parser, Token... tokens) {
+        for (Token token : tokens) {
+            assertEquals(token, parser.next());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.json;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class JsonStreamWriterTest {
+
+    private final JsonStreamWriter writer = new JsonStreamWriter();
+
+    @Test
+    public void writesSameTextAsTree() {
+        JsonObject tree = Json.object()
+                .add("string", "foo \"bar\"\n\u2028")
+                .add("int", 42)
+                .add("long", Long.MIN_VALUE)
+                .add("double", 23.0)
+                .add("fraction", 1.5e-7)
+                .add("true", true)
+                .add("null", Json.NULL)
+                .add("array", Json.array().add(1).add("a").add(Json.array()).add(Json.object()))
+                .add("object", Json.object().add("nested", false));
+
+        writer.beginObject()
+                .name("string").value("foo \"bar\"\n\u2028")
+                .name("int").value(42)
+                .name("long").value(Long.MIN_VALUE)
+                .name("double").value(23.0)
+                .name("fraction").value(1.5e-7)
+                .name("true").value(true)
+                .name("null").nullValue()
+                .name("array").beginArray().value(1).value("a").beginArray().endArray().beginObject().endObject().endArray()
+                .name("object").beginObject().name("nested").value(false).endObject()
+                .endObject();
+
+        assertEquals(tree.toString(), writer.toString());
+    }
+
+    @Test
+    public void writesJsonValue() {
+        writer.beginArray().value(Json.object().add("a", 1)).value((String) null).endArray();
+
+        assertEquals("[{\"a\":1},null]", writer.toString());
+    }
+
+    @Test
+    public void reset_reusesWriter() {
+        writer.beginArray().value(1).endArray();
+        assertEquals("[1]", writer.toString());
+
+        writer.reset().value("foo");
+        assertEquals("\"foo\"", writer.toString());
+    }
+
+    @Test
+    public void failsOnInvalidOrder() {
+        assertThrows(IllegalStateException.class, () -> writer.beginObject().value(1));
+        assertThrows(IllegalStateException.class, () -> writer.reset().beginArray().name("a"));
+        assertThrows(IllegalStateException.class, () -> writer.reset().beginObject().name("a").endObject());
+        assertThrows(IllegalStateException.class, () -> writer.reset().value(1).value(2));
+        assertThrows(IllegalStateException.class, () -> writer.reset().beginArray().endObject());
+        assertThrows(IllegalStateException.class, () -> writer.reset().beginArray().toString());
+        assertThrows(IllegalArgumentException.class, () -> writer.reset().value(Double.NaN));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.json;
+
+import com.hazelcast.internal.json.JsonPullParser.Token;
+import com.hazelcast.internal.util.AllocationDistribution;
+import org.junit.Ignore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Compares the tree based {@link Json#parse(String)} and
+ * {@link JsonValue#toString()} with the {@link JsonPullParser} and the
+ * {@link JsonStreamWriter} on a document shaped like the member groups a
+ * member sends to its clients, and reports the throughput and the number
+ * of bytes allocated per operation.
+ * <p>
+ * Arguments: {@code g<groups> m<members per group> s<seconds per run>},
+ * e.g. {@code g20 m5 s10}.
+ */
+@Ignore("Not a JUnit test")
+public class JsonStreamingBenchmark {
+
+    private static int groupCount = 20;
+    private static int membersPerGroup = 5;
+    private static int durationSeconds = 10;
+
+    private static List<List<String>> groups;
+    private static String json;
+
+    public static void main(String[] args) {
+        for (String arg : args) {
+            arg = arg.trim();
+            if (arg.startsWith("g")) {
+                groupCount = Integer.parseInt(arg.substring(1));
+            } else if (arg.startsWith("m")) {
+                membersPerGroup = Integer.parseInt(arg.substring(1));
+            } else if (arg.startsWith("s")) {
+                durationSeconds = Integer.parseInt(arg.substring(1));
+            }
+        }
+
+        groups = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            List<String> group = new ArrayList<>();
+            for (int j = 0; j < membersPerGroup; j++) {
+                group.add(UUID.randomUUID().toString());
+            }
+            groups.add(group);
+        }
+        json = writeTree(0);
+        if (!json.equals(writeStreaming(new JsonStreamWriter(), 0))) {
+            throw new AssertionError("Tree and streaming outputs differ");
+        }
+        System.out.println("Document size: " + json.length() + " chars");
+
+        // the first round is the warm-up
+        for (int round = 0; round < 2; round++) {
+            run("write tree", version -> writeTree(version).length());
+            JsonStreamWriter writer = new JsonStreamWriter();
+            run("write streaming", version -> writeStreaming(writer, version).length());
+            run("parse tree", version -> parseTree());
+            JsonPullParser parser = new JsonPullParser("");
+            run("parse streaming", version -> parseStreaming(parser));
+        }
+    }
+
+    private static void run(String name, ToIntFunction<Integer> operation) {
+        long deadline = System.nanoTime() + SECONDS.toNanos(durationSeconds);
+        long startBytes = AllocationDistribution.currentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        long operations = 0;
+        long blackhole = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) {
+                blackhole += operation.applyAsInt((int) operations++);
+            }
+        }
+        long durationNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = AllocationDistribution.currentThreadAllocatedBytes() - startBytes;
+        System.out.printf("%-16s %,12d ops/s %,10d bytes/op (%d)%n", name,
+                operations * SECONDS.toNanos(1) / durationNanos,
+                AllocationDistribution.isSupported() ? allocatedBytes / operations : -1, blackhole & 1);
+    }
+
+    private static String writeTree(int version) {
+        JsonArray groupsArray = Json.array();
+        for (List<String> group : groups) {
+            JsonArray groupArray = Json.array();
+            for (String member : group) {
+                groupArray.add(member);
+            }
+            groupsArray.add(groupArray);
+        }
+        return Json.object().add("version", version).add("groups", groupsArray).toString();
+    }
+
+    private static String writeStreaming(JsonStreamWriter writer, int version) {
+        writer.reset().beginObject().name("version").value(version).name("groups").beginArray();
+        for (List<String> group : groups) {
+            writer.beginArray();
+            for (String member : group) {
+                writer.value(member);
+            }
+            writer.endArray();
+        }
+        return writer.endArray().endObject().toString();
+    }
+
+    private static int parseTree() {
+        JsonObject object = Json.parse(json).asObject();
+        int count = object.getInt("version", -1);
+        for (JsonValue group : object.get("groups").asArray()) {
+            for (JsonValue member : group.asArray()) {
+                count += UUID.fromString(member.asString()).hashCode();
+            }
+        }
+        return count;
+    }
+
+    private static int parseStreaming(JsonPullParser parser) {
+        parser.reset(json);
+        int count = 0;
+        for (Token token = parser.next(); token != Token.END_DOCUMENT; token = parser.next()) {
+            if (token == Token.NUMBER) {
+                count += parser.intValue();
+            } else if (token == Token.STRING) {
+                count += UUID.fromString(parser.stringValue()).hashCode();
+            }
+        }
+        return count;
+    }
+}
@@ -55,6 +55,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -64,6 +65,8 @@ import static org.mockito.Mockito.when;
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class MigrationManagerTest {
 
+    private static final int MB = 1024 * 1024;
+
     Node node;
     InternalPartitionServiceImpl partitionService;
     PartitionStateManager partitionStateManager;
@@ -194,6 +197,41 @@ public class MigrationManagerTest {
         assertArrayEquals(snapshotBestMatch.toArray(addressTranslationMap), task.checkSnapshots());
     }
 
+    @Test
+    public void testMaxParallelMigrations_whenNoInFlightDataBudget() {
+        assertEquals(10, MigrationManagerImpl.maxParallelMigrations(10, false, true, 250 * MB, 0));
+    }
+
+    @Test
+    public void testMaxParallelMigrations_whenChunkedMigrationDisabled() {
+        assertEquals(10, MigrationManagerImpl.maxParallelMigrations(10, false, false, 250 * MB, 500L * MB));
+    }
+
+    @Test
+    public void testMaxParallelMigrations_limitedByInFlightDataBudget() {
+        assertEquals(4, MigrationManagerImpl.maxParallelMigrations(10, false, true, 64 * MB, 256L * MB));
+    }
+
+    @Test
+    public void testMaxParallelMigrations_raisedByInFlightDataBudget() {
+        assertEquals(64, MigrationManagerImpl.maxParallelMigrations(10, false, true, 16 * MB, 1024L * MB));
+    }
+
+    @Test
+    public void testMaxParallelMigrations_budgetCappedByConfiguredParallelism() {
+        assertEquals(32, MigrationManagerImpl.maxParallelMigrations(32, true, true, 16 * MB, 1024L * MB));
+    }
+
+    @Test
+    public void testMaxParallelMigrations_configuredParallelismLimitedByBudget() {
+        assertEquals(4, MigrationManagerImpl.maxParallelMigrations(32, true, true, 64 * MB, 256L * MB));
+    }
+
+    @Test
+    public void testMaxParallelMigrations_atLeastOne_whenBudgetSmallerThanChunk() {
+        assertEquals(1, MigrationManagerImpl.maxParallelMigrations(10, false, true, 250 * MB, 100L * MB));
+    }
+
     // clone given members list, removing removeCount from the end
     List<Member> cloneRemoving(List<Member> members, int removeCount) {
         List<Member> result = new ArrayList<>(members);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MigrationStatsTest {
+
+    private MigrationStats stats;
+
+    @Before
+    public void setup() {
+        stats = new MigrationStats();
+        stats.markNewRepartition(3);
+    }
+
+    @Test
+    public void testMigrationDurations_whenNothingRecorded() {
+        assertEquals(0, stats.getLastMigrationDurationNanoseconds());
+        assertEquals(0, stats.getMaxMigrationDurationNanoseconds());
+        assertEquals(0, stats.getAverageMigrationDurationNanoseconds());
+        assertEquals(0, stats.getMigrationRate(), 0);
+    }
+
+    @Test
+    public void testMigrationDurations() {
+        stats.recordMigrationDuration(MILLISECONDS.toNanos(10));
+        stats.recordMigrationDuration(MILLISECONDS.toNanos(30));
+        stats.recordMigrationDuration(MILLISECONDS.toNanos(20));
+
+        assertEquals(MILLISECONDS.toNanos(20), stats.getLastMigrationDurationNanoseconds());
+        assertEquals(MILLISECONDS.toNanos(30), stats.getMaxMigrationDurationNanoseconds());
+        assertEquals(MILLISECONDS.toNanos(20), stats.getAverageMigrationDurationNanoseconds());
+    }
+
+    @Test
+    public void testMigrationDurations_resetOnNewRepartition() {
+        stats.recordMigrationDuration(MILLISECONDS.toNanos(10));
+
+        stats.markNewRepartition(1);
+
+        assertEquals(0, stats.getLastMigrationDurationNanoseconds());
+        assertEquals(0, stats.getMaxMigrationDurationNanoseconds());
+        assertEquals(0, stats.getAverageMigrationDurationNanoseconds());
+    }
+
+    @Test
+    public void testMigrationRate() throws InterruptedException {
+        MILLISECONDS.sleep(10);
+        stats.incrementCompletedMigrations();
+        stats.incrementCompletedMigrations();
+        stats.recordMigrationTaskTime();
+
+        double rate = stats.getMigrationRate();
+        // 2 migrations completed in at least 10 ms
+        assertTrue("rate: " + rate, rate > 0 && rate <= 200);
+    }
+
+    @Test
+    public void testMigrationTransfer_whenNothingRecorded() {
+        assertEquals(0, stats.getLastMigrationBytes());
+        assertEquals(0, stats.getLastMigrationThroughput());
+        assertEquals(0, stats.getTotalMigratedBytes());
+        assertEquals(0, stats.getAverageMigrationThroughput());
+    }
+
+    @Test
+    public void testMigrationTransfer() {
+        stats.recordMigrationTransfer(1000, MILLISECONDS.toNanos(100));
+        stats.recordMigrationTransfer(3000, MILLISECONDS.toNanos(100));
+
+        assertEquals(3000, stats.getLastMigrationBytes());
+        assertEquals(30_000, stats.getLastMigrationThroughput());
+        assertEquals(4000, stats.getTotalMigratedBytes());
+        assertEquals(20_000, stats.getAverageMigrationThroughput());
+    }
+
+    @Test
+    public void testMigrationTransfer_notResetOnNewRepartition() {
+        stats.recordMigrationTransfer(1000, MILLISECONDS.toNanos(100));
+
+        stats.markNewRepartition(1);
+
+        assertEquals(1000, stats.getLastMigrationBytes());
+        assertEquals(1000, stats.getTotalMigratedBytes());
+        assertEquals(10_000, stats.getAverageMigrationThroughput());
+    }
+
+    @Test
+    public void testFormatToString_containsDurationsAndThroughput() {
+        stats.recordMigrationDuration(MILLISECONDS.toNanos(10));
+        stats.recordMigrationTransfer(1000, MILLISECONDS.toNanos(100));
+
+        String s = stats.formatToString(true);
+
+        assertTrue(s, s.contains("averageMigrationDuration=10ms"));
+        assertTrue(s, s.contains("maxMigrationDuration=10ms"));
+        assertTrue(s, s.contains("migrationRate="));
+        assertTrue(s, s.contains("totalMigratedBytes=1000"));
+        assertTrue(s, s.contains("averageMigrationThroughput=10000B/s"));
+    }
+}
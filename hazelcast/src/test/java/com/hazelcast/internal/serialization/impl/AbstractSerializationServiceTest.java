@@ -27,6 +27,7 @@ import com.hazelcast.nio.serialization.DataSerializable;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.nio.serialization.StreamSerializer;
 import com.hazelcast.nio.serialization.TypedDataSerializable;
+import com.hazelcast.partition.PartitioningStrategy;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -41,9 +42,14 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -80,6 +86,41 @@ public class AbstractSerializationServiceTest {
         }
     }
 
+    @Test
+    public void toDataBatch_sameAsToData() {
+        Data alreadySerialized = abstractSerializationService.toData("data");
+        List<Object> objects = asList("a", "b", 1L, null, alreadySerialized, new ExternalizableValue(5), "c");
+        PartitioningStrategy<Object> strategy = key -> key instanceof String string ? string.length() : null;
+
+        List<Data> batch = abstractSerializationService.toDataBatch(objects, strategy);
+
+        assertEquals(objects.size(), batch.size());
+        for (int i = 0; i < objects.size(); i++) {
+            assertEquals(abstractSerializationService.toData(objects.get(i), strategy), batch.get(i));
+        }
+        assertSame(alreadySerialized, batch.get(4));
+        assertEquals(abstractSerializationService.toData("a", strategy).getPartitionHash(), batch.get(0).getPartitionHash());
+    }
+
+    @Test
+    public void toObjectBatch_sameAsToObject() {
+        List<Object> objects = asList("a", 2, null, new ExternalizableValue(5), "notData", 3L);
+        List<Object> data = new ArrayList<>();
+        for (Object object : objects) {
+            data.add("notData".equals(object) ? object : abstractSerializationService.toData(object));
+        }
+
+        List<Object> batch = abstractSerializationService.toObjectBatch(data);
+
+        assertEquals(objects.size(), batch.size());
+        assertEquals("a", batch.get(0));
+        assertEquals(2, batch.get(1));
+        assertNull(batch.get(2));
+        assertEquals(5, ((ExternalizableValue) batch.get(3)).value);
+        assertEquals("notData", batch.get(4));
+        assertEquals(3L, batch.get(5));
+    }
+
     @Test
     public void testExternalizable() {
         ExternalizableValue original = new ExternalizableValue(100);
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.serialization.impl;
 
 import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -25,13 +26,17 @@ import com.hazelcast.nio.serialization.DataSerializable;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.version.Version;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.io.IOException;
 
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -48,6 +53,50 @@ public class ByteArrayObjectDataInputIntegrationTest {
         readDataAsObject(null);
     }
 
+    @Test
+    public void testEmptyData() throws IOException {
+        ByteArrayObjectDataOutput out = new ByteArrayObjectDataOutput(100, serializationService, BIG_ENDIAN);
+        IOUtil.writeData(out, new HeapData(new byte[0]));
+        out.writeInt(42);
+
+        ByteArrayObjectDataInput in = new ByteArrayObjectDataInput(out.toByteArray(), serializationService, BIG_ENDIAN);
+        assertNull(in.readDataAsObject());
+        assertEquals(42, in.readInt());
+    }
+
+    @Test
+    public void testDataFollowedByOtherFields() throws IOException {
+        ByteArrayObjectDataOutput out = new ByteArrayObjectDataOutput(100, serializationService, BIG_ENDIAN);
+        out.writeInt(1);
+        IOUtil.writeData(out, serializationService.toData("foo"));
+        IOUtil.writeData(out, serializationService.toData(new long[]{1, 2, 3}));
+        out.writeString("bar");
+
+        ByteArrayObjectDataInput in = new ByteArrayObjectDataInput(out.toByteArray(), serializationService, BIG_ENDIAN);
+        in.setVersion(Versions.CURRENT_CLUSTER_VERSION);
+        assertEquals(1, in.readInt());
+        assertEquals("foo", in.readDataAsObject());
+        assertArrayEquals(new long[]{1, 2, 3}, in.readDataAsObject());
+        assertEquals("bar", in.readString());
+        assertEquals(Versions.CURRENT_CLUSTER_VERSION, in.getVersion());
+    }
+
+    @Test
+    public void testDataIsReadAsStandaloneInput() throws IOException {
+        ByteArrayObjectDataOutput out = new ByteArrayObjectDataOutput(100, serializationService, BIG_ENDIAN);
+        IOUtil.writeData(out, serializationService.toData(new ReadToEnd(3)));
+        out.writeInt(42);
+
+        ByteArrayObjectDataInput in = new ByteArrayObjectDataInput(out.toByteArray(), serializationService, BIG_ENDIAN);
+        in.setVersion(Versions.CURRENT_CLUSTER_VERSION);
+        ReadToEnd readToEnd = in.readDataAsObject();
+
+        // the bytes after the nested data must not be visible while reading it
+        assertEquals(3, readToEnd.count);
+        assertEquals(Version.UNKNOWN, readToEnd.version);
+        assertEquals(42, in.readInt());
+    }
+
     public void readDataAsObject(Object value) {
         Data data = serializationService.toData(value);
         MyObject myObject = new MyObject(data);
@@ -57,6 +106,33 @@ public class ByteArrayObjectDataInputIntegrationTest {
         assertEquals(value, myObjectDeserialized.o);
     }
 
+    private static class ReadToEnd implements DataSerializable {
+        private int count;
+        private Version version;
+
+        ReadToEnd() {
+        }
+
+        ReadToEnd(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            for (int i = 0; i < count; i++) {
+                out.writeByte(i);
+            }
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            version = in.getVersion();
+            while (in.read() != -1) {
+                count++;
+            }
+        }
+    }
+
     private static class MyObject implements DataSerializable {
         private Data data;
         private Object o;
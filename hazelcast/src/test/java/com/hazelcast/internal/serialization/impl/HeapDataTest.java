@@ -16,6 +16,8 @@
 
 package com.hazelcast.internal.serialization.impl;
 
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.util.HashUtil;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -56,4 +58,25 @@ public class HeapDataTest {
 
         assertEquals(new String(inputBytes), new String(bytes));
     }
+
+    @Test
+    public void hashCode_isMurmurHashOfPayload() {
+        byte[] payload = "12345678890".getBytes();
+        HeapData heapData = new HeapData(payload);
+
+        int expected = HashUtil.MurmurHash3_x86_32(payload, HeapData.DATA_OFFSET, payload.length - HeapData.DATA_OFFSET);
+        assertEquals(expected, heapData.hashCode());
+        // calculated once and then cached
+        assertEquals(expected, heapData.hashCode());
+        assertEquals(expected, heapData.getPartitionHash());
+    }
+
+    @Test
+    public void getPartitionHash_whenPartitionHashInHeader() {
+        byte[] payload = "12345678890".getBytes();
+        Bits.writeIntB(payload, HeapData.PARTITION_HASH_OFFSET, 42);
+        HeapData heapData = new HeapData(payload);
+
+        assertEquals(42, heapData.getPartitionHash());
+    }
 }
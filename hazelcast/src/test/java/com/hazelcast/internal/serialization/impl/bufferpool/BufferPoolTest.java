@@ -21,6 +21,7 @@ import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ByteArrayObjectDataOutput;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -36,6 +37,7 @@ import org.junit.runner.RunWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -44,6 +46,8 @@ import static org.mockito.Mockito.verify;
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class BufferPoolTest extends HazelcastTestSupport {
 
+    private static final int MB = 1024 * 1024;
+
     private InternalSerializationService serializationService;
     private BufferPoolImpl bufferPool;
 
@@ -112,6 +116,72 @@ public class BufferPoolTest extends HazelcastTestSupport {
         assertEquals(Version.UNKNOWN, found2.getVersion());
     }
 
+    @Test
+    public void returnOutputBuffer_whenRetainingDisabled_thenBigBufferTrimmed() {
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        out.writeZeroBytes(MB);
+
+        bufferPool.returnOutputBuffer(out);
+
+        assertTrue(((ByteArrayObjectDataOutput) out).available() < MB);
+        assertEquals(0, bufferPool.getTrimmedOutputs());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenRetaining_thenBufferOfSizeClassRetained() {
+        bufferPool = new BufferPoolImpl(serializationService, 4 * MB);
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        out.writeZeroBytes(MB + 1);
+        int capacity = out.position() + ((ByteArrayObjectDataOutput) out).available();
+
+        bufferPool.returnOutputBuffer(out);
+
+        assertEquals(2 * MB, bufferPool.getOutputSizeClass());
+        assertEquals(capacity, ((ByteArrayObjectDataOutput) out).available());
+        assertEquals(0, bufferPool.getTrimmedOutputs());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenBiggerThanMaxRetained_thenTrimmed() {
+        bufferPool = new BufferPoolImpl(serializationService, MB);
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        out.writeZeroBytes(2 * MB);
+
+        bufferPool.returnOutputBuffer(out);
+
+        assertEquals(MB, bufferPool.getOutputSizeClass());
+        assertEquals(MB, ((ByteArrayObjectDataOutput) out).available());
+        assertEquals(1, bufferPool.getTrimmedOutputs());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenSmallOutputsInARow_thenSizeClassHalved() {
+        bufferPool = new BufferPoolImpl(serializationService, 4 * MB);
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        out.writeZeroBytes(2 * MB);
+        bufferPool.returnOutputBuffer(out);
+
+        for (int i = 0; i < BufferPoolImpl.TRIM_AFTER_SMALL_RETURNS; i++) {
+            out = bufferPool.takeOutputBuffer();
+            out.writeZeroBytes(100);
+            bufferPool.returnOutputBuffer(out);
+        }
+
+        assertEquals(MB, bufferPool.getOutputSizeClass());
+        assertEquals(MB, ((ByteArrayObjectDataOutput) out).available());
+        assertEquals(1, bufferPool.getTrimmedOutputs());
+    }
+
+    @Test
+    public void takeOutputBuffer_countsHitsAndMisses() {
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        bufferPool.returnOutputBuffer(out);
+        bufferPool.takeOutputBuffer();
+
+        assertEquals(1, bufferPool.getOutputMisses());
+        assertEquals(1, bufferPool.getOutputHits());
+    }
+
     // ======================= in ==========================================
 
     @Test
@@ -163,6 +233,17 @@ public class BufferPoolTest extends HazelcastTestSupport {
         assertEquals(0, bufferPool.inputQueue.size());
     }
 
+    @Test
+    public void takeInputBuffer_countsHitsAndMisses() {
+        Data data = new HeapData(new byte[]{});
+        BufferObjectDataInput in = bufferPool.takeInputBuffer(data);
+        bufferPool.returnInputBuffer(in);
+        bufferPool.takeInputBuffer(data);
+
+        assertEquals(1, bufferPool.getInputMisses());
+        assertEquals(1, bufferPool.getInputHits());
+    }
+
     @Test
     public void takeInputBuffer_whenPooledInstanceWithVersionSetIsReturned() {
         Data data = new HeapData(new byte[]{});
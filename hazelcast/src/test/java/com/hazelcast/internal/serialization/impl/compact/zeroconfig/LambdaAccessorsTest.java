@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.compact.zeroconfig;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.hazelcast.test.HazelcastTestSupport.assertInstanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LambdaAccessorsTest {
+
+    @Test
+    public void testGetter_objectResult() throws Exception {
+        Function<Object, Object> getter = LambdaAccessors.getter(Point.class.getDeclaredMethod("name"));
+
+        assertNotNull(getter);
+        assertEquals("p", getter.apply(new Point("p", 3, 4L)));
+    }
+
+    @Test
+    public void testGetter_primitiveResultIsBoxed() throws Exception {
+        Function<Object, Object> intGetter = LambdaAccessors.getter(Point.class.getDeclaredMethod("x"));
+        Function<Object, Object> longGetter = LambdaAccessors.getter(Point.class.getDeclaredMethod("y"));
+
+        assertEquals(3, intGetter.apply(new Point("p", 3, 4L)));
+        assertEquals(4L, longGetter.apply(new Point("p", 3, 4L)));
+    }
+
+    @Test
+    public void testGetter_privateMethod() throws Exception {
+        Function<Object, Object> getter = LambdaAccessors.getter(Pojo.class.getDeclaredMethod("secret"));
+
+        assertNotNull(getter);
+        assertEquals(42, getter.apply(new Pojo()));
+    }
+
+    @Test
+    public void testGetter_methodWithParameters() throws Exception {
+        assertNull(LambdaAccessors.getter(Pojo.class.getDeclaredMethod("plus", int.class)));
+    }
+
+    @Test
+    public void testGetter_voidMethod() throws Exception {
+        assertNull(LambdaAccessors.getter(Pojo.class.getDeclaredMethod("reset")));
+    }
+
+    @Test
+    public void testConstructor_privateConstructor() throws Exception {
+        Supplier<Object> constructor = LambdaAccessors.constructor(Pojo.class.getDeclaredConstructor());
+
+        assertNotNull(constructor);
+        assertInstanceOf(Pojo.class, constructor.get());
+    }
+
+    @Test
+    public void testConstructor_constructorWithParameters() throws Exception {
+        assertNull(LambdaAccessors.constructor(Point.class.getDeclaredConstructor(String.class, int.class, long.class)));
+    }
+
+    private record Point(String name, int x, long y) {
+    }
+
+    private static final class Pojo {
+
+        private Pojo() {
+        }
+
+        private int secret() {
+            return 42;
+        }
+
+        int plus(int value) {
+            return secret() + value;
+        }
+
+        void reset() {
+        }
+    }
+}
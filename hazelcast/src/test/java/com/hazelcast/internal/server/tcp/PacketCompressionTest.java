@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.instance.ProtocolType;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static com.hazelcast.internal.serialization.impl.HeapData.HEAP_DATA_OVERHEAD;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_PROTOCOLS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PacketCompressionTest extends HazelcastTestSupport {
+
+    private static final int THRESHOLD = 100;
+
+    private PacketCompression compression;
+
+    @Before
+    public void setup() {
+        compression = new PacketCompression(true, THRESHOLD, 1);
+    }
+
+    @Test
+    public void whenNotNegotiated_thenNotCompressed() {
+        Packet packet = newPacket(compressiblePayload(1000));
+
+        assertSame(packet, compression.compress(packet));
+        assertEquals(0, compression.compressedPackets());
+    }
+
+    @Test
+    public void whenRemoteDoesNotAnnounce_thenNotEnabled() {
+        assertFalse(compression.negotiate(null));
+        assertFalse(compression.negotiate("lz4"));
+        assertTrue(compression.negotiate(PacketCompression.DEFLATE));
+    }
+
+    @Test
+    public void whenNotAllowed_thenNeverEnabled() {
+        PacketCompression notAllowed = new PacketCompression(false, THRESHOLD, 1);
+
+        assertNull(notAllowed.announcedAlgorithm());
+        assertFalse(notAllowed.negotiate(PacketCompression.DEFLATE));
+    }
+
+    @Test
+    public void whenBelowThreshold_thenNotCompressed() {
+        compression.negotiate(PacketCompression.DEFLATE);
+        Packet packet = newPacket(compressiblePayload(THRESHOLD - 1));
+
+        assertSame(packet, compression.compress(packet));
+    }
+
+    @Test
+    public void whenPayloadAtThreshold_thenCompressed() {
+        compression.negotiate(PacketCompression.DEFLATE);
+        // the threshold applies to the serialized payload, without the serialization header
+        Packet packet = newPacket(compressiblePayload(THRESHOLD + HEAP_DATA_OVERHEAD));
+
+        assertTrue(compression.compress(packet).isFlagRaised(FLAG_COMPRESSED));
+    }
+
+    @Test
+    public void whenProtocolsConfigured_thenAllowedPerEndpoint() {
+        Properties props = new Properties();
+        props.setProperty(IO_COMPRESSION_PROTOCOLS.getName(), "wan, Member");
+        HazelcastProperties properties = new HazelcastProperties(props);
+
+        assertTrue(PacketCompression.isAllowed(properties, null));
+        assertTrue(PacketCompression.isAllowed(properties, EndpointQualifier.resolve(ProtocolType.WAN, "wan")));
+        assertFalse(PacketCompression.isAllowed(properties, EndpointQualifier.CLIENT));
+        assertFalse(PacketCompression.isAllowed(new HazelcastProperties(new Properties()), null));
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void whenUnknownProtocolConfigured_thenFails() {
+        Properties props = new Properties();
+        props.setProperty(IO_COMPRESSION_PROTOCOLS.getName(), "MEMBER,WAM");
+
+        PacketCompression.isAllowed(new HazelcastProperties(props), null);
+    }
+
+    @Test
+    public void whenCompressed_thenInflatedToOriginal() {
+        compression.negotiate(PacketCompression.DEFLATE);
+        byte[] payload = compressiblePayload(10_000);
+        Packet packet = newPacket(payload).raiseFlags(FLAG_URGENT);
+
+        Packet compressed = compression.compress(packet);
+
+        assertNotSame(packet, compressed);
+        assertTrue(compressed.isFlagRaised(FLAG_COMPRESSED));
+        assertTrue(compressed.totalSize() < payload.length);
+        // the shared packet instance must be left untouched
+        assertFalse(packet.isFlagRaised(FLAG_COMPRESSED));
+        assertArrayEquals(payload, packet.toByteArray());
+
+        Packet inflated = compression.decompress(compressed);
+
+        assertEquals(packet, inflated);
+        assertTrue(inflated.isUrgent());
+        assertEquals(1, compression.compressedPackets());
+        assertEquals(1, compression.decompressedPackets());
+        assertTrue(compression.compressionRatio() > 1);
+    }
+
+    @Test
+    public void whenIncompressible_thenSentAsIs() {
+        compression.negotiate(PacketCompression.DEFLATE);
+        byte[] payload = new byte[1000];
+        new Random(42).nextBytes(payload);
+        Packet packet = newPacket(payload);
+
+        assertSame(packet, compression.compress(packet));
+    }
+
+    @Test
+    public void whenServerControlPacket_thenNotCompressed() {
+        compression.negotiate(PacketCompression.DEFLATE);
+        Packet packet = newPacket(compressiblePayload(1000)).setPacketType(Packet.Type.SERVER_CONTROL);
+
+        assertSame(packet, compression.compress(packet));
+    }
+
+    @Test
+    public void whenNotCompressed_thenDecompressReturnsSamePacket() {
+        Packet packet = newPacket(compressiblePayload(1000));
+
+        assertSame(packet, compression.decompress(packet));
+    }
+
+    private static Packet newPacket(byte[] payload) {
+        return new Packet(payload, 1).setPacketType(Packet.Type.OPERATION);
+    }
+
+    private static byte[] compressiblePayload(int length) {
+        byte[] payload = new byte[length];
+        Arrays.fill(payload, (byte) 'a');
+        return payload;
+    }
+}
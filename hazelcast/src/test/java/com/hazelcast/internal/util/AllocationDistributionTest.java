@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AllocationDistributionTest {
+
+    @Test
+    public void recordBytes() {
+        AllocationDistribution d = new AllocationDistribution();
+        d.recordBytes(100);
+        d.recordBytes(300);
+        d.recordBytes(-1);
+
+        assertEquals(2, d.count());
+        assertEquals(400, d.totalBytes());
+        assertEquals(200, d.avgBytes());
+        assertEquals(300, d.maxBytes());
+    }
+
+    @Test
+    public void done_whenNotMeasured() {
+        AllocationDistribution d = new AllocationDistribution();
+        d.done(-1);
+
+        assertEquals(0, d.count());
+        assertEquals(0, d.avgBytes());
+    }
+
+    @Test
+    public void done_measuresAllocations() {
+        assumeTrue(AllocationDistribution.isSupported());
+
+        AllocationDistribution d = new AllocationDistribution();
+        long start = AllocationDistribution.currentThreadAllocatedBytes();
+        byte[] bytes = new byte[1 << 20];
+        d.done(start);
+
+        assertEquals(1 << 20, bytes.length);
+        assertEquals(1, d.count());
+        assertTrue("allocated bytes: " + d.totalBytes(), d.totalBytes() >= 1 << 20);
+    }
+}
@@ -27,7 +27,9 @@ import com.hazelcast.jet.accumulator.LongDoubleAccumulator;
 import com.hazelcast.jet.accumulator.LongLongAccumulator;
 import com.hazelcast.jet.accumulator.MutableReference;
 import com.hazelcast.jet.accumulator.PickAnyAccumulator;
+import com.hazelcast.jet.datamodel.DoubleBatch;
 import com.hazelcast.jet.datamodel.ItemsByTag;
+import com.hazelcast.jet.datamodel.LongBatch;
 import com.hazelcast.jet.datamodel.Tag;
 import com.hazelcast.jet.datamodel.Tuple2;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -56,6 +58,7 @@ import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.aggregate.AggregateOperations.allOf;
 import static com.hazelcast.jet.aggregate.AggregateOperations.allOfBuilder;
 import static com.hazelcast.jet.aggregate.AggregateOperations.averagingDouble;
+import static com.hazelcast.jet.aggregate.AggregateOperations.averagingDoubleBatches;
 import static com.hazelcast.jet.aggregate.AggregateOperations.averagingLong;
 import static com.hazelcast.jet.aggregate.AggregateOperations.bottomN;
 import static com.hazelcast.jet.aggregate.AggregateOperations.concatenating;
@@ -63,15 +66,19 @@ import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
 import static com.hazelcast.jet.aggregate.AggregateOperations.filtering;
 import static com.hazelcast.jet.aggregate.AggregateOperations.flatMapping;
 import static com.hazelcast.jet.aggregate.AggregateOperations.groupingBy;
+import static com.hazelcast.jet.aggregate.AggregateOperations.histogramOfDoubleBatches;
 import static com.hazelcast.jet.aggregate.AggregateOperations.linearTrend;
 import static com.hazelcast.jet.aggregate.AggregateOperations.mapping;
 import static com.hazelcast.jet.aggregate.AggregateOperations.maxBy;
+import static com.hazelcast.jet.aggregate.AggregateOperations.maxLongBatches;
 import static com.hazelcast.jet.aggregate.AggregateOperations.minBy;
+import static com.hazelcast.jet.aggregate.AggregateOperations.minDoubleBatches;
 import static com.hazelcast.jet.aggregate.AggregateOperations.pickAny;
 import static com.hazelcast.jet.aggregate.AggregateOperations.reducing;
 import static com.hazelcast.jet.aggregate.AggregateOperations.sorting;
 import static com.hazelcast.jet.aggregate.AggregateOperations.summingDouble;
 import static com.hazelcast.jet.aggregate.AggregateOperations.summingLong;
+import static com.hazelcast.jet.aggregate.AggregateOperations.summingLongBatches;
 import static com.hazelcast.jet.aggregate.AggregateOperations.toList;
 import static com.hazelcast.jet.aggregate.AggregateOperations.toMap;
 import static com.hazelcast.jet.aggregate.AggregateOperations.toSet;
@@ -189,6 +196,68 @@ public class AggregateOperationsTest {
         assertEquals(Double.NaN, result, 0.0);
     }
 
+    @Test
+    public void when_summingLongBatches() {
+        validateOp(summingLongBatches(), LongAccumulator::get,
+                new LongBatch(new long[] {1, 2}), new LongBatch(new long[] {3}), 3L, 6L, 6L);
+    }
+
+    @Test
+    public void when_summingLongBatches_overflow_then_exception() {
+        LongAccumulator acc = new LongAccumulator(Long.MAX_VALUE - 1);
+        assertThrows(ArithmeticException.class,
+                () -> summingLongBatches().accumulateFn().accept(acc, new LongBatch(new long[] {1, 1})));
+    }
+
+    @Test
+    public void when_averagingDoubleBatches() {
+        validateOp(averagingDoubleBatches(), identity(),
+                new DoubleBatch(new double[] {1.5, 2.5}), new DoubleBatch(new double[] {5.0}),
+                new LongDoubleAccumulator(2, 4.0), new LongDoubleAccumulator(3, 9.0), 3.0);
+    }
+
+    @Test
+    public void when_maxLongBatches() {
+        validateOpWithoutDeduct(maxLongBatches(), LongLongAccumulator::get2,
+                new LongBatch(new long[] {10, 12}), new LongBatch(new long[] {11}), 12L, 12L, 12L);
+    }
+
+    @Test
+    public void when_minDoubleBatches() {
+        validateOpWithoutDeduct(minDoubleBatches(), LongDoubleAccumulator::getDouble,
+                new DoubleBatch(new double[] {1.5, -2.5}), new DoubleBatch(new double[] {-3.0}), -2.5, -3.0, -3.0);
+    }
+
+    @Test
+    public void when_minDoubleBatches_noInput_then_nullResult() {
+        AggregateOperation1<DoubleBatch, LongDoubleAccumulator, Double> aggrOp = minDoubleBatches();
+        assertNull(aggrOp.finishFn().apply(aggrOp.createFn().get()));
+    }
+
+    @Test
+    public void when_histogramOfDoubleBatches() {
+        // Given
+        AggregateOperation1<DoubleBatch, long[], long[]> aggrOp = histogramOfDoubleBatches(0, 10, 2);
+        long[] acc1 = aggrOp.createFn().get();
+        long[] acc2 = aggrOp.createFn().get();
+
+        // When
+        aggrOp.accumulateFn().accept(acc1, new DoubleBatch(new double[] {-1, 1, 7, Double.NaN}));
+        aggrOp.accumulateFn().accept(acc2, new DoubleBatch(new double[] {5, 10}));
+        long[] exported = aggrOp.exportFn().apply(acc1);
+        aggrOp.combineFn().accept(acc1, acc2);
+
+        // Then
+        assertArrayEquals(new long[] {2, 1}, exported);
+        assertArrayEquals(new long[] {2, 3}, aggrOp.finishFn().apply(acc1));
+
+        // When
+        aggrOp.deductFn().accept(acc1, acc2);
+
+        // Then
+        assertArrayEquals(new long[] {2, 1}, acc1);
+    }
+
     @Test
     public void when_maxBy() {
         validateOpWithoutDeduct(maxBy(naturalOrder()), MutableReference::get,
@@ -70,7 +70,9 @@ public class DataModelSerializerHooksTest {
                 tag(3),
                 itemsByTag(tag0(), "val0",
                         tag1(), "val1",
-                        tag2(), null)
+                        tag2(), null),
+                new LongBatch(new long[] {1, 2, 3}),
+                new DoubleBatch(new double[] {0.5, 1.5})
         );
     }
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.util.concurrent.ConcurrentConveyor;
+import com.hazelcast.internal.util.concurrent.OneToOneConcurrentArrayQueue;
+import com.hazelcast.jet.impl.util.ProgressState;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hazelcast.jet.core.JetTestSupport.wm;
+import static com.hazelcast.jet.impl.util.ProgressState.DONE;
+import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
+import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.jet.impl.util.ProgressState.WAS_ALREADY_DONE;
+import static org.junit.Assert.assertEquals;
+
+@Category(ParallelJVMTest.class)
+@RunWith(HazelcastSerialClassRunner.class)
+public class BatchingConveyorCollectorTest {
+
+    private static final Object senderGone = new Object();
+
+    private OneToOneConcurrentArrayQueue<Object> queue;
+    private BatchingConveyorCollector collector;
+    private InboundEdgeStream stream;
+
+    @Before
+    public void setUp() {
+        queue = new OneToOneConcurrentArrayQueue<>(16);
+        ConcurrentConveyor<Object> conveyor = ConcurrentConveyor.concurrentConveyor(senderGone, queue);
+        collector = new BatchingConveyorCollector(conveyor, 0, null, 4);
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, false, "cies", null);
+    }
+
+    @Test
+    public void when_itemsOfferedAndFlushed_then_passedInOneSlot() {
+        offerAll(1, 2, 3);
+        assertEquals(0, queue.size());
+
+        assertEquals(DONE, collector.flush());
+        assertEquals(1, queue.size());
+        assertEquals(WAS_ALREADY_DONE, collector.flush());
+        drainAndAssert(MADE_PROGRESS, 1, 2, 3);
+    }
+
+    @Test
+    public void when_batchFull_then_flushedOnNextOffer() {
+        offerAll(1, 2, 3, 4, 5);
+
+        assertEquals(1, queue.size());
+        drainAndAssert(MADE_PROGRESS, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void when_broadcastItemOffered_then_bufferFlushedFirst() {
+        offerAll(1, 2);
+        assertEquals(DONE, collector.offerBroadcast(wm(10)));
+        offerAll(3);
+        collector.flush();
+
+        // the watermark is emitted in a separate call, after the items before it
+        drainAndAssert(MADE_PROGRESS, 1, 2);
+        drainAndAssert(MADE_PROGRESS, wm(10));
+        drainAndAssert(MADE_PROGRESS, 3);
+    }
+
+    @Test
+    public void when_queueFull_then_offerRetried() {
+        for (int i = 0; i < queue.capacity(); i++) {
+            queue.add(-1);
+        }
+        offerAll(1, 2, 3, 4);
+
+        assertEquals(NO_PROGRESS, collector.offer(5));
+        assertEquals(NO_PROGRESS, collector.flush());
+
+        queue.clear();
+        assertEquals(DONE, collector.offer(5));
+    }
+
+    @Test
+    public void when_queueFillsUp_then_batchLimitReduced() {
+        for (int i = 0; i < queue.capacity() / 2; i++) {
+            queue.add(-1);
+        }
+        offerAll(1, 2);
+        collector.flush();
+        assertEquals(2, collector.batchLimit());
+
+        queue.clear();
+        offerAll(3);
+        collector.flush();
+        assertEquals(4, collector.batchLimit());
+    }
+
+    private void offerAll(Object... items) {
+        for (Object item : items) {
+            assertEquals(DONE, collector.offer(item));
+        }
+    }
+
+    private void drainAndAssert(ProgressState expectedState, Object... expectedItems) {
+        List<Object> list = new ArrayList<>();
+        assertEquals("progressState", expectedState, stream.drainTo(list::add));
+        assertEquals(Arrays.asList(expectedItems), list);
+    }
+}
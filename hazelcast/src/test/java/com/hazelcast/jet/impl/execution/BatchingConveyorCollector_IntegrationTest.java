@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.collection.IList;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.datamodel.WindowResult;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.Sinks;
+import com.hazelcast.jet.pipeline.SourceBuilder;
+import com.hazelcast.jet.pipeline.StreamSource;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.config.ProcessingGuarantee.EXACTLY_ONCE;
+import static com.hazelcast.jet.core.JobAssertions.assertThat;
+import static com.hazelcast.jet.core.JobStatus.RUNNING;
+import static com.hazelcast.jet.pipeline.WindowDefinition.tumbling;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_LOCAL_EDGE_MAX_BATCH_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs jobs with {@link com.hazelcast.spi.properties.ClusterProperty#JET_LOCAL_EDGE_MAX_BATCH_SIZE}
+ * enabled and checks that batching the items on local edges keeps their
+ * order against watermarks and snapshot barriers.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchingConveyorCollector_IntegrationTest extends JetTestSupport {
+
+    private static final long WINDOW_SIZE = 100;
+
+    private HazelcastInstance instance;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        config.setProperty(JET_LOCAL_EDGE_MAX_BATCH_SIZE.getName(), "64");
+        config.getJetConfig().setCooperativeThreadCount(4);
+        instance = createHazelcastInstance(config);
+    }
+
+    @Test
+    public void when_batchingEnabled_then_noItemIsLateToItsWindow() {
+        int windowCount = 100;
+        List<Long> items = LongStream.range(0, windowCount * WINDOW_SIZE).boxed().collect(Collectors.toList());
+        IList<WindowResult<Long>> result = instance.getList(randomName());
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(TestSources.items(items))
+         .addTimestamps(i -> i, 0)
+         .map(i -> i + 1)
+         .filter(i -> i % 2 == 0)
+         .window(tumbling(WINDOW_SIZE))
+         .aggregate(counting())
+         .writeTo(Sinks.list(result));
+
+        instance.getJet().newJob(p).join();
+
+        // a late item would be dropped and its window would miss it
+        assertWindows(new ArrayList<>(result), windowCount);
+    }
+
+    @Test
+    public void when_batchingEnabled_and_jobRestarted_then_exactlyOnce() {
+        IList<WindowResult<Long>> result = instance.getList(randomName());
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(sequenceSource())
+         .withNativeTimestamps(0)
+         .map(i -> i + 1)
+         .filter(i -> i % 2 == 0)
+         .window(tumbling(WINDOW_SIZE))
+         .aggregate(counting())
+         .writeTo(Sinks.list(result));
+
+        Job job = instance.getJet().newJob(p, new JobConfig()
+                .setProcessingGuarantee(EXACTLY_ONCE)
+                .setSnapshotIntervalMillis(100));
+        assertTrueEventually(() -> assertFalse("result list is still empty", result.isEmpty()));
+        job.restart();
+        assertThat(job).eventuallyHasStatus(RUNNING);
+
+        int oldSize = result.size();
+        assertTrueEventually(() -> assertTrue("no more results added to the list", result.size() > oldSize + 2));
+        cancelAndJoin(job);
+
+        // a lost or duplicated item would change the count of its window
+        List<WindowResult<Long>> windows = new ArrayList<>(result);
+        assertWindows(windows, windows.size());
+    }
+
+    private static void assertWindows(List<WindowResult<Long>> windows, int expectedCount) {
+        windows.sort((w1, w2) -> Long.compare(w1.start(), w2.start()));
+        assertEquals(expectedCount, windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            WindowResult<Long> window = windows.get(i);
+            assertEquals(i * WINDOW_SIZE, window.start());
+            assertEquals("count in " + window, WINDOW_SIZE / 2, (long) window.result());
+        }
+    }
+
+    private static StreamSource<Long> sequenceSource() {
+        return SourceBuilder
+                .timestampedStream("sequence", ctx -> new long[1])
+                .<Long>fillBufferFn((next, buffer) -> {
+                    for (int i = 0; i < WINDOW_SIZE; i++) {
+                        buffer.add(next[0], next[0]);
+                        next[0]++;
+                    }
+                    Thread.sleep(50);
+                })
+                .createSnapshotFn(next -> next[0])
+                .restoreSnapshotFn((next, states) -> next[0] = states.get(0))
+                .build();
+    }
+}
@@ -38,6 +38,8 @@ import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.WAS_ALREADY_DONE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @Category(ParallelJVMTest.class)
 @RunWith(HazelcastSerialClassRunner.class)
@@ -263,6 +265,62 @@ public class ConcurrentInboundEdgeStreamTest {
         drainAndAssert(MADE_PROGRESS, 1);
     }
 
+    @Test
+    public void when_unalignedBarrier_then_forwardedBeforeOtherQueuesHaveIt() {
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, true, "cies", null);
+
+        add(q1, barrier(0), 2);
+        add(q2, 1);
+        drainAndAssert(MADE_PROGRESS, 1);
+        assertInFlightItems();
+        drainAndAssert(MADE_PROGRESS, barrier(0));
+        assertTrue(stream.isCapturingInFlightItems());
+
+        // the item from q1 is after the barrier, the one from q2 is in-flight
+        add(q2, 3);
+        drainAndAssert(MADE_PROGRESS, 2, 3);
+        assertInFlightItems(3);
+
+        // the barrier from q2 isn't forwarded again
+        add(q2, barrier(0), 4);
+        drainAndAssert(MADE_PROGRESS);
+        assertFalse(stream.isCapturingInFlightItems());
+        drainAndAssert(MADE_PROGRESS, 4);
+        assertInFlightItems();
+    }
+
+    @Test
+    public void when_unalignedAndOtherQueueDone_then_captureEnds() {
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, true, "cies", null);
+
+        add(q1, barrier(0));
+        drainAndAssert(MADE_PROGRESS, barrier(0));
+
+        add(q2, 1, DONE_ITEM);
+        drainAndAssert(MADE_PROGRESS, 1);
+        assertInFlightItems(1);
+        assertFalse(stream.isCapturingInFlightItems());
+    }
+
+    @Test
+    public void when_unalignedAndTerminalBarrier_then_waitForBarrier() {
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, true, "cies", null);
+
+        add(q1, new SnapshotBarrier(0, true));
+        add(q2, 1);
+        drainAndAssert(MADE_PROGRESS, 1);
+
+        add(q1, 2);
+        drainAndAssert(NO_PROGRESS);
+        assertFalse(stream.isCapturingInFlightItems());
+    }
+
+    private void assertInFlightItems(Object... expectedItems) {
+        List<Object> list = new ArrayList<>();
+        stream.drainInFlightItems(list::add);
+        assertEquals(Arrays.asList(expectedItems), list);
+    }
+
     private void drainAndAssert(ProgressState expectedState, Object... expectedItems) {
         List<Object> list = new ArrayList<>();
         assertEquals("progressState", expectedState, stream.drainTo(list::add));
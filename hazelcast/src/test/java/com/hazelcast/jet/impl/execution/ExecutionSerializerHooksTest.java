@@ -56,7 +56,8 @@ public class ExecutionSerializerHooksTest {
                 DONE_ITEM,
                 new SnapshotBarrier(17L, false),
                 new BroadcastEntry<>("key", "value"),
-                broadcastKey("broadcast-key")
+                broadcastKey("broadcast-key"),
+                new InFlightItemKey(3, 5, 1, 42L)
         );
     }
 
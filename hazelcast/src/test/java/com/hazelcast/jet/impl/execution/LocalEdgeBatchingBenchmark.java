@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.jet.pipeline.BatchSource;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.Sinks;
+import com.hazelcast.jet.pipeline.SourceBuilder;
+import org.junit.Ignore;
+
+import static com.hazelcast.spi.properties.ClusterProperty.JET_LOCAL_EDGE_MAX_BATCH_SIZE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Runs a source &rarr; map &rarr; filter &rarr; sink batch job on a single
+ * member with {@link com.hazelcast.spi.properties.ClusterProperty#JET_LOCAL_EDGE_MAX_BATCH_SIZE}
+ * set to 1 (no batching) and to 64, and reports the throughput of each.
+ * The transformations are cheap, so the cost of the local edges dominates.
+ * <p>
+ * Arguments: {@code n<items in millions> r<rounds>}, e.g. {@code n50 r5}.
+ * The first round is the warm-up.
+ */
+@Ignore("Not a JUnit test")
+public class LocalEdgeBatchingBenchmark {
+
+    private static final int[] BATCH_SIZES = {1, 64};
+    private static final int SOURCE_CHUNK = 1024;
+
+    private static long itemCount = 20_000_000;
+    private static int rounds = 4;
+
+    public static void main(String[] args) {
+        for (String arg : args) {
+            arg = arg.trim();
+            if (arg.startsWith("n")) {
+                itemCount = Long.parseLong(arg.substring(1)) * 1_000_000;
+            } else if (arg.startsWith("r")) {
+                rounds = Integer.parseInt(arg.substring(1));
+            }
+        }
+
+        for (int batchSize : BATCH_SIZES) {
+            HazelcastInstance instance = Hazelcast.newHazelcastInstance(config(batchSize));
+            try {
+                for (int round = 0; round < rounds; round++) {
+                    run(instance, batchSize, round == 0);
+                }
+            } finally {
+                instance.shutdown();
+            }
+        }
+    }
+
+    private static void run(HazelcastInstance instance, int batchSize, boolean warmUp) {
+        Pipeline p = Pipeline.create();
+        p.readFrom(numbers(itemCount))
+         .map(i -> i * 3)
+         .filter(i -> (i & 1) == 0)
+         .writeTo(Sinks.noop());
+
+        long startNanos = System.nanoTime();
+        instance.getJet().newJob(p).join();
+        long durationNanos = System.nanoTime() - startNanos;
+        System.out.printf("max.batch.size=%-3d %s %,14d items/s %,8.1f ns/item%n", batchSize,
+                warmUp ? "(warm-up)" : "         ",
+                itemCount * SECONDS.toNanos(1) / durationNanos, (double) durationNanos / itemCount);
+    }
+
+    private static Config config(int batchSize) {
+        Config config = new Config();
+        config.setClusterName("local-edge-batching-benchmark");
+        config.getJetConfig().setEnabled(true);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        config.setProperty(JET_LOCAL_EDGE_MAX_BATCH_SIZE.getName(), String.valueOf(batchSize));
+        return config;
+    }
+
+    private static BatchSource<Long> numbers(long count) {
+        return SourceBuilder
+                .batch("numbers", ctx -> new long[1])
+                .<Long>fillBufferFn((next, buffer) -> {
+                    long end = Math.min(count, next[0] + SOURCE_CHUNK);
+                    for (; next[0] < end; next[0]++) {
+                        buffer.add(next[0]);
+                    }
+                    if (next[0] == count) {
+                        buffer.close();
+                    }
+                })
+                .build();
+    }
+}
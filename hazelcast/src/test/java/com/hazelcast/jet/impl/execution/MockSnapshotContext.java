@@ -29,6 +29,7 @@ import static com.hazelcast.test.HazelcastTestSupport.randomString;
 public class MockSnapshotContext extends SnapshotContext {
     private String currentMapName = "";
     private long currentSnapshotId = 0L;
+    private boolean isIncremental;
 
     public MockSnapshotContext() {
         super(Logger.getLogger(MockSnapshotContext.class), randomString(), 0L, ProcessingGuarantee.NONE);
@@ -54,4 +55,13 @@ public class MockSnapshotContext extends SnapshotContext {
     public void setCurrentSnapshotId(long currentSnapshotId) {
         this.currentSnapshotId = currentSnapshotId;
     }
+
+    @Override
+    public boolean isIncremental() {
+        return isIncremental;
+    }
+
+    public void setIncremental(boolean isIncremental) {
+        this.isIncremental = isIncremental;
+    }
 }
@@ -19,6 +19,7 @@ package com.hazelcast.jet.impl.execution;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.internal.util.UuidUtil;
+import com.hazelcast.internal.util.collection.Int2ObjectHashMap;
 import com.hazelcast.jet.config.ProcessingGuarantee;
 import com.hazelcast.jet.core.Inbox;
 import com.hazelcast.jet.core.Outbox;
@@ -153,6 +154,65 @@ public class ProcessorTaskletTest_Snapshots {
         assertEquals(asList(0, 1, 2, 3, barrier0(false)), getSnapshotBufferValues());
     }
 
+    @Test
+    public void when_unaligned_then_saveSnapshotAtFirstBarrierAndCaptureInFlightItems() {
+        // Given
+        List<Object> input1 = new ArrayList<>();
+        input1.addAll(mockInput.subList(0, 4));
+        input1.add(barrier0(false));
+        input1.addAll(mockInput.subList(4, 8));
+
+        MockInboundStream instream1 = new MockInboundStream(0, input1, 1024);
+        MockInboundStream instream2 = new MockInboundStream(0, new ArrayList<>(), 1024);
+        MockOutboundStream outstream1 = new MockOutboundStream(0);
+
+        instreams.add(instream1);
+        instreams.add(instream2);
+        outstreams.add(outstream1);
+
+        ProcessorTasklet tasklet = createTasklet(EXACTLY_ONCE,
+                new InFlightItemCapture(new Int2ObjectHashMap<>(), new int[] {0}, 0));
+
+        // When
+        callUntil(tasklet, NO_PROGRESS);
+
+        // Then
+        assertEquals(asList(0, 1, 2, 3, barrier0(false), 4, 5, 6, 7), outstream1.getBuffer());
+        assertEquals(asList(0, 1, 2, 3), getSnapshotBufferValues());
+
+        // When
+        instream2.push(8, barrier0(false));
+        callUntil(tasklet, NO_PROGRESS);
+
+        // Then
+        assertEquals(asList(0, 1, 2, 3, barrier0(false), 4, 5, 6, 7, 8), outstream1.getBuffer());
+        assertEquals(asList(0, 1, 2, 3, 8, barrier0(false)), getSnapshotBufferValues());
+    }
+
+    @Test
+    public void when_snapshotHasInFlightItems_then_replayedBeforeInput() {
+        List<Object> restoredSnapshot = asList(
+                entry(new InFlightItemKey(0, 0, 1, 1), "b"),
+                entry("k1", "v1"),
+                entry(new InFlightItemKey(0, 0, 1, 0), "a"),
+                DONE_ITEM);
+        MockInboundStream instream1 = new MockInboundStream(SNAPSHOT_RESTORE_EDGE_PRIORITY, restoredSnapshot, 1024);
+        MockInboundStream instream2 = new MockInboundStream(0, asList("c", DONE_ITEM), 1024);
+        MockOutboundStream outstream1 = new MockOutboundStream(0);
+
+        instreams.add(instream1);
+        instreams.add(instream2);
+        outstreams.add(outstream1);
+
+        ProcessorTasklet tasklet = createTasklet(EXACTLY_ONCE);
+
+        // When
+        callUntil(tasklet, DONE);
+
+        // Then
+        assertEquals(asList("finishRestore", "a", "b", "c", DONE_ITEM), outstream1.getBuffer());
+    }
+
     @Test
     public void when_snapshotTriggered_then_saveSnapshot_prepare_emitBarrier() {
         // Given
@@ -397,13 +457,17 @@ public class ProcessorTaskletTest_Snapshots {
     }
 
     private ProcessorTasklet createTasklet(ProcessingGuarantee guarantee) {
+        return createTasklet(guarantee, null);
+    }
+
+    private ProcessorTasklet createTasklet(ProcessingGuarantee guarantee, InFlightItemCapture inFlightItemCapture) {
         for (int i = 0; i < instreams.size(); i++) {
             instreams.get(i).setOrdinal(i);
         }
         snapshotContext = new SnapshotContext(mock(ILogger.class), "test job", -1, guarantee);
         snapshotContext.initTaskletCount(1, 1, 0);
         final ProcessorTasklet t = new ProcessorTasklet(context, DIRECT_EXECUTOR, serializationService,
-                processor, instreams, outstreams, snapshotContext, snapshotCollector, false);
+                processor, instreams, outstreams, snapshotContext, snapshotCollector, false, inFlightItemCapture);
         t.init();
         return t;
     }
@@ -55,6 +55,7 @@ import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.jet.impl.util.ProgressState.DONE;
 import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_WORK_STEALING;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -63,6 +64,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,13 +82,14 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
     private final CompletableFuture<Void> cancellationFuture = new CompletableFuture<>();
 
     private TaskletExecutionService tes;
+    private NodeEngine neMock;
     private ExecutorService executor;
     private final ClassLoader classLoader = getClass().getClassLoader();
 
     @Before
     public void before() {
         executor = Executors.newCachedThreadPool();
-        NodeEngine neMock = mock(NodeEngine.class);
+        neMock = mock(NodeEngine.class);
 
         HazelcastInstance hzMock = mock(HazelcastInstance.class);
         when(neMock.getHazelcastInstance()).thenReturn(hzMock);
@@ -334,6 +338,37 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         // -- assertions are inside TaskletAssertingThreadLocal and will fail, if t1 and t2 are running on the same thread
     }
 
+    @Test
+    public void when_workStealingEnabled_then_busyTaskletsMovedToIdleWorkers() {
+        // Given
+        Properties props = new Properties();
+        props.setProperty(JET_COOPERATIVE_WORK_STEALING.getName(), "true");
+        TaskletExecutionService stealingTes =
+                new TaskletExecutionService(neMock, THREAD_COUNT, new HazelcastProperties(props));
+        try {
+            // the round-robin assignment puts both busy tasklets to the first worker
+            ThreadRecordingTasklet busy1 = new ThreadRecordingTasklet(true);
+            ThreadRecordingTasklet busy2 = new ThreadRecordingTasklet(true);
+            List<ThreadRecordingTasklet> tasklets = asList(busy1,
+                    new ThreadRecordingTasklet(false), new ThreadRecordingTasklet(false),
+                    new ThreadRecordingTasklet(false), busy2);
+
+            // When
+            CompletableFuture<Void> f = stealingTes.beginExecute(tasklets, cancellationFuture, classLoader);
+
+            // Then
+            assertTrueEventually(() -> {
+                assertNotNull(busy1.lastThread);
+                assertNotNull(busy2.lastThread);
+                assertNotSame(busy1.lastThread, busy2.lastThread);
+            });
+            tasklets.forEach(t -> t.done = true);
+            f.join();
+        } finally {
+            stealingTes.shutdown();
+        }
+    }
+
     @Test
     public void when_tryCompleteOnReturnedFuture_then_fails() {
         // Given
@@ -491,6 +526,31 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         }
     }
 
+    private static class ThreadRecordingTasklet implements Tasklet {
+
+        private final boolean busy;
+        private volatile Thread lastThread;
+        private volatile boolean done;
+
+        ThreadRecordingTasklet(boolean busy) {
+            this.busy = busy;
+        }
+
+        @Nonnull
+        @Override
+        public ProgressState call() {
+            lastThread = Thread.currentThread();
+            if (done) {
+                return DONE;
+            }
+            if (!busy) {
+                return NO_PROGRESS;
+            }
+            LockSupport.parkNanos(100_000);
+            return MADE_PROGRESS;
+        }
+    }
+
     private static class TaskletAssertingThreadLocal implements Tasklet {
 
         private static final ThreadLocal<Integer> threadLocal = ThreadLocal.withInitial(() -> 0);
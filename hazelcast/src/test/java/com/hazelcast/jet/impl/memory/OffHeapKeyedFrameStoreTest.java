@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapKeyedFrameStoreTest {
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private KeyedFrameStore<?, ?> store;
+
+    @After
+    public void after() {
+        if (store != null) {
+            store.dispose();
+            assertThat(store.memoryUsage()).isZero();
+        }
+    }
+
+    @Test
+    public void when_accumulate_then_sameResultAsOnHeap() {
+        OffHeapKeyedFrameStore<String, LongAccumulator> offHeap = longStore(Long.MAX_VALUE, 0);
+        HeapKeyedFrameStore<String, LongAccumulator> heap = new HeapKeyedFrameStore<>(LongAccumulator::new, Long.MAX_VALUE);
+        for (int i = 0; i < 10_000; i++) {
+            long frameTs = i % 7;
+            String key = "key-" + i % 1_000;
+            for (KeyedFrameStore<String, LongAccumulator> s : List.of(offHeap, heap)) {
+                LongAccumulator acc = s.accumulator(frameTs, key);
+                acc.add(i);
+                s.store(frameTs, key, acc);
+            }
+        }
+
+        assertThat(offHeap.frameCount()).isEqualTo(7);
+        assertThat(offHeap.keyCount()).isEqualTo(heap.keyCount()).isEqualTo(7_000);
+        assertThat(offHeap.frameTimestamps()).containsExactlyInAnyOrder(heap.frameTimestamps());
+        for (long ts : heap.frameTimestamps()) {
+            assertThat(offHeap.frame(ts)).isEqualTo(heap.frame(ts));
+        }
+        assertThat(offHeap.memoryUsage()).isPositive();
+    }
+
+    @Test
+    public void when_storeWithoutPrecedingAccumulator_then_keyLookedUpAgain() {
+        OffHeapKeyedFrameStore<String, LongAccumulator> s = longStore(Long.MAX_VALUE, 0);
+        LongAccumulator a = s.accumulator(0, "a");
+        LongAccumulator b = s.accumulator(0, "b");
+        a.add(1);
+        b.add(2);
+        s.store(0, "b", b);
+        s.store(0, "a", a);
+
+        assertThat(s.frame(0)).containsOnly(
+                Map.entry("a", new LongAccumulator(1)),
+                Map.entry("b", new LongAccumulator(2)));
+    }
+
+    @Test
+    public void when_accumulatorGrows_then_recordRelocatedAndFrameCompacted() {
+        OffHeapKeyedFrameStore<Integer, ArrayList<String>> s =
+                new OffHeapKeyedFrameStore<>(serializationService, ArrayList::new, Long.MAX_VALUE, 0);
+        store = s;
+        Map<Integer, List<String>> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            int key = i % 100;
+            ArrayList<String> acc = s.accumulator(0, key);
+            acc.add("item-" + i);
+            s.store(0, key, acc);
+            expected.computeIfAbsent(key, k -> new ArrayList<>()).add("item-" + i);
+        }
+
+        assertThat(s.frame(0)).isEqualTo(expected);
+        assertThat(s.keyCount()).isEqualTo(100);
+    }
+
+    @Test
+    public void when_removeFrame_then_memoryReleased() {
+        OffHeapKeyedFrameStore<String, LongAccumulator> s = longStore(Long.MAX_VALUE, 0);
+        for (long ts = 0; ts < 3; ts++) {
+            LongAccumulator acc = s.accumulator(ts, "key");
+            acc.add(ts);
+            s.store(ts, "key", acc);
+        }
+        long usageWithThreeFrames = s.memoryUsage();
+
+        Map<String, LongAccumulator> removed = s.removeFrame(1);
+
+        assertThat(removed).containsOnly(Map.entry("key", new LongAccumulator(1)));
+        assertThat(s.removeFrame(1)).isNull();
+        assertThat(s.frame(1)).isNull();
+        assertThat(s.frameCount()).isEqualTo(2);
+        assertThat(s.keyCount()).isEqualTo(2);
+        assertThat(s.memoryUsage()).isLessThan(usageWithThreeFrames);
+    }
+
+    @Test
+    public void when_merge_then_combined() {
+        OffHeapKeyedFrameStore<String, LongAccumulator> s = longStore(Long.MAX_VALUE, 0);
+        s.merge(0, "key", new LongAccumulator(1), (l, r) -> l.add(r));
+        s.merge(0, "key", new LongAccumulator(2), (l, r) -> l.add(r));
+        s.merge(0, "other", new LongAccumulator(5), (l, r) -> l.add(r));
+
+        assertThat(s.frame(0)).containsOnly(
+                Map.entry("key", new LongAccumulator(3)),
+                Map.entry("other", new LongAccumulator(5)));
+        assertThat(s.keyCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void when_keyLimitReached_then_throws() {
+        OffHeapKeyedFrameStore<String, LongAccumulator> s = longStore(3, 0);
+        for (String key : List.of("a", "b")) {
+            s.store(0, key, s.accumulator(0, key));
+        }
+
+        assertThatThrownBy(() -> s.accumulator(0, "c"))
+                .isInstanceOf(AccumulationLimitExceededException.class);
+    }
+
+    @Test
+    public void when_memoryLimitReached_then_throws() {
+        OffHeapKeyedFrameStore<String, LongAccumulator> s = longStore(Long.MAX_VALUE, 1 << 16);
+
+        assertThatThrownBy(() -> {
+            for (long ts = 0; ; ts++) {
+                s.store(ts, "key", s.accumulator(ts, "key"));
+            }
+        }).isInstanceOf(AccumulationLimitExceededException.class)
+          .hasMessageContaining("65536 bytes");
+        assertThat(s.memoryUsage()).isLessThanOrEqualTo(1 << 16);
+    }
+
+    @Test
+    public void when_memoryLimitReachedWhileAccumulatorsGrow_then_frameStaysConsistent() {
+        int maxBytes = 1 << 16;
+        OffHeapKeyedFrameStore<Integer, ArrayList<String>> s =
+                new OffHeapKeyedFrameStore<>(serializationService, ArrayList::new, Long.MAX_VALUE, maxBytes);
+        store = s;
+        Map<Integer, List<String>> expected = new HashMap<>();
+        int stored = 0;
+        try {
+            for (; ; stored++) {
+                int key = stored % 10;
+                ArrayList<String> acc = s.accumulator(0, key);
+                acc.add("item-" + stored);
+                s.store(0, key, acc);
+                expected.computeIfAbsent(key, k -> new ArrayList<>()).add("item-" + stored);
+                assertThat(s.memoryUsage()).isLessThanOrEqualTo(maxBytes);
+            }
+        } catch (AccumulationLimitExceededException ignored) {
+            // the accumulators outgrew the limit
+        }
+
+        // the frame was compacted several times before the limit was hit
+        assertThat(stored).isGreaterThan(500);
+        assertThat(s.frame(0)).isEqualTo(expected);
+        assertThat(s.memoryUsage()).isLessThanOrEqualTo(maxBytes);
+    }
+
+    private OffHeapKeyedFrameStore<String, LongAccumulator> longStore(long maxKeys, long maxBytes) {
+        OffHeapKeyedFrameStore<String, LongAccumulator> s =
+                new OffHeapKeyedFrameStore<>(serializationService, LongAccumulator::new, maxKeys, maxBytes);
+        store = s;
+        return s;
+    }
+}
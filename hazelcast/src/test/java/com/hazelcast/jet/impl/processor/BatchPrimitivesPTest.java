@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.core.test.TestInbox;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.datamodel.DoubleBatch;
+import com.hazelcast.jet.datamodel.LongBatch;
+import com.hazelcast.jet.impl.JetEvent;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.jet.core.processor.Processors.batchDoublesP;
+import static com.hazelcast.jet.core.processor.Processors.batchLongsP;
+import static com.hazelcast.jet.impl.JetEvent.jetEvent;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchPrimitivesPTest extends JetTestSupport {
+
+    @Test
+    public void test_batchLongs() {
+        TestSupport
+                .verifyProcessor(batchLongsP((String s) -> Long.parseLong(s)))
+                .input(asList("1", "2", "3", "4", "5"))
+                .outputChecker((expected, actual) -> expected.equals(unbatch(actual)))
+                .expectOutput(asList(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @Test
+    public void test_batchDoubles() {
+        TestSupport
+                .verifyProcessor(batchDoublesP((Integer i) -> i / 2.0))
+                .input(asList(1, 2, 3))
+                .outputChecker((expected, actual) -> expected.equals(unbatch(actual)))
+                .expectOutput(asList(0.5, 1.0, 1.5));
+    }
+
+    @Test
+    public void when_jetEvents_then_batchPerTimestamp() {
+        TestSupport
+                .verifyProcessor(batchLongsP((Long l) -> l))
+                .input(asList(jetEvent(10, 1L), jetEvent(10, 2L), jetEvent(20, 3L), jetEvent(10, 4L)))
+                .outputChecker((expected, actual) -> {
+                    for (Object item : actual) {
+                        JetEvent<?> event = (JetEvent<?>) item;
+                        // the timestamp of each batch must match the timestamp of all its values
+                        for (long value : ((LongBatch) event.payload()).values()) {
+                            if (event.timestamp() != (value == 3L ? 20 : 10)) {
+                                return false;
+                            }
+                        }
+                    }
+                    return expected.equals(unbatch(actual));
+                })
+                .expectOutput(asList(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    public void when_jetEventsInOneInbox_then_splitAtTimestampChange() throws Exception {
+        BatchPrimitivesP<Long> p = BatchPrimitivesP.batchLongs(l -> l);
+        TestOutbox outbox = new TestOutbox(16);
+        p.init(outbox, new TestProcessorContext());
+        TestInbox inbox = new TestInbox();
+        inbox.addAll(asList(jetEvent(10, 1L), jetEvent(10, 2L), jetEvent(20, 3L), jetEvent(30, 4L), jetEvent(30, 5L)));
+
+        p.process(0, inbox);
+
+        assertTrue(inbox.isEmpty());
+        List<Object> batches = new ArrayList<>();
+        outbox.drainQueueAndReset(0, batches, false);
+        assertEquals(3, batches.size());
+        assertBatch(batches.get(0), 10, 1L, 2L);
+        assertBatch(batches.get(1), 20, 3L);
+        assertBatch(batches.get(2), 30, 4L, 5L);
+    }
+
+    private static void assertBatch(Object item, long expectedTimestamp, long... expectedValues) {
+        JetEvent<?> event = (JetEvent<?>) item;
+        assertEquals(expectedTimestamp, event.timestamp());
+        assertArrayEquals(expectedValues, ((LongBatch) event.payload()).values());
+    }
+
+    private static List<Object> unbatch(List<?> batches) {
+        List<Object> values = new ArrayList<>();
+        for (Object batch : batches) {
+            if (batch instanceof JetEvent<?> event) {
+                batch = event.payload();
+            }
+            if (batch instanceof LongBatch longBatch) {
+                for (long value : longBatch.values()) {
+                    values.add(value);
+                }
+            } else {
+                for (double value : ((DoubleBatch) batch).values()) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+}
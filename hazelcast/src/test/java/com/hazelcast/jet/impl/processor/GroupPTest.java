@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.aggregate.AggregateOperation1;
+import com.hazelcast.jet.core.test.TestInbox;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static com.hazelcast.internal.nio.IOUtil.delete;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.core.processor.Processors.aggregateByKeyP;
+import static com.hazelcast.jet.core.processor.Processors.aggregateP;
+import static com.hazelcast.jet.core.processor.Processors.combineByKeyP;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class GroupPTest extends SimpleTestInClusterSupport {
+
+    private static final int MAX_ENTRIES_IN_MEMORY = 10;
+    private static final FunctionEx<Integer, Integer> KEY_FN = i -> i % 200;
+
+    private static File spillDirectory;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        spillDirectory = Files.createTempDirectory("groupp-spill").toFile();
+        Config config = smallInstanceConfig();
+        config.setProperty(ClusterProperty.JET_SPILL_DIRECTORY.getName(), spillDirectory.getAbsolutePath());
+        config.setProperty(ClusterProperty.JET_SPILL_RUN_MAX_RECORDS.getName(), String.valueOf(MAX_ENTRIES_IN_MEMORY));
+        initialize(1, config);
+    }
+
+    @AfterClass
+    public static void cleanUp() {
+        delete(spillDirectory);
+    }
+
+    @Test
+    public void when_keysExceedMemoryLimit_then_spilledAndCombined() {
+        List<Integer> input = randomInts(2000);
+
+        TestSupport
+                .verifyProcessor(aggregateByKeyP(singletonList(KEY_FN), counting(), (k, v) -> entry(k, v)))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                .expectOutput(expectedCounts(input));
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void when_combiningMoreKeysThanMemoryLimit_then_spilledAccumulatorsCombined() {
+        List<Integer> input = randomInts(2000);
+        List<Entry<Integer, Long>> expected = expectedCounts(input);
+        // two partial accumulators per key, as if coming from two upstream processors
+        List<Entry<Integer, LongAccumulator>> accumulated = new ArrayList<>();
+        for (Entry<Integer, Long> e : expected) {
+            accumulated.add(entry(e.getKey(), new LongAccumulator(1)));
+            accumulated.add(entry(e.getKey(), new LongAccumulator(e.getValue() - 1)));
+        }
+
+        TestSupport
+                .verifyProcessor(combineByKeyP(counting(), (Integer k, Long v) -> entry(k, v)))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(accumulated)
+                .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                .expectOutput(expected);
+    }
+
+    @Test
+    public void when_closedWhileSpilled_then_filesDeleted() throws Exception {
+        GroupP<Integer, LongAccumulator, Long, Object> processor =
+                new GroupP<>(KEY_FN, counting(), (k, v) -> entry(k, v));
+        processor.init(new TestOutbox(128), new TestProcessorContext().setHazelcastInstance(instance()));
+        TestInbox inbox = new TestInbox(randomInts(1000));
+        while (!inbox.isEmpty()) {
+            processor.process(0, inbox);
+        }
+
+        assertThat(processor.closeIsCooperative()).isFalse();
+        processor.close();
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void when_noCombineFn_then_accumulationLimitApplies() throws Exception {
+        AggregateOperation1<Object, LongAccumulator, Long> countingWithoutCombine = AggregateOperation
+                .withCreate(LongAccumulator::new)
+                .andAccumulate((LongAccumulator acc, Object item) -> acc.add(1))
+                .andExportFinish(LongAccumulator::get);
+        GroupP<Integer, LongAccumulator, Long, Object> processor =
+                new GroupP<>(KEY_FN, countingWithoutCombine, (k, v) -> entry(k, v));
+        processor.init(new TestOutbox(128), new TestProcessorContext().setHazelcastInstance(instance()));
+        TestInbox inbox = new TestInbox(randomInts(1000));
+
+        assertThatThrownBy(() -> processor.process(0, inbox))
+                .isInstanceOf(AccumulationLimitExceededException.class);
+    }
+
+    @Test
+    public void when_spillDirectorySet_then_cooperativeOnlyWithoutCombineFn() {
+        GroupP<Integer, LongAccumulator, Long, Object> processor =
+                new GroupP<>(KEY_FN, counting(), (k, v) -> entry(k, v));
+        assertThat(processor.isCooperative()).isTrue();
+        processor.setSpillDirectory(spillDirectory.toPath());
+        assertThat(processor.isCooperative()).isFalse();
+
+        AggregateOperation1<Object, LongAccumulator, Long> countingWithoutCombine = AggregateOperation
+                .withCreate(LongAccumulator::new)
+                .andAccumulate((LongAccumulator acc, Object item) -> acc.add(1))
+                .andExportFinish(LongAccumulator::get);
+        GroupP<Integer, LongAccumulator, Long, Object> nonSpillingProcessor =
+                new GroupP<>(KEY_FN, countingWithoutCombine, (k, v) -> entry(k, v));
+        nonSpillingProcessor.setSpillDirectory(spillDirectory.toPath());
+        assertThat(nonSpillingProcessor.isCooperative()).isTrue();
+    }
+
+    @Test
+    public void when_spillDirectorySet_then_aggregatePCooperative() {
+        AggregateP<LongAccumulator, Long> processor = new AggregateP<>(counting());
+        processor.setSpillDirectory(spillDirectory.toPath());
+
+        assertThat(processor.isCooperative()).isTrue();
+    }
+
+    @Test
+    public void when_aggregatePWithSpillDirectoryConfigured_then_notSpilled() {
+        List<Integer> input = randomInts(2000);
+
+        TestSupport
+                .verifyProcessor(aggregateP(counting()))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(singletonList((long) input.size()));
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    private static List<Entry<Integer, Long>> expectedCounts(List<Integer> input) {
+        TreeMap<Integer, Long> counts = new TreeMap<>();
+        for (Integer i : input) {
+            counts.merge(KEY_FN.apply(i), 1L, Long::sum);
+        }
+        return counts.entrySet().stream().map(e -> entry(e.getKey(), e.getValue())).collect(toList());
+    }
+
+    private static List<Integer> randomInts(int count) {
+        Random random = new Random();
+        List<Integer> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(random.nextInt(count));
+        }
+        return list;
+    }
+}
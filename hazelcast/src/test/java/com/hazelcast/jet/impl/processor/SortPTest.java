@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.core.test.TestInbox;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.hazelcast.internal.nio.IOUtil.delete;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortPTest extends SimpleTestInClusterSupport {
+
+    private static final int MAX_RUN_ITEMS = 10;
+
+    private static File spillDirectory;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        spillDirectory = Files.createTempDirectory("sortp-spill").toFile();
+        Config config = smallInstanceConfig();
+        config.setProperty(ClusterProperty.JET_SPILL_DIRECTORY.getName(), spillDirectory.getAbsolutePath());
+        config.setProperty(ClusterProperty.JET_SPILL_RUN_MAX_RECORDS.getName(), String.valueOf(MAX_RUN_ITEMS));
+        initialize(1, config);
+    }
+
+    @AfterClass
+    public static void cleanUp() {
+        delete(spillDirectory);
+    }
+
+    @Test
+    public void when_inputExceedsRunSize_then_spilledAndMerged() {
+        List<Integer> input = randomInts(1000);
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(null))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(input.stream().sorted().collect(toList()));
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void when_comparatorGiven_then_usedForRunsAndMerge() {
+        List<Integer> input = randomInts(100);
+        ComparatorEx<Integer> comparator = ComparatorEx.reverseOrder();
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<>(comparator))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(input.stream().sorted(comparator).collect(toList()));
+    }
+
+    @Test
+    public void when_completed_then_filesDeleted() throws Exception {
+        SortP<Integer> processor = new SortP<>(null);
+        TestOutbox outbox = new TestOutbox(128);
+        processor.init(outbox, new TestProcessorContext().setHazelcastInstance(instance()));
+
+        List<Integer> input = randomInts(MAX_RUN_ITEMS * 5 + 3);
+        TestInbox inbox = new TestInbox(input);
+        while (!inbox.isEmpty()) {
+            processor.process(0, inbox);
+        }
+        List<Integer> output = new ArrayList<>();
+        while (!processor.complete()) {
+            outbox.drainQueueAndReset(0, output, false);
+        }
+        outbox.drainQueueAndReset(0, output, false);
+        processor.close();
+
+        assertThat(output).isEqualTo(input.stream().sorted().collect(toList()));
+        assertThat(processor.closeIsCooperative()).isTrue();
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void when_closedWhileSpilled_then_filesDeleted() throws Exception {
+        SortP<Integer> processor = new SortP<>(null);
+        processor.init(new TestOutbox(128), new TestProcessorContext().setHazelcastInstance(instance()));
+        TestInbox inbox = new TestInbox(randomInts(MAX_RUN_ITEMS * 3));
+        while (!inbox.isEmpty()) {
+            processor.process(0, inbox);
+        }
+
+        assertThat(processor.closeIsCooperative()).isFalse();
+        processor.close();
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void when_spillingDisabled_then_accumulationLimitApplies() throws Exception {
+        SortP<Integer> processor = new SortP<>(null);
+        TestProcessorContext context = new TestProcessorContext();
+        context.setMaxProcessorAccumulatedRecords(MAX_RUN_ITEMS);
+        processor.init(new TestOutbox(128), context);
+        TestInbox inbox = new TestInbox(randomInts(MAX_RUN_ITEMS + 1));
+
+        assertThatThrownBy(() -> processor.process(0, inbox))
+                .isInstanceOf(AccumulationLimitExceededException.class);
+    }
+
+    @Test
+    public void when_spillDirectorySet_then_notCooperative() {
+        SortP<Integer> processor = new SortP<>(null);
+        assertThat(processor.isCooperative()).isTrue();
+
+        processor.setSpillDirectory(spillDirectory.toPath());
+        assertThat(processor.isCooperative()).isFalse();
+    }
+
+    private static List<Integer> randomInts(int count) {
+        Random random = new Random();
+        List<Integer> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(random.nextInt(count));
+        }
+        return list;
+    }
+}
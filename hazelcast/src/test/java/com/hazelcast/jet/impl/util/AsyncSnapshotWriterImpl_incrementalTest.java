@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.util;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.impl.execution.MockSnapshotContext;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataEntryId;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataTombstone;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.util.Util.uncheckCall;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AsyncSnapshotWriterImpl_incrementalTest extends JetTestSupport {
+
+    private AsyncSnapshotWriterImpl writer;
+    private IMap<SnapshotDataKey, byte[]> map;
+    private InternalSerializationService serializationService;
+    private MockSnapshotContext snapshotContext;
+
+    @Before
+    public void before() {
+        Config config = new Config();
+        config.getJetConfig().setEnabled(true);
+        config.setProperty(ClusterProperty.JET_SNAPSHOT_INCREMENTAL_MAX_DELTAS.getName(), "4");
+
+        HazelcastInstance instance = createHazelcastInstance(config);
+        serializationService = Util.getSerializationService(instance);
+        snapshotContext = new MockSnapshotContext();
+        snapshotContext.setCurrentMapName("map1");
+        writer = new AsyncSnapshotWriterImpl(128, Util.getNodeEngine(instance), snapshotContext, "vertex", 0, 1,
+                serializationService);
+        map = instance.getMap("map1");
+    }
+
+    @Test
+    public void when_incrementalSnapshot_then_onlyChangedAndRemovedKeysWritten() {
+        // Given - a full snapshot
+        snapshotContext.setCurrentSnapshotId(1L);
+        writeSnapshot("k1", "v1", "k2", "v2", "k3", "v3");
+        assertEquals(Map.of("k1", "v1", "k2", "v2", "k3", "v3"), readSnapshot(1L));
+
+        // When - an incremental snapshot with k1 unchanged, k2 changed, k3 removed and k4 added
+        snapshotContext.setCurrentSnapshotId(2L);
+        snapshotContext.setIncremental(true);
+        writeSnapshot("k1", "v1", "k2", "v2-new", "k4", "v4");
+
+        // Then
+        assertEquals(Map.of("k2", "v2-new", "k3", SnapshotDataTombstone.INSTANCE, "k4", "v4"), readSnapshot(2L));
+        assertEquals(1, writer.getTotalUnchangedKeys());
+        assertEquals(1, writer.getTotalRemovedKeys());
+        assertEquals(3, writer.getTotalKeys());
+    }
+
+    @Test
+    public void when_fullSnapshotAfterIncremental_then_allKeysWritten() {
+        // Given
+        snapshotContext.setCurrentSnapshotId(1L);
+        writeSnapshot("k1", "v1", "k2", "v2");
+        snapshotContext.setCurrentSnapshotId(2L);
+        snapshotContext.setIncremental(true);
+        writeSnapshot("k1", "v1");
+
+        // When
+        snapshotContext.setCurrentSnapshotId(3L);
+        snapshotContext.setIncremental(false);
+        writeSnapshot("k1", "v1");
+
+        // Then
+        assertEquals(Map.of("k1", "v1"), readSnapshot(3L));
+        assertEquals(0, writer.getTotalUnchangedKeys());
+        assertEquals(0, writer.getTotalRemovedKeys());
+    }
+
+    @Test
+    public void when_duplicateKeys_then_eachOccurrenceTracked() {
+        // Given - a full snapshot with two values under k1
+        snapshotContext.setCurrentSnapshotId(1L);
+        writeSnapshot("k1", "a", "k1", "b", "k2", "c");
+        assertEquals(Map.of("k1", "a", "k1#1", "b", "k2", "c"), readSnapshot(1L));
+
+        // When - the second value of k1 changed, a third one was added and k2 removed
+        snapshotContext.setCurrentSnapshotId(2L);
+        snapshotContext.setIncremental(true);
+        writeSnapshot("k1", "a", "k1", "b-new", "k1", "d");
+
+        // Then
+        assertEquals(Map.of("k1#1", "b-new", "k1#2", "d", "k2", SnapshotDataTombstone.INSTANCE), readSnapshot(2L));
+        assertEquals(1, writer.getTotalUnchangedKeys());
+        assertEquals(1, writer.getTotalRemovedKeys());
+
+        // When - only the first value of k1 remains
+        snapshotContext.setCurrentSnapshotId(3L);
+        writeSnapshot("k1", "a");
+
+        // Then
+        assertEquals(Map.of("k1#1", SnapshotDataTombstone.INSTANCE, "k1#2", SnapshotDataTombstone.INSTANCE),
+                readSnapshot(3L));
+        assertEquals(1, writer.getTotalUnchangedKeys());
+        assertEquals(2, writer.getTotalRemovedKeys());
+    }
+
+    private void writeSnapshot(String... keysAndValues) {
+        writer.resetStats();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            Entry<Data, Data> entry = entry(serialize(keysAndValues[i]), serialize(keysAndValues[i + 1]));
+            assertTrue(writer.offer(entry));
+        }
+        assertTrue(writer.flushAndResetMap());
+        assertTrueEventually(() -> assertFalse(uncheckCall(() -> writer.hasPendingAsyncOps())));
+    }
+
+    /**
+     * Returns the entries of the snapshot. The key of the first occurrence is
+     * returned as is, the later occurrences as {@code "key#occurrence"}.
+     */
+    private Map<Object, Object> readSnapshot(long snapshotId) {
+        Map<Object, Object> result = new HashMap<>();
+        for (Entry<SnapshotDataKey, byte[]> chunk : map.entrySet()) {
+            if (chunk.getKey().snapshotId() != snapshotId) {
+                continue;
+            }
+            BufferObjectDataInput in = serializationService.createObjectDataInput(chunk.getValue());
+            Object key = serializationService.readObject(in, true);
+            while (key != SnapshotDataValueTerminator.INSTANCE) {
+                SnapshotDataEntryId entryId = (SnapshotDataEntryId) key;
+                key = serializationService.readObject(in, true);
+                if (entryId.occurrence() > 0) {
+                    key = key + "#" + entryId.occurrence();
+                }
+                assertThat(result).doesNotContainKey(key);
+                result.put(key, serializationService.readObject(in, true));
+                key = serializationService.readObject(in, true);
+            }
+        }
+        return result;
+    }
+
+    private Data serialize(String str) {
+        return serializationService.toData(str);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.util;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
+import com.hazelcast.jet.impl.util.DiskSnapshotStore.SegmentReader;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DiskSnapshotStoreTest {
+
+    private static final String MAP_NAME = "__jet.snapshot.0000-0000-0000-0001.0";
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private final UUID owner1 = UUID.randomUUID();
+    private final UUID owner2 = UUID.randomUUID();
+    private Path directory;
+    private DiskSnapshotStore store;
+
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("disk-snapshot-store-test");
+        store = new DiskSnapshotStore(directory, Logger.getLogger(DiskSnapshotStoreTest.class));
+    }
+
+    @After
+    public void after() {
+        store.shutdown();
+        assertThat(directory).doesNotExist();
+    }
+
+    @Test
+    public void when_writeChunks_then_readBackPerOwner() throws IOException {
+        store.write(MAP_NAME, owner1, key(1, 0), chunk("a"));
+        store.write(MAP_NAME, owner2, key(1, 1), chunk("b"));
+        store.write(MAP_NAME, owner1, key(1, 2), chunk("c"));
+
+        assertThat(readAll(owner1)).containsExactly("a", "c");
+        assertThat(readAll(owner2)).containsExactly("b");
+        assertThat(readAll(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    public void when_countChunks_then_onlySnapshotIdsInRangeCounted() throws IOException {
+        store.write(MAP_NAME, owner1, key(1, 0), chunk("a"));
+        store.write(MAP_NAME, owner1, key(2, 1), chunk("b"));
+        store.write(MAP_NAME, owner1, key(3, 2), chunk("c"));
+        store.write(MAP_NAME, owner2, key(3, 3), chunk("d"));
+
+        assertThat(store.countChunks(MAP_NAME, 2, 3)).isEqualTo(Map.of(owner1, 2L, owner2, 1L));
+        assertThat(store.countChunks("otherMap", 0, Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    public void when_lastRecordTruncated_then_ignored() throws IOException {
+        store.write(MAP_NAME, owner1, key(1, 0), chunk("a"));
+        store.write(MAP_NAME, owner1, key(1, 1), chunk("b"));
+        Path segment = segment(owner1);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        assertThat(readAll(owner1)).containsExactly("a");
+        assertThat(store.countChunks(MAP_NAME, 1, 1)).isEqualTo(Map.of(owner1, 1L));
+    }
+
+    @Test
+    public void when_recordCorrupted_then_readFails() throws IOException {
+        store.write(MAP_NAME, owner1, key(1, 0), chunk("a"));
+        Path segment = segment(owner1);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            int lastByte = file.read();
+            file.seek(file.length() - 1);
+            file.write(lastByte ^ 0xff);
+        }
+
+        assertThatThrownBy(() -> readAll(owner1))
+                .isInstanceOf(JetException.class)
+                .hasMessageContaining("checksum mismatch");
+    }
+
+    @Test
+    public void when_memberStarts_then_unlockedDirectoriesOfOtherMembersDeleted() throws IOException {
+        Path root = Files.createTempDirectory("disk-snapshot-store-root");
+        ILogger logger = Logger.getLogger(DiskSnapshotStoreTest.class);
+        DiskSnapshotStore running = new DiskSnapshotStore(root.resolve("running"), logger);
+        DiskSnapshotStore starting = new DiskSnapshotStore(root.resolve("starting"), logger);
+        try {
+            running.lockDirectory();
+            running.write(MAP_NAME, owner1, key(1, 0), chunk("a"));
+            // left behind by a member that crashed
+            Path stale = root.resolve("stale");
+            Files.createDirectories(stale.resolve(MAP_NAME));
+            Files.createFile(stale.resolve(".lock"));
+            Files.createFile(stale.resolve(MAP_NAME).resolve(owner2 + ".segment"));
+            // a member that didn't lock its directory yet
+            Path unlocked = Files.createDirectories(root.resolve("unlocked"));
+
+            starting.lockDirectory();
+            starting.deleteStaleDirectories();
+
+            assertThat(stale).doesNotExist();
+            assertThat(unlocked).exists();
+            assertThat(running.countChunks(MAP_NAME, 1, 1)).isEqualTo(Map.of(owner1, 1L));
+        } finally {
+            running.shutdown();
+            starting.shutdown();
+            IOUtil.delete(root);
+        }
+    }
+
+    @Test
+    public void when_delete_then_dataOfOtherMapsKept() throws IOException {
+        store.write(MAP_NAME, owner1, key(1, 0), chunk("a"));
+        store.write("otherMap", owner1, key(1, 0), chunk("b"));
+
+        store.delete(MAP_NAME);
+        // the segment is reopened after the delete
+        store.write(MAP_NAME, owner1, key(2, 0), chunk("c"));
+
+        assertThat(readAll(owner1)).containsExactly("c");
+        assertThat(store.countChunks("otherMap", 1, 1)).isEqualTo(Map.of(owner1, 1L));
+    }
+
+    private List<String> readAll(UUID owner) throws IOException {
+        List<String> result = new ArrayList<>();
+        try (SegmentReader reader = store.openReader(MAP_NAME, owner)) {
+            for (Entry<SnapshotDataKey, Data> chunk; (chunk = reader.next()) != null; ) {
+                byte[] bytes = serializationService.toObject(chunk.getValue());
+                result.add(new String(bytes));
+            }
+        }
+        return result;
+    }
+
+    private Path segment(UUID owner) throws IOException {
+        try (var files = Files.list(directory.resolve(MAP_NAME))) {
+            return files.filter(path -> path.getFileName().toString().startsWith(owner.toString()))
+                        .findFirst()
+                        .orElseThrow();
+        }
+    }
+
+    private static SnapshotDataKey key(long snapshotId, int sequence) {
+        return new SnapshotDataKey(sequence, snapshotId, "vertex", sequence);
+    }
+
+    private byte[] chunk(String content) {
+        return serializationService.toData(content.getBytes()).toByteArray();
+    }
+}
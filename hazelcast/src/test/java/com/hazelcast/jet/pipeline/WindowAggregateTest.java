@@ -21,10 +21,12 @@ import com.hazelcast.jet.accumulator.LongAccumulator;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.aggregate.CoAggregateOperationBuilder;
 import com.hazelcast.jet.datamodel.ItemsByTag;
+import com.hazelcast.jet.datamodel.LongBatch;
 import com.hazelcast.jet.datamodel.Tag;
 import com.hazelcast.jet.datamodel.Tuple2;
 import com.hazelcast.jet.datamodel.Tuple3;
 import com.hazelcast.jet.datamodel.WindowResult;
+import com.hazelcast.jet.pipeline.test.TestSources;
 import org.junit.Test;
 
 import java.util.List;
@@ -36,6 +38,7 @@ import static com.hazelcast.jet.aggregate.AggregateOperations.aggregateOperation
 import static com.hazelcast.jet.aggregate.AggregateOperations.coAggregateOperationBuilder;
 import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
 import static com.hazelcast.jet.aggregate.AggregateOperations.summingLong;
+import static com.hazelcast.jet.aggregate.AggregateOperations.summingLongBatches;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
 import static com.hazelcast.jet.datamodel.Tuple3.tuple3;
 import static com.hazelcast.jet.pipeline.WindowDefinition.session;
@@ -127,6 +130,34 @@ public class WindowAggregateTest extends PipelineStreamTestSupport {
         );
     }
 
+    @Test
+    public void tumblingWindow_withLongBatches() {
+        // Given
+        int winSize = 4;
+        BiFunction<Long, Long, String> formatFn =
+                (timestamp, item) -> String.format("(%04d, %04d)", timestamp, item);
+
+        List<Integer> input = sequence(itemCount);
+        // a large lag lets an inbox batch span several windows
+        StreamStage<Integer> stage = p.readFrom(TestSources.items(input)).addTimestamps(ts -> ts, itemCount);
+
+        // When
+        SlidingWindowDefinition wDef = tumbling(winSize);
+        StageWithWindow<LongBatch> windowed = stage.mapToLongBatches(i -> i).window(wDef);
+
+        // Then
+        windowed.aggregate(summingLongBatches())
+                .writeTo(sink);
+        execute();
+        assertEquals(
+                new SlidingWindowSimulator(wDef)
+                        .acceptStream(input.stream())
+                        .stringResults(e -> formatFn.apply(e.getKey(), e.getValue())),
+                streamToString(this.<Long>sinkStreamOfWinResult(),
+                        wr -> formatFn.apply(wr.end(), wr.result()))
+        );
+    }
+
     @Test
     public void tumblingWindow_withEarlyResults() {
         // Given
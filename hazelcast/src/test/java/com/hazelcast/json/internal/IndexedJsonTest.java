@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.json.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.hazelcast.internal.json.NonTerminalJsonValue;
+import com.hazelcast.query.impl.getters.JsonPathCursor;
+import com.hazelcast.query.impl.getters.MultiResult;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IndexedJsonTest {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private static final String DOCUMENT = "{\"name\":\"joe\",\"age\":42,\"height\":1.85,\"married\":true,"
+            + "\"spouse\":null,\"address\":{\"city\":\"İzmir\",\"zip\":35000},"
+            + "\"tags\":[\"a\",\"b\",{\"c\":1}],\"children\":[{\"name\":\"ann\"},{\"age\":3},{\"name\":\"bob\"}]}";
+
+    @Test
+    public void testScalars() throws IOException {
+        IndexedJson json = create(DOCUMENT);
+
+        assertEquals("joe", getValue(json, "name"));
+        assertEquals(42L, getValue(json, "age"));
+        assertEquals(1.85, getValue(json, "height"));
+        assertEquals(true, getValue(json, "married"));
+        assertNull(getValue(json, "spouse"));
+    }
+
+    @Test
+    public void testNestedPath() throws IOException {
+        IndexedJson json = create(DOCUMENT);
+
+        assertEquals("İzmir", getValue(json, "address.city"));
+        assertEquals(35000L, getValue(json, "address.zip"));
+        assertEquals("b", getValue(json, "tags[1]"));
+        assertEquals(1L, getValue(json, "tags[2].c"));
+    }
+
+    @Test
+    public void testNonTerminalValue() throws IOException {
+        IndexedJson json = create(DOCUMENT);
+
+        assertSame(NonTerminalJsonValue.INSTANCE, getValue(json, "address"));
+        assertSame(NonTerminalJsonValue.INSTANCE, getValue(json, "tags"));
+    }
+
+    @Test
+    public void testMissingPath() throws IOException {
+        IndexedJson json = create(DOCUMENT);
+
+        assertNull(getValue(json, "surname"));
+        assertNull(getValue(json, "address.street"));
+        assertNull(getValue(json, "name.first"));
+        assertNull(getValue(json, "tags[3]"));
+        assertNull(getValue(json, "address[0]"));
+    }
+
+    @Test
+    public void testAny() throws IOException {
+        IndexedJson json = create(DOCUMENT);
+
+        MultiResult<?> scalars = (MultiResult<?>) getValue(json, "tags[any]");
+        MultiResult<?> names = (MultiResult<?>) getValue(json, "children[any].name");
+
+        assertEquals(asList("a", "b"), scalars.getResults());
+        assertEquals(asList("ann", "bob"), names.getResults());
+    }
+
+    @Test
+    public void testAny_whenNotArray() throws IOException {
+        assertNull(getValue(create(DOCUMENT), "address[any]"));
+    }
+
+    @Test
+    public void testDuplicateName_firstOneWins() throws IOException {
+        assertEquals(1L, getValue(create("{\"a\":1,\"a\":2}"), "a"));
+    }
+
+    @Test
+    public void testManyMembers() throws IOException {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":").append(i);
+        }
+        IndexedJson json = create(sb.append('}').toString());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((long) i, getValue(json, "field" + i));
+        }
+    }
+
+    @Test
+    public void testScalarRoot() throws IOException {
+        IndexedJson json = create("\"text\"");
+
+        assertEquals("text", json.getValue(JsonPathCursor.createCursor("")));
+        assertNull(getValue(json, "a"));
+    }
+
+    @Test
+    public void testToString() throws IOException {
+        assertEquals(DOCUMENT, create(DOCUMENT).toString());
+        assertEquals("[\"a\\\"b\",-1,[]]", create("[\"a\\\"b\", -1, []]").toString());
+    }
+
+    @Test
+    public void testRoundTrip_objectsWithSeveralMembers() throws IOException {
+        String json = "{\"z\":1,\"a\":{\"y\":\"v\",\"b\":[1,{\"q\":null,\"p\":true,\"o\":2.5}],\"x\":-3},"
+                + "\"m\":\"s\",\"k\":{}}";
+        IndexedJson indexed = create(json);
+
+        assertEquals(json, indexed.toString());
+        assertEquals(1L, getValue(indexed, "z"));
+        assertEquals("v", getValue(indexed, "a.y"));
+        assertEquals(-3L, getValue(indexed, "a.x"));
+        assertEquals(true, getValue(indexed, "a.b[1].p"));
+        assertEquals(2.5, getValue(indexed, "a.b[1].o"));
+        assertNull(getValue(indexed, "a.b[1].q"));
+        assertEquals("s", getValue(indexed, "m"));
+        assertSame(NonTerminalJsonValue.INSTANCE, getValue(indexed, "k"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidJson() throws IOException {
+        create("{\"a\":");
+    }
+
+    @Test(expected = IOException.class)
+    public void testEmptyJson() throws IOException {
+        create("");
+    }
+
+    private static Object getValue(IndexedJson json, String path) {
+        return json.getValue(JsonPathCursor.createCursor(path));
+    }
+
+    private static IndexedJson create(String json) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return IndexedJson.create(parser);
+        }
+    }
+}
@@ -62,14 +62,14 @@ public class EntryCostEstimatorTest extends HazelcastTestSupport {
     // perEntryStatsEnabled is false(default value).
     private static int getExpectedCostInBytes(boolean perEntryStatsEnabled) {
         if (JVM.is32bit() && JVMUtil.isCompressedOops()) {
-            return perEntryStatsEnabled ? 140 : 116;
+            return perEntryStatsEnabled ? 148 : 124;
         }
 
         if (JVMUtil.isCompressedOops()) {
-            return perEntryStatsEnabled ? 152 : 128;
+            return perEntryStatsEnabled ? 160 : 136;
         }
 
-        return perEntryStatsEnabled ? 196 : 172;
+        return perEntryStatsEnabled ? 204 : 180;
     }
 
     private long getExpectedCost() {
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.ColumnarAttributeCache;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Random;
+
+import static com.hazelcast.map.IMapAccessors.getMapServiceContext;
+import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
+import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterEqual;
+import static com.hazelcast.query.Predicates.greaterThan;
+import static com.hazelcast.query.Predicates.lessEqual;
+import static com.hazelcast.query.Predicates.lessThan;
+import static com.hazelcast.query.Predicates.notEqual;
+import static com.hazelcast.query.Predicates.or;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ColumnarQueryTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 2000;
+    private static final double[] SPECIAL_DOUBLES = {Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY};
+
+    @Parameterized.Parameters(name = "format:{0}")
+    public static Collection<Object[]> parameters() {
+        return asList(new Object[][]{{InMemoryFormat.OBJECT}, {InMemoryFormat.BINARY}});
+    }
+
+    @Parameterized.Parameter
+    public InMemoryFormat inMemoryFormat;
+
+    private long seed;
+    private Random random;
+    private IMap<Integer, Value> expected;
+    private IMap<Integer, Value> actual;
+
+    @Before
+    public void before() {
+        seed = System.nanoTime();
+        random = new Random(seed);
+
+        Config config = getConfig();
+        config.getMapConfig("expected").setInMemoryFormat(inMemoryFormat);
+        config.getMapConfig("actual").setInMemoryFormat(inMemoryFormat);
+        config.setProperty(ClusterProperty.QUERY_COLUMNAR_ATTRIBUTES.getName(),
+                "actual:intValue, actual:longValue,actual:doubleValue,actual:nullableValue,actual:this.floatValue");
+        HazelcastInstance instance = createHazelcastInstance(config);
+
+        expected = instance.getMap("expected");
+        actual = instance.getMap("actual");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, randomValue());
+        }
+    }
+
+    @Test
+    public void testCacheIsPopulated() {
+        assertEquals(ENTRY_COUNT, cachedEntryCount());
+        assertEquals(0, cachedEntryCount(expected));
+    }
+
+    @Test
+    public void testQueries() {
+        assertQueries();
+    }
+
+    @Test
+    public void testQueries_afterUpdatesAndRemovals() {
+        for (int i = 0; i < ENTRY_COUNT / 2; i++) {
+            int key = random.nextInt(ENTRY_COUNT);
+            if (random.nextBoolean()) {
+                expected.remove(key);
+                actual.remove(key);
+            } else {
+                put(key, randomValue());
+            }
+        }
+
+        assertEquals("seed: " + seed, actual.size(), cachedEntryCount());
+        assertQueries();
+    }
+
+    @Test
+    public void testQueries_afterClear() {
+        actual.clear();
+        expected.clear();
+        assertEquals(0, cachedEntryCount());
+
+        for (int i = 0; i < 100; i++) {
+            put(i, randomValue());
+        }
+        assertEquals(100, cachedEntryCount());
+        assertQueries();
+    }
+
+    private void assertQueries() {
+        for (int i = 0; i < 100; i++) {
+            assertQuery(randomPredicate());
+            assertQuery(and(randomPredicate(), randomPredicate()));
+        }
+        // not supported by the cache
+        assertQuery(notEqual("intValue", 5));
+        assertQuery(or(equal("intValue", 5), equal("longValue", 5L)));
+        assertQuery(equal("nullableValue", null));
+    }
+
+    private void assertQuery(Predicate<Integer, Value> predicate) {
+        assertEquals(predicate + ", seed: " + seed, expected.keySet(predicate), actual.keySet(predicate));
+    }
+
+    private Predicate<Integer, Value> randomPredicate() {
+        String attribute;
+        Comparable value;
+        Comparable other;
+        switch (random.nextInt(5)) {
+            case 0:
+                attribute = "intValue";
+                value = randomOperand(random.nextInt(20) - 10);
+                other = randomOperand(random.nextInt(20) - 10);
+                break;
+            case 1:
+                attribute = "longValue";
+                value = randomOperand(random.nextInt(20) - 10);
+                other = randomOperand(random.nextInt(20) - 10);
+                break;
+            case 2:
+                attribute = "nullableValue";
+                value = random.nextInt(20) - 10;
+                other = random.nextInt(20) - 10;
+                break;
+            case 3:
+                attribute = "floatValue";
+                value = (float) randomDouble();
+                other = randomDouble();
+                break;
+            default:
+                attribute = "doubleValue";
+                value = randomDouble();
+                other = random.nextBoolean() ? randomDouble() : Double.toString(randomDouble());
+                break;
+        }
+
+        switch (random.nextInt(6)) {
+            case 0:
+                return equal(attribute, value);
+            case 1:
+                return greaterThan(attribute, value);
+            case 2:
+                return greaterEqual(attribute, value);
+            case 3:
+                return lessThan(attribute, value);
+            case 4:
+                return lessEqual(attribute, value);
+            default:
+                return between(attribute, value, other);
+        }
+    }
+
+    private Comparable randomOperand(int value) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return value;
+            case 1:
+                return (long) value;
+            case 2:
+                return Integer.toString(value);
+            default:
+                return value + 0.5;
+        }
+    }
+
+    private double randomDouble() {
+        return random.nextInt(10) == 0
+                ? SPECIAL_DOUBLES[random.nextInt(SPECIAL_DOUBLES.length)]
+                : (random.nextInt(40) - 20) / 4.0;
+    }
+
+    private Value randomValue() {
+        return new Value(random.nextInt(20) - 10, random.nextInt(20) - 10, randomDouble(), (float) randomDouble(),
+                random.nextBoolean() ? null : random.nextInt(20) - 10);
+    }
+
+    private void put(int key, Value value) {
+        expected.put(key, value);
+        actual.put(key, value);
+    }
+
+    private int cachedEntryCount() {
+        return cachedEntryCount(actual);
+    }
+
+    private static int cachedEntryCount(IMap<?, ?> map) {
+        MapServiceContext mapServiceContext = getMapServiceContext(map);
+        int count = 0;
+        for (int partitionId = 0; partitionId < mapServiceContext.getNodeEngine().getPartitionService().getPartitionCount();
+             partitionId++) {
+            RecordStore recordStore = mapServiceContext.getPartitionContainer(partitionId).getExistingRecordStore(map.getName());
+            ColumnarAttributeCache cache = recordStore == null ? null : recordStore.getColumnarAttributeCache();
+            count += cache == null ? 0 : cache.size();
+        }
+        return count;
+    }
+
+    public static class Value implements Serializable {
+
+        public int intValue;
+        public long longValue;
+        public double doubleValue;
+        public float floatValue;
+        public Integer nullableValue;
+
+        public Value(int intValue, long longValue, double doubleValue, float floatValue, Integer nullableValue) {
+            this.intValue = intValue;
+            this.longValue = longValue;
+            this.doubleValue = doubleValue;
+            this.floatValue = floatValue;
+            this.nullableValue = nullableValue;
+        }
+    }
+}
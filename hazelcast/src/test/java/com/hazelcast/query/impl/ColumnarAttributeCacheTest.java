@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.ColumnarAttributeCache.Filter;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.hazelcast.query.impl.ColumnarAttributeCache.encode;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ColumnarAttributeCacheTest {
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private final ColumnarAttributeCache cache = new ColumnarAttributeCache("a", "b");
+
+    @Test
+    public void testConfiguredAttributes() {
+        Properties properties = new Properties();
+        properties.setProperty(ClusterProperty.QUERY_COLUMNAR_ATTRIBUTES.getName(),
+                "map:a, other:b,map:this.c,map:a,map:");
+        HazelcastProperties hazelcastProperties = new HazelcastProperties(properties);
+
+        assertThat(ColumnarAttributeCache.configuredAttributes("map", hazelcastProperties)).containsExactly("a", "c");
+        assertThat(ColumnarAttributeCache.configuredAttributes("other", hazelcastProperties)).containsExactly("b");
+        assertThat(ColumnarAttributeCache.configuredAttributes("none", hazelcastProperties)).isNull();
+    }
+
+    @Test
+    public void testEncode_preservesOrder() {
+        double[] values = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0,
+                Double.MIN_VALUE, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 1; i < values.length; i++) {
+            assertThat(encode(values[i - 1])).isLessThan(encode(values[i]));
+        }
+        assertThat(encode(-1L)).isLessThan(encode(0L));
+        assertThat(encode(1.5f)).isLessThan(encode(2.5f));
+        assertThat(encode((byte) -3)).isEqualTo(-3);
+    }
+
+    @Test
+    public void testSelect() {
+        put(1, 10, 100L);
+        put(2, 20, 200L);
+        put(3, 30, null);
+
+        assertThat(select(new Filter("a", Integer.class, 15, 30))).containsExactlyInAnyOrder(2, 3);
+        assertThat(select(new Filter("a", Integer.class, 15, 30), new Filter("b", Long.class, 0, 1000)))
+                .containsExactly(2);
+        assertThat(select(new Filter("b", Long.class, Long.MIN_VALUE, Long.MAX_VALUE)))
+                .containsExactlyInAnyOrder(1, 2);
+        assertThat(select(new Filter("a", Integer.class, 30, 10))).isEmpty();
+        assertThat(cache.sampleValue("a")).isInstanceOf(Integer.class);
+    }
+
+    @Test
+    public void testSelect_notEvaluable() {
+        put(1, 10, 100L);
+
+        assertThat(cache.select(emptyList())).isNull();
+        assertThat(select(new Filter("a", Long.class, 0, 100))).isNull();
+        assertThat(select(new Filter("unknown", Integer.class, 0, 100))).isNull();
+    }
+
+    @Test
+    public void testMixedTypes_invalidateColumn() {
+        put(1, 10, 100L);
+        put(2, 20, 200);
+
+        assertThat(select(new Filter("a", Integer.class, 0, 100))).containsExactlyInAnyOrder(1, 2);
+        assertThat(select(new Filter("b", Long.class, 0, 1000))).isNull();
+        assertThat(cache.sampleValue("b")).isNull();
+    }
+
+    @Test
+    public void testUpdateAndRemove() {
+        for (int i = 0; i < 100; i++) {
+            put(i, i, (long) i);
+        }
+        put(5, 1000, 5L);
+        for (int i = 0; i < 100; i += 2) {
+            cache.remove(key(i));
+        }
+        cache.remove(key(1000));
+
+        assertThat(cache.size()).isEqualTo(50);
+        assertThat(select(new Filter("a", Integer.class, 90, Long.MAX_VALUE)))
+                .containsExactlyInAnyOrder(5, 91, 93, 95, 97, 99);
+        assertThat(select(new Filter("b", Long.class, 0, 10))).containsExactlyInAnyOrder(1, 3, 5, 7, 9);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        // the type of the values isn't known anymore
+        assertThat(select(new Filter("a", Integer.class, 0, 100))).isNull();
+    }
+
+    private void put(int key, Object a, Object b) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("a", a);
+        attributes.put("b", b);
+        QueryableEntry entry = mock(QueryableEntry.class);
+        when(entry.getAttributeValue(anyString())).thenAnswer(invocation -> attributes.get(invocation.getArgument(0)));
+        cache.put(key(key), entry);
+    }
+
+    private Data key(int key) {
+        return serializationService.toData(key);
+    }
+
+    private List<Integer> select(Filter... filters) {
+        List<Data> keys = cache.select(List.of(filters));
+        return keys == null ? null : keys.stream().map(serializationService::<Integer>toObject).toList();
+    }
+}
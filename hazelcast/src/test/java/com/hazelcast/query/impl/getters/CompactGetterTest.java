@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl.getters;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.compact.CompactFieldAccessor;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactGetterTest {
+
+    private final InternalSerializationService ss = createSerializationService();
+    private final CompactGetter getter = new CompactGetter(ss);
+
+    @Test
+    public void testFixedSizeFields_withoutVariableSizeFields() throws Exception {
+        assertFixedSizeFields(fixedSizeFields("fixed").build());
+    }
+
+    @Test
+    public void testFixedSizeFields_withVariableSizeFields() throws Exception {
+        assertFixedSizeFields(fixedSizeFields("mixed")
+                .setString("name", "foo")
+                .setNullableInt32("nullableInt", 7)
+                .build());
+    }
+
+    @Test
+    public void testVariableSizeFields_notReadByAccessor() throws Exception {
+        Data data = ss.toData(fixedSizeFields("mixed")
+                .setString("name", "foo")
+                .setNullableInt32("nullableInt", 7)
+                .build());
+
+        assertFalse(getter.getAccessor((HeapData) data, "name").isApplicable());
+        assertFalse(getter.getAccessor((HeapData) data, "missing").isApplicable());
+        assertEquals("foo", getter.getValue(data, "name"));
+        assertEquals(7, getter.getValue(data, "nullableInt"));
+        assertNull(getter.getValue(data, "missing"));
+    }
+
+    @Test
+    public void testAccessorsCachedPerSchema() throws Exception {
+        HeapData first = (HeapData) ss.toData(fixedSizeFields("first").build());
+        HeapData second = (HeapData) ss.toData(fixedSizeFields("second").setString("name", "foo").build());
+
+        CompactFieldAccessor firstAccessor = getter.getAccessor(first, "int32");
+        CompactFieldAccessor secondAccessor = getter.getAccessor(second, "int32");
+
+        assertTrue(firstAccessor.getSchemaId() != secondAccessor.getSchemaId());
+        assertSame(firstAccessor, getter.getAccessor(first, "int32"));
+        assertSame(secondAccessor, getter.getAccessor(second, "int32"));
+    }
+
+    private void assertFixedSizeFields(GenericRecord record) throws Exception {
+        Data data = ss.toData(record);
+
+        assertTrue(getter.getAccessor((HeapData) data, "int32").isApplicable());
+        assertEquals(true, getter.getValue(data, "bool1"));
+        assertEquals(false, getter.getValue(data, "bool2"));
+        assertEquals(true, getter.getValue(data, "bool3"));
+        assertEquals((byte) -8, getter.getValue(data, "int8"));
+        assertEquals((short) -16, getter.getValue(data, "int16"));
+        assertEquals(-32, getter.getValue(data, "int32"));
+        assertEquals(-64L, getter.getValue(data, "int64"));
+        assertEquals(32.5f, getter.getValue(data, "float32"));
+        assertEquals(64.5d, getter.getValue(data, "float64"));
+    }
+
+    private static GenericRecordBuilder fixedSizeFields(String typeName) {
+        return GenericRecordBuilder.compact(typeName)
+                .setBoolean("bool1", true)
+                .setBoolean("bool2", false)
+                .setBoolean("bool3", true)
+                .setInt8("int8", (byte) -8)
+                .setInt16("int16", (short) -16)
+                .setInt32("int32", -32)
+                .setInt64("int64", -64L)
+                .setFloat32("float32", 32.5f)
+                .setFloat64("float64", 64.5d);
+    }
+}